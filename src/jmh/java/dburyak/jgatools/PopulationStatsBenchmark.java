@@ -0,0 +1,104 @@
+package dburyak.jgatools;
+
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dburyak.jgatools.PopulationStats.PopulationStatsBuilder;
+import dburyak.jgatools.impl.BenchmarkFixtures;
+import dburyak.jgatools.impl.BitSetChromosome;
+
+
+/**
+ * Project : jgatools.<br>
+ * Benchmark of {@link PopulationStatsBuilder#eval(java.util.stream.Stream, java.util.function.ToIntFunction)}.
+ * Chromosomes are not members of any population, so their birth age is used.
+ * <br><b>Created on:</b> <i>7:37:44 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PopulationStatsBenchmark {
+
+    /**
+     * Size of population.
+     * <br><b>Created on:</b> <i>7:38:20 PM Oct 16, 2026</i>
+     */
+    @Param({ "100", "1000", "10000", "100000" })
+    public int populationSize;
+
+    /**
+     * Chromosomes of population.
+     * <br><b>Created on:</b> <i>7:38:41 PM Oct 16, 2026</i>
+     */
+    private List<BitSetChromosome> chromosomes;
+
+
+    /**
+     * Generate chromosomes.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> state of this benchmark is initialized
+     * <br><b>Created on:</b> <i>7:39:02 PM Oct 16, 2026</i>
+     */
+    @Setup
+    public void setup() {
+        final int genomeLength = 64;
+        final IFitnessFunction<BitSet> fitnessFunc = BenchmarkFixtures.splitSetFitness(genomeLength);
+        chromosomes = BenchmarkFixtures.randomChromosomes(populationSize, genomeLength, fitnessFunc);
+    }
+
+    /**
+     * Evaluate stats of population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:39:40 PM Oct 16, 2026</i>
+     * 
+     * @return population stats
+     */
+    @Benchmark
+    public PopulationStats eval() {
+        return (new PopulationStatsBuilder())
+            .eval(chromosomes.stream(), BitSetChromosome::age)
+            .eliteCount(0)
+            .build();
+    }
+
+    /**
+     * Evaluate stats of population in parallel with accumulator combiner.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:36:12 AM Oct 16, 2026</i>
+     * 
+     * @return population stats
+     */
+    @Benchmark
+    public PopulationStats evalParallel() {
+        return (new PopulationStatsBuilder())
+            .eval(chromosomes.parallelStream(), BitSetChromosome::age)
+            .eliteCount(0)
+            .build();
+    }
+
+}
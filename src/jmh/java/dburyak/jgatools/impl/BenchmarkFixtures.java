@@ -0,0 +1,259 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import dburyak.jgatools.ICrossoverStrategy;
+import dburyak.jgatools.IDoubleFitnessFunction;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.IMatesSelector;
+import dburyak.jgatools.IMutationStrategy;
+import dburyak.jgatools.ISelectionStrategy;
+import dburyak.jgatools.impl.BitSetChromosome.BitSetChromosomeBuilder;
+import dburyak.jgatools.impl.Population.PopulationBuilder;
+import dburyak.jgatools.impl.ReactiveGA.ReactiveGABuilder;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Shared deterministic fixtures for benchmarks : random genomes, split-set fitness function and simple strategies. All
+ * randomness is seeded, so every benchmark fork works on the same data.
+ * <br><b>Created on:</b> <i>7:05:12 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * Seed for all random generators of fixtures.
+     * <br><b>Created on:</b> <i>7:05:40 PM Oct 16, 2026</i>
+     */
+    private static final long SEED = 0x5EEDL;
+
+    /**
+     * Probability of chromosome to be chosen for mutation.
+     * <br><b>Created on:</b> <i>7:06:02 PM Oct 16, 2026</i>
+     */
+    private static final double MUTATION_RATE = 0.3D;
+
+    /**
+     * Probability of chromosome to be chosen as first parent for crossover.
+     * <br><b>Created on:</b> <i>7:06:19 PM Oct 16, 2026</i>
+     */
+    private static final double CROSSOVER_RATE = 0.2D;
+
+
+    /**
+     * Generate random bitset.
+     * <br><b>PRE-conditions:</b> positive genomeLength, non-null rnd
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> rnd state is changed
+     * <br><b>Created on:</b> <i>7:06:44 PM Oct 16, 2026</i>
+     * 
+     * @param genomeLength
+     *            number of bits
+     * @param rnd
+     *            random generator
+     * @return random bitset
+     */
+    public static final BitSet randomBitset(final int genomeLength, final Random rnd) {
+        final BitSet bitset = new BitSet(genomeLength);
+        for (int i = 0; i < genomeLength; i++) {
+            if (rnd.nextBoolean()) {
+                bitset.set(i);
+            }
+        }
+        return bitset;
+    }
+
+    /**
+     * Create split-set fitness function (same problem as in TestSplitSet) for genomes of given length.
+     * <br><b>PRE-conditions:</b> positive genomeLength
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:07:31 PM Oct 16, 2026</i>
+     * 
+     * @param genomeLength
+     *            number of bits in genome
+     * @return split-set fitness function
+     */
+    public static final IDoubleFitnessFunction<BitSet> splitSetFitness(final int genomeLength) {
+        final Random rnd = new Random(SEED);
+        final int[] weights = rnd.ints(genomeLength, 1, 30).toArray();
+        final long totalWeight = Arrays.stream(weights).asLongStream().sum();
+        return (data) -> {
+            long weight1 = 0L;
+            for (int i = data.nextSetBit(0); i >= 0; i = data.nextSetBit(i + 1)) {
+                weight1 += weights[i];
+            }
+            final long weight2 = totalWeight - weight1;
+            final double diffRatio = Math.abs((double) (weight1 - weight2) / (double) totalWeight);
+            return 1.0D - diffRatio;
+        };
+    }
+
+    /**
+     * Generate list of evaluated random chromosomes.
+     * <br><b>PRE-conditions:</b> non-negative count, positive genomeLength, non-null fitnessFunc
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:08:55 PM Oct 16, 2026</i>
+     * 
+     * @param count
+     *            number of chromosomes
+     * @param genomeLength
+     *            number of bits in genome
+     * @param fitnessFunc
+     *            fitness function
+     * @return list of random chromosomes
+     */
+    public static final List<BitSetChromosome> randomChromosomes(
+        final int count,
+        final int genomeLength,
+        final IFitnessFunction<BitSet> fitnessFunc) {
+
+        final Random rnd = new Random(SEED);
+        return Stream.generate(() -> (new BitSetChromosomeBuilder())
+            .data(randomBitset(genomeLength, rnd))
+            .age(0)
+            .generation(0)
+            .fitnessFunc(fitnessFunc)
+            .build())
+            .limit(count)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Create infinite source of random chromosomes.
+     * <br><b>PRE-conditions:</b> positive genomeLength, non-null fitnessFunc
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:10:02 PM Oct 16, 2026</i>
+     * 
+     * @param genomeLength
+     *            number of bits in genome
+     * @param fitnessFunc
+     *            fitness function
+     * @return observable that emits random chromosomes on demand
+     */
+    public static final Observable<BitSetChromosome> appearSource(
+        final int genomeLength,
+        final IFitnessFunction<BitSet> fitnessFunc) {
+
+        final Random rnd = new Random(SEED);
+        return new ImmigrantSource<BitSetChromosome>(() -> (new BitSetChromosomeBuilder())
+            .data(randomBitset(genomeLength, rnd))
+            .age(0)
+            .generation(0)
+            .fitnessFunc(fitnessFunc)
+            .build())
+            .chromosomes();
+    }
+
+    /**
+     * Create ReactiveGA configured with simple strategies : single bit-flip mutation, one-point crossover, random mate
+     * selection and truncation selection.
+     * <br><b>PRE-conditions:</b> positive populationSize, bufferSize and genomeLength
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:11:37 PM Oct 16, 2026</i>
+     * 
+     * @param populationSize
+     *            size of population
+     * @param bufferSize
+     *            size of buffer
+     * @param genomeLength
+     *            number of bits in genome
+     * @param fitnessFunc
+     *            fitness function
+     * @return GA instance (not started)
+     */
+    @SuppressWarnings("unchecked")
+    public static final ReactiveGA<BitSetChromosome, Population<BitSetChromosome>> reactiveGA(
+        final int populationSize,
+        final int bufferSize,
+        final int genomeLength,
+        final IFitnessFunction<BitSet> fitnessFunc) {
+
+        final Random rnd = new Random(SEED);
+        final Observable<BitSetChromosome> appearSource = appearSource(genomeLength, fitnessFunc);
+        final IMutationStrategy<BitSetChromosome> mutationFunc = (c) -> {
+            final BitSet mutated = c.bitset();
+            mutated.flip(rnd.nextInt(genomeLength));
+            return (new BitSetChromosomeBuilder()).data(mutated).age(0).generation(c.generation() + 1)
+                .fitnessFunc(fitnessFunc).build();
+        };
+        final ICrossoverStrategy<BitSetChromosome> crossoverFunc = (parents) -> parents.toList().map(list -> {
+            final BitSet offspring = list.get(0).bitset();
+            final BitSet tail = list.get(1).bitset();
+            final int point = rnd.nextInt(genomeLength);
+            offspring.clear(point, genomeLength);
+            tail.clear(0, point);
+            offspring.or(tail);
+            return (new BitSetChromosomeBuilder()).data(offspring).age(0)
+                .generation(Math.max(list.get(0).generation(), list.get(1).generation()) + 1)
+                .fitnessFunc(fitnessFunc).build();
+        });
+        final IMatesSelector<BitSetChromosome> matesSelector = (p1, candidates) -> candidates
+            .skip(rnd.nextInt(populationSize))
+            .take(1);
+        final ISelectionStrategy<BitSetChromosome> selectionFunc = new TruncationSelection<>(populationSize);
+
+        return (ReactiveGA<BitSetChromosome, Population<BitSetChromosome>>)
+            (new ReactiveGABuilder<BitSetChromosome, Population<BitSetChromosome>>())
+                .termCondition((population, iteration, runtime) -> false)
+                .appearSource(appearSource)
+                .populationBuilder(() -> (new PopulationBuilder<BitSetChromosome>())
+                    .size(populationSize)
+                    .eliteCount(0)
+                    .appearSource(appearSource))
+                .chromosomeBuilder(() -> (new BitSetChromosomeBuilder()).fitnessFunc(fitnessFunc))
+                .mutationSelector((c) -> Double.compare(rnd.nextDouble(), MUTATION_RATE) < 0)
+                .mutationFunc(mutationFunc)
+                .crossoverFunc(crossoverFunc)
+                .selectionFunc(selectionFunc)
+                .parent1Selector((c) -> Double.compare(rnd.nextDouble(), CROSSOVER_RATE) < 0)
+                .matesSelector(matesSelector)
+                .bufferSize(bufferSize)
+                .build();
+    }
+
+    /**
+     * Build population from given chromosomes.
+     * <br><b>PRE-conditions:</b> non-null chromosomes
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:14:20 PM Oct 16, 2026</i>
+     * 
+     * @param chromosomes
+     *            chromosomes of population
+     * @return population of given chromosomes
+     */
+    public static final Population<BitSetChromosome> population(final List<BitSetChromosome> chromosomes) {
+        return (new PopulationBuilder<BitSetChromosome>())
+            .chromosomes(Observable.from(chromosomes))
+            .appearSource(Observable.empty())
+            .size(chromosomes.size())
+            .eliteCount(0)
+            .build();
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.BenchmarkFixtures.<br>
+     * Utility class, instantiation is not allowed.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:15:01 PM Oct 16, 2026</i>
+     */
+    private BenchmarkFixtures() {
+    }
+
+}
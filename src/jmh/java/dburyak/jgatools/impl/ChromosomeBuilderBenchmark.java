@@ -0,0 +1,265 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.BitSetChromosome.BitSetChromosomeBuilder;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Benchmark of {@link BitSetChromosomeBuilder#build()} : with fitness evaluation (common case for mutants and
+ * offsprings) and with already known fitness (pure copying overhead). Also compares single bit-flip mutation copying
+ * path of {@link BitSetChromosome} and {@link PackedBitChromosome}, and per-bit stream crossover of bitsets with word-level
+ * {@link PackedBitCrossover}.
+ * <br><b>Created on:</b> <i>7:21:48 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChromosomeBuilderBenchmark {
+
+    /**
+     * Number of bits in genome.
+     * <br><b>Created on:</b> <i>7:22:30 PM Oct 16, 2026</i>
+     */
+    @Param({ "100", "1000", "10000" })
+    public int genomeLength;
+
+    /**
+     * Genome to build chromosomes from.
+     * <br><b>Created on:</b> <i>7:22:51 PM Oct 16, 2026</i>
+     */
+    private BitSet genome;
+
+    /**
+     * Fitness function for chromosomes.
+     * <br><b>Created on:</b> <i>7:23:07 PM Oct 16, 2026</i>
+     */
+    private IFitnessFunction<BitSet> fitnessFunc;
+
+    /**
+     * Precomputed fitness of genome.
+     * <br><b>Created on:</b> <i>7:23:20 PM Oct 16, 2026</i>
+     */
+    private Fitness fitness;
+
+    /**
+     * Bitset chromosome to be mutated.
+     * <br><b>Created on:</b> <i>11:31:20 PM Oct 16, 2026</i>
+     */
+    private BitSetChromosome bitSetChromosome;
+
+    /**
+     * Packed bit chromosome to be mutated.
+     * <br><b>Created on:</b> <i>11:31:42 PM Oct 16, 2026</i>
+     */
+    private PackedBitChromosome packedChromosome;
+
+    /**
+     * Index of bit to flip by mutation benchmarks.
+     * <br><b>Created on:</b> <i>11:32:05 PM Oct 16, 2026</i>
+     */
+    private int flipIndex;
+
+    /**
+     * Second parent for crossover benchmarks, bitset chromosome.
+     * <br><b>Created on:</b> <i>6:52:10 AM Oct 16, 2026</i>
+     */
+    private BitSetChromosome bitSetMate;
+
+    /**
+     * Second parent for crossover benchmarks, packed bit chromosome.
+     * <br><b>Created on:</b> <i>6:52:25 AM Oct 16, 2026</i>
+     */
+    private PackedBitChromosome packedMate;
+
+    /**
+     * Word-level single-point crossover.
+     * <br><b>Created on:</b> <i>6:52:40 AM Oct 16, 2026</i>
+     */
+    private PackedBitCrossover packedCrossover;
+
+    /**
+     * Random generator of crossover benchmarks.
+     * <br><b>Created on:</b> <i>6:52:55 AM Oct 16, 2026</i>
+     */
+    private Rng rng;
+
+
+    /**
+     * Prepare genome and fitness function.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> state of this benchmark is initialized
+     * <br><b>Created on:</b> <i>7:23:41 PM Oct 16, 2026</i>
+     */
+    @Setup
+    public void setup() {
+        genome = BenchmarkFixtures.randomBitset(genomeLength, new Random(genomeLength));
+        fitnessFunc = BenchmarkFixtures.splitSetFitness(genomeLength);
+        fitness = fitnessFunc.calcFitness(genome);
+        bitSetChromosome = (new BitSetChromosomeBuilder()).data(genome).age(0).generation(0).fitness(fitness).build();
+        packedChromosome = (new PackedBitChromosomeBuilder())
+            .data(PackedBits.of(genome, genomeLength))
+            .age(0)
+            .generation(0)
+            .fitness(fitness)
+            .build();
+        flipIndex = genomeLength / 2;
+        final BitSet mateGenome = BenchmarkFixtures.randomBitset(genomeLength, new Random(genomeLength + 1));
+        bitSetMate = (new BitSetChromosomeBuilder()).data(mateGenome).age(0).generation(0).fitness(fitness).build();
+        packedMate = (new PackedBitChromosomeBuilder())
+            .data(PackedBits.of(mateGenome, genomeLength))
+            .age(0)
+            .generation(0)
+            .fitness(fitness)
+            .build();
+        packedCrossover = PackedBitCrossover.singlePoint();
+        rng = new Rng(genomeLength);
+    }
+
+    /**
+     * Build chromosome with fitness evaluation.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:24:19 PM Oct 16, 2026</i>
+     * 
+     * @return built chromosome
+     */
+    @Benchmark
+    public BitSetChromosome buildWithFitnessFunc() {
+        return (new BitSetChromosomeBuilder())
+            .data(genome)
+            .age(0)
+            .generation(1)
+            .fitnessFunc(fitnessFunc)
+            .build();
+    }
+
+    /**
+     * Build chromosome with known fitness.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:25:02 PM Oct 16, 2026</i>
+     * 
+     * @return built chromosome
+     */
+    @Benchmark
+    public BitSetChromosome buildWithFitness() {
+        return (new BitSetChromosomeBuilder())
+            .data(genome)
+            .age(0)
+            .generation(1)
+            .fitness(fitness)
+            .build();
+    }
+
+    /**
+     * Single bit-flip mutation of bitset chromosome : bitset is copied by {@link BitSetChromosome#bitset()} and again
+     * by {@link BitSetChromosomeBuilder#data(BitSet)}.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:33:10 PM Oct 16, 2026</i>
+     * 
+     * @return mutant chromosome
+     */
+    @Benchmark
+    public BitSetChromosome mutateBitSet() {
+        final BitSet mutated = bitSetChromosome.bitset();
+        mutated.flip(flipIndex);
+        return (new BitSetChromosomeBuilder())
+            .data(mutated)
+            .age(0)
+            .generation(1)
+            .fitness(fitness)
+            .build();
+    }
+
+    /**
+     * Single bit-flip mutation of packed bit chromosome : words are copied once and ownership is handed to builder.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:33:52 PM Oct 16, 2026</i>
+     * 
+     * @return mutant chromosome
+     */
+    @Benchmark
+    public PackedBitChromosome mutatePacked() {
+        final long[] words = packedChromosome.bits().toLongArray();
+        words[flipIndex >>> 6] ^= 1L << flipIndex;
+        return (new PackedBitChromosomeBuilder())
+            .words(words, genomeLength)
+            .age(0)
+            .generation(1)
+            .fitness(fitness)
+            .build();
+    }
+
+    /**
+     * Single-point crossover of bitset chromosomes by per-bit stream copying : both parents are cloned and each set
+     * bit is visited through {@link BitSet#stream()}.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:53:20 AM Oct 16, 2026</i>
+     * 
+     * @return offspring chromosome
+     */
+    @Benchmark
+    public BitSetChromosome crossoverBitSetStream() {
+        final int point = rng.nextInt(genomeLength);
+        final BitSet offspring = new BitSet(genomeLength);
+        bitSetChromosome.bitset().stream().filter(i -> i < point).forEach(offspring::set);
+        bitSetMate.bitset().stream().filter(i -> i >= point).forEach(offspring::set);
+        return (new BitSetChromosomeBuilder())
+            .data(offspring)
+            .age(0)
+            .generation(1)
+            .fitness(fitness)
+            .build();
+    }
+
+    /**
+     * Single-point crossover of packed bit chromosomes by word-level swap mask : produces both offsprings.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:54:05 AM Oct 16, 2026</i>
+     * 
+     * @return words of offsprings
+     */
+    @Benchmark
+    public long[][] crossoverPacked() {
+        return packedCrossover.crossover(packedChromosome.bits(), packedMate.bits(), rng);
+    }
+
+}
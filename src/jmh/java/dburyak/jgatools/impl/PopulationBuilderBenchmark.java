@@ -0,0 +1,115 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.impl.ArrayPopulation.ArrayPopulationBuilder;
+import dburyak.jgatools.impl.Population.PopulationBuilder;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Benchmark of {@link PopulationBuilder#build()} from already evaluated chromosomes. Measures sorting, duplicates
+ * removal and stats evaluation overhead of population creation.
+ * <br><b>Created on:</b> <i>7:27:33 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PopulationBuilderBenchmark {
+
+    /**
+     * Size of built population.
+     * <br><b>Created on:</b> <i>7:28:10 PM Oct 16, 2026</i>
+     */
+    @Param({ "100", "1000", "10000" })
+    public int populationSize;
+
+    /**
+     * Number of bits in genome.
+     * <br><b>Created on:</b> <i>7:28:26 PM Oct 16, 2026</i>
+     */
+    @Param({ "1000" })
+    public int genomeLength;
+
+    /**
+     * Chromosomes of population.
+     * <br><b>Created on:</b> <i>7:28:41 PM Oct 16, 2026</i>
+     */
+    private List<BitSetChromosome> chromosomes;
+
+
+    /**
+     * Generate chromosomes.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> state of this benchmark is initialized
+     * <br><b>Created on:</b> <i>7:29:03 PM Oct 16, 2026</i>
+     */
+    @Setup
+    public void setup() {
+        final IFitnessFunction<BitSet> fitnessFunc = BenchmarkFixtures.splitSetFitness(genomeLength);
+        chromosomes = BenchmarkFixtures.randomChromosomes(populationSize, genomeLength, fitnessFunc);
+    }
+
+    /**
+     * Build population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:29:37 PM Oct 16, 2026</i>
+     * 
+     * @return built population
+     */
+    @Benchmark
+    public Population<BitSetChromosome> build() {
+        return (new PopulationBuilder<BitSetChromosome>())
+            .chromosomes(Observable.from(chromosomes))
+            .appearSource(Observable.empty())
+            .size(populationSize)
+            .eliteCount(0)
+            .build();
+    }
+
+    /**
+     * Build struct-of-arrays population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:09:40 AM Oct 16, 2026</i>
+     * 
+     * @return built population
+     */
+    @Benchmark
+    public ArrayPopulation<BitSetChromosome> buildArray() {
+        return (new ArrayPopulationBuilder<BitSetChromosome>())
+            .chromosomes(Observable.from(chromosomes))
+            .appearSource(Observable.empty())
+            .size(populationSize)
+            .eliteCount(0)
+            .build();
+    }
+
+}
@@ -0,0 +1,124 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dburyak.jgatools.IFitnessFunction;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Benchmark of {@link ReactiveGA} evolution hot path : aging of survived chromosomes and one full generation produced by
+ * {@link ReactiveGA#buildIterationPipeline(dburyak.jgatools.IPopulation, int)} (mutation, crossover, selection and
+ * building of next population).
+ * <br><b>Created on:</b> <i>7:31:15 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveGABenchmark {
+
+    /**
+     * Size of population.
+     * <br><b>Created on:</b> <i>7:32:01 PM Oct 16, 2026</i>
+     */
+    @Param({ "150", "1500" })
+    public int populationSize;
+
+    /**
+     * Size of the "buffer" of GA.
+     * <br><b>Created on:</b> <i>7:32:17 PM Oct 16, 2026</i>
+     */
+    @Param({ "255", "2550" })
+    public int bufferSize;
+
+    /**
+     * Number of bits in genome.
+     * <br><b>Created on:</b> <i>7:32:33 PM Oct 16, 2026</i>
+     */
+    @Param({ "1000", "10000" })
+    public int genomeLength;
+
+    /**
+     * GA under test.
+     * <br><b>Created on:</b> <i>7:32:50 PM Oct 16, 2026</i>
+     */
+    private ReactiveGA<BitSetChromosome, Population<BitSetChromosome>> ga;
+
+    /**
+     * Population to evolve.
+     * <br><b>Created on:</b> <i>7:33:04 PM Oct 16, 2026</i>
+     */
+    private Population<BitSetChromosome> population;
+
+
+    /**
+     * Create GA and initial population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> state of this benchmark is initialized
+     * <br><b>Created on:</b> <i>7:33:42 PM Oct 16, 2026</i>
+     */
+    @Setup
+    public void setup() {
+        final IFitnessFunction<BitSet> fitnessFunc = BenchmarkFixtures.splitSetFitness(genomeLength);
+        ga = BenchmarkFixtures.reactiveGA(populationSize, bufferSize, genomeLength, fitnessFunc);
+        population = BenchmarkFixtures.population(
+            BenchmarkFixtures.randomChromosomes(populationSize, genomeLength, fitnessFunc));
+    }
+
+    /**
+     * Carry over all chromosomes of population to the next one as survivors, with their age incremented.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:26:20 AM Oct 16, 2026</i>
+     * 
+     * @return next population of the same chromosomes
+     */
+    @Benchmark
+    public Population<BitSetChromosome> carryOverSurvivors() {
+        return (new Population.PopulationBuilder<BitSetChromosome>())
+            .chromosomes(population.chromosomes())
+            .survivorsOf(population)
+            .appearSource(Observable.empty())
+            .size(populationSize)
+            .eliteCount(0)
+            .build();
+    }
+
+    /**
+     * Produce one generation from the same origin population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:35:08 PM Oct 16, 2026</i>
+     * 
+     * @return next generation population
+     */
+    @Benchmark
+    public Population<BitSetChromosome> generation() {
+        return ga.buildIterationPipeline(population, 0).toBlocking().single();
+    }
+
+}
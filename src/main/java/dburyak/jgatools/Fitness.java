@@ -148,6 +148,25 @@ public final class Fitness implements Comparable<Fitness> {
         return MAX;
     }
 
+    /**
+     * Check that given raw fitness value is valid, so it can be kept as primitive double without {@link Fitness}
+     * object.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> {@link #minValue()} &lt= result &lt= {@link #maxValue()}
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:29:10 AM Oct 16, 2026</i>
+     * 
+     * @param value
+     *            fitness value to be checked
+     * @return given value
+     * @throws IllegalArgumentException
+     *             if value is NaN or is out of [{@link #minValue()}, {@link #maxValue()}] range
+     */
+    public static final double checkValue(final double value) throws IllegalArgumentException {
+        validateValue(value);
+        return value;
+    }
+
     /**
      * Constructor for class : [jgatools] dburyak.jgatools.Fitness.<br/>
      * <br/><b>PRE-conditions:</b> 0.0 &lt= value &lt= 1.0
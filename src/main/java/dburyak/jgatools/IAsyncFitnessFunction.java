@@ -0,0 +1,54 @@
+package dburyak.jgatools;
+
+
+import rx.Single;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Fitness function that evaluates genetic data asynchronously. Useful for evaluators with high and widely varying
+ * latency (remote services, simulations, GPU queues and etc.), so that GA threads are not blocked while evaluation is
+ * in progress.<br/>
+ * Asynchronous evaluation is performed by chromosome builders (see
+ * {@link IChromosome.IChromosomeBuilder#evaluateAsync(IChromosome)}) for chromosomes that were built with deferred
+ * fitness. Synchronous evaluation blocks until asynchronous result is ready by default.
+ * <br/><b>Created on:</b> <i>10:02:17 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ * @param <D>
+ *            type of underlying genetic data used by chromosome
+ */
+public interface IAsyncFitnessFunction<D extends Cloneable> extends IFitnessFunction<D> {
+
+    /**
+     * Start fitness calculation of given chromosome genetic data. Implementations <b>MUST NOT</b> modify given data.
+     * <br/><b>PRE-conditions:</b> non-null data
+     * <br/><b>POST-conditions:</b> non-null result that emits non-null fitness
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>10:03:44 PM Oct 16, 2026</i>
+     * 
+     * @param data
+     *            genetic data of chromosome
+     * @return single that emits fitness of given genetic data
+     */
+    public Single<Fitness> calcFitnessAsync(final D data);
+
+    /**
+     * Calculate fitness of given chromosome genetic data, blocks until asynchronous calculation is completed.
+     * <br/><b>PRE-conditions:</b> non-null data
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>10:05:10 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessFunction#calcFitness(java.lang.Cloneable)
+     * @param data
+     *            genetic data of chromosome
+     * @return fitness of given genetic data
+     */
+    @Override
+    public default Fitness calcFitness(final D data) {
+        return calcFitnessAsync(data).toBlocking().value();
+    }
+
+}
@@ -0,0 +1,55 @@
+package dburyak.jgatools;
+
+
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Fitness function that is able to evaluate several chromosomes at once. Useful when evaluation of a batch is cheaper
+ * than evaluation of each chromosome separately : vectorized or matrix-based scoring, shared precomputed tables,
+ * remote evaluators with high per-call overhead and etc.<br/>
+ * Batches are formed by chromosome builders (see {@link IChromosome.IChromosomeBuilder#evaluate(List)}) from
+ * chromosomes that were built with deferred fitness. Single chromosome evaluation is a batch of one element by
+ * default.
+ * <br/><b>Created on:</b> <i>9:12:40 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ * @param <D>
+ *            type of underlying genetic data used by chromosome
+ */
+public interface IBatchFitnessFunction<D extends Cloneable> extends IFitnessFunction<D> {
+
+    /**
+     * Calculate fitness of each of given chromosomes genetic data. Implementations <b>MUST NOT</b> modify given data.
+     * <br/><b>PRE-conditions:</b> non-null data without null elements
+     * <br/><b>POST-conditions:</b> non-null result of the same size as data, i-th fitness corresponds to i-th data
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>9:14:05 PM Oct 16, 2026</i>
+     * 
+     * @param data
+     *            genetic data of chromosomes
+     * @return fitness of each of given genetic data, in the same order
+     */
+    public List<Fitness> calcFitnessBatch(final List<? extends D> data);
+
+    /**
+     * Calculate fitness of given chromosome genetic data as a batch of one element.
+     * <br/><b>PRE-conditions:</b> non-null data
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>9:15:32 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessFunction#calcFitness(java.lang.Cloneable)
+     * @param data
+     *            genetic data of chromosome
+     * @return fitness of given genetic data
+     */
+    @Override
+    public default Fitness calcFitness(final D data) {
+        return calcFitnessBatch(Collections.singletonList(data)).get(0);
+    }
+
+}
@@ -1,12 +1,13 @@
 package dburyak.jgatools;
 
 
-import java.util.stream.Stream;
+import java.util.List;
 
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import dburyak.jtools.InstanceBuilder;
+import rx.Single;
 
 
 /**
@@ -38,18 +39,51 @@ public interface IChromosome {
     public Object fingerprint();
 
     /**
-     * Get fitness of this chromosome.
-     * <br/><b>PRE-conditions:</b> NONE
+     * Get fitness of this chromosome. Fitness is boxed {@link #fitnessValue()}, so performance critical code (sorting,
+     * selection, stats) should use {@link #fitnessValue()} directly.
+     * <br/><b>PRE-conditions:</b> this chromosome is {@link #evaluated()}
      * <br/><b>POST-conditions:</b> non-null result
      * <br/><b>Side-effects:</b> UNKNOWN
      * <br/><b>Created on:</b> <i>1:22:31 AM Sep 3, 2016</i>
      * 
      * @return fitness of this chromosome
+     * @throws IllegalStateException
+     *             if fitness of this chromosome was deferred and is not evaluated yet
+     */
+    public default Fitness fitness() throws IllegalStateException {
+        return new Fitness(fitnessValue());
+    }
+
+    /**
+     * Get raw fitness value of this chromosome (see {@link Fitness}).
+     * <br/><b>PRE-conditions:</b> this chromosome is {@link #evaluated()}
+     * <br/><b>POST-conditions:</b> {@link Fitness#minValue()} &lt= result &lt= {@link Fitness#maxValue()}
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>8:29:40 AM Oct 16, 2026</i>
+     * 
+     * @return fitness value of this chromosome
+     * @throws IllegalStateException
+     *             if fitness of this chromosome was deferred and is not evaluated yet
+     */
+    public double fitnessValue() throws IllegalStateException;
+
+    /**
+     * Check whether fitness of this chromosome is evaluated. Chromosome is not evaluated only if it was built with
+     * deferred fitness (see {@link IChromosomeBuilder#deferFitness()}), such chromosomes should be evaluated in
+     * batches by {@link IChromosomeBuilder#evaluate(List)} before they get to selection.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>9:18:11 PM Oct 16, 2026</i>
+     * 
+     * @return true if fitness of this chromosome is known
      */
-    public Fitness fitness();
+    public boolean evaluated();
 
     /**
-     * Get age of this chromosome. Age is a number of iterations that passed in pool since this chromosome was created.
+     * Get birth age of this chromosome : age it was built with. GA doesn't rebuild chromosomes that survive to the next
+     * population, so this value doesn't grow with iterations. Number of iterations chromosome has survived is property
+     * of population, see {@link IPopulation#ageOf(IChromosome)}.
      * <br/><b>PRE-conditions:</b> NONE
      * <br/><b>POST-conditions:</b> result >= 0
      * <br/><b>Side-effects:</b> UNKNOWN
@@ -73,23 +107,24 @@ public interface IChromosome {
     public int generation();
 
     /**
-     * Get parents of this chromosome. There could be several situations:
+     * Get lineage id of this chromosome. Chromosome doesn't reference its parents, ancestry is kept by
+     * {@link ILineageStore} that assigned this id, if any. There could be several situations:
      * <ul>
      * <li> chromosome appeared from nothing and has no parents
      * <li> chromosome was produced by mutation and has one parent
      * <li> chromosome was produced by classic crossover strategy and has two parents
      * <li> chromosome was produced by exotic crossover strategy and has more than two parents
      * </ul>
-     * Result of this method is dependent on {@link ICrossoverStrategy} and {@link IMutationStrategy} implementations
-     * used - they are free to not keep track of parents.
+     * Ancestry is dependent on {@link ICrossoverStrategy} and {@link IMutationStrategy} implementations used - they
+     * are free to not keep track of parents.
      * <br/><b>PRE-conditions:</b> NONE
-     * <br/><b>POST-conditions:</b> non-null result
-     * <br/><b>Side-effects:</b> UNKNOWN
-     * <br/><b>Created on:</b> <i>1:39:22 AM Sep 3, 2016</i>
+     * <br/><b>POST-conditions:</b> non-negative result or {@link ILineageStore#NO_LINEAGE}
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:05:10 AM Oct 16, 2026</i>
      * 
-     * @return stream of parent chromosomes
+     * @return lineage id of this chromosome, {@link ILineageStore#NO_LINEAGE} if lineage is not tracked
      */
-    public Stream<? extends IChromosome> parents();
+    public long lineageId();
 
 
     /**
@@ -141,7 +176,6 @@ public interface IChromosome {
          * Common use-cases:
          * <ul>
          * <li> increment age of a chromosome that should be added to the pool for next iteration
-         * <li> remove parents of a chromosome if ancestry limit is reached
          * </ul>
          * Implementation should decide whether there's a need of deep copy of the underlying gene data. Usually this
          * should be dictated by thread safety of gene data.<br/>
@@ -201,12 +235,27 @@ public interface IChromosome {
          */
         public IChromosomeBuilder<C, D> fitness(final Fitness fitness);
 
+        /**
+         * Set raw fitness value for target chromosome. Same as {@link #fitness(Fitness)}, but without {@link Fitness}
+         * object.
+         * <br/><b>PRE-conditions:</b> {@link Fitness#minValue()} &lt= fitnessValue &lt= {@link Fitness#maxValue()}
+         * <br/><b>POST-conditions:</b> non-null result
+         * <br/><b>Side-effects:</b> UNKNOWN
+         * <br/><b>Created on:</b> <i>8:30:05 AM Oct 16, 2026</i>
+         * 
+         * @param fitnessValue
+         *            fitness value for target chromosome
+         * @return this builder (for call chaining)
+         */
+        public IChromosomeBuilder<C, D> fitnessValue(final double fitnessValue);
+
         /**
          * Set fitness calculation function for target chromosome. This function is called by {@link #build()}
          * method.<br/>
          * If fitness function is not specified, then fitness should be specified manually by {@link #fitness(Fitness)}.
          * {@link #fitnessFunc(IFitnessFunction)} and {@link #fitness(Fitness)} are mutually exclusive and are two
-         * different ways to set fitness of target chromosome.
+         * different ways to set fitness of target chromosome. {@link IDoubleFitnessFunction} is called directly for
+         * fitness value, without {@link Fitness} objects.
          * <br/><b>PRE-conditions:</b> non-null func
          * <br/><b>POST-conditions:</b> non-null result
          * <br/><b>Side-effects:</b> UNKNOWN
@@ -219,7 +268,62 @@ public interface IChromosome {
         public IChromosomeBuilder<C, D> fitnessFunc(final IFitnessFunction<D> fitnessFunc);
 
         /**
-         * Add parent to target chromosome.
+         * Defer fitness evaluation of target chromosome : {@link #build()} does not call fitness function and target
+         * chromosome is not {@link IChromosome#evaluated() evaluated}. Fitness of such chromosomes is calculated later
+         * in batches by {@link #evaluate(List)}.<br/>
+         * {@link #deferFitness()} and {@link #fitness(Fitness)} are mutually exclusive.
+         * <br/><b>PRE-conditions:</b> NONE
+         * <br/><b>POST-conditions:</b> non-null result
+         * <br/><b>Side-effects:</b> UNKNOWN
+         * <br/><b>Created on:</b> <i>9:20:37 PM Oct 16, 2026</i>
+         * 
+         * @return this builder (for call chaining)
+         */
+        public IChromosomeBuilder<C, D> deferFitness();
+
+        /**
+         * Evaluate fitness of given chromosomes using fitness function of this builder (see
+         * {@link #fitnessFunc(IFitnessFunction)}). Gene data of all not evaluated chromosomes is passed to
+         * {@link IBatchFitnessFunction#calcFitnessBatch(List)} in one call if fitness function supports batches,
+         * otherwise chromosomes are evaluated one by one. Already evaluated chromosomes are returned as is.<br/>
+         * Builder state is not used except of fitness function, so this method can be called on builder that is used
+         * for building other chromosomes.
+         * <br/><b>PRE-conditions:</b> non-null chromosomes, fitness function is set if any chromosome is not evaluated
+         * <br/><b>POST-conditions:</b> non-null result of the same size, all result chromosomes are evaluated
+         * <br/><b>Side-effects:</b> UNKNOWN
+         * <br/><b>Created on:</b> <i>9:23:04 PM Oct 16, 2026</i>
+         * 
+         * @param chromosomes
+         *            chromosomes to be evaluated
+         * @return evaluated chromosomes in the same order
+         * @throws IllegalStateException
+         *             if fitness function is not set while some chromosome needs evaluation
+         */
+        public List<C> evaluate(final List<C> chromosomes) throws IllegalStateException;
+
+        /**
+         * Evaluate fitness of given chromosome asynchronously using fitness function of this builder (see
+         * {@link #fitnessFunc(IFitnessFunction)}). {@link IAsyncFitnessFunction#calcFitnessAsync(Cloneable)} is used
+         * if fitness function supports it, otherwise synchronous evaluation is performed on subscription to result, so
+         * caller decides on which thread it runs. Already evaluated chromosome is emitted as is.<br/>
+         * Builder state is not used except of fitness function, so this method can be called on builder that is used
+         * for building other chromosomes.
+         * <br/><b>PRE-conditions:</b> non-null chromosome, fitness function is set if chromosome is not evaluated
+         * <br/><b>POST-conditions:</b> non-null result that emits evaluated chromosome
+         * <br/><b>Side-effects:</b> UNKNOWN
+         * <br/><b>Created on:</b> <i>10:08:31 PM Oct 16, 2026</i>
+         * 
+         * @param chromosome
+         *            chromosome to be evaluated
+         * @return single that emits evaluated chromosome
+         * @throws IllegalStateException
+         *             if fitness function is not set while chromosome needs evaluation
+         */
+        public Single<C> evaluateAsync(final C chromosome) throws IllegalStateException;
+
+        /**
+         * Add parent to target chromosome. Only lineage id of parent is recorded, and only if lineage store is set (see
+         * {@link #lineage(ILineageStore)}); parents that are not tracked are ignored.
          * <br/><b>PRE-conditions:</b> non-null parent
          * <br/><b>POST-conditions:</b> non-null result
          * <br/><b>Side-effects:</b> UNKNOWN
@@ -231,6 +335,20 @@ public interface IChromosome {
          */
         public IChromosomeBuilder<C, D> parent(final C parent);
 
+        /**
+         * Set lineage store that records ancestry of target chromosome. Target chromosome is registered in store on
+         * build and gets lineage id assigned by it; without store target chromosome is not tracked.
+         * <br/><b>PRE-conditions:</b> non-null lineage
+         * <br/><b>POST-conditions:</b> non-null result
+         * <br/><b>Side-effects:</b> UNKNOWN
+         * <br/><b>Created on:</b> <i>8:05:40 AM Oct 16, 2026</i>
+         * 
+         * @param lineage
+         *            lineage store
+         * @return this builder (for call chaining)
+         */
+        public IChromosomeBuilder<C, D> lineage(final ILineageStore lineage);
+
     }
 
 }
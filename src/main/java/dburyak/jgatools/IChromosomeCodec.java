@@ -0,0 +1,92 @@
+package dburyak.jgatools;
+
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Binary codec of genomes of concrete chromosome type, SPI of binary serialization of chromosomes and populations.
+ * Codec handles only genome; framing, age, generation and fitness of chromosome are written by serialization
+ * framework, so codec implementation is usually a few lines : length header and packed genome words.<br/>
+ * Codec writes into and reads from {@link ByteBuffer} directly, without intermediate byte arrays. Data format is
+ * identified by {@link #version()} that is stored in stream header and is given back on decoding, so codec may read
+ * data written by its older versions.
+ * <br/><b>Created on:</b> <i>7:33:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+public interface IChromosomeCodec<C extends IChromosome> {
+
+    /**
+     * Get version of data format written by this codec.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> non-negative result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>7:33:50 AM Oct 16, 2026</i>
+     * 
+     * @return version of data format
+     */
+    public int version();
+
+    /**
+     * Get exact number of bytes that {@link #encodeGenome(IChromosome, ByteBuffer)} writes for given chromosome.
+     * <br/><b>PRE-conditions:</b> non-null chromosome
+     * <br/><b>POST-conditions:</b> non-negative result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>7:34:20 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to be encoded
+     * @return size of encoded genome in bytes
+     */
+    public int genomeSize(final C chromosome);
+
+    /**
+     * Write genome of given chromosome at current position of given buffer.
+     * <br/><b>PRE-conditions:</b> non-null chromosome and out
+     * <br/><b>POST-conditions:</b> out position is advanced by {@link #genomeSize(IChromosome)}
+     * <br/><b>Side-effects:</b> out is written
+     * <br/><b>Created on:</b> <i>7:34:50 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to be encoded
+     * @param out
+     *            destination buffer
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    public void encodeGenome(final C chromosome, final ByteBuffer out) throws BufferOverflowException;
+
+    /**
+     * Read genome at current position of given buffer and build chromosome with it and given metadata. Fitness
+     * <b>MUST</b> be taken as given, not evaluated.
+     * <br/><b>PRE-conditions:</b> non-null in, version is not greater than {@link #version()}, non-negative age and
+     * generation, fitness is NaN or valid fitness value
+     * <br/><b>POST-conditions:</b> non-null result, evaluated if fitness is given
+     * <br/><b>Side-effects:</b> in position is advanced
+     * <br/><b>Created on:</b> <i>7:35:30 AM Oct 16, 2026</i>
+     * 
+     * @param in
+     *            source buffer
+     * @param version
+     *            version of codec that wrote data
+     * @param age
+     *            age of chromosome
+     * @param generation
+     *            generation of chromosome
+     * @param fitness
+     *            fitness value of chromosome, NaN if it was not evaluated (chromosome is built with deferred fitness)
+     * @return decoded chromosome
+     * @throws BufferUnderflowException
+     *             if buffer ends before genome
+     */
+    public C decode(final ByteBuffer in, final int version, final int age, final int generation, final double fitness)
+        throws BufferUnderflowException;
+
+}
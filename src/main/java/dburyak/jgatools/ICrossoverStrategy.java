@@ -32,4 +32,39 @@ public interface ICrossoverStrategy<C extends IChromosome> {
      */
     public Observable<C> crossover(final Observable<C> parents);
 
+    /**
+     * Perform crossover of given parents drawing randomness from given generator. Engines call this method with
+     * generator of current task, default implementation ignores generator and calls {@link #crossover(Observable)}.
+     * Generator is owned by calling task, so it must not be used after returned observable is consumed.
+     * <br/><b>PRE-conditions:</b> non-null parents and non-empty parents, non-null rng
+     * <br/><b>POST-conditions:</b> non-null and non-empty result
+     * <br/><b>Side-effects:</b> UNKNOWN, rng state may be changed
+     * <br/><b>Created on:</b> <i>4:58:05 AM Oct 16, 2026</i>
+     * 
+     * @param parents
+     *            parents that participate in crossover
+     * @param rng
+     *            random generator owned by calling task
+     * @return offsprings produced by this crossover
+     */
+    public default Observable<C> crossover(final Observable<C> parents, final Rng rng) {
+        return crossover(parents);
+    }
+
+    /**
+     * Get strategy that registers offsprings in given lineage store with their parents (see
+     * {@link IChromosome.IChromosomeBuilder#lineage(ILineageStore)}). Engines call this method once on build when
+     * lineage store is set. Default implementation doesn't track lineage and returns this strategy.
+     * <br/><b>PRE-conditions:</b> non-null lineage
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:52:30 AM Oct 16, 2026</i>
+     * 
+     * @param lineage
+     *            lineage store
+     * @return strategy bound to given lineage store
+     */
+    public default ICrossoverStrategy<C> withLineage(final ILineageStore lineage) {
+        return this;
+    }
 }
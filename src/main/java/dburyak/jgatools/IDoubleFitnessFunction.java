@@ -0,0 +1,71 @@
+package dburyak.jgatools;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Fitness function that calculates raw fitness value instead of {@link Fitness} object. Chromosome builders call
+ * {@link #calcFitnessValue(Cloneable)} directly and keep fitness as primitive double, so evaluation of chromosome
+ * allocates nothing for fitness. {@link #calcFitness(Cloneable)} boxes the value for callers that need {@link Fitness}.
+ * <br/><b>Created on:</b> <i>8:27:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ * @param <D>
+ *            type of underlying genetic data used by chromosome
+ */
+@FunctionalInterface
+public interface IDoubleFitnessFunction<D extends Cloneable> extends IFitnessFunction<D> {
+
+    /**
+     * Calculate fitness value of given chromosome genetic data.
+     * <br/><b>PRE-conditions:</b> non-null data
+     * <br/><b>POST-conditions:</b> {@link Fitness#minValue()} &lt= result &lt= {@link Fitness#maxValue()}
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>8:27:40 AM Oct 16, 2026</i>
+     * 
+     * @param data
+     *            genetic data of chromosome
+     * @return fitness value of given genetic data
+     */
+    public double calcFitnessValue(final D data);
+
+    /**
+     * Calculate fitness of given chromosome genetic data by boxing {@link #calcFitnessValue(Cloneable)}.
+     * <br/><b>PRE-conditions:</b> non-null data
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>8:28:05 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessFunction#calcFitness(java.lang.Cloneable)
+     * @param data
+     *            genetic data of chromosome
+     * @return fitness of given genetic data
+     */
+    @Override
+    public default Fitness calcFitness(final D data) {
+        return new Fitness(calcFitnessValue(data));
+    }
+
+    /**
+     * Calculate fitness value of given data with given fitness function : without boxing if function is
+     * {@link IDoubleFitnessFunction}, by unboxing of its {@link Fitness} otherwise.
+     * <br/><b>PRE-conditions:</b> non-null fitnessFunc and data
+     * <br/><b>POST-conditions:</b> {@link Fitness#minValue()} &lt= result &lt= {@link Fitness#maxValue()}
+     * <br/><b>Side-effects:</b> fitness function is called
+     * <br/><b>Created on:</b> <i>8:28:35 AM Oct 16, 2026</i>
+     * 
+     * @param fitnessFunc
+     *            fitness function
+     * @param data
+     *            genetic data of chromosome
+     * @return fitness value of given genetic data
+     * @param <D>
+     *            type of underlying genetic data used by chromosome
+     */
+    public static <D extends Cloneable> double valueOf(final IFitnessFunction<D> fitnessFunc, final D data) {
+        return (fitnessFunc instanceof IDoubleFitnessFunction)
+            ? ((IDoubleFitnessFunction<D>) fitnessFunc).calcFitnessValue(data)
+            : fitnessFunc.calcFitness(data).value();
+    }
+
+}
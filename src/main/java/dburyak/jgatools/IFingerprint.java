@@ -0,0 +1,60 @@
+package dburyak.jgatools;
+
+
+import javax.annotation.concurrent.Immutable;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Collision-safe fingerprint of chromosome gene data. Two fingerprints are {@link #equals(Object) equal} if and only if
+ * the gene data they were made from is exactly equal, so fingerprint can be safely used as a key of caches and
+ * indexes. {@link #longHash()} is a well mixed 64-bit hash of gene data that is used for fast lookups, while
+ * {@link #equals(Object)} confirms exact equality on hash collision.
+ * <br/><b>Created on:</b> <i>8:02:14 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ */
+@Immutable
+public interface IFingerprint {
+
+    /**
+     * Get 64-bit hash of gene data. Equal fingerprints <b>MUST</b> have equal long hashes.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:03:40 PM Oct 16, 2026</i>
+     * 
+     * @return 64-bit hash of gene data
+     */
+    public long longHash();
+
+    /**
+     * Check exact equality of gene data this fingerprint was made from.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:04:22 PM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#equals(java.lang.Object)
+     * @param other
+     *            other fingerprint
+     * @return true if other fingerprint was made from exactly the same gene data
+     */
+    @Override
+    public boolean equals(final Object other);
+
+    /**
+     * Get 32-bit hash of gene data. Should be derived from {@link #longHash()}.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:05:01 PM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#hashCode()
+     * @return 32-bit hash of gene data
+     */
+    @Override
+    public int hashCode();
+
+}
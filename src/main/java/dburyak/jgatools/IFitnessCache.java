@@ -0,0 +1,78 @@
+package dburyak.jgatools;
+
+
+import javax.annotation.concurrent.ThreadSafe;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Memoizing fitness function. Sits between chromosome builders and real {@link IFitnessFunction} and returns
+ * previously calculated fitness for gene data that was already evaluated. Gene data is identified by collision-safe
+ * fingerprint (see {@link IChromosome#fingerprint()} and {@link IFingerprint}), so cached fitness is never returned for
+ * different gene data.<br/>
+ * Cache is size-bounded, eviction policy is implementation dependent. Since cache is used as a fitness function by
+ * chromosome builders that run on different threads, implementations must be thread safe.
+ * <br/><b>Created on:</b> <i>8:31:09 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ * @param <D>
+ *            type of underlying genetic data used by chromosome
+ */
+@ThreadSafe
+public interface IFitnessCache<D extends Cloneable> extends IFitnessFunction<D> {
+
+    /**
+     * Get number of fitness lookups that were served from cache.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> result &gt= 0
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:33:27 PM Oct 16, 2026</i>
+     * 
+     * @return number of cache hits
+     */
+    public long hits();
+
+    /**
+     * Get number of fitness lookups that required evaluation by underlying fitness function.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> result &gt= 0
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:34:02 PM Oct 16, 2026</i>
+     * 
+     * @return number of cache misses
+     */
+    public long misses();
+
+    /**
+     * Get number of entries that were evicted from cache because of size limit.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> result &gt= 0
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:34:40 PM Oct 16, 2026</i>
+     * 
+     * @return number of evictions
+     */
+    public long evictions();
+
+    /**
+     * Get number of entries currently held by cache.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> result &gt= 0
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:35:13 PM Oct 16, 2026</i>
+     * 
+     * @return current size of cache
+     */
+    public int size();
+
+    /**
+     * Remove all entries from cache. Counters are not reset.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> all cached fitness values are dropped
+     * <br/><b>Created on:</b> <i>8:35:49 PM Oct 16, 2026</i>
+     */
+    public void clear();
+
+}
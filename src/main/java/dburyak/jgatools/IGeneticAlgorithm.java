@@ -75,6 +75,17 @@ public interface IGeneticAlgorithm<C extends IChromosome, P extends IPopulation<
      */
     public Single<C> result();
 
+    /**
+     * Get lineage store that records ancestry of chromosomes produced by this GA (see {@link IChromosome#lineageId()}).
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:51:00 AM Oct 16, 2026</i>
+     * 
+     * @return lineage store of this GA, null if lineage is not tracked
+     */
+    public ILineageStore lineage();
+
 
     /**
      * Project : jgatools.<br/>
@@ -174,7 +185,9 @@ public interface IGeneticAlgorithm<C extends IChromosome, P extends IPopulation<
         public IGeneticAlgorithmBuilder<C, P> selectionFunc(final ISelectionStrategy<C> selectionFunc);
 
         /**
-         * Set source of generated "out of nowhere" chromosomes.
+         * Set source of generated "out of nowhere" chromosomes. Source is expected to be infinite and must honor
+         * backpressure : chromosomes should be produced only as fast as they are requested, since GA takes only as many
+         * of them as needed to fill the buffer (see {@link dburyak.jgatools.impl.ImmigrantSource}).
          * <br/><b>PRE-conditions:</b> non-null appearSource
          * <br/><b>POST-conditions:</b> non-null result
          * <br/><b>Side-effects:</b> UNKNOWN
@@ -238,8 +251,9 @@ public interface IGeneticAlgorithm<C extends IChromosome, P extends IPopulation<
         public IGeneticAlgorithmBuilder<C, P> bufferSize(final int bufferSize);
 
         /**
-         * Set supplier that produces chromosome builders for building chromosomes. Standard usage - for incrementing
-         * age on non-modified chromosomes on each evolution iteration.
+         * Set supplier that produces chromosome builders. Standard usage - for batch evaluation of offsprings that were
+         * built with deferred fitness ({@link IChromosomeBuilder#evaluate(java.util.List)}). Survivors are not rebuilt
+         * to increment their age, populations keep ages ({@link IPopulation#ageOf(IChromosome)}).
          * <br><b>PRE-conditions:</b> non-null chromosomeBuilder
          * <br><b>POST-conditions:</b> non-null result
          * <br><b>Side-effects:</b> UNKNOWN
@@ -252,6 +266,22 @@ public interface IGeneticAlgorithm<C extends IChromosome, P extends IPopulation<
         public IGeneticAlgorithmBuilder<C, P> chromosomeBuilder(
             final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder);
 
+        /**
+         * Set lineage store for target GA. Mutation and crossover strategies are bound to it on build (see
+         * {@link IMutationStrategy#withLineage(ILineageStore)} and
+         * {@link ICrossoverStrategy#withLineage(ILineageStore)}), so offsprings they produce are registered in store
+         * with their parents. If not specified, lineage is not tracked.
+         * <br/><b>PRE-conditions:</b> non-null lineage
+         * <br/><b>POST-conditions:</b> non-null result
+         * <br/><b>Side-effects:</b> UNKNOWN
+         * <br/><b>Created on:</b> <i>8:51:30 AM Oct 16, 2026</i>
+         * 
+         * @param lineage
+         *            lineage store
+         * @return this builder (for call chaining)
+         */
+        public IGeneticAlgorithmBuilder<C, P> lineage(final ILineageStore lineage);
+
     }
 
 }
@@ -0,0 +1,94 @@
+package dburyak.jgatools;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Fitness function that is able to evaluate chromosome which differs from already evaluated parent in few loci without
+ * walking the whole genome. Implementation keeps evaluation state - any intermediate values that make update cheap,
+ * like raw sums of additive objective or per-locus contributions of pairwise one. Full evaluation produces state from
+ * genetic data, delta evaluation produces child state from parent state and changed loci, fitness is derived from
+ * state.<br/>
+ * Chromosome builders that support incremental evaluation keep state with evaluated chromosome and use delta
+ * evaluation for chromosomes built from parent with known list of changed loci (mutants), falling back to full
+ * evaluation otherwise. States <b>MUST</b> be immutable or never modified after creation : single parent state is
+ * shared by all its mutants.
+ * <br/><b>Created on:</b> <i>7:05:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ * @param <D>
+ *            type of underlying genetic data used by chromosome
+ * @param <S>
+ *            type of evaluation state
+ */
+public interface IIncrementalFitnessFunction<D extends Cloneable, S> extends IFitnessFunction<D> {
+
+    /**
+     * Evaluate given genetic data from scratch. Implementations <b>MUST NOT</b> modify given data.
+     * <br/><b>PRE-conditions:</b> non-null data
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>7:06:05 AM Oct 16, 2026</i>
+     * 
+     * @param data
+     *            genetic data of chromosome
+     * @return evaluation state of given data
+     */
+    public S evaluationState(final D data);
+
+    /**
+     * Evaluate child genetic data that differs from parent one only in given loci, in time proportional to number of
+     * changed loci. Implementations <b>MUST NOT</b> modify given data or parent state.
+     * <br/><b>PRE-conditions:</b> non-null parentState, parentFitness, childData and changedLoci, parentState and
+     * parentFitness were produced for parent data, childData differs from it exactly in changedLoci (distinct)
+     * <br/><b>POST-conditions:</b> non-null result, equal to {@code evaluationState(childData)} up to rounding errors
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>7:07:00 AM Oct 16, 2026</i>
+     * 
+     * @param parentState
+     *            evaluation state of parent
+     * @param parentFitness
+     *            fitness of parent
+     * @param childData
+     *            genetic data of child
+     * @param changedLoci
+     *            indexes of loci where child differs from parent
+     * @return evaluation state of child
+     */
+    public S evaluationState(
+        final S parentState,
+        final Fitness parentFitness,
+        final D childData,
+        final int[] changedLoci);
+
+    /**
+     * Get fitness that corresponds to given evaluation state.
+     * <br/><b>PRE-conditions:</b> non-null state
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>7:07:45 AM Oct 16, 2026</i>
+     * 
+     * @param state
+     *            evaluation state
+     * @return fitness
+     */
+    public Fitness fitnessOf(final S state);
+
+    /**
+     * Calculate fitness of given genetic data by full evaluation.
+     * <br/><b>PRE-conditions:</b> non-null data
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>7:08:20 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessFunction#calcFitness(java.lang.Cloneable)
+     * @param data
+     *            genetic data of chromosome
+     * @return fitness of given genetic data
+     */
+    @Override
+    public default Fitness calcFitness(final D data) {
+        return fitnessOf(evaluationState(data));
+    }
+
+}
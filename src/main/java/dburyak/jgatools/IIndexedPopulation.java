@@ -0,0 +1,89 @@
+package dburyak.jgatools;
+
+
+import javax.annotation.concurrent.Immutable;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Population with random access to its chromosomes and their attributes by index. Chromosomes are sorted by fitness
+ * (descending), so index of chromosome is its rank : index 0 holds the fittest chromosome. Attributes are available
+ * without touching chromosome objects, which allows selection operators, stats and mates selectors to work on
+ * primitive values instead of traversing {@link #chromosomes()}.
+ * <br/><b>Created on:</b> <i>1:45:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete implementation type of chromosome that this population works with
+ */
+@Immutable
+public interface IIndexedPopulation<C extends IChromosome> extends IPopulation<C> {
+
+    /**
+     * Get chromosome at given index.
+     * <br/><b>PRE-conditions:</b> 0 &lt= index &lt size
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:45:48 AM Oct 16, 2026</i>
+     * 
+     * @param index
+     *            index (rank) of chromosome
+     * @return chromosome at given index
+     */
+    public C get(final int index);
+
+    /**
+     * Get fitness value of chromosome at given index.
+     * <br/><b>PRE-conditions:</b> 0 &lt= index &lt size
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:46:20 AM Oct 16, 2026</i>
+     * 
+     * @param index
+     *            index (rank) of chromosome
+     * @return fitness value of chromosome at given index
+     */
+    public double fitnessAt(final int index);
+
+    /**
+     * Get age of chromosome at given index.
+     * <br/><b>PRE-conditions:</b> 0 &lt= index &lt size
+     * <br/><b>POST-conditions:</b> non-negative result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:46:51 AM Oct 16, 2026</i>
+     * 
+     * @param index
+     *            index (rank) of chromosome
+     * @return age of chromosome at given index
+     */
+    public int ageAt(final int index);
+
+    /**
+     * Get generation number of chromosome at given index.
+     * <br/><b>PRE-conditions:</b> 0 &lt= index &lt size
+     * <br/><b>POST-conditions:</b> non-negative result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:47:22 AM Oct 16, 2026</i>
+     * 
+     * @param index
+     *            index (rank) of chromosome
+     * @return generation number of chromosome at given index
+     */
+    public int generationAt(final int index);
+
+    /**
+     * Get rank that chromosome with given fitness value has (or would have) in this population, i.e. number of
+     * chromosomes that are strictly fitter.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> 0 &lt= result &lt= size
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:48:03 AM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            fitness value
+     * @return rank for given fitness value
+     */
+    public int rankOf(final double fitness);
+
+}
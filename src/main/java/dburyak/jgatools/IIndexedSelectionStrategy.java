@@ -0,0 +1,107 @@
+package dburyak.jgatools;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Natural selection strategy that works on primitive array of fitness values instead of observable of chromosomes :
+ * it only chooses indexes of survivors, so it never compares or sorts chromosome objects and can be driven directly by
+ * engines that keep buffer as list (or by {@link IIndexedPopulation} attributes). Observable-based
+ * {@link ISelectionStrategy} methods are implemented on top of index selection.<br/>
+ * Same index may be selected several times (selection with replacement), in which case the chromosome survives in
+ * several copies.
+ * <br/><b>Created on:</b> <i>5:21:02 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+public interface IIndexedSelectionStrategy<C extends IChromosome> extends ISelectionStrategy<C> {
+
+    /**
+     * Choose indexes of chromosomes that survive selection.
+     * <br/><b>PRE-conditions:</b> non-null fitness with values in [{@link Fitness#minValue()},
+     * {@link Fitness#maxValue()}], non-null rng
+     * <br/><b>POST-conditions:</b> non-null result, each element is valid index of fitness array, empty result for
+     * empty fitness
+     * <br/><b>Side-effects:</b> rng state is changed
+     * <br/><b>Created on:</b> <i>5:22:10 AM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            fitness values of buffer chromosomes, is not modified
+     * @param rng
+     *            random generator owned by caller
+     * @return indexes of survivors
+     */
+    public int[] selectIndexes(final double[] fitness, final Rng rng);
+
+    /**
+     * Perform natural selection on given buffer.
+     * <br/><b>PRE-conditions:</b> non-null buffer of evaluated chromosomes, non-null rng
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> rng state is changed
+     * <br/><b>Created on:</b> <i>5:23:05 AM Oct 16, 2026</i>
+     * 
+     * @param buffer
+     *            chromosomes to select from
+     * @param rng
+     *            random generator owned by caller
+     * @return survivors in order of selection
+     */
+    public default List<C> select(final List<C> buffer, final Rng rng) {
+        final double[] fitness = new double[buffer.size()];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = buffer.get(i).fitnessValue();
+        }
+        final int[] indexes = selectIndexes(fitness, rng);
+        final List<C> survivors = new ArrayList<>(indexes.length);
+        for (final int index : indexes) {
+            survivors.add(buffer.get(index));
+        }
+        return survivors;
+    }
+
+    /**
+     * Perform natural selection on given finite buffer, which is materialized first.
+     * <br/><b>PRE-conditions:</b> non-null finite buffer of evaluated chromosomes, non-null rng
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> rng state is changed
+     * <br/><b>Created on:</b> <i>5:23:50 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ISelectionStrategy#select(rx.Observable, dburyak.jgatools.Rng)
+     * @param buffer
+     *            chromosomes to select from
+     * @param rng
+     *            random generator owned by caller
+     * @return survivors in order of selection
+     */
+    @Override
+    public default Observable<C> select(final Observable<C> buffer, final Rng rng) {
+        return buffer.toList().concatMapIterable(all -> select(all, rng));
+    }
+
+    /**
+     * Perform natural selection on given finite buffer with generator seeded from {@link ThreadLocalRandom}.
+     * <br/><b>PRE-conditions:</b> non-null finite buffer of evaluated chromosomes
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>5:24:30 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ISelectionStrategy#select(rx.Observable)
+     * @param buffer
+     *            chromosomes to select from
+     * @return survivors in order of selection
+     */
+    @Override
+    public default Observable<C> select(final Observable<C> buffer) {
+        return Observable.defer(() -> select(buffer, new Rng(ThreadLocalRandom.current().nextLong())));
+    }
+
+}
@@ -0,0 +1,105 @@
+package dburyak.jgatools;
+
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Store of lineage of chromosomes. Chromosome is identified in lineage by numeric id assigned on its registration
+ * ({@link IChromosome#lineageId()}), store keeps ids of parents of registered chromosomes. So chromosomes don't
+ * reference their ancestors and ancestry doesn't prevent them from being collected, while lineage is still available
+ * for analysis. Store is free to forget old records according to its retention policy; forgotten chromosomes are
+ * reported as having no known parents.
+ * <br/><b>Created on:</b> <i>8:02:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ */
+public interface ILineageStore {
+
+    /**
+     * Lineage id of chromosome that is not tracked by any lineage store.
+     * <br/><b>Created on:</b> <i>8:02:40 AM Oct 16, 2026</i>
+     */
+    public static final long NO_LINEAGE = -1L;
+
+
+    /**
+     * Register new chromosome with given parents and assign lineage id to it. Parents that are not tracked
+     * ({@link #NO_LINEAGE}) are ignored.
+     * <br/><b>PRE-conditions:</b> non-null parentIds, 0 &lt;= parentCount &lt;= parentIds.length
+     * <br/><b>POST-conditions:</b> non-negative result, unique in this store
+     * <br/><b>Side-effects:</b> record is added to store, old records may be forgotten
+     * <br/><b>Created on:</b> <i>8:03:10 AM Oct 16, 2026</i>
+     * 
+     * @param parentIds
+     *            lineage ids of parents
+     * @param parentCount
+     *            number of parents in parentIds
+     * @return lineage id of new chromosome
+     */
+    public long register(final long[] parentIds, final int parentCount);
+
+    /**
+     * Check if this store still keeps record of chromosome with given lineage id.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:03:40 AM Oct 16, 2026</i>
+     * 
+     * @param id
+     *            lineage id
+     * @return true if record is kept, false if it was forgotten or never registered
+     */
+    public boolean contains(final long id);
+
+    /**
+     * Get lineage ids of parents of chromosome with given lineage id.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:04:10 AM Oct 16, 2026</i>
+     * 
+     * @param id
+     *            lineage id of chromosome
+     * @return lineage ids of parents, empty if chromosome has no parents or its record is not kept
+     */
+    public long[] parents(final long id);
+
+    /**
+     * Get lineage ids of ancestors of chromosome with given lineage id up to given depth (1 for parents, 2 for
+     * parents and grandparents and so on), nearest first. Each ancestor is reported once.
+     * <br/><b>PRE-conditions:</b> non-negative depth
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:04:40 AM Oct 16, 2026</i>
+     * 
+     * @param id
+     *            lineage id of chromosome
+     * @param depth
+     *            max number of generations to go back
+     * @return lineage ids of known ancestors
+     */
+    public default long[] ancestors(final long id, final int depth) {
+        final Set<Long> seen = new HashSet<>();
+        final LongStream.Builder result = LongStream.builder();
+        long[] level = new long[] { id };
+        for (int d = 0; d < depth && level.length > 0; d++) {
+            final LongStream.Builder next = LongStream.builder();
+            for (final long child : level) {
+                for (final long parent : parents(child)) {
+                    if (seen.add(Long.valueOf(parent))) {
+                        next.add(parent);
+                        result.add(parent);
+                    }
+                }
+            }
+            level = next.build().toArray();
+        }
+        return result.build().toArray();
+    }
+
+}
@@ -1,6 +1,8 @@
 package dburyak.jgatools;
 
 
+import java.util.List;
+
 import rx.Observable;
 
 
@@ -39,4 +41,44 @@ public interface IMatesSelector<C extends IChromosome> {
      */
     public Observable<C> select(final C parent1, final Observable<C> candidates);
 
+    /**
+     * Select mates for particular parent from candidates drawing randomness from given generator. Engines call this
+     * method with generator of current task, default implementation ignores generator and calls
+     * {@link #select(IChromosome, Observable)}.
+     * <br/><b>PRE-conditions:</b> non-null parent1, non-null and non-empty candidates, non-null rng
+     * <br/><b>POST-conditions:</b> non-null and non-empty result
+     * <br/><b>Side-effects:</b> UNKNOWN, rng state may be changed
+     * <br/><b>Created on:</b> <i>4:58:50 AM Oct 16, 2026</i>
+     * 
+     * @param parent1
+     *            first parent
+     * @param candidates
+     *            candidates for mates
+     * @param rng
+     *            random generator owned by calling task
+     * @return selected mates
+     */
+    public default Observable<C> select(final C parent1, final Observable<C> candidates, final Rng rng) {
+        return select(parent1, candidates);
+    }
+
+    /**
+     * Get selector to be used for choosing mates among given population of current generation. Engines call this
+     * method once per generation and use returned selector for all first parents of the generation, which allows
+     * implementations to build per-generation index of population instead of scanning candidates for each parent.
+     * Returned selector is called concurrently when generation is bred in parallel. Default implementation needs no
+     * preparation and returns this selector.
+     * <br/><b>PRE-conditions:</b> non-null population
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>6:10:05 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            chromosomes of current generation, mates candidates, must not be modified by implementation
+     * @return selector for current generation
+     */
+    public default IMatesSelector<C> forGeneration(final List<C> population) {
+        return this;
+    }
+
 }
@@ -26,4 +26,39 @@ public interface IMutationStrategy<C extends IChromosome> {
      */
     public C mutate(final C chromosome);
 
+    /**
+     * Apply mutation operation to given chromosome drawing randomness from given generator. Engines call this method
+     * with generator of current task, default implementation ignores generator and calls
+     * {@link #mutate(IChromosome)}.
+     * <br/><b>PRE-conditions:</b> non-null chromosome and rng
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN, rng state may be changed
+     * <br/><b>Created on:</b> <i>4:57:15 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to be mutated
+     * @param rng
+     *            random generator owned by calling task
+     * @return a brand new mutant chromosome
+     */
+    public default C mutate(final C chromosome, final Rng rng) {
+        return mutate(chromosome);
+    }
+
+    /**
+     * Get strategy that registers mutants in given lineage store with original chromosome as parent (see
+     * {@link IChromosome.IChromosomeBuilder#lineage(ILineageStore)}). Engines call this method once on build when
+     * lineage store is set. Default implementation doesn't track lineage and returns this strategy.
+     * <br/><b>PRE-conditions:</b> non-null lineage
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:52:00 AM Oct 16, 2026</i>
+     * 
+     * @param lineage
+     *            lineage store
+     * @return strategy bound to given lineage store
+     */
+    public default IMutationStrategy<C> withLineage(final ILineageStore lineage) {
+        return this;
+    }
 }
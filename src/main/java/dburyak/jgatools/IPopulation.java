@@ -80,6 +80,22 @@ public interface IPopulation<C extends IChromosome> extends IConfigured {
      */
     public PopulationStats stats();
 
+    /**
+     * Get age of given chromosome in this population. Age is property of population : chromosome that survived from
+     * previous population (see {@link IPopulationBuilder#survivorsOf(IPopulation)}) is carried over as is and its age
+     * here is its age in previous population plus one, other chromosomes have their own age
+     * ({@link IChromosome#age()}).
+     * <br/><b>PRE-conditions:</b> non-null chromosome
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> UNKNOWN
+     * <br/><b>Created on:</b> <i>8:20:10 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome of this population
+     * @return age of chromosome in this population, negative if chromosome is not member of this population
+     */
+    public int ageOf(final C chromosome);
+
 
     /**
      * Project : jgatools.<br/>
@@ -127,6 +143,21 @@ public interface IPopulation<C extends IChromosome> extends IConfigured {
          */
         public IPopulationBuilder<C, P> chromosomes(final Observable<C> chromosomes);
 
+        /**
+         * Set previous population of target one. Chromosomes of previous population that get to target population are
+         * survivors : they are taken by reference, and their age in target population is their age in previous
+         * population plus one. So GA doesn't need to rebuild survivors to increment their age.
+         * <br/><b>PRE-conditions:</b> non-null previous
+         * <br/><b>POST-conditions:</b> non-null result
+         * <br/><b>Side-effects:</b> UNKNOWN
+         * <br/><b>Created on:</b> <i>8:20:40 AM Oct 16, 2026</i>
+         * 
+         * @param previous
+         *            population survivors come from
+         * @return this builder (for call chaining)
+         */
+        public IPopulationBuilder<C, P> survivorsOf(final P previous);
+
         /**
          * Add chromosome to target population.
          * <br/><b>PRE-conditions:</b> non-null chromosome
@@ -170,6 +201,8 @@ public interface IPopulation<C extends IChromosome> extends IConfigured {
 
         /**
          * Set appearance source that emits new "out of nowhere" individuals when population is less than its size.
+         * Source must honor backpressure : individuals should be produced only as fast as they are requested, since
+         * builder takes only as many of them as it needs (see {@link dburyak.jgatools.impl.ImmigrantSource}).
          * <br/><b>PRE-conditions:</b> non-null appearanceSource
          * <br/><b>POST-conditions:</b> non-null result
          * <br/><b>Side-effects:</b> UNKNOWN
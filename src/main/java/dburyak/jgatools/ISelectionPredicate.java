@@ -1,6 +1,9 @@
 package dburyak.jgatools;
 
 
+import java.util.concurrent.ThreadLocalRandom;
+
+
 /**
  * Project : jgatools.<br/>
  * Function that performs selection operation - filters out chromosomes that are not satisfactory by some criteria.<br/>
@@ -31,4 +34,58 @@ public interface ISelectionPredicate<C extends IChromosome> {
      */
     public boolean select(final C chromosome);
 
+    /**
+     * Test if chromosome should be selected or not, drawing randomness from given generator. Engines call this method
+     * with generator of current task, default implementation ignores generator and calls
+     * {@link #select(IChromosome)}, so only randomized predicates need to override it.
+     * <br/><b>PRE-conditions:</b> non-null chromosome and rng
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN, rng state may be changed
+     * <br/><b>Created on:</b> <i>4:55:10 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome that should be tested
+     * @param rng
+     *            random generator owned by calling task
+     * @return true if chromosome should be selected, false if it fails selection
+     */
+    public default boolean select(final C chromosome, final Rng rng) {
+        return select(chromosome);
+    }
+
+    /**
+     * Create predicate that selects each chromosome independently with given probability (e.g. mutation or crossover
+     * rate). Uses generator given by engine, or {@link ThreadLocalRandom} when called without one.
+     * <br/><b>PRE-conditions:</b> 0 &lt= probability &lt= 1
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>4:56:02 AM Oct 16, 2026</i>
+     * 
+     * @param probability
+     *            probability of selection
+     * @return random selection predicate
+     * @throws IllegalArgumentException
+     *             if probability is out of range
+     */
+    @SuppressWarnings("nls")
+    public static <C extends IChromosome> ISelectionPredicate<C> withProbability(final double probability)
+        throws IllegalArgumentException {
+
+        if (!(probability >= 0.0 && probability <= 1.0)) {
+            throw new IllegalArgumentException("probability out of range : probability = [" + probability + "]");
+        }
+        return new ISelectionPredicate<C>() {
+
+            @Override
+            public boolean select(final C chromosome) {
+                return ThreadLocalRandom.current().nextDouble() < probability;
+            }
+
+            @Override
+            public boolean select(final C chromosome, final Rng rng) {
+                return rng.nextDouble() < probability;
+            }
+
+        };
+    }
 }
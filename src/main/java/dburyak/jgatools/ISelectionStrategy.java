@@ -30,4 +30,23 @@ public interface ISelectionStrategy<C extends IChromosome> {
      */
     public Observable<C> select(final Observable<C> buffer);
 
+    /**
+     * Perform natural selection operation on given "buffer" of chromosomes drawing randomness from given generator.
+     * Engines call this method with generator of current generation, default implementation ignores generator and
+     * calls {@link #select(Observable)}.
+     * <br/><b>PRE-conditions:</b> non-null buffer and rng
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> UNKNOWN, rng state may be changed
+     * <br/><b>Created on:</b> <i>5:20:14 AM Oct 16, 2026</i>
+     * 
+     * @param buffer
+     *            chromosomes to apply natural selection operation to
+     * @param rng
+     *            random generator owned by caller
+     * @return result of natural selection
+     */
+    public default Observable<C> select(final Observable<C> buffer, final Rng rng) {
+        return select(buffer);
+    }
+
 }
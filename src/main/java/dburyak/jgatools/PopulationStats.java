@@ -1,9 +1,7 @@
 package dburyak.jgatools;
 
 
-import java.util.IntSummaryStatistics;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
@@ -392,8 +390,11 @@ public final class PopulationStats {
 
 
         /**
-         * Evaluate all population stats from given chromosomes. Only eliteCount is not evaluated by this method.
-         * <br><b>PRE-conditions:</b> non-null chromosomes
+         * Evaluate all population stats from given chromosomes in single pass. Only eliteCount is not evaluated by this
+         * method. Stream is traversed sequentially or in parallel depending on its own mode. Ages are taken from
+         * population ({@link IPopulation#ageOf(IChromosome)}) rather than from chromosomes, since survivors keep their
+         * birth age ({@link IChromosome#age()}).
+         * <br><b>PRE-conditions:</b> non-null chromosomes and ages, non-negative ages
          * <br><b>POST-conditions:</b> non-null result
          * <br><b>Side-effects:</b> this builder state is changed
          * <br><b>Created on:</b> <i>4:42:23 AM Sep 12, 2016</i>
@@ -402,34 +403,15 @@ public final class PopulationStats {
          *            concrete chromosome implementation type
          * @param chromosomes
          *            chromosomes of population
+         * @param ages
+         *            age of each chromosome in population
          * @return this builder (for call chaining)
          */
-        public final <C extends IChromosome> PopulationStatsBuilder eval(final Stream<C> chromosomes) {
-            final List<C> chrList = chromosomes.parallel().collect(Collectors.toList());
-
-            final long sizeL = chrList.parallelStream().count();
-            Validators.isTrue(Long.compare(sizeL, Integer.MAX_VALUE) <= 0); // sizeL <= MAX_INT
-            size((int) sizeL);
-
-            final IntSummaryStatistics ages = chrList.parallelStream().collect(Collectors.summarizingInt(
-                IChromosome::age));
-            minAge(ages.getMin());
-            maxAge(ages.getMax());
-            avgAge(ages.getAverage());
-
-            final IntSummaryStatistics gens = chrList.parallelStream()
-                .collect(Collectors.summarizingInt(IChromosome::generation));
-            minGeneration(gens.getMin());
-            maxGeneration(gens.getMax());
-            avgGeneration(gens.getAverage());
-
-            minFitness(chrList.parallelStream().map(IChromosome::fitness)
-                .min(Fitness::compareTo).orElse(Fitness.min()));
-            maxFitness(chrList.parallelStream().map(IChromosome::fitness)
-                .max(Fitness::compareTo).orElse(Fitness.min()));
-            avgFitness(new Fitness(chrList.parallelStream().map(IChromosome::fitness).mapToDouble(Fitness::value)
-                .average().orElse(Fitness.minValue())));
+        public final <C extends IChromosome> PopulationStatsBuilder eval(
+            final Stream<C> chromosomes,
+            final ToIntFunction<? super C> ages) {
 
+            chromosomes.collect(PopulationStatsAccumulator.collector(ages)).fill(this);
             return this;
         }
 
@@ -0,0 +1,489 @@
+package dburyak.jgatools;
+
+
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import dburyak.jgatools.PopulationStats.PopulationStatsBuilder;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Mergeable accumulator of population statistics. Keeps only primitive sums and bounds, so all stats are computed in
+ * single pass over chromosomes without boxing. May be used sequentially ({@link #add(IChromosome, int)}), as combiner
+ * of parallel stream ({@link #collector(ToIntFunction)}) or for incremental updates of existing population
+ * ({@link #remove(IChromosome, int)}). Age is property of population ({@link IPopulation#ageOf(IChromosome)}), so it
+ * is always given by caller together with chromosome.<br/>
+ * Sums are always exact. Min/max bounds are tracked together with number of chromosomes that have bound value; when
+ * the last chromosome with bound value is removed, bound can't be restored without full traversal, so previous bound
+ * is kept (it is still valid, but not tight anymore) and {@link #boundsExact()} becomes false.
+ * <br/><b>Created on:</b> <i>1:20:14 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ */
+@NotThreadSafe
+public final class PopulationStatsAccumulator {
+
+    /**
+     * Number of accumulated chromosomes.
+     * <br/><b>Created on:</b> <i>1:20:51 AM Oct 16, 2026</i>
+     */
+    private int count = 0;
+
+    /**
+     * Sum of ages of accumulated chromosomes.
+     * <br/><b>Created on:</b> <i>1:21:08 AM Oct 16, 2026</i>
+     */
+    private long sumAge = 0L;
+
+    /**
+     * Minimal age.
+     * <br/><b>Created on:</b> <i>1:21:24 AM Oct 16, 2026</i>
+     */
+    private int minAge = Integer.MAX_VALUE;
+
+    /**
+     * Number of chromosomes with minimal age.
+     * <br/><b>Created on:</b> <i>1:21:40 AM Oct 16, 2026</i>
+     */
+    private int minAgeCount = 0;
+
+    /**
+     * Maximum age.
+     * <br/><b>Created on:</b> <i>1:21:56 AM Oct 16, 2026</i>
+     */
+    private int maxAge = Integer.MIN_VALUE;
+
+    /**
+     * Number of chromosomes with maximum age.
+     * <br/><b>Created on:</b> <i>1:22:12 AM Oct 16, 2026</i>
+     */
+    private int maxAgeCount = 0;
+
+    /**
+     * Sum of generation numbers of accumulated chromosomes.
+     * <br/><b>Created on:</b> <i>1:22:28 AM Oct 16, 2026</i>
+     */
+    private long sumGeneration = 0L;
+
+    /**
+     * Minimal generation number.
+     * <br/><b>Created on:</b> <i>1:22:44 AM Oct 16, 2026</i>
+     */
+    private int minGeneration = Integer.MAX_VALUE;
+
+    /**
+     * Number of chromosomes with minimal generation number.
+     * <br/><b>Created on:</b> <i>1:23:00 AM Oct 16, 2026</i>
+     */
+    private int minGenerationCount = 0;
+
+    /**
+     * Maximum generation number.
+     * <br/><b>Created on:</b> <i>1:23:16 AM Oct 16, 2026</i>
+     */
+    private int maxGeneration = Integer.MIN_VALUE;
+
+    /**
+     * Number of chromosomes with maximum generation number.
+     * <br/><b>Created on:</b> <i>1:23:32 AM Oct 16, 2026</i>
+     */
+    private int maxGenerationCount = 0;
+
+    /**
+     * Sum of fitness values of accumulated chromosomes.
+     * <br/><b>Created on:</b> <i>1:23:48 AM Oct 16, 2026</i>
+     */
+    private double sumFitness = 0.0D;
+
+    /**
+     * Minimal fitness value.
+     * <br/><b>Created on:</b> <i>1:24:04 AM Oct 16, 2026</i>
+     */
+    private double minFitness = Double.POSITIVE_INFINITY;
+
+    /**
+     * Number of chromosomes with minimal fitness value.
+     * <br/><b>Created on:</b> <i>1:24:20 AM Oct 16, 2026</i>
+     */
+    private int minFitnessCount = 0;
+
+    /**
+     * Maximum fitness value.
+     * <br/><b>Created on:</b> <i>1:24:36 AM Oct 16, 2026</i>
+     */
+    private double maxFitness = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Number of chromosomes with maximum fitness value.
+     * <br/><b>Created on:</b> <i>1:24:52 AM Oct 16, 2026</i>
+     */
+    private int maxFitnessCount = 0;
+
+    /**
+     * Whether all bounds are tight.
+     * <br/><b>Created on:</b> <i>1:25:08 AM Oct 16, 2026</i>
+     */
+    private boolean boundsExact = true;
+
+
+    /**
+     * Get collector that accumulates stats of chromosomes stream. Works for both sequential and parallel streams.
+     * <br/><b>PRE-conditions:</b> non-null ages
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:25:40 AM Oct 16, 2026</i>
+     * 
+     * @param <C>
+     *            concrete chromosome implementation type
+     * @param ages
+     *            age of each chromosome in its population, usually {@link IPopulation#ageOf(IChromosome)}
+     * @return stats collector
+     */
+    public static final <C extends IChromosome> Collector<C, PopulationStatsAccumulator, PopulationStatsAccumulator>
+        collector(final ToIntFunction<? super C> ages) {
+
+        Validators.nonNull(ages);
+        return Collector.of(
+            PopulationStatsAccumulator::new,
+            (acc, chromosome) -> acc.add(chromosome, ages.applyAsInt(chromosome)),
+            PopulationStatsAccumulator::merge,
+            Collector.Characteristics.IDENTITY_FINISH,
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Create accumulator from already evaluated stats, so that they can be merged with other stats. Sums are restored
+     * from averages and size.
+     * <br/><b>PRE-conditions:</b> non-null stats
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:26:22 AM Oct 16, 2026</i>
+     * 
+     * @param stats
+     *            evaluated population stats
+     * @return accumulator that is equivalent to given stats
+     */
+    public static final PopulationStatsAccumulator of(final PopulationStats stats) {
+        Validators.nonNull(stats);
+        final PopulationStatsAccumulator acc = new PopulationStatsAccumulator();
+        final int size = stats.size();
+        if (size == 0) {
+            return acc;
+        }
+        acc.count = size;
+        acc.sumAge = Math.round(stats.avgAge() * size);
+        acc.minAge = stats.minAge();
+        acc.minAgeCount = 1;
+        acc.maxAge = stats.maxAge();
+        acc.maxAgeCount = 1;
+        acc.sumGeneration = Math.round(stats.avgGeneration() * size);
+        acc.minGeneration = stats.minGeneration();
+        acc.minGenerationCount = 1;
+        acc.maxGeneration = stats.maxGeneration();
+        acc.maxGenerationCount = 1;
+        acc.sumFitness = stats.avgFitness().value() * size;
+        acc.minFitness = stats.minFitness().value();
+        acc.minFitnessCount = 1;
+        acc.maxFitness = stats.maxFitness().value();
+        acc.maxFitnessCount = 1;
+        return acc;
+    }
+
+    /**
+     * Add chromosome to accumulated stats.
+     * <br/><b>PRE-conditions:</b> non-null chromosome, non-negative age
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> this accumulator state is changed
+     * <br/><b>Created on:</b> <i>1:27:10 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to be added
+     * @param age
+     *            age of chromosome in its population ({@link IPopulation#ageOf(IChromosome)})
+     */
+    public final void add(final IChromosome chromosome, final int age) {
+        add(age, chromosome.generation(), chromosome.fitnessValue());
+    }
+
+    /**
+     * Add chromosome attributes to accumulated stats. Allows to accumulate stats of populations that keep chromosome
+     * attributes in primitive arrays.
+     * <br/><b>PRE-conditions:</b> non-negative age and generation, valid fitness value
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> this accumulator state is changed
+     * <br/><b>Created on:</b> <i>1:27:44 AM Oct 16, 2026</i>
+     * 
+     * @param age
+     *            age of chromosome
+     * @param generation
+     *            generation number of chromosome
+     * @param fitness
+     *            fitness value of chromosome
+     */
+    public final void add(final int age, final int generation, final double fitness) {
+        count++;
+
+        sumAge += age;
+        if (age < minAge) {
+            minAge = age;
+            minAgeCount = 1;
+        } else if (age == minAge) {
+            minAgeCount++;
+        }
+        if (age > maxAge) {
+            maxAge = age;
+            maxAgeCount = 1;
+        } else if (age == maxAge) {
+            maxAgeCount++;
+        }
+
+        sumGeneration += generation;
+        if (generation < minGeneration) {
+            minGeneration = generation;
+            minGenerationCount = 1;
+        } else if (generation == minGeneration) {
+            minGenerationCount++;
+        }
+        if (generation > maxGeneration) {
+            maxGeneration = generation;
+            maxGenerationCount = 1;
+        } else if (generation == maxGeneration) {
+            maxGenerationCount++;
+        }
+
+        sumFitness += fitness;
+        if (fitness < minFitness) {
+            minFitness = fitness;
+            minFitnessCount = 1;
+        } else if (fitness == minFitness) {
+            minFitnessCount++;
+        }
+        if (fitness > maxFitness) {
+            maxFitness = fitness;
+            maxFitnessCount = 1;
+        } else if (fitness == maxFitness) {
+            maxFitnessCount++;
+        }
+    }
+
+    /**
+     * Remove chromosome from accumulated stats. Chromosome must have been added before with the same age.
+     * <br/><b>PRE-conditions:</b> non-null chromosome, count &gt 0
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> this accumulator state is changed, bounds may become not exact
+     * <br/><b>Created on:</b> <i>1:28:31 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            previously added chromosome to be removed
+     * @param age
+     *            age chromosome was added with
+     */
+    public final void remove(final IChromosome chromosome, final int age) {
+        Validators.positive(count);
+        final int generation = chromosome.generation();
+        final double fitness = chromosome.fitnessValue();
+        count--;
+        if (count == 0) {
+            reset();
+            return;
+        }
+
+        sumAge -= age;
+        if (age == minAge && --minAgeCount == 0) {
+            boundsExact = false;
+        }
+        if (age == maxAge && --maxAgeCount == 0) {
+            boundsExact = false;
+        }
+
+        sumGeneration -= generation;
+        if (generation == minGeneration && --minGenerationCount == 0) {
+            boundsExact = false;
+        }
+        if (generation == maxGeneration && --maxGenerationCount == 0) {
+            boundsExact = false;
+        }
+
+        sumFitness -= fitness;
+        if (fitness == minFitness && --minFitnessCount == 0) {
+            boundsExact = false;
+        }
+        if (fitness == maxFitness && --maxFitnessCount == 0) {
+            boundsExact = false;
+        }
+    }
+
+    /**
+     * Merge other accumulator into this one.
+     * <br/><b>PRE-conditions:</b> non-null other
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> this accumulator state is changed
+     * <br/><b>Created on:</b> <i>1:29:45 AM Oct 16, 2026</i>
+     * 
+     * @param other
+     *            accumulator to be merged into this one
+     * @return this accumulator (for call chaining)
+     */
+    public final PopulationStatsAccumulator merge(final PopulationStatsAccumulator other) {
+        Validators.nonNull(other);
+        if (other.count == 0) {
+            return this;
+        }
+        count += other.count;
+        boundsExact &= other.boundsExact;
+
+        sumAge += other.sumAge;
+        if (other.minAge < minAge) {
+            minAge = other.minAge;
+            minAgeCount = other.minAgeCount;
+        } else if (other.minAge == minAge) {
+            minAgeCount += other.minAgeCount;
+        }
+        if (other.maxAge > maxAge) {
+            maxAge = other.maxAge;
+            maxAgeCount = other.maxAgeCount;
+        } else if (other.maxAge == maxAge) {
+            maxAgeCount += other.maxAgeCount;
+        }
+
+        sumGeneration += other.sumGeneration;
+        if (other.minGeneration < minGeneration) {
+            minGeneration = other.minGeneration;
+            minGenerationCount = other.minGenerationCount;
+        } else if (other.minGeneration == minGeneration) {
+            minGenerationCount += other.minGenerationCount;
+        }
+        if (other.maxGeneration > maxGeneration) {
+            maxGeneration = other.maxGeneration;
+            maxGenerationCount = other.maxGenerationCount;
+        } else if (other.maxGeneration == maxGeneration) {
+            maxGenerationCount += other.maxGenerationCount;
+        }
+
+        sumFitness += other.sumFitness;
+        if (other.minFitness < minFitness) {
+            minFitness = other.minFitness;
+            minFitnessCount = other.minFitnessCount;
+        } else if (other.minFitness == minFitness) {
+            minFitnessCount += other.minFitnessCount;
+        }
+        if (other.maxFitness > maxFitness) {
+            maxFitness = other.maxFitness;
+            maxFitnessCount = other.maxFitnessCount;
+        } else if (other.maxFitness == maxFitness) {
+            maxFitnessCount += other.maxFitnessCount;
+        }
+        return this;
+    }
+
+    /**
+     * Reset this accumulator to empty state.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> this accumulator state is changed
+     * <br/><b>Created on:</b> <i>1:30:58 AM Oct 16, 2026</i>
+     */
+    public final void reset() {
+        count = 0;
+        sumAge = 0L;
+        minAge = Integer.MAX_VALUE;
+        minAgeCount = 0;
+        maxAge = Integer.MIN_VALUE;
+        maxAgeCount = 0;
+        sumGeneration = 0L;
+        minGeneration = Integer.MAX_VALUE;
+        minGenerationCount = 0;
+        maxGeneration = Integer.MIN_VALUE;
+        maxGenerationCount = 0;
+        sumFitness = 0.0D;
+        minFitness = Double.POSITIVE_INFINITY;
+        minFitnessCount = 0;
+        maxFitness = Double.NEGATIVE_INFINITY;
+        maxFitnessCount = 0;
+        boundsExact = true;
+    }
+
+    /**
+     * Get number of accumulated chromosomes.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> non-negative result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:31:22 AM Oct 16, 2026</i>
+     * 
+     * @return number of accumulated chromosomes
+     */
+    public final int count() {
+        return count;
+    }
+
+    /**
+     * Check whether min/max bounds are tight, i.e. no chromosome with bound value was removed since last reset.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:31:47 AM Oct 16, 2026</i>
+     * 
+     * @return true if bounds are exact, false if they are only valid bounds
+     */
+    public final boolean boundsExact() {
+        return boundsExact;
+    }
+
+    /**
+     * Fill given stats builder with accumulated stats. Only eliteCount is not set by this method. Empty accumulator
+     * produces zero ages and generations and minimal fitness.
+     * <br/><b>PRE-conditions:</b> non-null builder
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> state of builder is changed
+     * <br/><b>Created on:</b> <i>1:32:30 AM Oct 16, 2026</i>
+     * 
+     * @param builder
+     *            stats builder to be filled
+     * @return given builder (for call chaining)
+     */
+    public final PopulationStatsBuilder fill(final PopulationStatsBuilder builder) {
+        Validators.nonNull(builder);
+        builder.size(count);
+        if (count == 0) {
+            return builder
+                .minAge(0).maxAge(0).avgAge(0.0D)
+                .minGeneration(0).maxGeneration(0).avgGeneration(0.0D)
+                .minFitness(Fitness.min()).maxFitness(Fitness.min()).avgFitness(Fitness.min());
+        }
+        // clamping compensates floating point error, stats builder validates min <= avg <= max
+        final double avgFitness = Math.min(Math.max(sumFitness / count, minFitness), maxFitness);
+        return builder
+            .minAge(minAge)
+            .maxAge(maxAge)
+            .avgAge(Math.min(Math.max((double) sumAge / count, minAge), maxAge))
+            .minGeneration(minGeneration)
+            .maxGeneration(maxGeneration)
+            .avgGeneration(Math.min(Math.max((double) sumGeneration / count, minGeneration), maxGeneration))
+            .minFitness(new Fitness(minFitness))
+            .maxFitness(new Fitness(maxFitness))
+            .avgFitness(new Fitness(avgFitness));
+    }
+
+    /**
+     * Build stats from accumulated values.
+     * <br/><b>PRE-conditions:</b> 0 &lt= eliteCount &lt= count
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>1:33:41 AM Oct 16, 2026</i>
+     * 
+     * @param eliteCount
+     *            number of elite chromosomes in population
+     * @return population stats
+     */
+    public final PopulationStats toStats(final int eliteCount) {
+        return fill(new PopulationStatsBuilder())
+            .eliteCount(eliteCount)
+            .build();
+    }
+
+}
@@ -0,0 +1,228 @@
+package dburyak.jgatools;
+
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+
+/**
+ * Project : jgatools.<br/>
+ * Fast non-cryptographic pseudo-random generator (xoroshiro128++ with SplitMix64 seeding) handed to strategies as
+ * source of randomness. Unlike {@link java.util.Random} it has no atomic seed to contend on, so each worker or task is
+ * supposed to own its own instance : streams are either derived from common master seed by engine
+ * ({@code dburyak.jgatools.impl.RngService}) or split from another generator ({@link #split()}).<br/>
+ * Same seed always produces same sequence of values.
+ * <br/><b>Created on:</b> <i>4:40:12 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &ltdmytro.buryak@gmail.com&gt</i>
+ * @version 0.1
+ */
+@NotThreadSafe
+public final class Rng {
+
+    /**
+     * Golden ratio increment of SplitMix64 sequence.
+     * <br/><b>Created on:</b> <i>4:40:40 AM Oct 16, 2026</i>
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Scale that converts 53 random bits to double in [0, 1).
+     * <br/><b>Created on:</b> <i>4:40:58 AM Oct 16, 2026</i>
+     */
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /**
+     * First half of generator state.
+     * <br/><b>Created on:</b> <i>4:41:15 AM Oct 16, 2026</i>
+     */
+    private long s0;
+
+    /**
+     * Second half of generator state.
+     * <br/><b>Created on:</b> <i>4:41:30 AM Oct 16, 2026</i>
+     */
+    private long s1;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.Rng.<br/>
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>4:41:52 AM Oct 16, 2026</i>
+     * 
+     * @param seed
+     *            seed of generator, any value is allowed
+     */
+    public Rng(final long seed) {
+        final long x0 = seed + GOLDEN_GAMMA;
+        final long x1 = x0 + GOLDEN_GAMMA;
+        s0 = mix64(x0);
+        s1 = mix64(x1);
+        if ((s0 | s1) == 0L) { // all-zero state is the only forbidden one
+            s1 = GOLDEN_GAMMA;
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer, spreads every input bit to all output bits. Used for seeding and deriving seeds of
+     * independent streams.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>4:42:35 AM Oct 16, 2026</i>
+     * 
+     * @param value
+     *            value to be mixed
+     * @return mixed value
+     */
+    public static final long mix64(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Get seed of stream identified by given key within family of streams of given seed. Different keys give
+     * statistically independent streams.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>4:43:20 AM Oct 16, 2026</i>
+     * 
+     * @param seed
+     *            seed of family of streams
+     * @param key
+     *            key of stream in family
+     * @return seed of stream
+     */
+    public static final long derive(final long seed, final long key) {
+        return mix64(seed + GOLDEN_GAMMA * (key + 1L));
+    }
+
+    /**
+     * Get next random 64-bit value.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> state of this generator is changed
+     * <br/><b>Created on:</b> <i>4:44:02 AM Oct 16, 2026</i>
+     * 
+     * @return random long value
+     */
+    public final long nextLong() {
+        final long a = s0;
+        long b = s1;
+        final long result = Long.rotateLeft(a + b, 17) + a;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 49) ^ b ^ (b << 21);
+        s1 = Long.rotateLeft(b, 28);
+        return result;
+    }
+
+    /**
+     * Get next random 32-bit value.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> state of this generator is changed
+     * <br/><b>Created on:</b> <i>4:44:31 AM Oct 16, 2026</i>
+     * 
+     * @return random int value
+     */
+    public final int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Get next random value uniformly distributed in [0, bound). Uses multiply-and-reject (Lemire) method, so there's
+     * no modulo bias and no division in common case.
+     * <br/><b>PRE-conditions:</b> positive bound
+     * <br/><b>POST-conditions:</b> 0 &lt= result &lt bound
+     * <br/><b>Side-effects:</b> state of this generator is changed
+     * <br/><b>Created on:</b> <i>4:45:10 AM Oct 16, 2026</i>
+     * 
+     * @param bound
+     *            upper bound (exclusive)
+     * @return random int value in range
+     * @throws IllegalArgumentException
+     *             if bound is not positive
+     */
+    @SuppressWarnings("nls")
+    public final int nextInt(final int bound) throws IllegalArgumentException {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive : bound = [" + bound + "]");
+        }
+        long product = (nextLong() >>> 32) * bound;
+        int low = (int) product;
+        if (Integer.compareUnsigned(low, bound) < 0) {
+            final int threshold = Integer.remainderUnsigned(-bound, bound);
+            while (Integer.compareUnsigned(low, threshold) < 0) {
+                product = (nextLong() >>> 32) * bound;
+                low = (int) product;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Get next random value uniformly distributed in [0, 1).
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> 0 &lt= result &lt 1
+     * <br/><b>Side-effects:</b> state of this generator is changed
+     * <br/><b>Created on:</b> <i>4:45:52 AM Oct 16, 2026</i>
+     * 
+     * @return random double value
+     */
+    public final double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Get next random boolean value.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> state of this generator is changed
+     * <br/><b>Created on:</b> <i>4:46:14 AM Oct 16, 2026</i>
+     * 
+     * @return random boolean value
+     */
+    public final boolean nextBoolean() {
+        return nextLong() < 0L;
+    }
+
+    /**
+     * Get next random value from standard normal distribution (Marsaglia polar method).
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> state of this generator is changed
+     * <br/><b>Created on:</b> <i>4:46:45 AM Oct 16, 2026</i>
+     * 
+     * @return normally distributed value with mean 0 and standard deviation 1
+     */
+    public final double nextGaussian() {
+        double u;
+        double v;
+        double s;
+        do {
+            u = 2.0 * nextDouble() - 1.0;
+            v = 2.0 * nextDouble() - 1.0;
+            s = u * u + v * v;
+        } while (s >= 1.0 || s == 0.0);
+        return u * Math.sqrt(-2.0 * Math.log(s) / s);
+    }
+
+    /**
+     * Split off new independent generator. This generator state is advanced, so consecutive splits give different
+     * generators.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> non-null result
+     * <br/><b>Side-effects:</b> state of this generator is changed
+     * <br/><b>Created on:</b> <i>4:47:20 AM Oct 16, 2026</i>
+     * 
+     * @return new generator
+     */
+    public final Rng split() {
+        return new Rng(nextLong());
+    }
+
+}
@@ -0,0 +1,754 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IIndexedPopulation;
+import dburyak.jgatools.IPopulation.IPopulationBuilder;
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.PopulationStatsAccumulator;
+import dburyak.jtools.Validators;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Struct-of-arrays population implementation. Fitness values, ages and generation numbers are stored in primitive
+ * arrays parallel to chromosomes array, all sorted by fitness (the fittest chromosomes come first). Provides O(1)
+ * index access and O(log n) rank lookup, stats are evaluated in single pass over primitive arrays.
+ * <br><b>Created on:</b> <i>1:50:12 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type this population works with
+ */
+@Immutable
+public final class ArrayPopulation<C extends IChromosome> implements IIndexedPopulation<C> {
+
+    /**
+     * Properties of this population.
+     * <br><b>Created on:</b> <i>1:50:40 AM Oct 16, 2026</i>
+     */
+    private final Properties props;
+
+    /**
+     * All chromosomes in this population sorted by fitness. The fittest ones come first.
+     * <br><b>Created on:</b> <i>1:50:58 AM Oct 16, 2026</i>
+     */
+    private final Object[] chromosomes;
+
+    /**
+     * Fitness values of {@link #chromosomes} (parallel array).
+     * <br><b>Created on:</b> <i>1:51:15 AM Oct 16, 2026</i>
+     */
+    private final double[] fitness;
+
+    /**
+     * Generation numbers of {@link #chromosomes} (parallel array).
+     * <br><b>Created on:</b> <i>1:51:49 AM Oct 16, 2026</i>
+     */
+    private final int[] generations;
+
+    /**
+     * Number of elite chromosomes in this population.
+     * <br><b>Created on:</b> <i>1:52:06 AM Oct 16, 2026</i>
+     */
+    private final int eliteCount;
+
+    /**
+     * Ages of chromosomes of this population.
+     * <br><b>Created on:</b> <i>8:23:40 AM Oct 16, 2026</i>
+     */
+    private final PopulationAges<C> ages;
+
+    /**
+     * Stats of this population.
+     * <br><b>Created on:</b> <i>1:52:23 AM Oct 16, 2026</i>
+     */
+    private final PopulationStats stats;
+
+    /**
+     * Read-only list view of {@link #chromosomes}.
+     * <br><b>Created on:</b> <i>1:52:40 AM Oct 16, 2026</i>
+     */
+    private final List<C> chromosomesView = new AbstractList<C>() {
+
+        @Override
+        public C get(final int index) {
+            return ArrayPopulation.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return chromosomes.length;
+        }
+    };
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.ArrayPopulation.<br>
+     * <br><b>PRE-conditions:</b> chromosomes are sorted by fitness (descending)
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:53:11 AM Oct 16, 2026</i>
+     * 
+     * @param props
+     *            properties for this population
+     * @param sorted
+     *            all chromosomes for this population sorted by fitness
+     * @param eliteCount
+     *            number of elite chromosomes in this population
+     * @param ages
+     *            ages of chromosomes (in sorted order)
+     */
+    private ArrayPopulation(
+        final Properties props,
+        final List<C> sorted,
+        final int eliteCount,
+        final PopulationAges<C> ages) {
+
+        this.props = props;
+        this.eliteCount = eliteCount;
+        this.ages = ages;
+        final int size = sorted.size();
+        chromosomes = sorted.toArray();
+        fitness = new double[size];
+        generations = new int[size];
+        final PopulationStatsAccumulator acc = new PopulationStatsAccumulator();
+        for (int i = 0; i < size; i++) {
+            final C c = sorted.get(i);
+            fitness[i] = c.fitnessValue();
+            generations[i] = c.generation();
+            acc.add(ages.ageAt(i), generations[i], fitness[i]);
+        }
+        stats = acc.toStats(eliteCount);
+    }
+
+    /**
+     * Get property of this population for given key.
+     * <br><b>PRE-conditions:</b> non-empty key
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:54:02 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jtools.IConfigured#property(java.lang.String)
+     * @param key
+     *            property key
+     * @return value associated with given key, or null if there's no such key registered
+     */
+    @Override
+    public final String property(final String key) {
+        Validators.nonEmpty(key);
+        return props.getProperty(key);
+    }
+
+    /**
+     * Get all chromosomes from this population sorted by fitness. The fittest ones come first.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:54:25 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IPopulation#chromosomes()
+     * @return observable that emits all chromosomes of this population sorted by fitness
+     */
+    @Override
+    public final Observable<C> chromosomes() {
+        return Observable.from(chromosomesView);
+    }
+
+    /**
+     * Get size of this population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:54:47 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IPopulation#size()
+     * @return size of this population
+     */
+    @Override
+    public final int size() {
+        return chromosomes.length;
+    }
+
+    /**
+     * Number of elite individuals in this population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:55:09 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IPopulation#eliteCount()
+     * @return number of elite chromosomes in this population
+     */
+    @Override
+    public final int eliteCount() {
+        return eliteCount;
+    }
+
+    /**
+     * Get fittest chromosome from this population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:55:31 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IPopulation#fittest()
+     * @return the fittest chromosome from this population or null if this is empty population
+     */
+    @Override
+    public final C fittest() {
+        return (chromosomes.length == 0) ? null : get(0);
+    }
+
+    /**
+     * Get statistics of this population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:55:53 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IPopulation#stats()
+     * @return statistics of this population
+     */
+    @Override
+    public final PopulationStats stats() {
+        return stats;
+    }
+
+    /**
+     * Get age of given chromosome in this population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:24:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IPopulation#ageOf(dburyak.jgatools.IChromosome)
+     * @param chromosome
+     *            chromosome of this population
+     * @return age of chromosome in this population, negative if chromosome is not member of this population
+     */
+    @Override
+    public final int ageOf(final C chromosome) {
+        return ages.ageOf(chromosome);
+    }
+
+    /**
+     * Get chromosome at given index.
+     * <br><b>PRE-conditions:</b> 0 &lt;= index &lt; size
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:56:15 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IIndexedPopulation#get(int)
+     * @param index
+     *            index (rank) of chromosome
+     * @return chromosome at given index
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public final C get(final int index) {
+        return (C) chromosomes[index];
+    }
+
+    /**
+     * Get fitness value of chromosome at given index.
+     * <br><b>PRE-conditions:</b> 0 &lt;= index &lt; size
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:56:37 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IIndexedPopulation#fitnessAt(int)
+     * @param index
+     *            index (rank) of chromosome
+     * @return fitness value of chromosome at given index
+     */
+    @Override
+    public final double fitnessAt(final int index) {
+        return fitness[index];
+    }
+
+    /**
+     * Get age of chromosome at given index.
+     * <br><b>PRE-conditions:</b> 0 &lt;= index &lt; size
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:56:59 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IIndexedPopulation#ageAt(int)
+     * @param index
+     *            index (rank) of chromosome
+     * @return age of chromosome at given index
+     */
+    @Override
+    public final int ageAt(final int index) {
+        return ages.ageAt(index);
+    }
+
+    /**
+     * Get generation number of chromosome at given index.
+     * <br><b>PRE-conditions:</b> 0 &lt;= index &lt; size
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:57:21 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IIndexedPopulation#generationAt(int)
+     * @param index
+     *            index (rank) of chromosome
+     * @return generation number of chromosome at given index
+     */
+    @Override
+    public final int generationAt(final int index) {
+        return generations[index];
+    }
+
+    /**
+     * Get rank for given fitness value. Binary search over sorted fitness array is used. Values are compared with
+     * {@link Double#compare(double, double)}, so NaN is ranked above any fitness value (rank 0).
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> 0 &lt;= result &lt;= size
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:57:43 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IIndexedPopulation#rankOf(double)
+     * @param fitnessValue
+     *            fitness value
+     * @return number of chromosomes that are strictly fitter than given value
+     */
+    @Override
+    public final int rankOf(final double fitnessValue) {
+        int low = 0;
+        int high = fitness.length;
+        while (low < high) { // first index with fitness <= fitnessValue
+            final int mid = (low + high) >>> 1;
+            if (Double.compare(fitness[mid], fitnessValue) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get string representation of this population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>1:58:30 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this population
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    @Override
+    public final String toString() {
+        return String.format("ArrayPopulation{size = [%d] ; eliteCount = [%d]}", chromosomes.length, eliteCount);
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Builder for {@link ArrayPopulation} instances. Has the same semantics as
+     * {@link Population.PopulationBuilder}.
+     * <br><b>Created on:</b> <i>1:59:12 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type this builder works with
+     */
+    @NotThreadSafe
+    public static final class ArrayPopulationBuilder<C extends IChromosome>
+        implements
+            IPopulationBuilder<C, ArrayPopulation<C>> {
+
+        /**
+         * Magic number that indicates that value was not set yet.
+         * <br><b>Created on:</b> <i>1:59:40 AM Oct 16, 2026</i>
+         */
+        private static final int NOT_SET_INT = -1;
+
+        /**
+         * Properties of target population.
+         * <br><b>Created on:</b> <i>1:59:58 AM Oct 16, 2026</i>
+         */
+        private Properties props = new Properties();
+
+        /**
+         * Chromosomes source for target population.
+         * <br><b>Created on:</b> <i>2:00:15 AM Oct 16, 2026</i>
+         */
+        private Observable<C> chromosomes = null;
+
+        /**
+         * Source of new generated "out of nowhere" chromosomes.
+         * <br><b>Created on:</b> <i>2:00:32 AM Oct 16, 2026</i>
+         */
+        private Observable<C> appearSource = null;
+
+        /**
+         * Extra chromosomes to be added to target population besides those from "chromosomes" observable.
+         * <br><b>Created on:</b> <i>2:00:49 AM Oct 16, 2026</i>
+         */
+        private final Set<C> added = new HashSet<>();
+
+        /**
+         * Genomes to be denied (filtered out) in target population.
+         * <br><b>Created on:</b> <i>2:01:06 AM Oct 16, 2026</i>
+         */
+        private final GenomeSet denied = new GenomeSet(0);
+
+        /**
+         * Whether duplicate chromosomes (with equal fingerprints) should be removed from target population.
+         * <br><b>Created on:</b> <i>2:01:23 AM Oct 16, 2026</i>
+         */
+        private boolean removeDuplicates = true;
+
+        /**
+         * Size of the target population.
+         * <br><b>Created on:</b> <i>2:01:40 AM Oct 16, 2026</i>
+         */
+        private int size = NOT_SET_INT;
+
+        /**
+         * Number of elite chromosomes to be preserved in target population.
+         * <br><b>Created on:</b> <i>2:01:57 AM Oct 16, 2026</i>
+         */
+        private int eliteCount = NOT_SET_INT;
+
+        /**
+         * Population chromosomes of target population may come from, null if there's no such.
+         * <br><b>Created on:</b> <i>8:24:20 AM Oct 16, 2026</i>
+         */
+        private ArrayPopulation<C> elders = null;
+
+        /**
+         * Number to add to ages of chromosomes that come from {@link #elders} : 1 for survivors, 0 for copy.
+         * <br><b>Created on:</b> <i>8:24:30 AM Oct 16, 2026</i>
+         */
+        private int agingStep = 1;
+
+
+        /**
+         * Build target population.
+         * <br><b>PRE-conditions:</b> this builder is in valid state
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> chromosomes source is subscribed
+         * <br><b>Created on:</b> <i>2:02:30 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#build()
+         * @return new population instance
+         * @throws IllegalStateException
+         *             if builder was not configured properly
+         */
+        @Override
+        public final ArrayPopulation<C> build() throws IllegalStateException {
+            if (!isValid()) {
+                throw new IllegalStateException();
+            }
+            Observable<C> allChromosomes = Observable.from(added)
+                .concatWith(chromosomes)
+                .concatWith(appearSource)
+                .filter(c -> !denied.contains(c));
+            if (removeDuplicates) {
+                final GenomeSet unique = new GenomeSet(size);
+                allChromosomes = allChromosomes.filter(unique::add);
+            }
+            final List<C> bufferList = new ArrayList<>(size);
+            allChromosomes.take(size).toBlocking().forEach(bufferList::add);
+            Validators.isTrue(bufferList.size() == size);
+            final List<C> chromosomesList = FitnessOrder.sortedDescending(bufferList);
+            return new ArrayPopulation<>((Properties) props.clone(), chromosomesList, eliteCount,
+                new PopulationAges<>(chromosomesList, elders, agingStep));
+        }
+
+        /**
+         * Check if this builder is in valid state and target {@link ArrayPopulation} instance can be built.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>2:03:11 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#isValid()
+         * @return true if this builder is in valid state, false otherwise
+         */
+        @Override
+        public final boolean isValid() {
+            if (chromosomes == null) {
+                return false;
+            }
+            if (appearSource == null) {
+                return false;
+            }
+            if (size == NOT_SET_INT) {
+                return false;
+            }
+            if (eliteCount == NOT_SET_INT) {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Set property for target population.
+         * <br><b>PRE-conditions:</b> non-empty key, non-null value
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:03:40 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigurable#property(java.lang.String, java.lang.String)
+         * @param key
+         *            property key
+         * @param value
+         *            property value
+         * @return previous property for given key, or null if there was no value previously assigned for given key
+         */
+        @Override
+        public final String property(final String key, final String value) {
+            Validators.nonEmpty(key);
+            Validators.nonNull(value);
+            return (String) props.setProperty(key, value);
+        }
+
+        /**
+         * Remove property from target population.
+         * <br><b>PRE-conditions:</b> non-empty key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:04:02 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigurable#removeProperty(java.lang.String)
+         * @param key
+         *            property key
+         * @return previous value of property, or null if there was no such property
+         */
+        @Override
+        public final String removeProperty(final String key) {
+            Validators.nonEmpty(key);
+            return (String) props.remove(key);
+        }
+
+        /**
+         * Get property of target population.
+         * <br><b>PRE-conditions:</b> non-empty key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>2:04:24 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigured#property(java.lang.String)
+         * @param key
+         *            property key
+         * @return property value, or null if there's no such property
+         */
+        @Override
+        public final String property(final String key) {
+            Validators.nonEmpty(key);
+            return props.getProperty(key);
+        }
+
+        /**
+         * Copy all data from given population to this builder to produce exact copy. Shallow copy is performed.
+         * <br><b>PRE-conditions:</b> non-null population
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:04:46 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#from(dburyak.jgatools.IPopulation)
+         * @param population
+         *            original population to make copy from
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> from(final ArrayPopulation<C> population) {
+            Validators.nonNull(population);
+            props = (Properties) population.props.clone(); // hashtable shallow copy
+            chromosomes(population.chromosomes());
+            added.clear();
+            denied.clear();
+            size = population.size();
+            eliteCount = population.eliteCount();
+            elders = population;
+            agingStep = 0;
+            return this;
+        }
+
+        /**
+         * Set chromosomes source for target population.
+         * <br><b>PRE-conditions:</b> non-null chromosomes
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:05:08 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#chromosomes(rx.Observable)
+         * @param chromosomes
+         *            source of chromosomes for target population
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> chromosomes(final Observable<C> chromosomes) {
+            Validators.nonNull(chromosomes);
+            this.chromosomes = chromosomes;
+            return this;
+        }
+
+        /**
+         * Set previous population of target one, chromosomes that survived from it keep their identity and get age
+         * incremented by target population.
+         * <br><b>PRE-conditions:</b> non-null previous
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>8:24:50 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#survivorsOf(dburyak.jgatools.IPopulation)
+         * @param previous
+         *            population survivors come from
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> survivorsOf(final ArrayPopulation<C> previous) {
+            Validators.nonNull(previous);
+            elders = previous;
+            agingStep = 1;
+            return this;
+        }
+
+        /**
+         * Add extra chromosome to the target population. Chromosomes passed through this method will be added first to
+         * the target population.
+         * <br><b>PRE-conditions:</b> non-null chromosome
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:05:30 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#addChromosome(dburyak.jgatools.IChromosome)
+         * @param chromosome
+         *            chromosome to be added to target population
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> addChromosome(final C chromosome) {
+            Validators.nonNull(chromosome);
+            added.add(chromosome);
+            return this;
+        }
+
+        /**
+         * Deny specific chromosome in target population.
+         * <br><b>PRE-conditions:</b> non-null chromosome
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:05:52 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#denyChromosome(dburyak.jgatools.IChromosome)
+         * @param chromosome
+         *            chromosome to be denied in target population
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> denyChromosome(final C chromosome) {
+            Validators.nonNull(chromosome);
+            denied.add(chromosome);
+            return this;
+        }
+
+        /**
+         * Configure whether duplicates should be removed from target population.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:06:14 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#removeDuplicates(boolean)
+         * @param removeDuplicates
+         *            indicates whether duplicates should be removed from target population
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> removeDuplicates(final boolean removeDuplicates) {
+            this.removeDuplicates = removeDuplicates;
+            return this;
+        }
+
+        /**
+         * Set appear source observable to be used by target population.
+         * <br><b>PRE-conditions:</b> non-null appearSource
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:06:36 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#appearSource(rx.Observable)
+         * @param appearSource
+         *            observable that emits new individuals
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> appearSource(final Observable<C> appearSource) {
+            Validators.nonNull(appearSource);
+            this.appearSource = appearSource;
+            return this;
+        }
+
+        /**
+         * Set size of the target population.
+         * <br><b>PRE-conditions:</b> non-negative size, eliteCount &lt;= size
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:06:58 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#size(int)
+         * @param size
+         *            size of the target population
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> size(final int size) {
+            Validators.nonNegative(size);
+            if (eliteCount != NOT_SET_INT) {
+                Validators.isTrue(eliteCount <= size);
+            }
+            this.size = size;
+            return this;
+        }
+
+        /**
+         * Set number of elite individuals to be preserved by the target population.
+         * <br><b>PRE-conditions:</b> non-negative eliteCount, eliteCount &lt;= size
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:07:20 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#eliteCount(int)
+         * @param eliteCount
+         *            number of elite individuals to be preserved by the target population
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IPopulationBuilder<C, ArrayPopulation<C>> eliteCount(final int eliteCount) {
+            Validators.nonNegative(eliteCount);
+            if (size != NOT_SET_INT) {
+                Validators.isTrue(eliteCount <= size);
+            }
+            this.eliteCount = eliteCount;
+            return this;
+        }
+
+    }
+
+}
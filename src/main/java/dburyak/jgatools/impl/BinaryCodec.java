@@ -0,0 +1,665 @@
+package dburyak.jgatools.impl;
+
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IChromosomeCodec;
+import dburyak.jgatools.IPopulation;
+import dburyak.jgatools.IPopulation.IPopulationBuilder;
+import dburyak.jtools.Validators;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Compact binary serialization of chromosomes and populations. Stream is header (magic, format version, codec
+ * version, elite count and chromosomes count) followed by chromosome records. Record is age and generation as
+ * varints ({@link Varints}), fitness as raw double (NaN for not evaluated chromosome) and genome written by
+ * {@link IChromosomeCodec}. Numbers are big-endian.<br>
+ * Chromosomes are encoded straight into {@link ByteBuffer} or through reused direct buffer into
+ * {@link WritableByteChannel}, and are decoded back the same way, without intermediate object graphs.
+ * <br><b>Created on:</b> <i>7:39:30 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@Immutable
+public final class BinaryCodec<C extends IChromosome> {
+
+    /**
+     * Magic number of stream ("JGAB").
+     * <br><b>Created on:</b> <i>7:40:00 AM Oct 16, 2026</i>
+     */
+    private static final int MAGIC = 0x4A474142;
+
+    /**
+     * Version of stream format.
+     * <br><b>Created on:</b> <i>7:40:15 AM Oct 16, 2026</i>
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Size of buffer for channel input and output.
+     * <br><b>Created on:</b> <i>7:40:45 AM Oct 16, 2026</i>
+     */
+    private static final int CHANNEL_BUFFER_SIZE = 64 * 1024;
+
+
+    /**
+     * Codec of genomes.
+     * <br><b>Created on:</b> <i>7:41:00 AM Oct 16, 2026</i>
+     */
+    private final IChromosomeCodec<C> codec;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.BinaryCodec.<br>
+     * <br><b>PRE-conditions:</b> non-null codec
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:41:15 AM Oct 16, 2026</i>
+     * 
+     * @param codec
+     *            codec of genomes
+     */
+    public BinaryCodec(final IChromosomeCodec<C> codec) {
+        Validators.nonNull(codec);
+        this.codec = codec;
+    }
+
+    /**
+     * Get codec of genomes.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:41:30 AM Oct 16, 2026</i>
+     * 
+     * @return codec of genomes
+     */
+    public final IChromosomeCodec<C> codec() {
+        return codec;
+    }
+
+    /**
+     * Get exact size of record of given chromosome.
+     * <br><b>PRE-conditions:</b> non-null chromosome
+     * <br><b>POST-conditions:</b> positive result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:41:50 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to be encoded
+     * @return size of record in bytes
+     */
+    public final int recordSize(final C chromosome) {
+        return recordSize(chromosome, chromosome.age());
+    }
+
+    /**
+     * Get exact size of record of given chromosome with given age (age of chromosome in its population, see
+     * {@link IPopulation#ageOf(IChromosome)}).
+     * <br><b>PRE-conditions:</b> non-null chromosome, non-negative age
+     * <br><b>POST-conditions:</b> positive result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:25:20 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to be encoded
+     * @param age
+     *            age of chromosome to be stored
+     * @return size of record in bytes
+     */
+    public final int recordSize(final C chromosome, final int age) {
+        return Varints.size(age)
+            + Varints.size(chromosome.generation())
+            + Double.BYTES
+            + codec.genomeSize(chromosome);
+    }
+
+    /**
+     * Write record of given chromosome at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null chromosome and out
+     * <br><b>POST-conditions:</b> out position is advanced by {@link #recordSize(IChromosome)}
+     * <br><b>Side-effects:</b> out is written
+     * <br><b>Created on:</b> <i>7:42:20 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to be encoded
+     * @param out
+     *            destination buffer
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    public final void encode(final C chromosome, final ByteBuffer out) throws BufferOverflowException {
+        encode(chromosome, chromosome.age(), out);
+    }
+
+    /**
+     * Write record of given chromosome with given age (age of chromosome in its population, see
+     * {@link IPopulation#ageOf(IChromosome)}) at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null chromosome and out, non-negative age
+     * <br><b>POST-conditions:</b> out position is advanced by {@link #recordSize(IChromosome, int)}
+     * <br><b>Side-effects:</b> out is written
+     * <br><b>Created on:</b> <i>8:25:50 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to be encoded
+     * @param age
+     *            age of chromosome to be stored
+     * @param out
+     *            destination buffer
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    public final void encode(final C chromosome, final int age, final ByteBuffer out) throws BufferOverflowException {
+        Varints.put(out, age);
+        Varints.put(out, chromosome.generation());
+        out.putDouble(chromosome.evaluated() ? chromosome.fitnessValue() : Double.NaN);
+        codec.encodeGenome(chromosome, out);
+    }
+
+    /**
+     * Read record at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null in
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> in position is advanced
+     * <br><b>Created on:</b> <i>7:42:50 AM Oct 16, 2026</i>
+     * 
+     * @param in
+     *            source buffer
+     * @param codecVersion
+     *            version of codec that wrote record
+     * @return decoded chromosome
+     * @throws BufferUnderflowException
+     *             if buffer ends before record
+     */
+    public final C decode(final ByteBuffer in, final int codecVersion) throws BufferUnderflowException {
+        final int age = Varints.getInt(in);
+        final int generation = Varints.getInt(in);
+        final double fitness = in.getDouble();
+        return codec.decode(in, codecVersion, age, generation, fitness);
+    }
+
+    /**
+     * Write stream of given chromosomes at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null chromosomes and out
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> out is written
+     * <br><b>Created on:</b> <i>7:43:20 AM Oct 16, 2026</i>
+     * 
+     * @param chromosomes
+     *            chromosomes to be encoded
+     * @param out
+     *            destination buffer
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    public final void encode(final List<C> chromosomes, final ByteBuffer out) throws BufferOverflowException {
+        Validators.nonNull(chromosomes);
+        encodeHeader(0, chromosomes.size(), out);
+        for (final C chromosome : chromosomes) {
+            encode(chromosome, out);
+        }
+    }
+
+    /**
+     * Write stream of given population at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null population and out
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> out is written
+     * <br><b>Created on:</b> <i>7:43:50 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population to be encoded
+     * @param out
+     *            destination buffer
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    public final void encode(final IPopulation<C> population, final ByteBuffer out) throws BufferOverflowException {
+        Validators.nonNull(population);
+        final List<C> chromosomes = population.chromosomes().toList().toBlocking().single();
+        encodeHeader(population.eliteCount(), chromosomes.size(), out);
+        for (final C chromosome : chromosomes) {
+            encode(chromosome, population.ageOf(chromosome), out);
+        }
+    }
+
+    /**
+     * Write stream header at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-negative eliteCount and count, non-null out
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> out is written
+     * <br><b>Created on:</b> <i>7:44:20 AM Oct 16, 2026</i>
+     * 
+     * @param eliteCount
+     *            number of elite chromosomes
+     * @param count
+     *            number of chromosomes
+     * @param out
+     *            destination buffer
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    private final void encodeHeader(final int eliteCount, final int count, final ByteBuffer out)
+        throws BufferOverflowException {
+
+        out.putInt(MAGIC);
+        Varints.put(out, FORMAT_VERSION);
+        Varints.put(out, codec.version());
+        Varints.put(out, eliteCount);
+        Varints.put(out, count);
+    }
+
+    /**
+     * Read stream of chromosomes at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null in
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> in position is advanced
+     * <br><b>Created on:</b> <i>7:44:50 AM Oct 16, 2026</i>
+     * 
+     * @param in
+     *            source buffer
+     * @return decoded chromosomes
+     * @throws IOException
+     *             if data is not a stream of chromosomes or was written by newer codec
+     * @throws BufferUnderflowException
+     *             if buffer ends before stream
+     */
+    public final List<C> decode(final ByteBuffer in) throws IOException, BufferUnderflowException {
+        return decodeStream(in).chromosomes;
+    }
+
+    /**
+     * Read stream of population at current position of given buffer and build population of it with given builder.
+     * Builder gets decoded chromosomes, their count as population size and stored elite count, other parameters of
+     * population are taken as configured in builder.
+     * <br><b>PRE-conditions:</b> non-null in and populationBuilder
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> in position is advanced, builder state is changed
+     * <br><b>Created on:</b> <i>7:45:20 AM Oct 16, 2026</i>
+     * 
+     * @param in
+     *            source buffer
+     * @param populationBuilder
+     *            builder of target population
+     * @return decoded population
+     * @throws IOException
+     *             if data is not a stream of chromosomes or was written by newer codec
+     * @throws BufferUnderflowException
+     *             if buffer ends before stream
+     */
+    public final <P extends IPopulation<C>> P decode(
+        final ByteBuffer in,
+        final IPopulationBuilder<C, P> populationBuilder) throws IOException, BufferUnderflowException {
+
+        Validators.nonNull(populationBuilder);
+        return decodeStream(in).build(populationBuilder);
+    }
+
+    /**
+     * Read stream at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null in
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> in position is advanced
+     * <br><b>Created on:</b> <i>7:45:50 AM Oct 16, 2026</i>
+     * 
+     * @param in
+     *            source buffer
+     * @return decoded stream
+     * @throws IOException
+     *             if data is not a stream of chromosomes or was written by newer codec
+     * @throws BufferUnderflowException
+     *             if buffer ends before stream
+     */
+    private final Contents<C> decodeStream(final ByteBuffer in) throws IOException, BufferUnderflowException {
+        Validators.nonNull(in);
+        final Contents<C> stream = decodeHeader(in);
+        for (int i = 0; i < stream.count; i++) {
+            stream.chromosomes.add(decode(in, stream.codecVersion));
+        }
+        return stream;
+    }
+
+    /**
+     * Read stream header at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null in
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> in position is advanced
+     * <br><b>Created on:</b> <i>7:46:20 AM Oct 16, 2026</i>
+     * 
+     * @param in
+     *            source buffer
+     * @return stream without chromosomes
+     * @throws IOException
+     *             if data is not a stream of chromosomes or was written by newer codec
+     * @throws BufferUnderflowException
+     *             if buffer ends before header
+     */
+    @SuppressWarnings("nls")
+    private final Contents<C> decodeHeader(final ByteBuffer in) throws IOException, BufferUnderflowException {
+        if (in.getInt() != MAGIC) {
+            throw new IOException("not a chromosomes stream");
+        }
+        try {
+            final int formatVersion = Varints.getInt(in);
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("unsupported stream format version : " + formatVersion);
+            }
+            final int codecVersion = Varints.getInt(in);
+            if (codecVersion > codec.version()) {
+                throw new IOException("stream is written by newer codec : version = " + codecVersion);
+            }
+            return new Contents<>(codecVersion, Varints.getInt(in), Varints.getInt(in));
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("malformed stream header", e);
+        }
+    }
+
+    /**
+     * Write stream of given chromosomes into given channel. Records are encoded into reused direct buffer that is
+     * flushed into channel when it is full.
+     * <br><b>PRE-conditions:</b> non-null chromosomes and channel
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> channel is written
+     * <br><b>Created on:</b> <i>7:46:50 AM Oct 16, 2026</i>
+     * 
+     * @param chromosomes
+     *            chromosomes to be written
+     * @param channel
+     *            destination channel
+     * @throws IOException
+     *             if channel can't be written
+     */
+    public final void write(final List<C> chromosomes, final WritableByteChannel channel) throws IOException {
+        Validators.nonNull(chromosomes);
+        write(0, chromosomes, null, channel);
+    }
+
+    /**
+     * Write stream of given population into given channel.
+     * <br><b>PRE-conditions:</b> non-null population and channel
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> channel is written
+     * <br><b>Created on:</b> <i>7:47:20 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population to be written
+     * @param channel
+     *            destination channel
+     * @throws IOException
+     *             if channel can't be written
+     */
+    public final void write(final IPopulation<C> population, final WritableByteChannel channel) throws IOException {
+        Validators.nonNull(population);
+        write(population.eliteCount(), population.chromosomes().toList().toBlocking().single(), population, channel);
+    }
+
+    /**
+     * Write stream with given header fields and chromosomes into given channel.
+     * <br><b>PRE-conditions:</b> non-negative eliteCount, non-null chromosomes and channel
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> channel is written
+     * <br><b>Created on:</b> <i>7:47:50 AM Oct 16, 2026</i>
+     * 
+     * @param eliteCount
+     *            number of elite chromosomes
+     * @param chromosomes
+     *            chromosomes to be written
+     * @param population
+     *            population that owns ages of chromosomes, null to write own ages of chromosomes
+     * @param channel
+     *            destination channel
+     * @throws IOException
+     *             if channel can't be written
+     */
+    private final void write(
+        final int eliteCount,
+        final List<C> chromosomes,
+        final IPopulation<C> population,
+        final WritableByteChannel channel)
+        throws IOException {
+
+        Validators.nonNull(channel);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE);
+        encodeHeader(eliteCount, chromosomes.size(), buffer);
+        for (final C chromosome : chromosomes) {
+            final int age = (population == null) ? chromosome.age() : population.ageOf(chromosome);
+            final int size = recordSize(chromosome, age);
+            if (size > buffer.remaining()) {
+                flush(buffer, channel);
+                if (size > buffer.capacity()) {
+                    buffer = ByteBuffer.allocateDirect(size);
+                }
+            }
+            encode(chromosome, age, buffer);
+        }
+        flush(buffer, channel);
+    }
+
+    /**
+     * Write all buffered bytes into channel and clear buffer.
+     * <br><b>PRE-conditions:</b> non-null buffer and channel
+     * <br><b>POST-conditions:</b> buffer is cleared
+     * <br><b>Side-effects:</b> channel is written
+     * <br><b>Created on:</b> <i>7:48:20 AM Oct 16, 2026</i>
+     * 
+     * @param buffer
+     *            buffer in write mode
+     * @param channel
+     *            destination channel
+     * @throws IOException
+     *             if channel can't be written
+     */
+    private static final void flush(final ByteBuffer buffer, final WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Read stream of chromosomes from given channel. Channel is read by chunks into reused direct buffer, record that
+     * crosses chunk boundary is decoded again after refill.
+     * <br><b>PRE-conditions:</b> non-null channel
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> channel is read (possibly beyond the end of stream)
+     * <br><b>Created on:</b> <i>7:48:50 AM Oct 16, 2026</i>
+     * 
+     * @param channel
+     *            source channel
+     * @return decoded chromosomes
+     * @throws IOException
+     *             if channel can't be read, ends before stream, or data is not a stream of chromosomes
+     */
+    public final List<C> read(final ReadableByteChannel channel) throws IOException {
+        return readStream(channel).chromosomes;
+    }
+
+    /**
+     * Read stream of population from given channel and build population of it with given builder (see
+     * {@link #decode(ByteBuffer, IPopulationBuilder)}).
+     * <br><b>PRE-conditions:</b> non-null channel and populationBuilder
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> channel is read (possibly beyond the end of stream), builder state is changed
+     * <br><b>Created on:</b> <i>7:49:20 AM Oct 16, 2026</i>
+     * 
+     * @param channel
+     *            source channel
+     * @param populationBuilder
+     *            builder of target population
+     * @return decoded population
+     * @throws IOException
+     *             if channel can't be read, ends before stream, or data is not a stream of chromosomes
+     */
+    public final <P extends IPopulation<C>> P read(
+        final ReadableByteChannel channel,
+        final IPopulationBuilder<C, P> populationBuilder) throws IOException {
+
+        Validators.nonNull(populationBuilder);
+        return readStream(channel).build(populationBuilder);
+    }
+
+    /**
+     * Read stream from given channel.
+     * <br><b>PRE-conditions:</b> non-null channel
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> channel is read
+     * <br><b>Created on:</b> <i>7:49:50 AM Oct 16, 2026</i>
+     * 
+     * @param channel
+     *            source channel
+     * @return decoded stream
+     * @throws IOException
+     *             if channel can't be read, ends before stream, or data is not a stream of chromosomes
+     */
+    private final Contents<C> readStream(final ReadableByteChannel channel) throws IOException {
+        Validators.nonNull(channel);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE);
+        buffer.flip(); // read mode, empty
+        Contents<C> stream = null;
+        while (stream == null || stream.chromosomes.size() < stream.count) {
+            buffer.mark();
+            try {
+                if (stream == null) {
+                    stream = decodeHeader(buffer);
+                } else {
+                    stream.chromosomes.add(decode(buffer, stream.codecVersion));
+                }
+            } catch (final BufferUnderflowException e) {
+                buffer.reset();
+                buffer = refill(buffer, channel);
+            } catch (final IllegalArgumentException e) {
+                throw new IOException("malformed record", e); //$NON-NLS-1$
+            }
+        }
+        return stream;
+    }
+
+    /**
+     * Move unread bytes of buffer to its start and read more bytes from channel after them. Buffer is replaced with
+     * twice larger one if it is already full of unread bytes, so records larger than buffer are read too.
+     * <br><b>PRE-conditions:</b> non-null buffer in read mode and channel
+     * <br><b>POST-conditions:</b> non-null result in read mode with more remaining bytes than buffer had
+     * <br><b>Side-effects:</b> channel is read, buffer is changed
+     * <br><b>Created on:</b> <i>7:50:20 AM Oct 16, 2026</i>
+     * 
+     * @param buffer
+     *            buffer in read mode
+     * @param channel
+     *            source channel
+     * @return buffer in read mode
+     * @throws IOException
+     *             if channel can't be read or ends
+     */
+    @SuppressWarnings("nls")
+    private static final ByteBuffer refill(final ByteBuffer buffer, final ReadableByteChannel channel)
+        throws IOException {
+
+        ByteBuffer result = buffer;
+        if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+            result = ByteBuffer.allocateDirect(2 * buffer.capacity());
+            result.put(buffer);
+        } else {
+            result.compact();
+        }
+        if (channel.read(result) < 0) {
+            throw new IOException("unexpected end of chromosomes stream");
+        }
+        result.flip();
+        return result;
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Decoded stream contents : header fields and chromosomes.
+     * <br><b>Created on:</b> <i>7:50:50 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type
+     */
+    private static final class Contents<C extends IChromosome> {
+
+        /**
+         * Version of codec that wrote stream.
+         * <br><b>Created on:</b> <i>7:51:10 AM Oct 16, 2026</i>
+         */
+        private final int codecVersion;
+
+        /**
+         * Number of elite chromosomes.
+         * <br><b>Created on:</b> <i>7:51:25 AM Oct 16, 2026</i>
+         */
+        private final int eliteCount;
+
+        /**
+         * Number of chromosomes in stream.
+         * <br><b>Created on:</b> <i>7:51:40 AM Oct 16, 2026</i>
+         */
+        private final int count;
+
+        /**
+         * Chromosomes decoded so far.
+         * <br><b>Created on:</b> <i>7:51:55 AM Oct 16, 2026</i>
+         */
+        private final List<C> chromosomes;
+
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.BinaryCodec.Contents.<br>
+         * <br><b>PRE-conditions:</b> non-negative parameters
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>7:52:10 AM Oct 16, 2026</i>
+         * 
+         * @param codecVersion
+         *            version of codec that wrote stream
+         * @param eliteCount
+         *            number of elite chromosomes
+         * @param count
+         *            number of chromosomes in stream
+         */
+        Contents(final int codecVersion, final int eliteCount, final int count) {
+            this.codecVersion = codecVersion;
+            this.eliteCount = eliteCount;
+            this.count = count;
+            this.chromosomes = new ArrayList<>(Math.min(count, CHANNEL_BUFFER_SIZE));
+        }
+
+        /**
+         * Build population of decoded chromosomes with given builder.
+         * <br><b>PRE-conditions:</b> all chromosomes are decoded, non-null populationBuilder
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> builder state is changed
+         * <br><b>Created on:</b> <i>7:52:40 AM Oct 16, 2026</i>
+         * 
+         * @param populationBuilder
+         *            builder of target population
+         * @return built population
+         */
+        final <P extends IPopulation<C>> P build(final IPopulationBuilder<C, P> populationBuilder) {
+            return populationBuilder.size(count)
+                .eliteCount(eliteCount)
+                .chromosomes(Observable.from(chromosomes))
+                .build();
+        }
+
+    }
+
+}
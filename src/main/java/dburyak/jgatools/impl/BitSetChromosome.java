@@ -2,17 +2,21 @@ package dburyak.jgatools.impl;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
 import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IAsyncFitnessFunction;
+import dburyak.jgatools.IBatchFitnessFunction;
 import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IDoubleFitnessFunction;
 import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.ILineageStore;
 import dburyak.jtools.Validators;
+import rx.Single;
 
 
 /**
@@ -27,7 +31,8 @@ import dburyak.jtools.Validators;
 public final class BitSetChromosome implements IChromosome {
 
     /**
-     * Calculate fingerprint for given chromosome bitset internal data.
+     * Calculate fingerprint for given chromosome bitset internal data. Fingerprint is collision-safe, so it can be used
+     * as a key of fitness caches.
      * <br><b>PRE-conditions:</b> non-null bitset
      * <br><b>POST-conditions:</b> non-empty result
      * <br><b>Side-effects:</b> NONE
@@ -37,10 +42,9 @@ public final class BitSetChromosome implements IChromosome {
      *            bitset to evaluate fingerprint for
      * @return fingerprint of provided bitset
      */
-    @SuppressWarnings("boxing")
-    private static final Integer fingerprint(final BitSet bitset) {
+    private static final BitSetFingerprint fingerprint(final BitSet bitset) {
         Validators.nonNull(bitset);
-        return bitset.hashCode();
+        return BitSetFingerprint.of(bitset);
     }
 
 
@@ -63,16 +67,23 @@ public final class BitSetChromosome implements IChromosome {
     private final int generation;
 
     /**
-     * Fitness value of chromosome.
+     * Fitness value of chromosome. Is NaN if fitness evaluation was deferred.
      * <br><b>Created on:</b> <i>1:59:19 AM Sep 12, 2016</i>
      */
-    private final Fitness fitness;
+    private final double fitness;
 
     /**
-     * Parents of this chromosome.
-     * <br><b>Created on:</b> <i>2:00:03 AM Sep 12, 2016</i>
+     * Lineage id of this chromosome, {@link ILineageStore#NO_LINEAGE} if lineage is not tracked.
+     * <br><b>Created on:</b> <i>8:12:10 AM Oct 16, 2026</i>
      */
-    private final List<BitSetChromosome> parents;
+    private final long lineageId;
+
+    /**
+     * Lazily evaluated fingerprint of this chromosome. Benign data race : fingerprint is immutable and evaluation is
+     * idempotent.
+     * <br><b>Created on:</b> <i>8:24:47 PM Oct 16, 2026</i>
+     */
+    private BitSetFingerprint fingerprint = null;
 
 
     /**
@@ -89,22 +100,22 @@ public final class BitSetChromosome implements IChromosome {
      * @param generation
      *            generation number
      * @param fitness
-     *            fitness value of chromosome
-     * @param parents
-     *            parents of chromosome
+     *            fitness value of chromosome, NaN if evaluation is deferred
+     * @param lineageId
+     *            lineage id of chromosome
      */
     private BitSetChromosome(
         final BitSet bitset,
         final int age,
         final int generation,
-        final Fitness fitness,
-        final Stream<BitSetChromosome> parents) {
+        final double fitness,
+        final long lineageId) {
 
         this.bitset = bitset;
         this.age = age;
         this.generation = generation;
         this.fitness = fitness;
-        this.parents = parents.collect(Collectors.toList());
+        this.lineageId = lineageId;
     }
 
     /**
@@ -119,24 +130,50 @@ public final class BitSetChromosome implements IChromosome {
      */
     @Override
     public final Object fingerprint() {
-        return fingerprint(bitset);
+        BitSetFingerprint fp = fingerprint;
+        if (fp == null) {
+            fp = fingerprint(bitset);
+            fingerprint = fp;
+        }
+        return fp;
     }
 
     /**
-     * Get fitness of this chromosome.
-     * <br/><b>PRE-conditions:</b> NONE
-     * <br/><b>POST-conditions:</b> non-null result
-     * <br/><b>Side-effects:</b> NONE
-     * <br/><b>Created on:</b> <i>3:45:44 AM Sep 4, 2016</i>
+     * Get fitness value of this chromosome.
+     * <br><b>PRE-conditions:</b> this chromosome is evaluated
+     * <br><b>POST-conditions:</b> {@link Fitness#minValue()} &lt;= result &lt;= {@link Fitness#maxValue()}
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:31:30 AM Oct 16, 2026</i>
      * 
-     * @see dburyak.jgatools.IChromosome#fitness()
-     * @return fitness of this chromosome
+     * @see dburyak.jgatools.IChromosome#fitnessValue()
+     * @return fitness value of this chromosome
+     * @throws IllegalStateException
+     *             if fitness evaluation was deferred and this chromosome is not evaluated yet
      */
+    @SuppressWarnings("nls")
     @Override
-    public final Fitness fitness() {
+    public final double fitnessValue() throws IllegalStateException {
+        if (Double.isNaN(fitness)) {
+            throw new IllegalStateException("fitness is not evaluated yet");
+        }
         return fitness;
     }
 
+    /**
+     * Check whether fitness of this chromosome is evaluated.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>9:27:45 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosome#evaluated()
+     * @return true if fitness of this chromosome is known
+     */
+    @Override
+    public final boolean evaluated() {
+        return !Double.isNaN(fitness);
+    }
+
     /**
      * Get age of this chromosome.
      * <br/><b>PRE-conditions:</b> NONE
@@ -168,18 +205,34 @@ public final class BitSetChromosome implements IChromosome {
     }
 
     /**
-     * Get parents of this chromosome.
-     * <br/><b>PRE-conditions:</b> NONE
-     * <br/><b>POST-conditions:</b> non-null result
-     * <br/><b>Side-effects:</b> NONE
-     * <br/><b>Created on:</b> <i>3:45:44 AM Sep 4, 2016</i>
+     * Get lineage id of this chromosome.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result or {@link ILineageStore#NO_LINEAGE}
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:12:20 AM Oct 16, 2026</i>
      * 
-     * @see dburyak.jgatools.IChromosome#parents()
-     * @return stream of parents of this chromosome
+     * @see dburyak.jgatools.IChromosome#lineageId()
+     * @return lineage id of this chromosome
      */
     @Override
-    public final Stream<BitSetChromosome> parents() {
-        return parents.stream();
+    public final long lineageId() {
+        return lineageId;
+    }
+
+    /**
+     * Create copy of this chromosome with given fitness. Gene data is shared, since it is never modified.
+     * <br><b>PRE-conditions:</b> valid fitness value
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:11:06 PM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            evaluated fitness of this chromosome
+     * @return evaluated copy of this chromosome
+     */
+    @SuppressWarnings("hiding")
+    private final BitSetChromosome withFitness(final double fitness) {
+        return new BitSetChromosome(bitset, age, generation, Fitness.checkValue(fitness), lineageId);
     }
 
     /**
@@ -226,10 +279,10 @@ public final class BitSetChromosome implements IChromosome {
         private int generation = -1;
 
         /**
-         * Fitness of target chromosome.
+         * Fitness value of target chromosome, NaN if it is not set.
          * <br><b>Created on:</b> <i>2:15:30 AM Sep 12, 2016</i>
          */
-        private Fitness fitness = null;
+        private double fitness = Double.NaN;
 
         /**
          * Fitness evaluation function for calculating fitness of target chromosome.
@@ -238,10 +291,34 @@ public final class BitSetChromosome implements IChromosome {
         private IFitnessFunction<BitSet> fitnessFunc = null;
 
         /**
-         * Parents of target chromosome.
-         * <br><b>Created on:</b> <i>2:16:05 AM Sep 12, 2016</i>
+         * Whether fitness evaluation of target chromosome is deferred.
+         * <br><b>Created on:</b> <i>9:29:02 PM Oct 16, 2026</i>
+         */
+        private boolean deferFitness = false;
+
+        /**
+         * Lineage store target chromosome is registered in, null if lineage is not tracked.
+         * <br><b>Created on:</b> <i>8:12:40 AM Oct 16, 2026</i>
+         */
+        private ILineageStore lineage = null;
+
+        /**
+         * Lineage ids of parents of target chromosome.
+         * <br><b>Created on:</b> <i>8:12:50 AM Oct 16, 2026</i>
+         */
+        private long[] parentIds = new long[2];
+
+        /**
+         * Number of parent ids of target chromosome.
+         * <br><b>Created on:</b> <i>8:13:00 AM Oct 16, 2026</i>
+         */
+        private int parentCount = 0;
+
+        /**
+         * Lineage id of prototype chromosome, kept by target one instead of registering it again.
+         * <br><b>Created on:</b> <i>8:13:10 AM Oct 16, 2026</i>
          */
-        private final List<BitSetChromosome> parents = new ArrayList<>();
+        private long lineageId = ILineageStore.NO_LINEAGE;
 
 
         /**
@@ -261,10 +338,11 @@ public final class BitSetChromosome implements IChromosome {
             if (!isValid()) {
                 throw new IllegalStateException();
             }
-            if (fitness == null) { // most common case
-                fitness = fitnessFunc.calcFitness(bitset);
+            final BitSetChromosome chromosome = new BitSetChromosome(bitset, age, generation, fitness, lineageId());
+            if (!Double.isNaN(fitness) || deferFitness) {
+                return chromosome;
             }
-            return new BitSetChromosome(bitset, age, generation, fitness, parents.stream());
+            return chromosome.withFitness(IDoubleFitnessFunction.valueOf(fitnessFunc, bitset)); // most common case
         }
 
         /**
@@ -288,10 +366,13 @@ public final class BitSetChromosome implements IChromosome {
             if (generation < 0) {
                 return false;
             }
-            if (fitness == null && fitnessFunc == null) {
+            if (deferFitness) {
+                return Double.isNaN(fitness);
+            }
+            if (Double.isNaN(fitness) && fitnessFunc == null) {
                 return false;
             }
-            if (fitness != null && fitnessFunc != null) {
+            if (!Double.isNaN(fitness) && fitnessFunc != null) {
                 return false;
             }
             return true;
@@ -316,7 +397,8 @@ public final class BitSetChromosome implements IChromosome {
         }
 
         /**
-         * Set internal bitset data for target chromosome.
+         * Set internal bitset data for target chromosome. Lineage id copied from prototype is dropped, since target
+         * chromosome is new one.
          * <br><b>PRE-conditions:</b> non-null data
          * <br><b>POST-conditions:</b> non-null result
          * <br><b>Side-effects:</b> this builder state is changed
@@ -331,11 +413,13 @@ public final class BitSetChromosome implements IChromosome {
         public final IChromosomeBuilder<BitSetChromosome, BitSet> data(final BitSet data) {
             Validators.nonNull(data);
             bitset = (BitSet) data.clone();
+            lineageId = ILineageStore.NO_LINEAGE;
             return this;
         }
 
         /**
-         * Copy all the data and parameters from given chromosome.
+         * Copy all the data and parameters from given chromosome. Lineage id of given chromosome is kept by target one
+         * unless data or parent is set afterwards.
          * <br><b>PRE-conditions:</b> non-null chromosome
          * <br><b>POST-conditions:</b> non-null result
          * <br><b>Side-effects:</b> this builder state is chnaged
@@ -352,6 +436,7 @@ public final class BitSetChromosome implements IChromosome {
             this.bitset = (BitSet) chromosome.bitset.clone();
             this.age = chromosome.age;
             this.generation = chromosome.generation;
+            this.lineageId = chromosome.lineageId;
             return this;
         }
 
@@ -411,7 +496,24 @@ public final class BitSetChromosome implements IChromosome {
         @Override
         public final IChromosomeBuilder<BitSetChromosome, BitSet> fitness(final Fitness fitness) {
             Validators.nonNull(fitness);
-            this.fitness = fitness;
+            return fitnessValue(fitness.value());
+        }
+
+        /**
+         * Set fitness value of target chromosome.
+         * <br><b>PRE-conditions:</b> {@link Fitness#minValue()} &lt;= fitnessValue &lt;= {@link Fitness#maxValue()}
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>8:32:00 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#fitnessValue(double)
+         * @param fitnessValue
+         *            fitness value of target chromosome
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IChromosomeBuilder<BitSetChromosome, BitSet> fitnessValue(final double fitnessValue) {
+            this.fitness = Fitness.checkValue(fitnessValue);
             return this;
         }
 
@@ -438,7 +540,120 @@ public final class BitSetChromosome implements IChromosome {
         }
 
         /**
-         * Add parent to parent list of target chromosome.
+         * Defer fitness evaluation of target chromosome.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>9:30:18 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#deferFitness()
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IChromosomeBuilder<BitSetChromosome, BitSet> deferFitness() {
+            deferFitness = true;
+            return this;
+        }
+
+        /**
+         * Evaluate fitness of given chromosomes with fitness function of this builder. Gene data is not copied, since
+         * fitness functions must not modify it. Evaluated chromosomes share gene data with originals.
+         * <br><b>PRE-conditions:</b> non-null chromosomes, fitness function is set if any chromosome is not evaluated
+         * <br><b>POST-conditions:</b> non-null result of the same size, all result chromosomes are evaluated
+         * <br><b>Side-effects:</b> fitness function is called
+         * <br><b>Created on:</b> <i>9:32:40 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#evaluate(java.util.List)
+         * @param chromosomes
+         *            chromosomes to be evaluated
+         * @return evaluated chromosomes in the same order
+         * @throws IllegalStateException
+         *             if fitness function is not set while some chromosome needs evaluation
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public final List<BitSetChromosome> evaluate(final List<BitSetChromosome> chromosomes)
+            throws IllegalStateException {
+
+            Validators.nonNull(chromosomes);
+            final List<BitSetChromosome> unevaluated = new ArrayList<>();
+            for (final BitSetChromosome chromosome : chromosomes) {
+                if (!chromosome.evaluated()) {
+                    unevaluated.add(chromosome);
+                }
+            }
+            if (unevaluated.isEmpty()) {
+                return chromosomes;
+            }
+            if (fitnessFunc == null) {
+                throw new IllegalStateException("fitness function is not set");
+            }
+            final double[] fitnesses = new double[unevaluated.size()];
+            if (fitnessFunc instanceof IBatchFitnessFunction) {
+                final List<BitSet> data = new ArrayList<>(unevaluated.size());
+                for (final BitSetChromosome chromosome : unevaluated) {
+                    data.add(chromosome.bitset);
+                }
+                final List<Fitness> batch = ((IBatchFitnessFunction<BitSet>) fitnessFunc).calcFitnessBatch(data);
+                Validators.isTrue(batch.size() == data.size());
+                for (int i = 0; i < fitnesses.length; i++) {
+                    fitnesses[i] = batch.get(i).value();
+                }
+            } else {
+                for (int i = 0; i < fitnesses.length; i++) {
+                    fitnesses[i] = IDoubleFitnessFunction.valueOf(fitnessFunc, unevaluated.get(i).bitset);
+                }
+            }
+            final List<BitSetChromosome> result = new ArrayList<>(chromosomes.size());
+            int fitnessIndex = 0;
+            for (final BitSetChromosome chromosome : chromosomes) {
+                if (chromosome.evaluated()) {
+                    result.add(chromosome);
+                } else {
+                    result.add(chromosome.withFitness(fitnesses[fitnessIndex++]));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Evaluate fitness of given chromosome asynchronously with fitness function of this builder.
+         * <br><b>PRE-conditions:</b> non-null chromosome, fitness function is set if chromosome is not evaluated
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> fitness function is called on subscription to result
+         * <br><b>Created on:</b> <i>10:13:52 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#evaluateAsync(dburyak.jgatools.IChromosome)
+         * @param chromosome
+         *            chromosome to be evaluated
+         * @return single that emits evaluated chromosome
+         * @throws IllegalStateException
+         *             if fitness function is not set while chromosome needs evaluation
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public final Single<BitSetChromosome> evaluateAsync(final BitSetChromosome chromosome)
+            throws IllegalStateException {
+
+            Validators.nonNull(chromosome);
+            if (chromosome.evaluated()) {
+                return Single.just(chromosome);
+            }
+            if (fitnessFunc == null) {
+                throw new IllegalStateException("fitness function is not set");
+            }
+            final IFitnessFunction<BitSet> func = fitnessFunc;
+            if (func instanceof IAsyncFitnessFunction) {
+                return ((IAsyncFitnessFunction<BitSet>) func).calcFitnessAsync(chromosome.bitset)
+                    .map(fitness -> chromosome.withFitness(fitness.value()));
+            }
+            return Single.fromCallable(
+                () -> chromosome.withFitness(IDoubleFitnessFunction.valueOf(func, chromosome.bitset)));
+        }
+
+        /**
+         * Add lineage id of parent to parent list of target chromosome. Lineage id copied from prototype is dropped,
+         * since chromosome with parents is new one.
          * <br><b>PRE-conditions:</b> non-null parent
          * <br><b>POST-conditions:</b> non-null result
          * <br><b>Side-effects:</b> this builder state is changed
@@ -452,10 +667,52 @@ public final class BitSetChromosome implements IChromosome {
         @Override
         public final IChromosomeBuilder<BitSetChromosome, BitSet> parent(final BitSetChromosome parent) {
             Validators.nonNull(parent);
-            parents.add(parent);
+            if (parentCount == parentIds.length) {
+                parentIds = Arrays.copyOf(parentIds, 2 * parentCount);
+            }
+            parentIds[parentCount++] = parent.lineageId;
+            lineageId = ILineageStore.NO_LINEAGE;
             return this;
         }
 
+
+        /**
+         * Set lineage store target chromosome is registered in.
+         * <br><b>PRE-conditions:</b> non-null lineage
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>8:13:20 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#lineage(dburyak.jgatools.ILineageStore)
+         * @param lineage
+         *            lineage store
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IChromosomeBuilder<BitSetChromosome, BitSet> lineage(final ILineageStore lineage) {
+            Validators.nonNull(lineage);
+            this.lineage = lineage;
+            return this;
+        }
+
+        /**
+         * Get lineage id of target chromosome : id of prototype chromosome if it is known, new id registered in
+         * lineage store if it is set, {@link ILineageStore#NO_LINEAGE} otherwise.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> target chromosome may be registered in lineage store
+         * <br><b>Created on:</b> <i>8:13:40 AM Oct 16, 2026</i>
+         * 
+         * @return lineage id of target chromosome
+         */
+        private final long lineageId() {
+            if (lineageId != ILineageStore.NO_LINEAGE || lineage == null) {
+                return lineageId;
+            }
+            return lineage.register(parentIds, parentCount);
+        }
+
     }
 
 }
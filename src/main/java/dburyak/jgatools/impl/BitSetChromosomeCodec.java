@@ -0,0 +1,212 @@
+package dburyak.jgatools.impl;
+
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.BitSet;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IChromosomeCodec;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.impl.BitSetChromosome.BitSetChromosomeBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Binary codec of {@link BitSetChromosome} genomes : number of words as varint followed by packed words of bitset
+ * without trailing zero words. Words are taken from cached fingerprint of chromosome, so bitset is not copied on
+ * encoding.
+ * <br><b>Created on:</b> <i>7:53:40 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class BitSetChromosomeCodec implements IChromosomeCodec<BitSetChromosome> {
+
+    /**
+     * Version of data format.
+     * <br><b>Created on:</b> <i>7:54:00 AM Oct 16, 2026</i>
+     */
+    private static final int VERSION = 1;
+
+
+    /**
+     * Fitness function for decoded chromosomes that were not evaluated, may be null.
+     * <br><b>Created on:</b> <i>7:54:15 AM Oct 16, 2026</i>
+     */
+    private final IFitnessFunction<BitSet> fitnessFunc;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.BitSetChromosomeCodec.<br>
+     * Not evaluated chromosomes are decoded with deferred fitness.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:54:30 AM Oct 16, 2026</i>
+     */
+    public BitSetChromosomeCodec() {
+        this(null);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.BitSetChromosomeCodec.<br>
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:54:50 AM Oct 16, 2026</i>
+     * 
+     * @param fitnessFunc
+     *            fitness function that evaluates decoded chromosomes that were not evaluated when encoded, null to
+     *            decode them with deferred fitness
+     */
+    public BitSetChromosomeCodec(final IFitnessFunction<BitSet> fitnessFunc) {
+        this.fitnessFunc = fitnessFunc;
+    }
+
+    /**
+     * Get version of data format.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:55:10 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosomeCodec#version()
+     * @return version of data format
+     */
+    @Override
+    public final int version() {
+        return VERSION;
+    }
+
+    /**
+     * Get size of encoded genome of given chromosome.
+     * <br><b>PRE-conditions:</b> non-null chromosome
+     * <br><b>POST-conditions:</b> positive result
+     * <br><b>Side-effects:</b> fingerprint of chromosome may be evaluated
+     * <br><b>Created on:</b> <i>7:55:30 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosomeCodec#genomeSize(dburyak.jgatools.IChromosome)
+     * @param chromosome
+     *            chromosome to be encoded
+     * @return size of encoded genome in bytes
+     */
+    @Override
+    public final int genomeSize(final BitSetChromosome chromosome) {
+        final int wordCount = words(chromosome).length;
+        return Varints.size(wordCount) + wordCount * Long.BYTES;
+    }
+
+    /**
+     * Write genome of given chromosome.
+     * <br><b>PRE-conditions:</b> non-null chromosome and out
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> out is written, fingerprint of chromosome may be evaluated
+     * <br><b>Created on:</b> <i>7:55:50 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosomeCodec#encodeGenome(dburyak.jgatools.IChromosome, java.nio.ByteBuffer)
+     * @param chromosome
+     *            chromosome to be encoded
+     * @param out
+     *            destination buffer
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    @Override
+    public final void encodeGenome(final BitSetChromosome chromosome, final ByteBuffer out)
+        throws BufferOverflowException {
+
+        final long[] words = words(chromosome);
+        Varints.put(out, words.length);
+        for (final long word : words) {
+            out.putLong(word);
+        }
+    }
+
+    /**
+     * Read genome and build chromosome.
+     * <br><b>PRE-conditions:</b> non-null in
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> in position is advanced
+     * <br><b>Created on:</b> <i>7:56:10 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosomeCodec#decode(java.nio.ByteBuffer, int, int, int, double)
+     * @param in
+     *            source buffer
+     * @param version
+     *            version of codec that wrote data
+     * @param age
+     *            age of chromosome
+     * @param generation
+     *            generation of chromosome
+     * @param fitness
+     *            fitness value of chromosome, NaN if it was not evaluated
+     * @return decoded chromosome
+     * @throws BufferUnderflowException
+     *             if buffer ends before genome
+     */
+    @Override
+    public final BitSetChromosome decode(
+        final ByteBuffer in,
+        final int version,
+        final int age,
+        final int generation,
+        final double fitness) throws BufferUnderflowException {
+
+        final int wordCount = Varints.getInt(in);
+        if ((long) wordCount * Long.BYTES > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final LongBuffer words = in.slice().order(in.order()).asLongBuffer();
+        words.limit(wordCount);
+        final BitSet bitset = BitSet.valueOf(words);
+        in.position(in.position() + wordCount * Long.BYTES);
+
+        final BitSetChromosomeBuilder builder = new BitSetChromosomeBuilder();
+        builder.data(bitset).age(age).generation(generation);
+        if (!Double.isNaN(fitness)) {
+            builder.fitnessValue(fitness);
+        } else if (fitnessFunc != null) {
+            builder.fitnessFunc(fitnessFunc);
+        } else {
+            builder.deferFitness();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get packed words of genome of given chromosome.
+     * <br><b>PRE-conditions:</b> non-null chromosome
+     * <br><b>POST-conditions:</b> non-null result, <b>MUST NOT</b> be modified
+     * <br><b>Side-effects:</b> fingerprint of chromosome may be evaluated
+     * <br><b>Created on:</b> <i>7:56:40 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome
+     * @return words of genome
+     */
+    private static final long[] words(final BitSetChromosome chromosome) {
+        return ((BitSetFingerprint) chromosome.fingerprint()).words();
+    }
+
+    /**
+     * Get string representation of this codec.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:57:00 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this codec
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final String toString() {
+        return "BitSetChromosomeCodec{version = [" + VERSION + "]}";
+    }
+
+}
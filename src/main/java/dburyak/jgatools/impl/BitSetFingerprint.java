@@ -0,0 +1,203 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IFingerprint;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Collision-safe fingerprint of {@link BitSet} gene data. Keeps packed copy of bitset words, so equality check is exact,
+ * and 64-bit hash of these words.
+ * <br><b>Created on:</b> <i>8:11:37 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class BitSetFingerprint implements IFingerprint {
+
+    /**
+     * Multiplier for combining words into hash (64-bit golden ratio).
+     * <br><b>Created on:</b> <i>8:12:20 PM Oct 16, 2026</i>
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+
+    /**
+     * Finalization step of 64-bit hash (MurmurHash3 fmix64), spreads every input bit to all output bits.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:13:02 PM Oct 16, 2026</i>
+     * 
+     * @param value
+     *            value to be mixed
+     * @return mixed value
+     */
+    static final long mix64(final long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Calculate 64-bit hash of given packed bits words. Trailing zero words must be trimmed by caller, so that equal
+     * bit strings of different capacity have equal hashes.
+     * <br><b>PRE-conditions:</b> non-null words, 0 &lt;= wordsCount &lt;= words.length
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:14:31 PM Oct 16, 2026</i>
+     * 
+     * @param words
+     *            packed bits
+     * @param wordsCount
+     *            number of words to hash
+     * @return 64-bit hash
+     */
+    static final long hashWords(final long[] words, final int wordsCount) {
+        long h = wordsCount;
+        for (int i = 0; i < wordsCount; i++) {
+            h = (h ^ mix64(words[i])) * GOLDEN_GAMMA;
+        }
+        return mix64(h);
+    }
+
+    /**
+     * Create fingerprint of given bitset.
+     * <br><b>PRE-conditions:</b> non-null bitset
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:16:10 PM Oct 16, 2026</i>
+     * 
+     * @param bitset
+     *            bitset to make fingerprint of
+     * @return fingerprint of given bitset
+     */
+    public static final BitSetFingerprint of(final BitSet bitset) {
+        Validators.nonNull(bitset);
+        return new BitSetFingerprint(bitset.toLongArray()); // trailing zero words are already trimmed
+    }
+
+
+    /**
+     * Packed bits of gene data.
+     * <br><b>Created on:</b> <i>8:17:02 PM Oct 16, 2026</i>
+     */
+    private final long[] words;
+
+    /**
+     * 64-bit hash of {@link #words}.
+     * <br><b>Created on:</b> <i>8:17:25 PM Oct 16, 2026</i>
+     */
+    private final long longHash;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.BitSetFingerprint.<br>
+     * <br><b>PRE-conditions:</b> non-null words without trailing zero words, words are not shared
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:17:48 PM Oct 16, 2026</i>
+     * 
+     * @param words
+     *            packed bits, ownership is taken
+     */
+    private BitSetFingerprint(final long[] words) {
+        this.words = words;
+        longHash = hashWords(words, words.length);
+    }
+
+    /**
+     * Get 64-bit hash of bitset.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:18:40 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFingerprint#longHash()
+     * @return 64-bit hash of bitset
+     */
+    @Override
+    public final long longHash() {
+        return longHash;
+    }
+
+    /**
+     * Get packed words of bitset without trailing zero words. Package-private for {@link BitSetChromosomeCodec}.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result, is not copied and <b>MUST NOT</b> be modified
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:53:10 AM Oct 16, 2026</i>
+     * 
+     * @return words of bitset
+     */
+    final long[] words() {
+        return words;
+    }
+
+    /**
+     * Check exact equality of bitsets. Hashes are compared first, so words are compared only on hash collision or
+     * for equal fingerprints.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:19:12 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFingerprint#equals(java.lang.Object)
+     * @param other
+     *            other fingerprint
+     * @return true if other fingerprint was made of exactly the same bitset
+     */
+    @Override
+    public final boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BitSetFingerprint)) {
+            return false;
+        }
+        final BitSetFingerprint otherFp = (BitSetFingerprint) other;
+        return longHash == otherFp.longHash && Arrays.equals(words, otherFp.words);
+    }
+
+    /**
+     * Get 32-bit hash of bitset.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:20:03 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFingerprint#hashCode()
+     * @return 32-bit hash of bitset
+     */
+    @Override
+    public final int hashCode() {
+        return Long.hashCode(longHash);
+    }
+
+    /**
+     * Get string representation of this fingerprint.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-empty result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:20:31 PM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return hex representation of 64-bit hash
+     */
+    @Override
+    public final String toString() {
+        return Long.toHexString(longHash);
+    }
+
+}
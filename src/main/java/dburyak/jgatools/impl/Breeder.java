@@ -0,0 +1,552 @@
+package dburyak.jgatools.impl;
+
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IChromosome.IChromosomeBuilder;
+import dburyak.jgatools.ICrossoverStrategy;
+import dburyak.jgatools.IMatesSelector;
+import dburyak.jgatools.IMutationStrategy;
+import dburyak.jgatools.ISelectionPredicate;
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Breeding step of generational GA over materialized population : chooses mutants and first parents among given
+ * chromosomes, applies mutation and crossover and evaluates fitness of produced chromosomes. Works on plain lists and
+ * can be run either for a single range of population or as fork/join task that splits population into index ranges
+ * and merges offsprings of subtasks ({@link #breedParallel(ForkJoinPool, List, int, long, Predicate)}). Mates
+ * selector is prepared once per generation ({@link IMatesSelector#forGeneration(List)}) and shared by all ranges.<br>
+ * Strategies are called concurrently when breeding in parallel, so they must be thread-safe. Each parent is bred with
+ * its own random stream keyed by generation and parent index ({@link RngService}), so offsprings don't depend on how
+ * population is split among workers.
+ * <br><b>Created on:</b> <i>4:10:12 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@ThreadSafe
+final class Breeder<C extends IChromosome> {
+
+    /**
+     * Selector of chromosomes for mutation.
+     * <br><b>Created on:</b> <i>4:10:45 AM Oct 16, 2026</i>
+     */
+    private final ISelectionPredicate<C> mutationSelector;
+
+    /**
+     * Mutation strategy.
+     * <br><b>Created on:</b> <i>4:10:58 AM Oct 16, 2026</i>
+     */
+    private final IMutationStrategy<C> mutationFunc;
+
+    /**
+     * Selector of the first parent for crossover.
+     * <br><b>Created on:</b> <i>4:11:11 AM Oct 16, 2026</i>
+     */
+    private final ISelectionPredicate<C> parent1Selector;
+
+    /**
+     * Selector of other mates for crossover.
+     * <br><b>Created on:</b> <i>4:11:24 AM Oct 16, 2026</i>
+     */
+    private final IMatesSelector<C> matesSelector;
+
+    /**
+     * Crossover strategy.
+     * <br><b>Created on:</b> <i>4:11:37 AM Oct 16, 2026</i>
+     */
+    private final ICrossoverStrategy<C> crossoverFunc;
+
+    /**
+     * Timeout of single mates selection in nanoseconds.
+     * <br><b>Created on:</b> <i>4:11:50 AM Oct 16, 2026</i>
+     */
+    private final long matesSelectTimeoutNanos;
+
+    /**
+     * Supplier of chromosome builders for fitness evaluation.
+     * <br><b>Created on:</b> <i>4:12:03 AM Oct 16, 2026</i>
+     */
+    private final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder;
+
+    /**
+     * Source of per-parent random streams.
+     * <br><b>Created on:</b> <i>5:01:20 AM Oct 16, 2026</i>
+     */
+    private final RngService rngs;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.Breeder.<br>
+     * <br><b>PRE-conditions:</b> non-null arguments, positive matesSelectTimeout
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>4:12:40 AM Oct 16, 2026</i>
+     * 
+     * @param mutationSelector
+     *            selector for mutating chromosomes
+     * @param mutationFunc
+     *            mutation strategy
+     * @param parent1Selector
+     *            selector for choosing first parent for crossover
+     * @param matesSelector
+     *            selector for choosing other mates for crossover
+     * @param crossoverFunc
+     *            crossover strategy
+     * @param matesSelectTimeout
+     *            timeout for detecting infinite mates selection
+     * @param chromosomeBuilder
+     *            supplier of chromosome builders for fitness evaluation
+     * @param rngs
+     *            source of per-parent random streams
+     */
+    Breeder(
+        final ISelectionPredicate<C> mutationSelector,
+        final IMutationStrategy<C> mutationFunc,
+        final ISelectionPredicate<C> parent1Selector,
+        final IMatesSelector<C> matesSelector,
+        final ICrossoverStrategy<C> crossoverFunc,
+        final Duration matesSelectTimeout,
+        final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder,
+        final RngService rngs) {
+
+        Validators.nonNull(mutationSelector);
+        Validators.nonNull(mutationFunc);
+        Validators.nonNull(parent1Selector);
+        Validators.nonNull(matesSelector);
+        Validators.nonNull(crossoverFunc);
+        Validators.nonNull(matesSelectTimeout);
+        Validators.positive(matesSelectTimeout);
+        Validators.nonNull(chromosomeBuilder);
+        Validators.nonNull(rngs);
+        this.mutationSelector = mutationSelector;
+        this.mutationFunc = mutationFunc;
+        this.parent1Selector = parent1Selector;
+        this.matesSelector = matesSelector;
+        this.crossoverFunc = crossoverFunc;
+        this.matesSelectTimeoutNanos = matesSelectTimeout.toNanos();
+        this.chromosomeBuilder = chromosomeBuilder;
+        this.rngs = rngs;
+    }
+
+    /**
+     * Get mates selector prepared for given population of current generation.
+     * <br><b>PRE-conditions:</b> non-null origin
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> mates selector may build index of origin
+     * <br><b>Created on:</b> <i>6:24:10 AM Oct 16, 2026</i>
+     * 
+     * @param origin
+     *            whole current population, candidates for mates
+     * @return mates selector for current generation
+     */
+    final IMatesSelector<C> matesFor(final List<C> origin) {
+        Validators.nonNull(origin);
+        return Validators.nonNull(matesSelector.forGeneration(origin));
+    }
+
+    /**
+     * Produce evaluated mutants and offsprings of given index range of population on current thread.
+     * <br><b>PRE-conditions:</b> non-null origin, non-null mates, 0 &lt;= from &lt;= to &lt;= origin size
+     * <br><b>POST-conditions:</b> non-null result, all chromosomes are evaluated
+     * <br><b>Side-effects:</b> strategies are called
+     * <br><b>Created on:</b> <i>4:13:55 AM Oct 16, 2026</i>
+     * 
+     * @param origin
+     *            whole current population, candidates for mates
+     * @param mates
+     *            mates selector prepared for origin ({@link #matesFor(List)})
+     * @param from
+     *            index of first chromosome that is candidate for mutation and first parent for crossover (inclusive)
+     * @param to
+     *            end index of candidates for mutation and first parents (exclusive)
+     * @param generation
+     *            number of current generation, keys random streams
+     * @return mutants and offsprings
+     * @throws IllegalStateException
+     *             if mates selection timed out
+     */
+    final List<C> breed(
+        final List<C> origin,
+        final IMatesSelector<C> mates,
+        final int from,
+        final int to,
+        final long generation)
+        throws IllegalStateException {
+
+        return chromosomeBuilder.get().evaluate(produce(origin, mates, from, to, generation));
+    }
+
+    /**
+     * Produce mutants and offsprings of given index range of population on current thread without evaluating them.
+     * <br><b>PRE-conditions:</b> non-null origin, non-null mates, 0 &lt;= from &lt;= to &lt;= origin size
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> strategies are called
+     * <br><b>Created on:</b> <i>8:36:20 AM Oct 16, 2026</i>
+     * 
+     * @param origin
+     *            whole current population, candidates for mates
+     * @param mates
+     *            mates selector prepared for origin ({@link #matesFor(List)})
+     * @param from
+     *            index of first chromosome that is candidate for mutation and first parent for crossover (inclusive)
+     * @param to
+     *            end index of candidates for mutation and first parents (exclusive)
+     * @param generation
+     *            number of current generation, keys random streams
+     * @return mutants and offsprings, fitness of those built with deferred fitness is not evaluated
+     * @throws IllegalStateException
+     *             if mates selection timed out
+     */
+    @SuppressWarnings("nls")
+    private final List<C> produce(
+        final List<C> origin,
+        final IMatesSelector<C> mates,
+        final int from,
+        final int to,
+        final long generation)
+        throws IllegalStateException {
+
+        final List<C> offsprings = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            final C parent = origin.get(i);
+            final Rng rng = rngs.stream(generation, i);
+            if (mutationSelector.select(parent, rng)) {
+                offsprings.add(mutationFunc.mutate(parent, rng));
+            }
+            if (parent1Selector.select(parent, rng)) {
+                // detect infinite mates selection, @see IMatesSelector#select(C, Observable<C>) ; deadline is checked
+                // on candidates consumption instead of timeout operator, which costs scheduled timer per crossover
+                final long deadline = System.nanoTime() + matesSelectTimeoutNanos;
+                final Observable<C> candidates = Observable.from(origin).doOnNext(c -> {
+                    if (System.nanoTime() - deadline > 0L) {
+                        throw new IllegalStateException("mates selection timed out");
+                    }
+                });
+                final Observable<C> parents = mates.select(parent, candidates, rng).startWith(parent);
+                offsprings.addAll(crossoverFunc.crossover(parents, rng).toList().toBlocking().single());
+            }
+        }
+        return offsprings;
+    }
+
+    /**
+     * Produce evaluated mutants and offsprings of whole population in given fork/join pool. Population is split into
+     * index ranges of at most leafSize chromosomes, each range is bred by its own subtask, offsprings are merged in
+     * order of ranges. Mates selector is prepared for origin once before splitting. Merged offsprings are passed
+     * through filter on current thread in order of ranges (so stateful filters as duplicates elimination are
+     * deterministic), and only accepted ones are evaluated, again in ranges of at most leafSize chromosomes.
+     * <br><b>PRE-conditions:</b> non-null pool, origin and filter, positive leafSize
+     * <br><b>POST-conditions:</b> non-null result, all chromosomes are evaluated
+     * <br><b>Side-effects:</b> strategies and fitness function are called concurrently, current thread waits for pool
+     * <br><b>Created on:</b> <i>4:15:20 AM Oct 16, 2026</i>
+     * 
+     * @param pool
+     *            fork/join pool to run subtasks in
+     * @param origin
+     *            whole current population
+     * @param leafSize
+     *            max number of chromosomes bred by single subtask
+     * @param generation
+     *            number of current generation, keys random streams
+     * @param filter
+     *            filter of produced chromosomes, rejected ones are dropped before evaluation
+     * @return mutants and offsprings accepted by filter
+     */
+    final List<C> breedParallel(
+        final ForkJoinPool pool,
+        final List<C> origin,
+        final int leafSize,
+        final long generation,
+        final Predicate<? super C> filter) {
+
+        Validators.nonNull(pool);
+        Validators.nonNull(origin);
+        Validators.positive(leafSize);
+        Validators.nonNull(filter);
+        final List<C> produced = pool.invoke(
+            new BreedTask<>(this, origin, matesFor(origin), 0, origin.size(), leafSize, generation));
+        final List<C> accepted = new ArrayList<>(produced.size());
+        for (final C chromosome : produced) {
+            if (filter.test(chromosome)) {
+                accepted.add(chromosome);
+            }
+        }
+        return pool.invoke(new EvaluateTask<>(chromosomeBuilder, accepted, 0, accepted.size(), leafSize));
+    }
+
+    /**
+     * Get leaf size that gives each worker of pool with given parallelism several subtasks, so that uneven strategy
+     * costs are balanced by work stealing.
+     * <br><b>PRE-conditions:</b> non-negative size, positive parallelism
+     * <br><b>POST-conditions:</b> positive result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>4:16:31 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes to be bred
+     * @param parallelism
+     *            parallelism of fork/join pool
+     * @return max number of chromosomes per subtask
+     */
+    static final int leafSize(final int size, final int parallelism) {
+        final int subtasks = parallelism * 4;
+        return Math.max(1, (size + subtasks - 1) / subtasks);
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Fork/join task that breeds index range of population without evaluating offsprings.
+     * <br><b>Created on:</b> <i>4:17:10 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type
+     */
+    @Immutable
+    private static final class BreedTask<C extends IChromosome> extends RecursiveTask<List<C>> {
+
+        /**
+         * Serial version UID.
+         * <br><b>Created on:</b> <i>4:17:35 AM Oct 16, 2026</i>
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Breeder that does actual work.
+         * <br><b>Created on:</b> <i>4:17:48 AM Oct 16, 2026</i>
+         */
+        private final transient Breeder<C> breeder;
+
+        /**
+         * Whole current population.
+         * <br><b>Created on:</b> <i>4:18:01 AM Oct 16, 2026</i>
+         */
+        private final transient List<C> origin;
+
+        /**
+         * Mates selector prepared for origin.
+         * <br><b>Created on:</b> <i>6:24:45 AM Oct 16, 2026</i>
+         */
+        private final transient IMatesSelector<C> mates;
+
+        /**
+         * Start index of range (inclusive).
+         * <br><b>Created on:</b> <i>4:18:14 AM Oct 16, 2026</i>
+         */
+        private final int from;
+
+        /**
+         * End index of range (exclusive).
+         * <br><b>Created on:</b> <i>4:18:27 AM Oct 16, 2026</i>
+         */
+        private final int to;
+
+        /**
+         * Max number of chromosomes bred without further splitting.
+         * <br><b>Created on:</b> <i>4:18:40 AM Oct 16, 2026</i>
+         */
+        private final int leafSize;
+
+        /**
+         * Number of current generation.
+         * <br><b>Created on:</b> <i>5:03:10 AM Oct 16, 2026</i>
+         */
+        private final long generation;
+
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.Breeder.BreedTask.<br>
+         * <br><b>PRE-conditions:</b> 0 &lt;= from &lt;= to &lt;= origin size, positive leafSize
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>4:19:05 AM Oct 16, 2026</i>
+         * 
+         * @param breeder
+         *            breeder that does actual work
+         * @param origin
+         *            whole current population
+         * @param mates
+         *            mates selector prepared for origin
+         * @param from
+         *            start index of range (inclusive)
+         * @param to
+         *            end index of range (exclusive)
+         * @param leafSize
+         *            max number of chromosomes bred without further splitting
+         * @param generation
+         *            number of current generation
+         */
+        BreedTask(
+            final Breeder<C> breeder,
+            final List<C> origin,
+            final IMatesSelector<C> mates,
+            final int from,
+            final int to,
+            final int leafSize,
+            final long generation) {
+
+            this.breeder = breeder;
+            this.origin = origin;
+            this.mates = mates;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.generation = generation;
+        }
+
+        /**
+         * Breed range directly if it is small enough, otherwise split it in halves and merge offsprings of both.
+         * Offsprings are not evaluated.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> strategies are called
+         * <br><b>Created on:</b> <i>4:19:50 AM Oct 16, 2026</i>
+         * 
+         * @see java.util.concurrent.RecursiveTask#compute()
+         * @return mutants and offsprings of range
+         */
+        @Override
+        protected final List<C> compute() {
+            if (to - from <= leafSize) {
+                return breeder.produce(origin, mates, from, to, generation);
+            }
+            final int middle = (from + to) >>> 1;
+            final BreedTask<C> right = new BreedTask<>(breeder, origin, mates, middle, to, leafSize, generation);
+            right.fork();
+            final List<C> offsprings = new ArrayList<>(
+                new BreedTask<>(breeder, origin, mates, from, middle, leafSize, generation).compute());
+            offsprings.addAll(right.join());
+            return offsprings;
+        }
+
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Fork/join task that evaluates index range of chromosomes.
+     * <br><b>Created on:</b> <i>8:36:50 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type
+     */
+    @Immutable
+    private static final class EvaluateTask<C extends IChromosome> extends RecursiveTask<List<C>> {
+
+        /**
+         * Serial version UID.
+         * <br><b>Created on:</b> <i>8:37:05 AM Oct 16, 2026</i>
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Supplier of chromosome builders for fitness evaluation.
+         * <br><b>Created on:</b> <i>8:37:20 AM Oct 16, 2026</i>
+         */
+        private final transient Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder;
+
+        /**
+         * Chromosomes to be evaluated.
+         * <br><b>Created on:</b> <i>8:37:35 AM Oct 16, 2026</i>
+         */
+        private final transient List<C> chromosomes;
+
+        /**
+         * Start index of range (inclusive).
+         * <br><b>Created on:</b> <i>8:37:50 AM Oct 16, 2026</i>
+         */
+        private final int from;
+
+        /**
+         * End index of range (exclusive).
+         * <br><b>Created on:</b> <i>8:38:05 AM Oct 16, 2026</i>
+         */
+        private final int to;
+
+        /**
+         * Max number of chromosomes evaluated without further splitting.
+         * <br><b>Created on:</b> <i>8:38:20 AM Oct 16, 2026</i>
+         */
+        private final int leafSize;
+
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.Breeder.EvaluateTask.<br>
+         * <br><b>PRE-conditions:</b> 0 &lt;= from &lt;= to &lt;= chromosomes size, positive leafSize
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>8:38:40 AM Oct 16, 2026</i>
+         * 
+         * @param chromosomeBuilder
+         *            supplier of chromosome builders for fitness evaluation
+         * @param chromosomes
+         *            chromosomes to be evaluated
+         * @param from
+         *            start index of range (inclusive)
+         * @param to
+         *            end index of range (exclusive)
+         * @param leafSize
+         *            max number of chromosomes evaluated without further splitting
+         */
+        EvaluateTask(
+            final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder,
+            final List<C> chromosomes,
+            final int from,
+            final int to,
+            final int leafSize) {
+
+            this.chromosomeBuilder = chromosomeBuilder;
+            this.chromosomes = chromosomes;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        /**
+         * Evaluate range directly if it is small enough, otherwise split it in halves and merge results of both.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result, all chromosomes are evaluated
+         * <br><b>Side-effects:</b> fitness function is called
+         * <br><b>Created on:</b> <i>8:39:10 AM Oct 16, 2026</i>
+         * 
+         * @see java.util.concurrent.RecursiveTask#compute()
+         * @return evaluated chromosomes of range in the same order
+         */
+        @Override
+        protected final List<C> compute() {
+            if (to - from <= leafSize) {
+                return chromosomeBuilder.get().evaluate(chromosomes.subList(from, to));
+            }
+            final int middle = (from + to) >>> 1;
+            final EvaluateTask<C> right = new EvaluateTask<>(chromosomeBuilder, chromosomes, middle, to, leafSize);
+            right.fork();
+            final List<C> evaluated = new ArrayList<>(
+                new EvaluateTask<>(chromosomeBuilder, chromosomes, from, middle, leafSize).compute());
+            evaluated.addAll(right.join());
+            return evaluated;
+        }
+
+    }
+
+}
@@ -0,0 +1,706 @@
+package dburyak.jgatools.impl;
+
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IChromosomeCodec;
+import dburyak.jgatools.IPopulation;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * File store of GA checkpoints : population (genomes, fitness, age and generation of each chromosome) together with
+ * iteration counter, elapsed runtime and master seed of random streams (see {@link RngService}; streams are keyed by
+ * iteration, so master seed and iteration are the whole random state of engine). Restored chromosomes carry stored
+ * fitness, so resumed GA doesn't evaluate its population again.<br>
+ * File is log of frames appended through NIO channel from direct buffer. Each frame is checkpoint of one iteration,
+ * chromosome that is present in previous frame with same genome and fitness is stored as reference to it, only new
+ * chromosomes are stored in full. Each {@link #compactInterval} frames (and on first write of this store) file is
+ * rewritten with single frame of full records into temporary file that atomically replaces the original one. Frames
+ * are protected by CRC32, reader maps file into memory and takes the last intact frame, so torn tail of interrupted
+ * write is ignored.<br>
+ * Chromosomes are stored as records of {@link BinaryCodec}, numbers of frame are varints ({@link Varints}).
+ * Chromosomes of consecutive frames are matched by their fingerprints ({@link IChromosome#fingerprint()}).
+ * <br><b>Created on:</b> <i>7:13:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@ThreadSafe
+public final class CheckpointStore<C extends IChromosome> {
+
+    /**
+     * Magic number of checkpoint file ("JGAC").
+     * <br><b>Created on:</b> <i>7:13:40 AM Oct 16, 2026</i>
+     */
+    private static final int MAGIC = 0x4A474143;
+
+    /**
+     * Version of checkpoint file format.
+     * <br><b>Created on:</b> <i>7:13:55 AM Oct 16, 2026</i>
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Size of file header : magic and version.
+     * <br><b>Created on:</b> <i>7:14:10 AM Oct 16, 2026</i>
+     */
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * Size of frame header : body length and CRC32 of body.
+     * <br><b>Created on:</b> <i>7:14:25 AM Oct 16, 2026</i>
+     */
+    private static final int FRAME_HEADER_SIZE = 8;
+
+    /**
+     * Tag of record stored in full : record length and {@link BinaryCodec} record.
+     * <br><b>Created on:</b> <i>7:14:55 AM Oct 16, 2026</i>
+     */
+    private static final byte RECORD_FULL = 0;
+
+    /**
+     * Tag of record that references record of previous frame : index in previous frame, age and generation.
+     * <br><b>Created on:</b> <i>7:15:10 AM Oct 16, 2026</i>
+     */
+    private static final byte RECORD_SAME = 1;
+
+    /**
+     * Default number of frames between rewrites of whole file.
+     * <br><b>Created on:</b> <i>7:15:55 AM Oct 16, 2026</i>
+     */
+    public static final int COMPACT_INTERVAL_DEFAULT = 16;
+
+
+    /**
+     * Checkpoint file.
+     * <br><b>Created on:</b> <i>7:16:10 AM Oct 16, 2026</i>
+     */
+    private final Path path;
+
+    /**
+     * Codec of chromosome records.
+     * <br><b>Created on:</b> <i>7:16:25 AM Oct 16, 2026</i>
+     */
+    private final BinaryCodec<C> records;
+
+    /**
+     * Number of frames between rewrites of whole file.
+     * <br><b>Created on:</b> <i>7:16:40 AM Oct 16, 2026</i>
+     */
+    private final int compactInterval;
+
+    /**
+     * Indexes of records of the last written frame by fingerprints of their chromosomes, null if nothing was written
+     * by this store yet.
+     * <br><b>Created on:</b> <i>7:16:55 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private Map<Object, Integer> previousGenomes = null;
+
+    /**
+     * Fitness values of records of the last written frame.
+     * <br><b>Created on:</b> <i>7:17:10 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private double[] previousFitness = null;
+
+    /**
+     * Number of frames in file since its last rewrite.
+     * <br><b>Created on:</b> <i>7:17:25 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private int framesCount = 0;
+
+    /**
+     * Direct buffer frames are encoded into, grows on demand.
+     * <br><b>Created on:</b> <i>7:17:40 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private ByteBuffer buffer = null;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.CheckpointStore.<br>
+     * Uses {@link #COMPACT_INTERVAL_DEFAULT} frames between rewrites of whole file.
+     * <br><b>PRE-conditions:</b> non-null path and codec
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:18:00 AM Oct 16, 2026</i>
+     * 
+     * @param path
+     *            checkpoint file
+     * @param codec
+     *            codec of genomes
+     */
+    public CheckpointStore(final Path path, final IChromosomeCodec<C> codec) {
+        this(path, codec, COMPACT_INTERVAL_DEFAULT);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.CheckpointStore.<br>
+     * <br><b>PRE-conditions:</b> non-null path and codec, positive compactInterval
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:18:20 AM Oct 16, 2026</i>
+     * 
+     * @param path
+     *            checkpoint file
+     * @param codec
+     *            codec of genomes
+     * @param compactInterval
+     *            number of frames between rewrites of whole file, 1 to write only full checkpoints
+     */
+    public CheckpointStore(final Path path, final IChromosomeCodec<C> codec, final int compactInterval) {
+        Validators.nonNull(path);
+        Validators.nonNull(codec);
+        Validators.positive(compactInterval);
+        this.path = path;
+        this.records = new BinaryCodec<>(codec);
+        this.compactInterval = compactInterval;
+    }
+
+    /**
+     * Get checkpoint file of this store.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:18:40 AM Oct 16, 2026</i>
+     * 
+     * @return checkpoint file
+     */
+    public final Path path() {
+        return path;
+    }
+
+    /**
+     * Write checkpoint of given population. Appends incremental frame, or rewrites whole file when it is time to
+     * compact it. Data is forced to storage device before return.
+     * <br><b>PRE-conditions:</b> non-null population of evaluated chromosomes, non-negative iteration, non-null
+     * runtime
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> checkpoint file is written, codec is called
+     * <br><b>Created on:</b> <i>7:19:00 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population to be stored
+     * @param iteration
+     *            iteration of given population
+     * @param runtime
+     *            time that GA is running
+     * @param masterSeed
+     *            master seed of random streams of GA
+     * @throws IOException
+     *             if file can't be written
+     */
+    public final synchronized void write(
+        final IPopulation<C> population,
+        final int iteration,
+        final Duration runtime,
+        final long masterSeed) throws IOException {
+
+        Validators.nonNull(population);
+        Validators.nonNegative(iteration);
+        Validators.nonNull(runtime);
+        final List<C> chromosomes = population.chromosomes().toList().toBlocking().single();
+        final boolean compact = (previousGenomes == null) || (framesCount >= compactInterval);
+        final int count = chromosomes.size();
+        final int[] references = new int[count];
+        final int[] recordSizes = new int[count];
+        final double[] fitness = new double[count];
+        final int[] ages = new int[count];
+        final Map<Object, Integer> genomesIndex = new HashMap<>(2 * count);
+        final int codecVersion = records.codec().version();
+        int bodySize = Varints.size(iteration) + Varints.size(runtime.toNanos()) + Long.BYTES
+            + Varints.size(codecVersion) + Varints.size(count);
+        for (int i = 0; i < count; i++) {
+            final C chromosome = chromosomes.get(i);
+            Validators.isTrue(chromosome.evaluated());
+            fitness[i] = chromosome.fitnessValue();
+            ages[i] = population.ageOf(chromosome);
+            final Object fingerprint = chromosome.fingerprint();
+            final Integer previous = compact ? null : previousGenomes.get(fingerprint);
+            references[i] = (previous != null
+                && Double.doubleToLongBits(previousFitness[previous.intValue()]) == Double
+                    .doubleToLongBits(fitness[i])) ? previous.intValue() : -1;
+            if (references[i] >= 0) {
+                bodySize += 1 + Varints.size(references[i]) + Varints.size(ages[i])
+                    + Varints.size(chromosome.generation());
+            } else {
+                recordSizes[i] = records.recordSize(chromosome, ages[i]);
+                bodySize += 1 + Varints.size(recordSizes[i]) + recordSizes[i];
+            }
+            genomesIndex.put(fingerprint, Integer.valueOf(i));
+        }
+
+        final ByteBuffer frame = frameBuffer(HEADER_SIZE + FRAME_HEADER_SIZE + bodySize);
+        if (compact) {
+            frame.putInt(MAGIC).putInt(VERSION);
+        }
+        final int bodyStart = frame.position() + FRAME_HEADER_SIZE;
+        frame.position(bodyStart);
+        Varints.put(frame, iteration);
+        Varints.put(frame, runtime.toNanos());
+        frame.putLong(masterSeed);
+        Varints.put(frame, codecVersion);
+        Varints.put(frame, count);
+        for (int i = 0; i < count; i++) {
+            final C chromosome = chromosomes.get(i);
+            if (references[i] >= 0) {
+                frame.put(RECORD_SAME);
+                Varints.put(frame, references[i]);
+                Varints.put(frame, ages[i]);
+                Varints.put(frame, chromosome.generation());
+            } else {
+                frame.put(RECORD_FULL);
+                Varints.put(frame, recordSizes[i]);
+                records.encode(chromosome, ages[i], frame);
+            }
+        }
+        final int bodyEnd = frame.position();
+        final ByteBuffer body = frame.duplicate();
+        body.position(bodyStart);
+        body.limit(bodyEnd);
+        final CRC32 crc = new CRC32();
+        crc.update(body);
+        frame.putInt(bodyStart - FRAME_HEADER_SIZE, bodyEnd - bodyStart);
+        frame.putInt(bodyStart - FRAME_HEADER_SIZE + 4, (int) crc.getValue());
+        frame.flip();
+
+        if (compact) {
+            final Path tmp = path.resolveSibling(path.getFileName() + ".tmp"); //$NON-NLS-1$
+            writeFully(tmp, frame, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            framesCount = 1;
+        } else {
+            writeFully(path, frame, StandardOpenOption.APPEND);
+            framesCount++;
+        }
+        previousGenomes = genomesIndex;
+        previousFitness = fitness;
+    }
+
+    /**
+     * Get direct buffer of at least given capacity, cleared.
+     * <br><b>PRE-conditions:</b> non-negative capacity
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> buffer may be reallocated
+     * <br><b>Created on:</b> <i>7:19:40 AM Oct 16, 2026</i>
+     * 
+     * @param capacity
+     *            required capacity
+     * @return cleared buffer
+     */
+    @GuardedBy("this")
+    private final ByteBuffer frameBuffer(final int capacity) {
+        if (buffer == null || buffer.capacity() < capacity) {
+            buffer = ByteBuffer.allocateDirect(Math.max(capacity, (buffer == null) ? 0 : 2 * buffer.capacity()));
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Write all remaining bytes of given buffer into file and force them to storage device.
+     * <br><b>PRE-conditions:</b> non-null file and data
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> file is written
+     * <br><b>Created on:</b> <i>7:20:00 AM Oct 16, 2026</i>
+     * 
+     * @param file
+     *            file to write into
+     * @param data
+     *            bytes to be written
+     * @param options
+     *            options of opening file for writing
+     * @throws IOException
+     *             if file can't be written
+     */
+    private static final void writeFully(final Path file, final ByteBuffer data, final StandardOpenOption... options)
+        throws IOException {
+
+        final StandardOpenOption[] allOptions = new StandardOpenOption[options.length + 1];
+        allOptions[0] = StandardOpenOption.WRITE;
+        System.arraycopy(options, 0, allOptions, 1, options.length);
+        try (final FileChannel channel = FileChannel.open(file, allOptions)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Read the last intact checkpoint from file. File is mapped into memory, frames are replayed in order, references
+     * are resolved against preceding frame; reading stops at first truncated or corrupted frame.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> codec is called
+     * <br><b>Created on:</b> <i>7:20:30 AM Oct 16, 2026</i>
+     * 
+     * @return the last checkpoint, null if file doesn't exist or contains no intact frame
+     * @throws IOException
+     *             if file can't be read or is not a checkpoint file
+     */
+    @SuppressWarnings("nls")
+    public final synchronized Snapshot<C> read() throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (data.remaining() < HEADER_SIZE || data.getInt() != MAGIC) {
+                throw new IOException("not a checkpoint file : " + path);
+            }
+            final int version = data.getInt();
+            if (version != VERSION) {
+                throw new IOException("unsupported checkpoint version : " + version);
+            }
+            List<Record> frameRecords = null;
+            int iteration = 0;
+            long runtimeNanos = 0L;
+            long masterSeed = 0L;
+            while (data.remaining() >= FRAME_HEADER_SIZE) {
+                final int bodySize = data.getInt();
+                final int checksum = data.getInt();
+                if (bodySize <= 0 || bodySize > data.remaining()) {
+                    break; // torn tail
+                }
+                final ByteBuffer body = data.duplicate();
+                body.limit(data.position() + bodySize);
+                final CRC32 crc = new CRC32();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                try {
+                    final int frameIteration = Varints.getInt(body);
+                    final long frameRuntime = Varints.getLong(body);
+                    final long frameSeed = body.getLong();
+                    final List<Record> nextRecords = readRecords(body, frameRecords);
+                    if (nextRecords == null) {
+                        break;
+                    }
+                    frameRecords = nextRecords;
+                    iteration = frameIteration;
+                    runtimeNanos = frameRuntime;
+                    masterSeed = frameSeed;
+                } catch (final BufferUnderflowException | IllegalArgumentException e) {
+                    break;
+                }
+                data.position(data.position() + bodySize);
+            }
+            if (frameRecords == null) {
+                return null;
+            }
+            final List<C> chromosomes = new ArrayList<>(frameRecords.size());
+            for (final Record record : frameRecords) {
+                chromosomes.add(decode(data, record));
+            }
+            return new Snapshot<>(chromosomes, iteration, Duration.ofNanos(runtimeNanos), masterSeed);
+        }
+    }
+
+    /**
+     * Read records of frame, resolving references against records of previous frame. Full records are not decoded,
+     * only their positions are kept.
+     * <br><b>PRE-conditions:</b> non-null body positioned at codec version, limited by end of frame
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> body position is changed
+     * <br><b>Created on:</b> <i>7:21:00 AM Oct 16, 2026</i>
+     * 
+     * @param body
+     *            frame body
+     * @param previous
+     *            records of previous frame, null for the first frame
+     * @return records of frame, null if frame is malformed
+     * @throws BufferUnderflowException
+     *             if frame ends before its records
+     * @throws IllegalArgumentException
+     *             if frame contains malformed varint
+     */
+    private static final List<Record> readRecords(final ByteBuffer body, final List<Record> previous)
+        throws BufferUnderflowException, IllegalArgumentException {
+
+        final int codecVersion = Varints.getInt(body);
+        final int count = Varints.getInt(body);
+        if (count > body.remaining()) {
+            return null;
+        }
+        final List<Record> frameRecords = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final byte tag = body.get();
+            if (tag == RECORD_SAME) {
+                final int index = Varints.getInt(body);
+                if (previous == null || index >= previous.size()) {
+                    return null;
+                }
+                final Record same = previous.get(index);
+                frameRecords.add(new Record(same.position, same.codecVersion, Varints.getInt(body),
+                    Varints.getInt(body)));
+            } else if (tag == RECORD_FULL) {
+                final int length = Varints.getInt(body);
+                if (length > body.remaining()) {
+                    return null;
+                }
+                frameRecords.add(new Record(body.position(), codecVersion, -1, -1));
+                body.position(body.position() + length);
+            } else {
+                return null;
+            }
+        }
+        return frameRecords;
+    }
+
+    /**
+     * Decode chromosome of given record.
+     * <br><b>PRE-conditions:</b> non-null data and record that was read from it
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> codec is called
+     * <br><b>Created on:</b> <i>8:00:40 AM Oct 16, 2026</i>
+     * 
+     * @param data
+     *            mapped checkpoint file
+     * @param record
+     *            record of chromosome
+     * @return decoded chromosome
+     * @throws IOException
+     *             if record is malformed
+     */
+    @SuppressWarnings("nls")
+    private final C decode(final ByteBuffer data, final Record record) throws IOException {
+        final ByteBuffer in = data.duplicate();
+        in.position(record.position);
+        try {
+            if (record.age < 0) {
+                return records.decode(in, record.codecVersion);
+            }
+            Varints.getInt(in); // stored age
+            Varints.getInt(in); // stored generation
+            final double fitness = in.getDouble();
+            return records.codec().decode(in, record.codecVersion, record.age, record.generation,
+                Fitness.checkValue(fitness));
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("malformed checkpoint record : " + path, e);
+        }
+    }
+
+    /**
+     * Get string representation of this store.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:21:30 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this store
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    @Override
+    public final String toString() {
+        return String.format("CheckpointStore{path = [%s] ; compactInterval = [%d]}", path, compactInterval);
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Checkpoint read from file.
+     * <br><b>Created on:</b> <i>7:23:30 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type
+     */
+    @Immutable
+    public static final class Snapshot<C extends IChromosome> {
+
+        /**
+         * Restored chromosomes in stored order.
+         * <br><b>Created on:</b> <i>7:24:00 AM Oct 16, 2026</i>
+         */
+        private final List<C> chromosomes;
+
+        /**
+         * Iteration of stored population.
+         * <br><b>Created on:</b> <i>7:24:15 AM Oct 16, 2026</i>
+         */
+        private final int iteration;
+
+        /**
+         * Time that GA was running.
+         * <br><b>Created on:</b> <i>7:24:30 AM Oct 16, 2026</i>
+         */
+        private final Duration runtime;
+
+        /**
+         * Master seed of random streams of GA.
+         * <br><b>Created on:</b> <i>7:24:45 AM Oct 16, 2026</i>
+         */
+        private final long masterSeed;
+
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.CheckpointStore.Snapshot.<br>
+         * <br><b>PRE-conditions:</b> non-null chromosomes and runtime
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>7:25:00 AM Oct 16, 2026</i>
+         * 
+         * @param chromosomes
+         *            restored chromosomes
+         * @param iteration
+         *            iteration of stored population
+         * @param runtime
+         *            time that GA was running
+         * @param masterSeed
+         *            master seed of random streams of GA
+         */
+        Snapshot(final List<C> chromosomes, final int iteration, final Duration runtime, final long masterSeed) {
+            this.chromosomes = Collections.unmodifiableList(chromosomes);
+            this.iteration = iteration;
+            this.runtime = runtime;
+            this.masterSeed = masterSeed;
+        }
+
+        /**
+         * Get restored chromosomes.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null unmodifiable result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>7:25:20 AM Oct 16, 2026</i>
+         * 
+         * @return restored chromosomes
+         */
+        public final List<C> chromosomes() {
+            return chromosomes;
+        }
+
+        /**
+         * Get iteration of stored population.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-negative result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>7:25:40 AM Oct 16, 2026</i>
+         * 
+         * @return iteration
+         */
+        public final int iteration() {
+            return iteration;
+        }
+
+        /**
+         * Get time that GA was running when checkpoint was taken.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>7:26:00 AM Oct 16, 2026</i>
+         * 
+         * @return runtime
+         */
+        public final Duration runtime() {
+            return runtime;
+        }
+
+        /**
+         * Get master seed of random streams of GA.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>7:26:20 AM Oct 16, 2026</i>
+         * 
+         * @return master seed
+         */
+        public final long masterSeed() {
+            return masterSeed;
+        }
+
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Position of stored chromosome in checkpoint file and its metadata that overrides stored one.
+     * <br><b>Created on:</b> <i>7:26:40 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     */
+    @Immutable
+    private static final class Record {
+
+        /**
+         * Position of {@link BinaryCodec} record in file.
+         * <br><b>Created on:</b> <i>7:27:00 AM Oct 16, 2026</i>
+         */
+        private final int position;
+
+        /**
+         * Version of codec that wrote record.
+         * <br><b>Created on:</b> <i>8:01:00 AM Oct 16, 2026</i>
+         */
+        private final int codecVersion;
+
+        /**
+         * Age of chromosome, -1 to take stored one.
+         * <br><b>Created on:</b> <i>7:27:10 AM Oct 16, 2026</i>
+         */
+        private final int age;
+
+        /**
+         * Generation of chromosome, -1 to take stored one.
+         * <br><b>Created on:</b> <i>7:27:20 AM Oct 16, 2026</i>
+         */
+        private final int generation;
+
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.CheckpointStore.Record.<br>
+         * <br><b>PRE-conditions:</b> non-negative position and codecVersion
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>7:27:40 AM Oct 16, 2026</i>
+         * 
+         * @param position
+         *            position of record in file
+         * @param codecVersion
+         *            version of codec that wrote record
+         * @param age
+         *            age of chromosome, -1 to take stored one
+         * @param generation
+         *            generation of chromosome, -1 to take stored one
+         */
+        Record(final int position, final int codecVersion, final int age, final int generation) {
+            this.position = position;
+            this.codecVersion = codecVersion;
+            this.age = age;
+            this.generation = generation;
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Helpers for selection operators that make many independent random draws. Draws are split into fixed-size chunks,
+ * each chunk gets its own random stream derived from single seed taken from caller generator, so sequential and
+ * parallel execution produce exactly the same indexes for the same generator state.
+ * <br><b>Created on:</b> <i>5:26:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+final class Draws {
+
+    /**
+     * Number of draws made with single random stream.
+     * <br><b>Created on:</b> <i>5:26:45 AM Oct 16, 2026</i>
+     */
+    static final int CHUNK_SIZE = 256;
+
+
+    /**
+     * Make given number of independent draws.
+     * <br><b>PRE-conditions:</b> non-negative count, non-null rng and pick
+     * <br><b>POST-conditions:</b> non-null result of given length
+     * <br><b>Side-effects:</b> rng state is changed, common fork/join pool is used by parallel variant
+     * <br><b>Created on:</b> <i>5:27:20 AM Oct 16, 2026</i>
+     * 
+     * @param count
+     *            number of draws
+     * @param rng
+     *            caller generator, seeds streams of chunks
+     * @param parallel
+     *            whether chunks are drawn in parallel
+     * @param pick
+     *            single draw, must be thread-safe for parallel variant
+     * @return drawn indexes
+     */
+    static final int[] independent(
+        final int count,
+        final Rng rng,
+        final boolean parallel,
+        final ToIntFunction<Rng> pick) {
+
+        Validators.nonNegative(count);
+        Validators.nonNull(rng);
+        Validators.nonNull(pick);
+        final int[] indexes = new int[count];
+        final long seed = rng.nextLong();
+        final int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final IntStream range = IntStream.range(0, chunks);
+        (parallel ? range.parallel() : range).forEach(chunk -> {
+            final Rng chunkRng = new Rng(Rng.derive(seed, chunk));
+            final int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                indexes[i] = pick.applyAsInt(chunkRng);
+            }
+        });
+        return indexes;
+    }
+
+    /**
+     * Get index of first element of non-decreasing cumulative table that is greater than given value.
+     * <br><b>PRE-conditions:</b> non-null non-empty non-decreasing cumulative
+     * <br><b>POST-conditions:</b> 0 &lt;= result &lt; cumulative length
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>5:28:35 AM Oct 16, 2026</i>
+     * 
+     * @param cumulative
+     *            cumulative weights
+     * @param value
+     *            value to search for
+     * @return index of first greater element, last index if there's no such element
+     */
+    static final int upperBound(final double[] cumulative, final double value) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (cumulative[middle] > value) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+}
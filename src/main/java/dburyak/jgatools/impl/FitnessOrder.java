@@ -0,0 +1,173 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dburyak.jgatools.IChromosome;
+
+
+/**
+ * Project : jgatools.<br>
+ * Sorting of chromosomes by fitness on primitive fitness values. Fitness values are read once into {@code double[]},
+ * then array of indexes is sorted by them (stable merge sort, insertion sort for short runs), so comparisons neither
+ * call chromosomes nor touch {@link dburyak.jgatools.Fitness} objects. Values are compared with
+ * {@link Double#compare(double, double)} as {@link dburyak.jgatools.Fitness#compareTo(dburyak.jgatools.Fitness)} does,
+ * so -0.0 is less fit than 0.0. Order of chromosomes with equal fitness is preserved.
+ * <br><b>Created on:</b> <i>8:32:30 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+final class FitnessOrder {
+
+    /**
+     * Length of runs that are sorted by insertion sort before merging.
+     * <br><b>Created on:</b> <i>8:33:00 AM Oct 16, 2026</i>
+     */
+    private static final int RUN_LENGTH = 16;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.FitnessOrder.<br>
+     * Utility class, instantiation is not allowed.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:33:20 AM Oct 16, 2026</i>
+     */
+    private FitnessOrder() {
+        // utility class
+    }
+
+    /**
+     * Get copy of given chromosomes sorted by fitness, the fittest first.
+     * <br><b>PRE-conditions:</b> non-null chromosomes, all chromosomes are evaluated
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:33:45 AM Oct 16, 2026</i>
+     * 
+     * @param chromosomes
+     *            chromosomes to be sorted
+     * @return new list of chromosomes sorted by fitness (descending)
+     * @param <C>
+     *            concrete chromosome implementation type
+     */
+    static final <C extends IChromosome> List<C> sortedDescending(final List<C> chromosomes) {
+        final int size = chromosomes.size();
+        final double[] fitness = new double[size];
+        for (int i = 0; i < size; i++) {
+            fitness[i] = chromosomes.get(i).fitnessValue();
+        }
+        final int[] order = descending(fitness);
+        final List<C> sorted = new ArrayList<>(size);
+        for (final int index : order) {
+            sorted.add(chromosomes.get(index));
+        }
+        return sorted;
+    }
+
+    /**
+     * Get indexes of given fitness values ordered by values, the greatest first. Equal values keep their order.
+     * <br><b>PRE-conditions:</b> non-null fitness without NaNs
+     * <br><b>POST-conditions:</b> non-null result of the same length
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:34:10 AM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            fitness values
+     * @return indexes of fitness values in descending order of values
+     */
+    static final int[] descending(final double[] fitness) {
+        final int size = fitness.length;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        for (int lo = 0; lo < size; lo += RUN_LENGTH) {
+            insertionSort(fitness, order, lo, Math.min(lo + RUN_LENGTH, size));
+        }
+        int[] buffer = new int[size];
+        for (int width = RUN_LENGTH; width < size; width *= 2) {
+            for (int lo = 0; lo < size; lo += 2 * width) {
+                final int mid = Math.min(lo + width, size);
+                final int hi = Math.min(lo + 2 * width, size);
+                merge(fitness, order, buffer, lo, mid, hi);
+            }
+            final int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    /**
+     * Sort range of indexes by fitness values (descending) with stable insertion sort.
+     * <br><b>PRE-conditions:</b> 0 &lt;= lo &lt;= hi &lt;= order.length
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> order is changed
+     * <br><b>Created on:</b> <i>8:34:40 AM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            fitness values
+     * @param order
+     *            indexes of fitness values
+     * @param lo
+     *            start of range (inclusive)
+     * @param hi
+     *            end of range (exclusive)
+     */
+    private static final void insertionSort(final double[] fitness, final int[] order, final int lo, final int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            final int index = order[i];
+            final double value = fitness[index];
+            int j = i - 1;
+            while (j >= lo && Double.compare(fitness[order[j]], value) < 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    /**
+     * Merge two adjacent sorted ranges of indexes into the same range of destination. Left range wins on equal
+     * values, so merge is stable.
+     * <br><b>PRE-conditions:</b> 0 &lt;= lo &lt;= mid &lt;= hi &lt;= order.length, both ranges are sorted
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> destination is changed
+     * <br><b>Created on:</b> <i>8:35:10 AM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            fitness values
+     * @param order
+     *            source indexes
+     * @param destination
+     *            destination indexes
+     * @param lo
+     *            start of left range (inclusive)
+     * @param mid
+     *            end of left range and start of right range
+     * @param hi
+     *            end of right range (exclusive)
+     */
+    private static final void merge(
+        final double[] fitness,
+        final int[] order,
+        final int[] destination,
+        final int lo,
+        final int mid,
+        final int hi) {
+
+        int left = lo;
+        int right = mid;
+        for (int i = lo; i < hi; i++) {
+            if (right >= hi || (left < mid && Double.compare(fitness[order[left]], fitness[order[right]]) >= 0)) {
+                destination[i] = order[left++];
+            } else {
+                destination[i] = order[right++];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Arrays;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IFingerprint;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Set of genomes for duplicate elimination. Genomes are identified by chromosome fingerprints
+ * ({@link IChromosome#fingerprint()}), so genomically identical chromosomes are detected regardless of their identity
+ * and metadata. Backed by open-addressing hash table with linear probing over primitive array of 64-bit hashes
+ * ({@link IFingerprint#longHash()}, or mixed {@code hashCode()} for other fingerprint types); fingerprints themselves
+ * are touched only to confirm exact equality when hashes match.<br>
+ * Is safe to be shared by all stages of generation pipeline.
+ * <br><b>Created on:</b> <i>2:50:12 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@ThreadSafe
+public final class GenomeSet {
+
+    /**
+     * Hash value that marks empty slot.
+     * <br><b>Created on:</b> <i>2:50:48 AM Oct 16, 2026</i>
+     */
+    private static final long EMPTY = 0L;
+
+    /**
+     * Minimal capacity of hash table.
+     * <br><b>Created on:</b> <i>2:51:05 AM Oct 16, 2026</i>
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Hashes of kept fingerprints, {@link #EMPTY} for empty slots.
+     * <br><b>Created on:</b> <i>2:51:22 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private long[] hashes;
+
+    /**
+     * Kept fingerprints (parallel to {@link #hashes}).
+     * <br><b>Created on:</b> <i>2:51:39 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private Object[] fingerprints;
+
+    /**
+     * Number of kept fingerprints.
+     * <br><b>Created on:</b> <i>2:51:56 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private int size = 0;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.GenomeSet.<br>
+     * <br><b>PRE-conditions:</b> non-negative expectedSize
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:52:20 AM Oct 16, 2026</i>
+     * 
+     * @param expectedSize
+     *            expected number of genomes, table is not resized until it is reached
+     */
+    public GenomeSet(final int expectedSize) {
+        Validators.nonNegative(expectedSize);
+        final int capacity = capacityFor(expectedSize);
+        hashes = new long[capacity];
+        fingerprints = new Object[capacity];
+    }
+
+    /**
+     * Get table capacity (power of two) that keeps load factor at most 1/2 for given number of elements.
+     * <br><b>PRE-conditions:</b> non-negative count
+     * <br><b>POST-conditions:</b> positive result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:52:58 AM Oct 16, 2026</i>
+     * 
+     * @param count
+     *            number of elements
+     * @return table capacity
+     */
+    private static final int capacityFor(final int count) {
+        final long required = Math.max(MIN_CAPACITY, 2L * count);
+        Validators.isTrue(required <= (1 << 30));
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    /**
+     * Get 64-bit hash of fingerprint.
+     * <br><b>PRE-conditions:</b> non-null fingerprint
+     * <br><b>POST-conditions:</b> result != {@link #EMPTY}
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:53:40 AM Oct 16, 2026</i>
+     * 
+     * @param fingerprint
+     *            chromosome fingerprint
+     * @return hash of fingerprint
+     */
+    private static final long hashOf(final Object fingerprint) {
+        final long hash = (fingerprint instanceof IFingerprint)
+            ? ((IFingerprint) fingerprint).longHash()
+            : BitSetFingerprint.mix64(fingerprint.hashCode());
+        return (hash == EMPTY) ? 1L : hash;
+    }
+
+    /**
+     * Add genome of given chromosome to this set.
+     * <br><b>PRE-conditions:</b> non-null chromosome
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> this set may be changed
+     * <br><b>Created on:</b> <i>2:54:21 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to add genome of
+     * @return true if genome was not in this set yet (chromosome is unique), false if it is duplicate
+     */
+    public final boolean add(final IChromosome chromosome) {
+        return addFingerprint(chromosome.fingerprint());
+    }
+
+    /**
+     * Check whether genome of given chromosome is in this set.
+     * <br><b>PRE-conditions:</b> non-null chromosome
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:54:55 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to check
+     * @return true if genome of chromosome is in this set
+     */
+    public final boolean contains(final IChromosome chromosome) {
+        return containsFingerprint(chromosome.fingerprint());
+    }
+
+    /**
+     * Add fingerprint to this set.
+     * <br><b>PRE-conditions:</b> non-null fingerprint
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> this set may be changed
+     * <br><b>Created on:</b> <i>2:55:31 AM Oct 16, 2026</i>
+     * 
+     * @param fingerprint
+     *            chromosome fingerprint
+     * @return true if fingerprint was not in this set yet, false otherwise
+     */
+    public final synchronized boolean addFingerprint(final Object fingerprint) {
+        Validators.nonNull(fingerprint);
+        final long hash = hashOf(fingerprint);
+        final int index = find(hash, fingerprint);
+        if (hashes[index] != EMPTY) {
+            return false;
+        }
+        hashes[index] = hash;
+        fingerprints[index] = fingerprint;
+        if (++size * 2 > hashes.length) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * Check whether fingerprint is in this set.
+     * <br><b>PRE-conditions:</b> non-null fingerprint
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:56:12 AM Oct 16, 2026</i>
+     * 
+     * @param fingerprint
+     *            chromosome fingerprint
+     * @return true if fingerprint is in this set
+     */
+    public final synchronized boolean containsFingerprint(final Object fingerprint) {
+        Validators.nonNull(fingerprint);
+        return hashes[find(hashOf(fingerprint), fingerprint)] != EMPTY;
+    }
+
+    /**
+     * Find slot of given fingerprint : either slot where it is kept or empty slot where it should be put.
+     * <br><b>PRE-conditions:</b> table is not full
+     * <br><b>POST-conditions:</b> valid slot index
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:56:50 AM Oct 16, 2026</i>
+     * 
+     * @param hash
+     *            hash of fingerprint
+     * @param fingerprint
+     *            fingerprint to find
+     * @return slot index
+     */
+    @GuardedBy("this")
+    private final int find(final long hash, final Object fingerprint) {
+        final int mask = hashes.length - 1;
+        int index = (int) (hash ^ (hash >>> 32)) & mask;
+        while (true) {
+            final long slotHash = hashes[index];
+            if (slotHash == EMPTY || (slotHash == hash && fingerprints[index].equals(fingerprint))) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Double table capacity and rehash kept fingerprints.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> table is reallocated
+     * <br><b>Created on:</b> <i>2:57:41 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private final void resize() {
+        final long[] oldHashes = hashes;
+        final Object[] oldFingerprints = fingerprints;
+        Validators.isTrue(oldHashes.length < (1 << 30));
+        hashes = new long[oldHashes.length << 1];
+        fingerprints = new Object[oldHashes.length << 1];
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != EMPTY) {
+                final int index = find(oldHashes[i], oldFingerprints[i]);
+                hashes[index] = oldHashes[i];
+                fingerprints[index] = oldFingerprints[i];
+            }
+        }
+    }
+
+    /**
+     * Get number of genomes in this set.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:58:20 AM Oct 16, 2026</i>
+     * 
+     * @return number of genomes
+     */
+    public final synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Remove all genomes from this set. Table capacity is preserved.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> this set is cleared
+     * <br><b>Created on:</b> <i>2:58:45 AM Oct 16, 2026</i>
+     */
+    public final synchronized void clear() {
+        Arrays.fill(hashes, EMPTY);
+        Arrays.fill(fingerprints, null);
+        size = 0;
+    }
+
+}
@@ -0,0 +1,445 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Index of fixed-length bit strings for queries by Hamming distance. Bit strings are kept packed in single flat array
+ * of 64-bit words, distance is computed with word-level XOR and popcount, without cloning anything.<br>
+ * Answers "find entry with distance closest to d" queries with bit-sampling locality-sensitive hashing : each of
+ * several tables keys entries by values of k randomly sampled bit positions and keeps them sorted by key, so entries
+ * sharing any key prefix form contiguous range. Query probes each table with its own key where share d / length of
+ * prefix bits is flipped at random : entry at distance r matches probed prefix of m bits with probability
+ * (r / length)^j * (1 - r / length)^(m - j) for j flipped bits, which peaks at r = d, so probed range is dominated by
+ * entries at desired distance rather than nearest ones. Prefix is shortened until its range holds enough entries,
+ * which adapts probe to actual population structure (converged populations need long prefixes, diverse ones short).
+ * Only few range members are measured exactly, so query costs about {@code tables * k * log(size)} comparisons of
+ * primitive keys plus {@code tables * bucketSize} popcount distances instead of full scan.<br>
+ * Result is approximate : the best entry among inspected ones is returned.
+ * <br><b>Created on:</b> <i>6:12:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class HammingIndex {
+
+    /**
+     * Max number of sampled bits per key, keeps key and entry index packed in one long.
+     * <br><b>Created on:</b> <i>6:12:45 AM Oct 16, 2026</i>
+     */
+    public static final int MAX_KEY_BITS = 30;
+
+    /**
+     * Mask of entry index in packed (key, entry) pair.
+     * <br><b>Created on:</b> <i>6:13:02 AM Oct 16, 2026</i>
+     */
+    private static final long ENTRY_MASK = 0xFFFFFFFFL;
+
+    /**
+     * Length of indexed bit strings.
+     * <br><b>Created on:</b> <i>6:13:20 AM Oct 16, 2026</i>
+     */
+    private final int length;
+
+    /**
+     * Number of words per bit string.
+     * <br><b>Created on:</b> <i>6:13:38 AM Oct 16, 2026</i>
+     */
+    private final int wordCount;
+
+    /**
+     * Number of indexed entries.
+     * <br><b>Created on:</b> <i>6:13:55 AM Oct 16, 2026</i>
+     */
+    private final int size;
+
+    /**
+     * Words of all entries, entry i occupies [i * wordCount, (i + 1) * wordCount).
+     * <br><b>Created on:</b> <i>6:14:12 AM Oct 16, 2026</i>
+     */
+    private final long[] words;
+
+    /**
+     * Sampled bit positions of each table.
+     * <br><b>Created on:</b> <i>6:14:30 AM Oct 16, 2026</i>
+     */
+    private final int[][] sampledBits;
+
+    /**
+     * Sorted (key &lt;&lt; 32 | entry) pairs of each table.
+     * <br><b>Created on:</b> <i>6:14:48 AM Oct 16, 2026</i>
+     */
+    private final long[][] tables;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.HammingIndex.<br>
+     * <br><b>PRE-conditions:</b> non-null entries with at most {@code wordsFor(length)} words each (missing words are
+     * zeros), positive length, positive tableCount, 1 &lt;= keyBits &lt;= {@link #MAX_KEY_BITS}, non-null rng
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>6:15:30 AM Oct 16, 2026</i>
+     * 
+     * @param entries
+     *            packed words of bit strings to index (as {@link java.util.BitSet#toLongArray()} or
+     *            {@link PackedBits#toLongArray()}), are copied
+     * @param length
+     *            length of bit strings
+     * @param tableCount
+     *            number of hash tables, more tables give better recall at higher query cost
+     * @param keyBits
+     *            number of sampled bits per key, max length of probed prefix
+     * @param rng
+     *            generator for choosing sampled bits
+     */
+    public HammingIndex(
+        final List<long[]> entries,
+        final int length,
+        final int tableCount,
+        final int keyBits,
+        final Rng rng) {
+
+        Validators.nonNull(entries);
+        Validators.positive(length);
+        Validators.positive(tableCount);
+        Validators.isTrue(keyBits >= 1 && keyBits <= MAX_KEY_BITS);
+        Validators.nonNull(rng);
+        this.length = length;
+        this.wordCount = PackedBits.wordsFor(length);
+        this.size = entries.size();
+        this.words = new long[size * wordCount];
+        for (int i = 0; i < size; i++) {
+            final long[] entry = entries.get(i);
+            Validators.isTrue(entry.length <= wordCount);
+            System.arraycopy(entry, 0, words, i * wordCount, entry.length);
+        }
+        this.sampledBits = new int[tableCount][keyBits];
+        this.tables = new long[tableCount][size];
+        for (int t = 0; t < tableCount; t++) {
+            for (int b = 0; b < keyBits; b++) {
+                sampledBits[t][b] = rng.nextInt(length);
+            }
+            for (int i = 0; i < size; i++) {
+                tables[t][i] = (keyOf(sampledBits[t], words, i * wordCount) << 32) | i;
+            }
+            Arrays.sort(tables[t]);
+        }
+    }
+
+    /**
+     * Get key of bit string : values of sampled bits packed into long.
+     * <br><b>PRE-conditions:</b> valid arguments
+     * <br><b>POST-conditions:</b> 0 &lt;= result &lt; 2^bits.length
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:16:40 AM Oct 16, 2026</i>
+     * 
+     * @param bits
+     *            sampled bit positions
+     * @param source
+     *            words array
+     * @param offset
+     *            offset of bit string in words array
+     * @return key of bit string
+     */
+    private static final long keyOf(final int[] bits, final long[] source, final int offset) {
+        long key = 0L;
+        for (final int bit : bits) {
+            key = (key << 1) | ((source[offset + (bit >>> 6)] >>> bit) & 1L);
+        }
+        return key;
+    }
+
+    /**
+     * Get number of indexed entries.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:17:15 AM Oct 16, 2026</i>
+     * 
+     * @return number of entries
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Get length of indexed bit strings.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> positive result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:17:33 AM Oct 16, 2026</i>
+     * 
+     * @return length of bit strings
+     */
+    public final int length() {
+        return length;
+    }
+
+    /**
+     * Get Hamming distance between two packed bit strings. Missing trailing words are treated as zeros, so arrays
+     * produced by {@link java.util.BitSet#toLongArray()} can be compared directly.
+     * <br><b>PRE-conditions:</b> non-null words1 and words2
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:17:50 AM Oct 16, 2026</i>
+     * 
+     * @param words1
+     *            packed words of first bit string
+     * @param words2
+     *            packed words of second bit string
+     * @return number of differing bits
+     */
+    public static final int distance(final long[] words1, final long[] words2) {
+        final int common = Math.min(words1.length, words2.length);
+        int distance = 0;
+        for (int w = 0; w < common; w++) {
+            distance += Long.bitCount(words1[w] ^ words2[w]);
+        }
+        final long[] longer = (words1.length > common) ? words1 : words2;
+        for (int w = common; w < longer.length; w++) {
+            distance += Long.bitCount(longer[w]);
+        }
+        return distance;
+    }
+
+    /**
+     * Get Hamming distance between two entries.
+     * <br><b>PRE-conditions:</b> 0 &lt;= entry1, entry2 &lt; size
+     * <br><b>POST-conditions:</b> 0 &lt;= result &lt;= length
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:18:02 AM Oct 16, 2026</i>
+     * 
+     * @param entry1
+     *            first entry
+     * @param entry2
+     *            second entry
+     * @return number of differing bits
+     */
+    public final int distance(final int entry1, final int entry2) {
+        return distance(words, entry1 * wordCount, entry2);
+    }
+
+    /**
+     * Get Hamming distance between bit string of given words and entry.
+     * <br><b>PRE-conditions:</b> valid arguments
+     * <br><b>POST-conditions:</b> 0 &lt;= result &lt;= length
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:18:40 AM Oct 16, 2026</i>
+     * 
+     * @param source
+     *            words array of query
+     * @param offset
+     *            offset of query in words array
+     * @param entry
+     *            entry
+     * @return number of differing bits
+     */
+    private final int distance(final long[] source, final int offset, final int entry) {
+        final int entryOffset = entry * wordCount;
+        int distance = 0;
+        for (int w = 0; w < wordCount; w++) {
+            distance += Long.bitCount(source[offset + w] ^ words[entryOffset + w]);
+        }
+        return distance;
+    }
+
+    /**
+     * Find entry whose distance to given entry is closest to target distance.
+     * <br><b>PRE-conditions:</b> 0 &lt;= entry &lt; size, 0 &lt;= targetDistance &lt;= length, positive bucketSize,
+     * non-null rng
+     * <br><b>POST-conditions:</b> -1 &lt;= result &lt; size, result != entry
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>6:19:30 AM Oct 16, 2026</i>
+     * 
+     * @param entry
+     *            query entry, is never returned
+     * @param targetDistance
+     *            desired Hamming distance
+     * @param bucketSize
+     *            min number of entries in probed range of each table, at most twice as many are inspected
+     * @param rng
+     *            generator for probes
+     * @return found entry, -1 if index has no other entries
+     */
+    public final int closest(final int entry, final int targetDistance, final int bucketSize, final Rng rng) {
+        Validators.isTrue(entry >= 0 && entry < size);
+        return closest(words, entry * wordCount, entry, targetDistance, bucketSize, rng);
+    }
+
+    /**
+     * Find entry whose distance to given bit string is closest to target distance.
+     * <br><b>PRE-conditions:</b> non-null query with at most {@code wordsFor(length)} words, 0 &lt;= targetDistance
+     * &lt;= length, positive bucketSize, non-null rng
+     * <br><b>POST-conditions:</b> -1 &lt;= result &lt; size
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>6:20:15 AM Oct 16, 2026</i>
+     * 
+     * @param query
+     *            packed words of query bit string
+     * @param targetDistance
+     *            desired Hamming distance
+     * @param bucketSize
+     *            min number of entries in probed range of each table, at most twice as many are inspected
+     * @param rng
+     *            generator for probes
+     * @return found entry, -1 if index is empty
+     */
+    public final int closest(final long[] query, final int targetDistance, final int bucketSize, final Rng rng) {
+        Validators.nonNull(query);
+        Validators.isTrue(query.length <= wordCount);
+        return closest(Arrays.copyOf(query, wordCount), 0, -1, targetDistance, bucketSize, rng);
+    }
+
+    /**
+     * Find entry whose distance to given bit string is closest to target distance : in each table probe longest
+     * prefix whose range holds enough entries and inspect range members starting from random one.
+     * <br><b>PRE-conditions:</b> valid arguments
+     * <br><b>POST-conditions:</b> -1 &lt;= result &lt; size, result != exclude
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>6:21:05 AM Oct 16, 2026</i>
+     * 
+     * @param source
+     *            words array of query
+     * @param offset
+     *            offset of query in words array
+     * @param exclude
+     *            entry that must not be returned, -1 for none
+     * @param targetDistance
+     *            desired Hamming distance
+     * @param bucketSize
+     *            min number of entries in probed range
+     * @param rng
+     *            generator for probes
+     * @return found entry, -1 if there's no entry to return
+     */
+    private final int closest(
+        final long[] source,
+        final int offset,
+        final int exclude,
+        final int targetDistance,
+        final int bucketSize,
+        final Rng rng) {
+
+        Validators.isTrue(targetDistance >= 0 && targetDistance <= length);
+        Validators.positive(bucketSize);
+        Validators.nonNull(rng);
+        if (size - ((exclude >= 0) ? 1 : 0) <= 0) {
+            return -1;
+        }
+        final int needed = bucketSize + ((exclude >= 0) ? 1 : 0);
+        final double share = (double) targetDistance / length;
+        int best = -1;
+        int bestError = Integer.MAX_VALUE;
+        for (int t = 0; t < tables.length && bestError > 0; t++) {
+            final long[] table = tables[t];
+            final int keyBits = sampledBits[t].length;
+            final long key = keyOf(sampledBits[t], source, offset);
+            // shorten probed prefix until its range is big enough, empty prefix covers whole table
+            int from = 0;
+            int to = size;
+            for (int prefix = keyBits; prefix > 0; prefix--) {
+                final int shift = keyBits - prefix;
+                final long probe = (key >>> shift) ^ flipMask(prefix, (int) Math.round(prefix * share), rng);
+                from = lowerBound(table, (probe << shift) << 32);
+                to = lowerBound(table, ((probe + 1L) << shift) << 32);
+                if (to - from >= needed) {
+                    break;
+                }
+                from = 0;
+                to = size;
+            }
+            final int range = to - from;
+            final int start = rng.nextInt(range);
+            for (int i = 0; i < Math.min(range, 2 * bucketSize) && bestError > 0; i++) {
+                final int candidate = (int) (table[from + (start + i) % range] & ENTRY_MASK);
+                if (candidate != exclude) {
+                    final int error = Math.abs(distance(source, offset, candidate) - targetDistance);
+                    if (error < bestError) {
+                        best = candidate;
+                        bestError = error;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Get index of first element of sorted table that is not less than given value.
+     * <br><b>PRE-conditions:</b> non-null sorted table
+     * <br><b>POST-conditions:</b> 0 &lt;= result &lt;= table length
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:21:30 AM Oct 16, 2026</i>
+     * 
+     * @param table
+     *            sorted table
+     * @param value
+     *            value to search for
+     * @return index of first element that is not less than value, table length if there's no such element
+     */
+    private static final int lowerBound(final long[] table, final long value) {
+        int low = 0;
+        int high = table.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (table[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get mask of given number of distinct random bits among lowest bits of key.
+     * <br><b>PRE-conditions:</b> 0 &lt;= flips &lt;= keyBits &lt;= {@link #MAX_KEY_BITS}, non-null rng
+     * <br><b>POST-conditions:</b> result has exactly flips bits set, all below keyBits
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>6:21:50 AM Oct 16, 2026</i>
+     * 
+     * @param keyBits
+     *            number of key bits
+     * @param flips
+     *            number of bits to set
+     * @param rng
+     *            random generator
+     * @return flip mask
+     */
+    private static final long flipMask(final int keyBits, final int flips, final Rng rng) {
+        // draw the smaller of flipped and kept sets
+        final int draws = Math.min(flips, keyBits - flips);
+        long mask = 0L;
+        while (Long.bitCount(mask) < draws) {
+            mask |= 1L << rng.nextInt(keyBits);
+        }
+        return (draws == flips) ? mask : (~mask & ((1L << keyBits) - 1L));
+    }
+
+    /**
+     * Get string representation of this index.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:22:30 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this index
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    @Override
+    public final String toString() {
+        return String.format("HammingIndex{size = [%d] ; length = [%d] ; tables = [%d] ; keyBits = [%d]}",
+            size, length, tables.length, (tables.length > 0) ? sampledBits[0].length : 0);
+    }
+
+}
@@ -0,0 +1,383 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IMatesSelector;
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Mates selector for bit string chromosomes that chooses single mate whose similarity to first parent is closest to
+ * desired one. Similarity of two chromosomes is share of equal bits, so desired similarity s corresponds to Hamming
+ * distance (1 - s) * length.<br>
+ * Prepared for generation ({@link #forGeneration(List)}), it builds {@link HammingIndex} over population once and
+ * answers each query by inspecting few members of probed key ranges instead of the whole population. Index seed is
+ * derived from population bits, so mates are reproducible for the same population and random generator ; queries
+ * without random generator draw from stream derived from index seed and first parent. Without preparation, selector
+ * scans all candidates. Bits are compared with word-level popcount, chromosomes are never
+ * cloned for comparison.<br>
+ * Bits extractor is called once per chromosome when selector is prepared for generation (and for first parents that
+ * are not members of indexed population), but once per candidate on every query of unprepared selector. Extractors
+ * that copy bits (as {@link java.util.BitSet#toLongArray()}) allocate on each call.
+ * <br><b>Created on:</b> <i>6:25:30 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@Immutable
+public final class HammingMatesSelector<C extends IChromosome> implements IMatesSelector<C> {
+
+    /**
+     * Default number of hash tables of index.
+     * <br><b>Created on:</b> <i>6:26:00 AM Oct 16, 2026</i>
+     */
+    public static final int DEFAULT_TABLES = 4;
+
+    /**
+     * Min number of entries in probed range of each table.
+     * <br><b>Created on:</b> <i>6:26:20 AM Oct 16, 2026</i>
+     */
+    private static final int BUCKET_SIZE = 8;
+
+    /**
+     * Number of sampled bits per key, max length of probed prefix.
+     * <br><b>Created on:</b> <i>6:26:38 AM Oct 16, 2026</i>
+     */
+    private static final int KEY_BITS = 24;
+
+    /**
+     * Extractor of packed bits of chromosome.
+     * <br><b>Created on:</b> <i>6:26:55 AM Oct 16, 2026</i>
+     */
+    private final Function<? super C, long[]> bits;
+
+    /**
+     * Length of bit strings of chromosomes.
+     * <br><b>Created on:</b> <i>6:27:12 AM Oct 16, 2026</i>
+     */
+    private final int length;
+
+    /**
+     * Desired Hamming distance between parents.
+     * <br><b>Created on:</b> <i>6:27:30 AM Oct 16, 2026</i>
+     */
+    private final int targetDistance;
+
+    /**
+     * Number of hash tables of index.
+     * <br><b>Created on:</b> <i>6:27:48 AM Oct 16, 2026</i>
+     */
+    private final int tables;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.HammingMatesSelector.<br>
+     * Index with {@link #DEFAULT_TABLES} tables.
+     * <br><b>PRE-conditions:</b> non-null bits, positive length, 0 &lt;= similarity &lt;= 1
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:28:10 AM Oct 16, 2026</i>
+     * 
+     * @param bits
+     *            extractor of packed bits of chromosome (as {@link java.util.BitSet#toLongArray()} or
+     *            {@link PackedBits#toLongArray()}), must be thread-safe
+     * @param length
+     *            length of bit strings of chromosomes
+     * @param similarity
+     *            desired share of equal bits of parents
+     */
+    public HammingMatesSelector(final Function<? super C, long[]> bits, final int length, final double similarity) {
+        this(bits, length, similarity, DEFAULT_TABLES);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.HammingMatesSelector.<br>
+     * <br><b>PRE-conditions:</b> non-null bits, positive length, 0 &lt;= similarity &lt;= 1, positive tables
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:28:35 AM Oct 16, 2026</i>
+     * 
+     * @param bits
+     *            extractor of packed bits of chromosome (as {@link java.util.BitSet#toLongArray()} or
+     *            {@link PackedBits#toLongArray()}), must be thread-safe
+     * @param length
+     *            length of bit strings of chromosomes
+     * @param similarity
+     *            desired share of equal bits of parents
+     * @param tables
+     *            number of hash tables of index, more tables give closer mates at higher query cost
+     */
+    public HammingMatesSelector(
+        final Function<? super C, long[]> bits,
+        final int length,
+        final double similarity,
+        final int tables) {
+
+        Validators.nonNull(bits);
+        Validators.positive(length);
+        Validators.isTrue(similarity >= 0.0D && similarity <= 1.0D);
+        Validators.positive(tables);
+        this.bits = bits;
+        this.length = length;
+        this.targetDistance = (int) Math.round((1.0D - similarity) * length);
+        this.tables = tables;
+    }
+
+    /**
+     * Select mate with similarity closest to desired one by scanning all candidates. Used when selector is not
+     * prepared for generation.
+     * <br><b>PRE-conditions:</b> non-null parent1, non-null finite candidates
+     * <br><b>POST-conditions:</b> non-null result with single mate, parent1 itself if there's no other candidate
+     * <br><b>Side-effects:</b> candidates are subscribed
+     * <br><b>Created on:</b> <i>6:29:20 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IMatesSelector#select(dburyak.jgatools.IChromosome, rx.Observable)
+     * @param parent1
+     *            first parent
+     * @param candidates
+     *            candidates for mates
+     * @return chosen mate
+     */
+    @Override
+    public final Observable<C> select(final C parent1, final Observable<C> candidates) {
+        Validators.nonNull(parent1);
+        Validators.nonNull(candidates);
+        final long[] words = bits.apply(parent1);
+        return candidates.filter(c -> c != parent1)
+            .toList()
+            .map(others -> {
+                C best = parent1;
+                int bestError = Integer.MAX_VALUE;
+                for (final C candidate : others) {
+                    final int error = Math.abs(HammingIndex.distance(words, bits.apply(candidate)) - targetDistance);
+                    if (error < bestError) {
+                        best = candidate;
+                        bestError = error;
+                        if (error == 0) {
+                            break;
+                        }
+                    }
+                }
+                return best;
+            });
+    }
+
+    /**
+     * Get selector that answers queries with Hamming index over given population.
+     * <br><b>PRE-conditions:</b> non-null population
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> bits of all chromosomes are extracted
+     * <br><b>Created on:</b> <i>6:30:05 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IMatesSelector#forGeneration(java.util.List)
+     * @param population
+     *            chromosomes of current generation
+     * @return selector for current generation
+     */
+    @Override
+    public final IMatesSelector<C> forGeneration(final List<C> population) {
+        Validators.nonNull(population);
+        final int size = population.size();
+        final List<long[]> entries = new ArrayList<>(size);
+        final Map<C, Integer> positions = new IdentityHashMap<>(size);
+        long seed = size;
+        for (int i = 0; i < size; i++) {
+            final C chromosome = population.get(i);
+            final long[] words = bits.apply(chromosome);
+            entries.add(words);
+            positions.put(chromosome, Integer.valueOf(i));
+            for (final long word : words) {
+                seed = 31L * seed + word;
+            }
+        }
+        final long indexSeed = Rng.mix64(seed);
+        final HammingIndex index =
+            new HammingIndex(entries, length, tables, Math.min(KEY_BITS, length), new Rng(indexSeed));
+        return new IndexedSelector<>(this, population, positions, index, indexSeed);
+    }
+
+    /**
+     * Get string representation of this selector.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:31:20 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this selector
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    @Override
+    public final String toString() {
+        return String.format("HammingMatesSelector{length = [%d] ; targetDistance = [%d] ; tables = [%d]}",
+            length, targetDistance, tables);
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Mates selector prepared for population of single generation.
+     * <br><b>Created on:</b> <i>6:32:00 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type
+     */
+    @Immutable
+    private static final class IndexedSelector<C extends IChromosome> implements IMatesSelector<C> {
+
+        /**
+         * Selector this one was prepared by.
+         * <br><b>Created on:</b> <i>6:32:20 AM Oct 16, 2026</i>
+         */
+        private final HammingMatesSelector<C> parent;
+
+        /**
+         * Indexed population.
+         * <br><b>Created on:</b> <i>6:32:38 AM Oct 16, 2026</i>
+         */
+        private final List<C> population;
+
+        /**
+         * Positions of chromosomes in population, never modified after construction.
+         * <br><b>Created on:</b> <i>6:32:55 AM Oct 16, 2026</i>
+         */
+        private final Map<C, Integer> positions;
+
+        /**
+         * Index over population.
+         * <br><b>Created on:</b> <i>6:33:12 AM Oct 16, 2026</i>
+         */
+        private final HammingIndex index;
+
+        /**
+         * Seed index was built with, source of random streams for queries without random generator.
+         * <br><b>Created on:</b> <i>11:30:00 AM Oct 16, 2026</i>
+         */
+        private final long seed;
+
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.HammingMatesSelector.IndexedSelector.<br>
+         * <br><b>PRE-conditions:</b> non-null arguments, index built over population
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>6:33:40 AM Oct 16, 2026</i>
+         * 
+         * @param parent
+         *            selector this one was prepared by
+         * @param population
+         *            indexed population
+         * @param positions
+         *            positions of chromosomes in population
+         * @param index
+         *            index over population
+         * @param seed
+         *            seed index was built with
+         */
+        IndexedSelector(
+            final HammingMatesSelector<C> parent,
+            final List<C> population,
+            final Map<C, Integer> positions,
+            final HammingIndex index,
+            final long seed) {
+
+            this.parent = parent;
+            this.population = population;
+            this.positions = positions;
+            this.index = index;
+            this.seed = seed;
+        }
+
+        /**
+         * Select mate from indexed population with generator derived from index seed and first parent (its position in
+         * population, or its bits if it is not a member), so the same query gives the same mate.
+         * <br><b>PRE-conditions:</b> non-null parent1
+         * <br><b>POST-conditions:</b> non-null result with single mate
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>6:34:15 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IMatesSelector#select(dburyak.jgatools.IChromosome, rx.Observable)
+         * @param parent1
+         *            first parent
+         * @param candidates
+         *            ignored, indexed population is used instead
+         * @return chosen mate
+         */
+        @Override
+        public final Observable<C> select(final C parent1, final Observable<C> candidates) {
+            Validators.nonNull(parent1);
+            final Integer position = positions.get(parent1);
+            long key = -1L;
+            if (position != null) {
+                key = position.longValue();
+            } else {
+                for (final long word : parent.bits.apply(parent1)) {
+                    key = 31L * key + word;
+                }
+            }
+            return select(parent1, candidates, new Rng(Rng.derive(seed, key)));
+        }
+
+        /**
+         * Select mate from indexed population : mate with similarity closest to desired one among inspected entries.
+         * <br><b>PRE-conditions:</b> non-null parent1 and rng
+         * <br><b>POST-conditions:</b> non-null result with single mate, parent1 itself if there's no other chromosome
+         * <br><b>Side-effects:</b> rng state is changed
+         * <br><b>Created on:</b> <i>6:34:50 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IMatesSelector#select(dburyak.jgatools.IChromosome, rx.Observable,
+         *      dburyak.jgatools.Rng)
+         * @param parent1
+         *            first parent
+         * @param candidates
+         *            ignored, indexed population is used instead
+         * @param rng
+         *            random generator owned by calling task
+         * @return chosen mate
+         */
+        @Override
+        public final Observable<C> select(final C parent1, final Observable<C> candidates, final Rng rng) {
+            Validators.nonNull(parent1);
+            final Integer position = positions.get(parent1);
+            final int mate = (position != null)
+                ? index.closest(position.intValue(), parent.targetDistance, BUCKET_SIZE, rng)
+                : index.closest(parent.bits.apply(parent1), parent.targetDistance, BUCKET_SIZE, rng);
+            return Observable.just((mate >= 0) ? population.get(mate) : parent1);
+        }
+
+        /**
+         * Prepare parent selector for another population.
+         * <br><b>PRE-conditions:</b> non-null population
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> bits of all chromosomes are extracted
+         * <br><b>Created on:</b> <i>6:35:30 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IMatesSelector#forGeneration(java.util.List)
+         * @param population
+         *            chromosomes of current generation
+         * @return selector for current generation
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IMatesSelector<C> forGeneration(final List<C> population) {
+            return parent.forGeneration(population);
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jtools.Validators;
+import rx.Observable;
+import rx.observables.SyncOnSubscribe;
+
+
+/**
+ * Project : jgatools.<br>
+ * Demand-driven source of random "out of nowhere" chromosomes (immigrants), suitable as appear source for GA and
+ * population builders. Chromosomes are produced only when downstream requests them (backpressure is honored), so
+ * {@code take(n)} and other bounded consumers cause exactly as many chromosomes to be built as they need, and nothing
+ * is generated ahead of demand.<br>
+ * Keeps counters of requested and produced chromosomes, which allow to check that source is not overproducing :
+ * {@link #produced()} never exceeds {@link #requested()}. Requested counter is upstream demand, not consumption :
+ * operators that drop chromosomes (e.g. duplicates filter) request a replacement for each dropped one, so both
+ * counters include chromosomes that were produced and then dropped downstream.
+ * <br><b>Created on:</b> <i>3:20:40 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@ThreadSafe
+public final class ImmigrantSource<C extends IChromosome> {
+
+    /**
+     * Factory that builds single random chromosome on each call.
+     * <br><b>Created on:</b> <i>3:21:15 AM Oct 16, 2026</i>
+     */
+    private final Supplier<? extends C> factory;
+
+    /**
+     * Total upstream demand signaled by all subscribers, saturates at {@link Long#MAX_VALUE} (unbounded demand).
+     * <br><b>Created on:</b> <i>3:21:42 AM Oct 16, 2026</i>
+     */
+    private final AtomicLong requested = new AtomicLong(0L);
+
+    /**
+     * Total number of chromosomes produced for all subscribers.
+     * <br><b>Created on:</b> <i>3:22:06 AM Oct 16, 2026</i>
+     */
+    private final LongAdder produced = new LongAdder();
+
+    /**
+     * Observable that emits produced chromosomes. Each subscriber gets its own stream of chromosomes.
+     * <br><b>Created on:</b> <i>3:22:31 AM Oct 16, 2026</i>
+     */
+    private final Observable<C> chromosomes;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.ImmigrantSource.<br>
+     * <br><b>PRE-conditions:</b> non-null factory
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:23:04 AM Oct 16, 2026</i>
+     * 
+     * @param factory
+     *            factory that builds single random chromosome on each call, must not return null
+     */
+    public ImmigrantSource(final Supplier<? extends C> factory) {
+        Validators.nonNull(factory);
+        this.factory = factory;
+        this.chromosomes = Observable.create(SyncOnSubscribe.<C> createStateless(observer -> {
+            final C chromosome = this.factory.get();
+            produced.increment();
+            observer.onNext(chromosome);
+        })).doOnRequest(this::addRequested);
+    }
+
+    /**
+     * Add downstream request to requested counter. Counter saturates at {@link Long#MAX_VALUE}.
+     * <br><b>PRE-conditions:</b> non-negative count
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> requested counter is changed
+     * <br><b>Created on:</b> <i>3:24:12 AM Oct 16, 2026</i>
+     * 
+     * @param count
+     *            number of requested chromosomes
+     */
+    private final void addRequested(final long count) {
+        requested.accumulateAndGet(count, (current, n) -> {
+            final long sum = current + n;
+            return (sum < 0L) ? Long.MAX_VALUE : sum;
+        });
+    }
+
+    /**
+     * Get observable that emits random chromosomes on demand. Observable never completes, so it must be bounded by
+     * consumer (e.g. with {@code take(n)}).
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:25:01 AM Oct 16, 2026</i>
+     * 
+     * @return backpressure-aware infinite source of random chromosomes
+     */
+    public final Observable<C> chromosomes() {
+        return chromosomes;
+    }
+
+    /**
+     * Get total upstream demand signaled by downstream consumers. This is number of chromosomes requested from this
+     * source, not number of chromosomes consumed : replacements requested for chromosomes dropped downstream are
+     * counted too, and demand that was not served yet (or was cancelled by unsubscribe) is included.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result, {@link Long#MAX_VALUE} if unbounded demand was signaled
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:25:40 AM Oct 16, 2026</i>
+     * 
+     * @return number of requested chromosomes
+     */
+    public final long requested() {
+        return requested.get();
+    }
+
+    /**
+     * Get total number of chromosomes produced (and emitted to consumers).
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:26:08 AM Oct 16, 2026</i>
+     * 
+     * @return number of produced chromosomes
+     */
+    public final long produced() {
+        return produced.sum();
+    }
+
+    /**
+     * Get string representation of this source with its counters.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:26:35 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this source
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    @Override
+    public final String toString() {
+        return String.format("ImmigrantSource{requested = [%d] ; produced = [%d]}", requested(), produced());
+    }
+
+}
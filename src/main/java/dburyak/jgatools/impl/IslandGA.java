@@ -0,0 +1,1101 @@
+package dburyak.jgatools.impl;
+
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IGeneticAlgorithm;
+import dburyak.jgatools.ILineageStore;
+import dburyak.jgatools.IPopulation;
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.PopulationStatsAccumulator;
+import dburyak.jgatools.Rng;
+import dburyak.jtools.IConfigurable;
+import dburyak.jtools.INameable;
+import dburyak.jtools.InstanceBuilder;
+import dburyak.jtools.Validators;
+import rx.Observable;
+import rx.Single;
+import rx.subjects.PublishSubject;
+
+
+/**
+ * Project : jgatools.<br>
+ * Island model GA. Runs several independent sub-populations ("islands"), each evolved by its own {@link ReactiveGA}
+ * configuration on its own dedicated thread, so islands scale across cores without sharing any generation
+ * pipeline. Every {@link #migrationInterval} generations all islands meet at a phaser and exchange their top
+ * {@link #migrationSize} chromosomes along configured {@link MigrationTopology}; immigrants replace the tail of
+ * receiving population.<br>
+ * Evolution terminates as soon as any island meets termination condition of its configuration (island generation is
+ * passed as iteration number); result is the fittest chromosome across latest populations of all islands. Stats of
+ * all islands are aggregated into single stats object and emitted on each migration.
+ * <br><b>Created on:</b> <i>12:40:12 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type this GA works with
+ * @param <P>
+ *            concrete population implementation type
+ */
+@ThreadSafe
+public final class IslandGA<C extends IChromosome, P extends IPopulation<C>> implements IGeneticAlgorithm<C, P> {
+
+    /**
+     * System logger.
+     * <br><b>Created on:</b> <i>12:40:45 AM Oct 16, 2026</i>
+     */
+    private static final Logger LOG = LogManager.getFormatterLogger(IslandGA.class);
+
+    /**
+     * Interval of checking whether GA is still running while island waits for other islands on migration.
+     * <br><b>Created on:</b> <i>8:42:00 AM Oct 16, 2026</i>
+     */
+    private static final long MIGRATION_POLL_MILLIS = 100L;
+
+    /**
+     * Name of this instance.
+     * <br><b>Created on:</b> <i>12:41:03 AM Oct 16, 2026</i>
+     */
+    private final String name;
+
+    /**
+     * Properties for this instance.
+     * <br><b>Created on:</b> <i>12:41:17 AM Oct 16, 2026</i>
+     */
+    private final Properties props;
+
+    /**
+     * Per-island GA configurations. Only their generation step is used, they are never started.
+     * <br><b>Created on:</b> <i>12:41:34 AM Oct 16, 2026</i>
+     */
+    private final List<ReactiveGA<C, P>> islands;
+
+    /**
+     * Number of generations between migrations.
+     * <br><b>Created on:</b> <i>12:41:52 AM Oct 16, 2026</i>
+     */
+    private final int migrationInterval;
+
+    /**
+     * Number of top chromosomes that each island sends on migration.
+     * <br><b>Created on:</b> <i>12:42:09 AM Oct 16, 2026</i>
+     */
+    private final int migrationSize;
+
+    /**
+     * Migration topology.
+     * <br><b>Created on:</b> <i>12:42:25 AM Oct 16, 2026</i>
+     */
+    private final MigrationTopology topology;
+
+    /**
+     * Source of random streams of migration.
+     * <br><b>Created on:</b> <i>8:47:00 AM Oct 16, 2026</i>
+     */
+    private final RngService rngs;
+
+    /**
+     * Latest population of each island.
+     * <br><b>Created on:</b> <i>12:42:41 AM Oct 16, 2026</i>
+     */
+    private final AtomicReferenceArray<P> latest;
+
+    /**
+     * Emigrants of each island for current migration. Written by island threads before arrival at migration phaser,
+     * read by migration action.
+     * <br><b>Created on:</b> <i>12:42:58 AM Oct 16, 2026</i>
+     */
+    private final AtomicReferenceArray<List<C>> emigrants;
+
+    /**
+     * Immigrants for each island for current migration. Written by migration action, read by island threads after
+     * phase advance.
+     * <br><b>Created on:</b> <i>12:43:16 AM Oct 16, 2026</i>
+     */
+    private final AtomicReferenceArray<List<C>> immigrants;
+
+    /**
+     * Subject for emitting aggregated stats of all islands on each migration.
+     * <br><b>Created on:</b> <i>12:43:33 AM Oct 16, 2026</i>
+     */
+    private final PublishSubject<PopulationStats> stats = PublishSubject.create();
+
+    /**
+     * Whether evolution is running. Island threads exit their loops when it becomes false.
+     * <br><b>Created on:</b> <i>12:43:50 AM Oct 16, 2026</i>
+     */
+    private volatile boolean running = false;
+
+    /**
+     * Phaser that islands meet at on migration. Unlike barrier, timed wait on phaser doesn't break it for other
+     * parties, so waiting islands can check {@link #running} periodically. Is terminated when GA stops. New phaser is
+     * created on each start, so it also identifies the run island threads belong to.
+     * <br><b>Created on:</b> <i>12:44:06 AM Oct 16, 2026</i>
+     */
+    private volatile Phaser migrationPhaser = null;
+
+    /**
+     * Executor with one thread per island.
+     * <br><b>Created on:</b> <i>12:44:22 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private ExecutorService executor = null;
+
+    /**
+     * Result of this GA evaluations.
+     * <br><b>Created on:</b> <i>12:44:38 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private PublishSubject<C> resultSubj = null;
+
+    /**
+     * Single that holds result of evolution computation. Is cached.
+     * <br><b>Created on:</b> <i>12:44:54 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private Single<C> result = null;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.IslandGA.<br>
+     * <br><b>PRE-conditions:</b> valid parameters
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:45:20 AM Oct 16, 2026</i>
+     * 
+     * @param name
+     *            name of this GA
+     * @param props
+     *            configuration for this GA
+     * @param islands
+     *            per-island GA configurations
+     * @param migrationInterval
+     *            number of generations between migrations
+     * @param migrationSize
+     *            number of chromosomes sent by each island on migration
+     * @param topology
+     *            migration topology
+     * @param rngs
+     *            source of random streams of migration
+     */
+    private IslandGA(
+        final String name,
+        final Properties props,
+        final List<ReactiveGA<C, P>> islands,
+        final int migrationInterval,
+        final int migrationSize,
+        final MigrationTopology topology,
+        final RngService rngs) {
+
+        this.name = name;
+        this.props = props;
+        this.islands = islands;
+        this.migrationInterval = migrationInterval;
+        this.migrationSize = migrationSize;
+        this.topology = topology;
+        this.rngs = rngs;
+        latest = new AtomicReferenceArray<>(islands.size());
+        emigrants = new AtomicReferenceArray<>(islands.size());
+        immigrants = new AtomicReferenceArray<>(islands.size());
+    }
+
+    /**
+     * Get name of GA.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:46:02 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jtools.INamed#name()
+     * @return name of this GA
+     */
+    @Override
+    public final String name() {
+        return name;
+    }
+
+    /**
+     * Get specific property of this GA.
+     * <br><b>PRE-conditions:</b> non-empty key
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:46:19 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jtools.IConfigured#property(java.lang.String)
+     * @param key
+     *            property key
+     * @return property value or null if there's no value defined for given key
+     */
+    @Override
+    public final String property(final String key) {
+        return props.getProperty(key);
+    }
+
+    /**
+     * Island loop. Evolves population of given island generation by generation until GA is stopped, migrating
+     * chromosomes every {@link #migrationInterval} generations. Island thread is bound to the run it was started for by
+     * migration phaser of that run : once the run is stopped the thread exits, and it never arrives at phaser of the next
+     * run nor terminates or fails it even if it was busy in strategies when GA was restarted.
+     * <br><b>PRE-conditions:</b> valid island index, non-null run
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> strategies of island are called, migration phaser is awaited
+     * <br><b>Created on:</b> <i>12:47:10 AM Oct 16, 2026</i>
+     * 
+     * @param index
+     *            island index
+     * @param startTime
+     *            time when evolution was started
+     * @param run
+     *            migration phaser of current run, identifies the run
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    private final void evolveIsland(final int index, final Instant startTime, final Phaser run) {
+        final ReactiveGA<C, P> island = islands.get(index);
+        try {
+            P population = island.initialPopulation().toBlocking().single();
+            for (int generation = 0; isCurrent(run); generation++) {
+                latest.set(index, population);
+                final Duration runtime = Duration.between(startTime, Instant.now());
+                LOG.debug("island iteration : island = [%d] ; iteration = [%d] ; population = [%s]",
+                    index, generation, population);
+                if (island.shouldTerminate(population, generation, runtime)) {
+                    LOG.debug("termination condition met : island = [%d]", index);
+                    terminate(run);
+                    return;
+                }
+                if (generation > 0 && generation % migrationInterval == 0) {
+                    if (!isCurrent(run)) {
+                        return;
+                    }
+                    emigrants.set(index, fittest(population, migrationSize));
+                    if (!awaitMigration(run)) {
+                        LOG.debug("island stopped while waiting for migration : island = [%d]", index);
+                        return;
+                    }
+                    population = island.immigrate(population, immigrants.get(index));
+                    latest.set(index, population);
+                }
+                population = island.buildIterationPipeline(population, generation).toBlocking().single();
+            }
+        } catch (final InterruptedException e) {
+            LOG.debug("island interrupted while waiting for migration : island = [%d]", index);
+        } catch (final RuntimeException e) {
+            if (isCurrent(run)) {
+                LOG.error("error in island evolution : island = [%d]", index, e);
+                fail(run, e);
+            } else { // interrupted or rejected by shut down breeding pool because GA is stopped
+                LOG.debug("island stopped : island = [%d]", index);
+            }
+        }
+    }
+
+    /**
+     * Arrive at migration phaser of given run and wait until all islands arrive and migration is done, checking every
+     * {@link #MIGRATION_POLL_MILLIS} whether the run is still current.
+     * <br><b>PRE-conditions:</b> non-null run
+     * <br><b>POST-conditions:</b> immigrants of current migration are published if result is true
+     * <br><b>Side-effects:</b> current thread waits for other islands
+     * <br><b>Created on:</b> <i>8:42:30 AM Oct 16, 2026</i>
+     * 
+     * @param run
+     *            migration phaser of the run island thread belongs to
+     * @return true if migration is done, false if the run was stopped before that
+     * @throws InterruptedException
+     *             if island thread was interrupted while waiting
+     */
+    private final boolean awaitMigration(final Phaser run) throws InterruptedException {
+        final int phase = run.arrive(); // phaser of stopped run is terminated, so late island never waits there
+        while (phase >= 0 && isCurrent(run)) {
+            try {
+                return run.awaitAdvanceInterruptibly(phase, MIGRATION_POLL_MILLIS, TimeUnit.MILLISECONDS) >= 0
+                    && isCurrent(run);
+            } catch (final TimeoutException e) {
+                // other islands are still breeding, keep waiting unless GA is stopped
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether run of given migration phaser is the current one and is still running.
+     * <br><b>PRE-conditions:</b> non-null run
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:40:00 AM Oct 16, 2026</i>
+     * 
+     * @param run
+     *            migration phaser of the run
+     * @return true if given run is current and running
+     */
+    private final boolean isCurrent(final Phaser run) {
+        return running && migrationPhaser == run;
+    }
+
+    /**
+     * Get top chromosomes of given population.
+     * <br><b>PRE-conditions:</b> non-null population, positive count
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:49:31 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population to take chromosomes from
+     * @param count
+     *            max number of chromosomes to take
+     * @return fittest chromosomes sorted by fitness (descending)
+     */
+    private final List<C> fittest(final P population, final int count) {
+        return population.chromosomes()
+            .toList()
+            .map(FitnessOrder::sortedDescending)
+            .map(sorted -> new ArrayList<>(sorted.subList(0, Math.min(count, sorted.size()))))
+            .toBlocking()
+            .single();
+    }
+
+    /**
+     * Migration action. Distributes emigrants of all islands according to topology and emits aggregated stats.
+     * Executed by the last island that arrives at migration phaser while all other islands are waiting. Destinations of
+     * {@link MigrationTopology#RANDOM} are drawn from stream of {@link RngService} keyed by migration number, so they
+     * are the same for fixed seed.
+     * <br><b>PRE-conditions:</b> all islands have published their emigrants
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> immigrants are published, stats are emitted
+     * <br><b>Created on:</b> <i>12:51:04 AM Oct 16, 2026</i>
+     * 
+     * @param migration
+     *            number of migration
+     */
+    private final void migrate(final int migration) {
+        final int count = islands.size();
+        final Rng rng = rngs.stream(migration, RngService.MIGRATION_STREAM);
+        for (int i = 0; i < count; i++) {
+            immigrants.set(i, new ArrayList<>());
+        }
+        for (int from = 0; from < count; from++) {
+            final List<C> sent = emigrants.get(from);
+            switch (topology) {
+                case RING:
+                    immigrants.get((from + 1) % count).addAll(sent);
+                    break;
+                case FULLY_CONNECTED:
+                    for (int to = 0; to < count; to++) {
+                        if (to != from) {
+                            immigrants.get(to).addAll(sent);
+                        }
+                    }
+                    break;
+                case RANDOM:
+                    if (count > 1) {
+                        final int to = (from + 1 + rng.nextInt(count - 1)) % count;
+                        immigrants.get(to).addAll(sent);
+                    }
+                    break;
+                default:
+                    throw new AssertionError(topology);
+            }
+        }
+        final List<PopulationStats> islandsStats = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            islandsStats.add(latest.get(i).stats());
+        }
+        stats.onNext(aggregate(islandsStats));
+    }
+
+    /**
+     * Aggregate stats of several populations into stats of one population that contains all of them.
+     * <br><b>PRE-conditions:</b> non-empty islandsStats
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:53:22 AM Oct 16, 2026</i>
+     * 
+     * @param islandsStats
+     *            stats of each island
+     * @return aggregated stats
+     */
+    private static final PopulationStats aggregate(final List<PopulationStats> islandsStats) {
+        final PopulationStatsAccumulator acc = new PopulationStatsAccumulator();
+        int eliteCount = 0;
+        for (final PopulationStats islandStats : islandsStats) {
+            acc.merge(PopulationStatsAccumulator.of(islandStats));
+            eliteCount += islandStats.eliteCount();
+        }
+        return acc.toStats(eliteCount);
+    }
+
+    /**
+     * Publish fittest chromosome of all islands as result and stop islands. Call on behalf of run that is not current
+     * anymore is ignored.
+     * <br><b>PRE-conditions:</b> non-null run
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> GA becomes not running
+     * <br><b>Created on:</b> <i>12:55:40 AM Oct 16, 2026</i>
+     * 
+     * @param run
+     *            migration phaser of the run
+     */
+    @SuppressWarnings("boxing")
+    private final synchronized void terminate(final Phaser run) {
+        if (!isCurrent(run)) {
+            return;
+        }
+        running = false;
+        C fittest = null;
+        for (int i = 0; i < latest.length(); i++) {
+            final P population = latest.get(i);
+            final C candidate = (population == null) ? null : population.fittest();
+            if (candidate != null && (fittest == null || candidate.fitnessValue() > fittest.fitnessValue())) {
+                fittest = candidate;
+            }
+        }
+        resultSubj.onNext(fittest);
+        migrationPhaser.forceTermination(); // release islands that are waiting for migration
+        executor.shutdownNow(); // interrupt islands that are still breeding
+        islands.forEach(ReactiveGA::closeBreedPool);
+    }
+
+    /**
+     * Publish error as result and stop islands. Call on behalf of run that is not current anymore is ignored.
+     * <br><b>PRE-conditions:</b> non-null run and error
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> GA becomes not running
+     * <br><b>Created on:</b> <i>12:56:18 AM Oct 16, 2026</i>
+     * 
+     * @param run
+     *            migration phaser of the run
+     * @param error
+     *            cause of evolution failure
+     */
+    private final synchronized void fail(final Phaser run, final Throwable error) {
+        if (!isCurrent(run)) {
+            return;
+        }
+        running = false;
+        resultSubj.onError(error);
+        migrationPhaser.forceTermination();
+        executor.shutdownNow();
+        islands.forEach(ReactiveGA::closeBreedPool);
+    }
+
+    /**
+     * Start genetic algorithm.
+     * <br><b>PRE-conditions:</b> this GA is stopped (or haven't been run)
+     * <br><b>POST-conditions:</b> this GA becomes running
+     * <br><b>Side-effects:</b> internal state is changed, one thread per island is started, breeding pools of islands
+     * are created
+     * <br><b>Created on:</b> <i>12:57:03 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#start()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized void start() {
+        if (executor != null) {
+            LOG.error("already started");
+            return;
+        }
+        final int count = islands.size();
+        executor = Executors.newFixedThreadPool(count, new IslandThreadFactory());
+        resultSubj = PublishSubject.create();
+        result = resultSubj.take(1).cache().toSingle();
+        migrationPhaser = new MigrationPhaser(count);
+        for (int i = 0; i < count; i++) {
+            latest.set(i, null);
+            emigrants.set(i, Collections.emptyList());
+            immigrants.set(i, Collections.emptyList());
+        }
+        islands.forEach(ReactiveGA::openBreedPool);
+        running = true;
+        final Instant startTime = Instant.now();
+        final Phaser run = migrationPhaser;
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            executor.execute(() -> evolveIsland(index, startTime, run));
+        }
+        LOG.info("GA started");
+    }
+
+    /**
+     * Stop this genetic algorithm.
+     * <br><b>PRE-conditions:</b> this GA is running
+     * <br><b>POST-conditions:</b> this GA becomes stopped
+     * <br><b>Side-effects:</b> internal state is changed, island threads are stopped
+     * <br><b>Created on:</b> <i>12:58:11 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#stop()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized void stop() {
+        if (executor == null) {
+            LOG.error("already stopped");
+            return;
+        }
+        running = false;
+        migrationPhaser.forceTermination(); // release islands that are waiting for migration
+        executor.shutdownNow(); // interrupt island threads
+        executor = null;
+        islands.forEach(ReactiveGA::closeBreedPool);
+        resultSubj.onCompleted();
+        resultSubj = null;
+        result = null;
+        LOG.info("GA stopped");
+    }
+
+    /**
+     * Get source of aggregated stats of all islands on each migration.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:58:47 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#stats()
+     * @return observable that emits aggregated stats of all islands
+     */
+    @Override
+    public final Observable<PopulationStats> stats() {
+        return stats.asObservable();
+    }
+
+    /**
+     * Get result of this GA evaluations.
+     * <br><b>PRE-conditions:</b> GA is running
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:59:15 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#result()
+     * @return future that holds fittest chromosome across all islands
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized Single<C> result() throws IllegalStateException {
+        if (executor == null) { // not running
+            throw new IllegalStateException("GA is not running");
+        }
+        return result;
+    }
+
+    /**
+     * Get lineage store of this GA : the store all islands share (migrants keep their lineage ids, so ids must come
+     * from one store).
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:57:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#lineage()
+     * @return lineage store of islands, null if lineage is not tracked
+     */
+    @Override
+    public final ILineageStore lineage() {
+        return islands.get(0).lineage();
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Topology of migration between islands.
+     * <br><b>Created on:</b> <i>1:00:02 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     */
+    public static enum MigrationTopology {
+
+        /**
+         * Each island sends its emigrants to the next island, the last one sends to the first one.
+         * <br><b>Created on:</b> <i>1:00:31 AM Oct 16, 2026</i>
+         */
+        RING,
+
+        /**
+         * Each island sends its emigrants to all other islands.
+         * <br><b>Created on:</b> <i>1:00:49 AM Oct 16, 2026</i>
+         */
+        FULLY_CONNECTED,
+
+        /**
+         * Each island sends its emigrants to one randomly chosen other island on each migration.
+         * <br><b>Created on:</b> <i>1:01:07 AM Oct 16, 2026</i>
+         */
+        RANDOM
+
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Phaser that islands meet at on migration. Migration is performed on each phase advance by the last arriving
+     * island. Failure of migration fails the whole GA and terminates phaser, so waiting islands are released.
+     * <br><b>Created on:</b> <i>8:43:10 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     */
+    private final class MigrationPhaser extends Phaser {
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.IslandGA.MigrationPhaser.<br>
+         * <br><b>PRE-conditions:</b> positive parties
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>8:43:40 AM Oct 16, 2026</i>
+         * 
+         * @param parties
+         *            number of islands
+         */
+        MigrationPhaser(final int parties) {
+            super(parties);
+        }
+
+        /**
+         * Perform migration when all islands have arrived.
+         * <br><b>PRE-conditions:</b> all islands have published their emigrants
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> immigrants are published, stats are emitted
+         * <br><b>Created on:</b> <i>8:44:10 AM Oct 16, 2026</i>
+         * 
+         * @see java.util.concurrent.Phaser#onAdvance(int, int)
+         * @param phase
+         *            number of migration
+         * @param registeredParties
+         *            number of islands
+         * @return true if phaser should terminate (GA is stopped or migration failed)
+         */
+        @SuppressWarnings("nls")
+        @Override
+        protected final boolean onAdvance(final int phase, final int registeredParties) {
+            if (!isCurrent(this)) {
+                return true;
+            }
+            try {
+                migrate(phase);
+                return false;
+            } catch (final RuntimeException e) {
+                LOG.error("error in migration", e);
+                fail(this, e);
+                return true;
+            }
+        }
+
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Factory of daemon threads for islands.
+     * <br><b>Created on:</b> <i>1:01:40 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     */
+    private final class IslandThreadFactory implements ThreadFactory {
+
+        /**
+         * Number of created threads.
+         * <br><b>Created on:</b> <i>1:02:02 AM Oct 16, 2026</i>
+         */
+        private int created = 0;
+
+
+        /**
+         * Create new daemon island thread.
+         * <br><b>PRE-conditions:</b> non-null runnable
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>1:02:25 AM Oct 16, 2026</i>
+         * 
+         * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+         * @param runnable
+         *            island loop
+         * @return new thread
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public final synchronized Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, name + "-island-" + created++);
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Builder for {@link IslandGA} instance.
+     * <br><b>Created on:</b> <i>1:03:10 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type for target GA
+     * @param <P>
+     *            concrete population implementation type for target GA
+     */
+    @NotThreadSafe
+    public static final class IslandGABuilder<C extends IChromosome, P extends IPopulation<C>>
+        implements
+            InstanceBuilder<IslandGA<C, P>>,
+            INameable,
+            IConfigurable {
+
+        /**
+         * Default number of generations between migrations.
+         * <br><b>Created on:</b> <i>1:03:41 AM Oct 16, 2026</i>
+         */
+        private static final int MIGRATION_INTERVAL_DEFAULT = 10;
+
+        /**
+         * Default number of chromosomes sent by each island on migration.
+         * <br><b>Created on:</b> <i>1:03:58 AM Oct 16, 2026</i>
+         */
+        private static final int MIGRATION_SIZE_DEFAULT = 2;
+
+        /**
+         * Name for target GA.
+         * <br><b>Created on:</b> <i>1:04:15 AM Oct 16, 2026</i>
+         */
+        private String name = ""; //$NON-NLS-1$
+
+        /**
+         * Properties for target GA.
+         * <br><b>Created on:</b> <i>1:04:31 AM Oct 16, 2026</i>
+         */
+        private final Properties props = new Properties();
+
+        /**
+         * Producer of configured builders of island GAs by island index.
+         * <br><b>Created on:</b> <i>1:04:48 AM Oct 16, 2026</i>
+         */
+        private IntFunction<ReactiveGA.ReactiveGABuilder<C, P>> island = null;
+
+        /**
+         * Number of islands of target GA.
+         * <br><b>Created on:</b> <i>1:05:04 AM Oct 16, 2026</i>
+         */
+        private int islandsCount = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Number of generations between migrations for target GA.
+         * <br><b>Created on:</b> <i>1:05:21 AM Oct 16, 2026</i>
+         */
+        private int migrationInterval = MIGRATION_INTERVAL_DEFAULT;
+
+        /**
+         * Number of chromosomes sent by each island on migration for target GA.
+         * <br><b>Created on:</b> <i>1:05:38 AM Oct 16, 2026</i>
+         */
+        private int migrationSize = MIGRATION_SIZE_DEFAULT;
+
+        /**
+         * Migration topology for target GA.
+         * <br><b>Created on:</b> <i>1:05:55 AM Oct 16, 2026</i>
+         */
+        private MigrationTopology topology = MigrationTopology.RING;
+
+        /**
+         * Master seed of random streams of islands and migration for target GA, null for random one.
+         * <br><b>Created on:</b> <i>8:47:30 AM Oct 16, 2026</i>
+         */
+        private Long seed = null;
+
+
+        /**
+         * Build target genetic algorithm. Island producer is called once per island, each produced builder is seeded
+         * with seed derived from master seed and island index and then built. Islands must either share one lineage
+         * store or not track lineage at all, since migrants carry their lineage ids between islands.
+         * <br><b>PRE-conditions:</b> all necessary parameters were specified
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> island producer is called
+         * <br><b>Created on:</b> <i>1:06:30 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#build()
+         * @return new instance of {@link IslandGA} that is configured from current builder state
+         * @throws IllegalStateException
+         *             if wrong configuration was detected or islands have different lineage stores
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public final IslandGA<C, P> build() throws IllegalStateException {
+            if (!isValid()) {
+                throw new IllegalStateException();
+            }
+            final long masterSeed = (seed == null) ? RngService.randomSeed() : seed.longValue();
+            final List<ReactiveGA<C, P>> islands = new ArrayList<>(islandsCount);
+            for (int i = 0; i < islandsCount; i++) {
+                final ReactiveGA.ReactiveGABuilder<C, P> islandBuilder = Validators.nonNull(island.apply(i));
+                islandBuilder.seed(Rng.derive(masterSeed, i));
+                islands.add(islandBuilder.build());
+            }
+            final ILineageStore lineage = islands.get(0).lineage();
+            for (final ReactiveGA<C, P> built : islands) {
+                if (built.lineage() != lineage) {
+                    throw new IllegalStateException("islands have different lineage stores");
+                }
+            }
+            final Properties propsCopy = new Properties();
+            propsCopy.putAll(props);
+            return new IslandGA<>(name,
+                propsCopy,
+                Collections.unmodifiableList(islands),
+                migrationInterval,
+                migrationSize,
+                topology,
+                new RngService(masterSeed));
+        }
+
+        /**
+         * Check if current builder state is valid and target GA can be built.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>1:07:04 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#isValid()
+         * @return true if builder is valid and GA can be built, false otherwise
+         */
+        @Override
+        public final boolean isValid() {
+            if (name == null) {
+                return false;
+            }
+            if (island == null) {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Set name for target GA.
+         * <br><b>PRE-conditions:</b> non-empty name
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>1:07:31 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.INameable#name(java.lang.String)
+         * @param name
+         *            name for target GA
+         * @return previous name
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final String name(final String name) {
+            Validators.nonEmpty(name);
+            final String prevName = this.name;
+            this.name = name;
+            return prevName;
+        }
+
+        /**
+         * Get name for target GA.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>1:07:53 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.INamed#name()
+         * @return current name for target GA
+         */
+        @Override
+        public final String name() {
+            return name;
+        }
+
+        /**
+         * Set property for target GA.
+         * <br><b>PRE-conditions:</b> non-empty key, non-null value
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>1:08:15 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigurable#property(java.lang.String, java.lang.String)
+         * @param key
+         *            key for property
+         * @param value
+         *            property value
+         * @return previous property value
+         */
+        @Override
+        public final String property(final String key, final String value) {
+            Validators.nonEmpty(key);
+            Validators.nonNull(value);
+            return (String) props.setProperty(key, value);
+        }
+
+        /**
+         * Remove property from target GA.
+         * <br><b>PRE-conditions:</b> non-empty key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>1:08:37 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigurable#removeProperty(java.lang.String)
+         * @param key
+         *            property key
+         * @return previous value of property, or null if association wasn't established
+         */
+        @Override
+        public final String removeProperty(final String key) {
+            Validators.nonEmpty(key);
+            return (String) props.remove(key);
+        }
+
+        /**
+         * Get property for given key.
+         * <br><b>PRE-conditions:</b> non-empty key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>1:08:59 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigured#property(java.lang.String)
+         * @param key
+         *            property key
+         * @return property value, or null if there's no such property
+         */
+        @Override
+        public final String property(final String key) {
+            Validators.nonEmpty(key);
+            return props.getProperty(key);
+        }
+
+        /**
+         * Set producer of fully configured builders of island GAs. It is called once per island with island index
+         * (0 &lt;= index &lt; islandsCount) and must return new builder on each call, so islands may have different
+         * strategies. Seed of returned builder is overridden by seed derived from master seed of this builder (see
+         * {@link #seed(long)}). Termination condition of each island configuration is checked on each island
+         * generation.
+         * <br><b>PRE-conditions:</b> non-null island
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>1:09:30 AM Oct 16, 2026</i>
+         * 
+         * @param island
+         *            producer of island GA builders by island index
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IslandGABuilder<C, P> island(final IntFunction<ReactiveGA.ReactiveGABuilder<C, P>> island) {
+            Validators.nonNull(island);
+            this.island = island;
+            return this;
+        }
+
+        /**
+         * Set number of islands. Each island is evolved on its own thread. If not specified, number of available
+         * processors is used.
+         * <br><b>PRE-conditions:</b> positive islandsCount
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>1:09:58 AM Oct 16, 2026</i>
+         * 
+         * @param islandsCount
+         *            number of islands
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IslandGABuilder<C, P> islandsCount(final int islandsCount) {
+            Validators.positive(islandsCount);
+            this.islandsCount = islandsCount;
+            return this;
+        }
+
+        /**
+         * Set number of generations between migrations. If not specified, 10 is used.
+         * <br><b>PRE-conditions:</b> positive migrationInterval
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>1:10:21 AM Oct 16, 2026</i>
+         * 
+         * @param migrationInterval
+         *            number of generations between migrations
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IslandGABuilder<C, P> migrationInterval(final int migrationInterval) {
+            Validators.positive(migrationInterval);
+            this.migrationInterval = migrationInterval;
+            return this;
+        }
+
+        /**
+         * Set number of top chromosomes sent by each island on migration. If not specified, 2 is used.
+         * <br><b>PRE-conditions:</b> positive migrationSize
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>1:10:44 AM Oct 16, 2026</i>
+         * 
+         * @param migrationSize
+         *            number of migrating chromosomes per island
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IslandGABuilder<C, P> migrationSize(final int migrationSize) {
+            Validators.positive(migrationSize);
+            this.migrationSize = migrationSize;
+            return this;
+        }
+
+        /**
+         * Set migration topology. If not specified, {@link MigrationTopology#RING} is used.
+         * <br><b>PRE-conditions:</b> non-null topology
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>1:11:07 AM Oct 16, 2026</i>
+         * 
+         * @param topology
+         *            migration topology
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IslandGABuilder<C, P> topology(final MigrationTopology topology) {
+            Validators.nonNull(topology);
+            this.topology = topology;
+            return this;
+        }
+
+        /**
+         * Set master seed of the whole run. Each island is seeded with {@link Rng#derive(long, long)} of master seed and
+         * island index, migration streams (only {@link MigrationTopology#RANDOM} uses them) are derived from master
+         * seed too, so with fixed seed every island makes same random choices on each run while islands stay
+         * independent of each other. If not specified, random seed is used.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>8:48:00 AM Oct 16, 2026</i>
+         * 
+         * @param seed
+         *            master seed
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IslandGABuilder<C, P> seed(final long seed) {
+            this.seed = Long.valueOf(seed);
+            return this;
+        }
+
+    }
+
+}
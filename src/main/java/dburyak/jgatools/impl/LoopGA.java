@@ -0,0 +1,1344 @@
+package dburyak.jgatools.impl;
+
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IChromosome.IChromosomeBuilder;
+import dburyak.jgatools.ICrossoverStrategy;
+import dburyak.jgatools.IGeneticAlgorithm;
+import dburyak.jgatools.IIndexedPopulation;
+import dburyak.jgatools.IIndexedSelectionStrategy;
+import dburyak.jgatools.ILineageStore;
+import dburyak.jgatools.IMatesSelector;
+import dburyak.jgatools.IMutationStrategy;
+import dburyak.jgatools.IPopulation;
+import dburyak.jgatools.IPopulation.IPopulationBuilder;
+import dburyak.jgatools.ISelectionPredicate;
+import dburyak.jgatools.ISelectionStrategy;
+import dburyak.jgatools.ITerminationCondition;
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+import rx.Observable;
+import rx.Single;
+import rx.subjects.PublishSubject;
+
+
+/**
+ * Project : jgatools.<br>
+ * Generational GA driven by plain loop on single dedicated thread. Implements the same algorithm as
+ * {@link ReactiveGA} (elite and non-elite of current population get older, mutants and offsprings are added, buffer is
+ * filled up with appeared chromosomes and natural selection produces next generation) and is configured with the same
+ * builder and strategy interfaces, but no observable pipeline is built per generation and no scheduler hops are
+ * made : per-generation overhead is a few list operations, which matters for small populations and cheap fitness
+ * functions.<br>
+ * Breeding and fitness evaluation are fanned out in batches to workers executor, the first batch is processed by loop
+ * thread itself. If no executor is configured, GA uses virtual thread per task executor when running on JDK that
+ * provides it, and fixed pool of daemon threads (one per available processor) otherwise. Strategies must be
+ * thread-safe, since they are called by several workers concurrently.
+ * <br><b>Created on:</b> <i>3:30:05 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type this GA works with
+ * @param <P>
+ *            concrete population implementation type
+ */
+@ThreadSafe
+public final class LoopGA<C extends IChromosome, P extends IPopulation<C>> implements IGeneticAlgorithm<C, P> {
+
+    /**
+     * System logger.
+     * <br><b>Created on:</b> <i>3:30:41 AM Oct 16, 2026</i>
+     */
+    private static final Logger LOG = LogManager.getFormatterLogger(LoopGA.class);
+
+    /**
+     * Name of this instance.
+     * <br><b>Created on:</b> <i>3:30:58 AM Oct 16, 2026</i>
+     */
+    private final String name;
+
+    /**
+     * Properties of this instance.
+     * <br><b>Created on:</b> <i>3:31:10 AM Oct 16, 2026</i>
+     */
+    private final Properties props;
+
+    /**
+     * Termination condition.
+     * <br><b>Created on:</b> <i>3:31:22 AM Oct 16, 2026</i>
+     */
+    private final ITerminationCondition<C, P> termCondition;
+
+    /**
+     * Source of new chromosomes "out of nowhere".
+     * <br><b>Created on:</b> <i>3:31:35 AM Oct 16, 2026</i>
+     */
+    private final Observable<C> appearSource;
+
+    /**
+     * Breeding step : mutation and crossover strategies and fitness evaluation of their results.
+     * <br><b>Created on:</b> <i>3:31:48 AM Oct 16, 2026</i>
+     */
+    private final Breeder<C> breeder;
+
+    /**
+     * Source of random streams for strategies.
+     * <br><b>Created on:</b> <i>5:58:20 AM Oct 16, 2026</i>
+     */
+    private final RngService rngs;
+
+    /**
+     * Lineage store strategies of this GA are bound to, null if lineage is not tracked.
+     * <br><b>Created on:</b> <i>8:54:20 AM Oct 16, 2026</i>
+     */
+    private final ILineageStore lineage;
+
+    /**
+     * Natural selection strategy.
+     * <br><b>Created on:</b> <i>3:33:06 AM Oct 16, 2026</i>
+     */
+    private final ISelectionStrategy<C> selectFunc;
+
+    /**
+     * Size of "buffer" intermediate zone.
+     * <br><b>Created on:</b> <i>3:33:19 AM Oct 16, 2026</i>
+     */
+    private final int bufferSize;
+
+    /**
+     * Max number of parents that are bred (and offsprings of which are evaluated) by single worker task.
+     * <br><b>Created on:</b> <i>3:33:32 AM Oct 16, 2026</i>
+     */
+    private final int fitnessBatchSize;
+
+    /**
+     * Supplier of population builders.
+     * <br><b>Created on:</b> <i>3:33:45 AM Oct 16, 2026</i>
+     */
+    private final Supplier<IPopulationBuilder<C, P>> populationBuilderProducer;
+
+    /**
+     * Workers executor provided by user, null if GA creates its own executor on each start.
+     * <br><b>Created on:</b> <i>3:34:11 AM Oct 16, 2026</i>
+     */
+    private final ExecutorService userExecutor;
+
+    /**
+     * Whether evolution loop should keep running.
+     * <br><b>Created on:</b> <i>3:34:24 AM Oct 16, 2026</i>
+     */
+    private volatile boolean running = false;
+
+    /**
+     * Thread that runs evolution loop, null if GA is not running.
+     * <br><b>Created on:</b> <i>3:34:37 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private Thread loopThread = null;
+
+    /**
+     * Workers executor of current run.
+     * <br><b>Created on:</b> <i>3:34:50 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private ExecutorService executor = null;
+
+    /**
+     * Result subject.
+     * <br><b>Created on:</b> <i>3:35:03 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private PublishSubject<C> resultSubj = null;
+
+    /**
+     * Result of current run.
+     * <br><b>Created on:</b> <i>3:35:16 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private Single<C> result = null;
+
+    /**
+     * Stats subject.
+     * <br><b>Created on:</b> <i>3:35:29 AM Oct 16, 2026</i>
+     */
+    private final PublishSubject<PopulationStats> stats = PublishSubject.create();
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.LoopGA.<br>
+     * <br><b>PRE-conditions:</b> all arguments are valid (checked by builder)
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:36:02 AM Oct 16, 2026</i>
+     * 
+     * @param name
+     *            name of this GA
+     * @param props
+     *            configuration for this GA
+     * @param termCondition
+     *            termination condition
+     * @param appearSource
+     *            source of new generated chromosomes
+     * @param mutationSelector
+     *            selector for mutating chromosomes
+     * @param mutationFunc
+     *            mutation strategy
+     * @param parent1Selector
+     *            selector for choosing first parent for crossover
+     * @param matesSelector
+     *            selector for choosing other mates for crossover
+     * @param crossoverFunc
+     *            crossover strategy
+     * @param matesSelectTimeout
+     *            timeout for detecting incompatible population size and number of mates parameters
+     * @param selectFunc
+     *            natural selection strategy
+     * @param bufferSize
+     *            size of "buffer" intermediate zone
+     * @param fitnessBatchSize
+     *            max number of parents bred by single worker task
+     * @param populationBuilderProducer
+     *            supplier of population builder instances
+     * @param chromosomeBuilder
+     *            supplier of chromosome builder instances
+     * @param userExecutor
+     *            workers executor, null for default one
+     * @param rngs
+     *            source of random streams for strategies
+     * @param lineage
+     *            lineage store strategies are bound to, null if lineage is not tracked
+     */
+    private LoopGA(
+        final String name,
+        final Properties props,
+        final ITerminationCondition<C, P> termCondition,
+        final Observable<C> appearSource,
+        final ISelectionPredicate<C> mutationSelector,
+        final IMutationStrategy<C> mutationFunc,
+        final ISelectionPredicate<C> parent1Selector,
+        final IMatesSelector<C> matesSelector,
+        final ICrossoverStrategy<C> crossoverFunc,
+        final Duration matesSelectTimeout,
+        final ISelectionStrategy<C> selectFunc,
+        final int bufferSize,
+        final int fitnessBatchSize,
+        final Supplier<IPopulationBuilder<C, P>> populationBuilderProducer,
+        final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder,
+        final ExecutorService userExecutor,
+        final RngService rngs,
+        final ILineageStore lineage) {
+
+        this.name = name;
+        this.props = props;
+        this.termCondition = termCondition;
+        this.appearSource = appearSource;
+        this.rngs = rngs;
+        this.lineage = lineage;
+        this.breeder = new Breeder<>(mutationSelector,
+            mutationFunc,
+            parent1Selector,
+            matesSelector,
+            crossoverFunc,
+            matesSelectTimeout,
+            chromosomeBuilder,
+            rngs);
+        this.selectFunc = selectFunc;
+        this.bufferSize = bufferSize;
+        this.fitnessBatchSize = fitnessBatchSize;
+        this.populationBuilderProducer = populationBuilderProducer;
+        this.userExecutor = userExecutor;
+    }
+
+    /**
+     * Create default workers executor : virtual thread per task executor if JDK provides it, fixed pool of daemon
+     * threads otherwise.
+     * <br><b>PRE-conditions:</b> non-null name
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:37:15 AM Oct 16, 2026</i>
+     * 
+     * @param name
+     *            name of GA, used for naming of worker threads
+     * @return new workers executor
+     */
+    @SuppressWarnings("nls")
+    private static final ExecutorService newDefaultExecutor(final String name) {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            LOG.debug("virtual threads are not available, using fixed pool : cause = [%s]", e.toString());
+        }
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            final Thread thread = new Thread(runnable, name + "-loop-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get name of GA.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:38:02 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jtools.INamed#name()
+     * @return name of this GA
+     */
+    @Override
+    public final String name() {
+        return name;
+    }
+
+    /**
+     * Get specific property of this GA.
+     * <br><b>PRE-conditions:</b> non-empty key
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:38:20 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jtools.IConfigured#property(java.lang.String)
+     * @param key
+     *            property key
+     * @return property value or null if there's no value defined for given key
+     */
+    @Override
+    public final String property(final String key) {
+        return props.getProperty(key);
+    }
+
+    /**
+     * Evolution loop. Builds initial population and produces generations until termination condition is met or GA is
+     * stopped. Loop is bound to the run it was started for : once that run is stopped the loop exits, and it never
+     * publishes stats, result or error to the next run even if it was busy in strategies when GA was restarted.
+     * <br><b>PRE-conditions:</b> GA is running
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> strategies are called, stats and result are published
+     * <br><b>Created on:</b> <i>3:39:11 AM Oct 16, 2026</i>
+     * 
+     * @param workers
+     *            workers executor of current run
+     * @param run
+     *            result subject of current run, identifies the run
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    private final void evolve(final ExecutorService workers, final PublishSubject<C> run) {
+        final Instant startTime = Instant.now();
+        try {
+            P population = populationBuilderProducer.get()
+                .chromosomes(appearSource)
+                .build();
+            for (int iteration = 0; isCurrent(run); iteration++) {
+                final Duration runtime = Duration.between(startTime, Instant.now());
+                LOG.debug("evolution iteration : iteration = [%d] ; duration = [%s] ; population = [%s]",
+                    iteration, runtime, population);
+                if (termCondition.shouldTerminate(population, iteration, runtime)) {
+                    LOG.debug("termination condition met");
+                    terminate(run, population.fittest());
+                    return;
+                }
+                if (!publishStats(run, population.stats())) {
+                    return;
+                }
+                population = nextGeneration(population, iteration, workers);
+            }
+        } catch (final InterruptedException e) {
+            LOG.debug("evolution loop interrupted");
+        } catch (final RuntimeException e) {
+            if (isCurrent(run)) {
+                LOG.error("error in evolution loop", e);
+                fail(run, e);
+            } else {
+                LOG.debug("error in evolution loop of stopped run : cause = [%s]", e.toString());
+            }
+        }
+    }
+
+    /**
+     * Check whether given run is the current one and is still running.
+     * <br><b>PRE-conditions:</b> non-null run
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:12:00 AM Oct 16, 2026</i>
+     * 
+     * @param run
+     *            result subject of the run
+     * @return true if given run is current and running
+     */
+    private final synchronized boolean isCurrent(final PublishSubject<C> run) {
+        return running && resultSubj == run;
+    }
+
+    /**
+     * Publish stats of population on behalf of given run. Stats of run that is not current anymore are dropped.
+     * <br><b>PRE-conditions:</b> non-null run and populationStats
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> stats are published
+     * <br><b>Created on:</b> <i>10:13:00 AM Oct 16, 2026</i>
+     * 
+     * @param run
+     *            result subject of the run
+     * @param populationStats
+     *            stats of current population of the run
+     * @return true if stats were published, false if run is not current anymore
+     */
+    private final synchronized boolean publishStats(final PublishSubject<C> run,
+        final PopulationStats populationStats) {
+
+        if (!isCurrent(run)) {
+            return false;
+        }
+        stats.onNext(populationStats);
+        return true;
+    }
+
+    /**
+     * Core algorithm function. Performs mutation, crossover and selection on current population and produces next
+     * generation population.
+     * <br><b>PRE-conditions:</b> non-null population and workers
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> strategies are called, appear source is subscribed
+     * <br><b>Created on:</b> <i>3:40:30 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            current population
+     * @param iteration
+     *            number of current iteration, keys random streams of strategies
+     * @param workers
+     *            workers executor for breeding and evaluation
+     * @return next generation population
+     * @throws InterruptedException
+     *             if GA was stopped while waiting for workers
+     */
+    private final P nextGeneration(final P population, final int iteration, final ExecutorService workers)
+        throws InterruptedException {
+
+        final List<C> origin = chromosomesOf(population);
+        final int eliteCount = Math.min(population.eliteCount(), origin.size());
+
+        // first batch is bred by loop thread itself, so small populations never pay for thread hand-off
+        final int firstBatchEnd = Math.min(origin.size(), fitnessBatchSize);
+        final IMatesSelector<C> mates = breeder.matesFor(origin); // shared by all batches of generation
+        final List<Future<List<C>>> batches = new ArrayList<>();
+        for (int from = firstBatchEnd; from < origin.size(); from += fitnessBatchSize) {
+            final int batchFrom = from;
+            final int batchTo = Math.min(origin.size(), from + fitnessBatchSize);
+            batches.add(workers.submit(() -> breeder.breed(origin, mates, batchFrom, batchTo, iteration)));
+        }
+
+        final List<C> buffer = new ArrayList<>(bufferSize);
+        buffer.addAll(origin.subList(0, eliteCount)); // original elite, aged by next population
+        buffer.addAll(breeder.breed(origin, mates, 0, firstBatchEnd, iteration)); // mutants and offsprings
+        for (final Future<List<C>> batch : batches) {
+            buffer.addAll(await(batch));
+        }
+        for (int i = eliteCount; i < origin.size() && buffer.size() < bufferSize; i++) { // original non-elite
+            buffer.add(origin.get(i));
+        }
+        if (buffer.size() < bufferSize) {
+            buffer.addAll(appearSource.take(bufferSize - buffer.size()).toList().toBlocking().single());
+        }
+        final List<C> truncated = (buffer.size() > bufferSize) ? buffer.subList(0, bufferSize) : buffer;
+
+        // selection, index-based strategies work on buffer list directly
+        final Rng selectionRng = rngs.stream(iteration, RngService.SELECTION_STREAM);
+        final List<C> nextGeneration = (selectFunc instanceof IIndexedSelectionStrategy)
+            ? ((IIndexedSelectionStrategy<C>) selectFunc).select(truncated, selectionRng)
+            : selectFunc.select(Observable.from(truncated), selectionRng)
+                .toList()
+                .toBlocking()
+                .single();
+        return populationBuilderProducer.get()
+            .chromosomes(Observable.from(nextGeneration))
+            .survivorsOf(population)
+            .build();
+    }
+
+    /**
+     * Get chromosomes of population as list. Indexed populations are read directly, without subscription.
+     * <br><b>PRE-conditions:</b> non-null population
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:41:45 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population
+     * @return chromosomes of population sorted by fitness (descending)
+     */
+    private final List<C> chromosomesOf(final P population) {
+        if (population instanceof IIndexedPopulation) {
+            @SuppressWarnings("unchecked") final IIndexedPopulation<C> indexed = (IIndexedPopulation<C>) population;
+            final int size = indexed.size();
+            final List<C> chromosomes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                chromosomes.add(indexed.get(i));
+            }
+            return chromosomes;
+        }
+        return population.chromosomes().toList().toBlocking().single();
+    }
+
+    /**
+     * Wait for result of worker task.
+     * <br><b>PRE-conditions:</b> non-null task
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> current thread is blocked until task is done
+     * <br><b>Created on:</b> <i>3:44:07 AM Oct 16, 2026</i>
+     * 
+     * @param <T>
+     *            type of task result
+     * @param task
+     *            submitted worker task
+     * @return result of task
+     * @throws InterruptedException
+     *             if waiting thread was interrupted
+     */
+    private static final <T> T await(final Future<T> task) throws InterruptedException {
+        try {
+            return task.get();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Publish result and release workers. Call on behalf of run that is not current anymore is ignored.
+     * <br><b>PRE-conditions:</b> non-null run and fittest
+     * <br><b>POST-conditions:</b> this GA is stopped and may be started again
+     * <br><b>Side-effects:</b> evolution loop stops
+     * <br><b>Created on:</b> <i>3:46:00 AM Oct 16, 2026</i>
+     * 
+     * @param run
+     *            result subject of the run
+     * @param fittest
+     *            result of evolution
+     */
+    private final synchronized void terminate(final PublishSubject<C> run, final C fittest) {
+        if (!isCurrent(run)) {
+            return;
+        }
+        running = false;
+        loopThread = null;
+        resultSubj.onNext(fittest);
+        releaseExecutor();
+        executor = null;
+    }
+
+    /**
+     * Publish error as result and release workers. Call on behalf of run that is not current anymore is ignored.
+     * <br><b>PRE-conditions:</b> non-null run and error
+     * <br><b>POST-conditions:</b> this GA is stopped and may be started again
+     * <br><b>Side-effects:</b> evolution loop stops
+     * <br><b>Created on:</b> <i>3:46:25 AM Oct 16, 2026</i>
+     * 
+     * @param run
+     *            result subject of the run
+     * @param error
+     *            cause of evolution failure
+     */
+    private final synchronized void fail(final PublishSubject<C> run, final Throwable error) {
+        if (!isCurrent(run)) {
+            return;
+        }
+        running = false;
+        loopThread = null;
+        resultSubj.onError(error);
+        releaseExecutor();
+        executor = null;
+    }
+
+    /**
+     * Shut down workers executor of current run if it is owned by this GA. Executor provided by user is left running.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> own executor is shut down
+     * <br><b>Created on:</b> <i>3:46:52 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private final void releaseExecutor() {
+        if (executor != null && executor != userExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Start genetic algorithm.
+     * <br><b>PRE-conditions:</b> this GA is stopped (or haven't been run)
+     * <br><b>POST-conditions:</b> this GA becomes running
+     * <br><b>Side-effects:</b> internal state is changed, evolution loop thread is started
+     * <br><b>Created on:</b> <i>3:47:30 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#start()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized void start() {
+        if (resultSubj != null) { // running or terminated on its own and not stopped yet
+            LOG.error("already started");
+            return;
+        }
+        executor = (userExecutor != null) ? userExecutor : newDefaultExecutor(name);
+        resultSubj = PublishSubject.create();
+        result = resultSubj.take(1).cache().toSingle();
+        running = true;
+        final ExecutorService workers = executor;
+        final PublishSubject<C> run = resultSubj;
+        loopThread = new Thread(() -> evolve(workers, run), name + "-loop");
+        loopThread.setDaemon(true);
+        loopThread.start();
+        LOG.info("GA started");
+    }
+
+    /**
+     * Stop this genetic algorithm.
+     * <br><b>PRE-conditions:</b> this GA is running or has terminated on its own
+     * <br><b>POST-conditions:</b> this GA becomes stopped
+     * <br><b>Side-effects:</b> internal state is changed, evolution loop thread is interrupted
+     * <br><b>Created on:</b> <i>3:48:11 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#stop()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized void stop() {
+        if (resultSubj == null) {
+            LOG.error("already stopped");
+            return;
+        }
+        running = false;
+        if (loopThread != null) { // not terminated on its own yet
+            loopThread.interrupt();
+            loopThread = null;
+        }
+        releaseExecutor();
+        executor = null;
+        resultSubj.onCompleted();
+        resultSubj = null;
+        result = null;
+        LOG.info("GA stopped");
+    }
+
+    /**
+     * Get source of population stats on each GA iteration.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:48:40 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#stats()
+     * @return observable that emits stats of population on each GA iteration
+     */
+    @Override
+    public final Observable<PopulationStats> stats() {
+        return stats.asObservable();
+    }
+
+    /**
+     * Get result of this GA evaluations.
+     * <br><b>PRE-conditions:</b> GA is running or has terminated on its own
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>3:49:02 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#result()
+     * @return future that holds this GA computation result
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized Single<C> result() throws IllegalStateException {
+        if (resultSubj == null) { // stopped or not started
+            throw new IllegalStateException("GA is not running");
+        }
+        return result;
+    }
+
+    /**
+     * Get lineage store of this GA.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:54:40 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#lineage()
+     * @return lineage store, null if lineage is not tracked
+     */
+    @Override
+    public final ILineageStore lineage() {
+        return lineage;
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Builder for {@link LoopGA} instance.
+     * <br><b>Created on:</b> <i>3:49:45 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type for target GA
+     * @param <P>
+     *            concrete population implementation type for target GA
+     */
+    @NotThreadSafe
+    public static final class LoopGABuilder<C extends IChromosome, P extends IPopulation<C>>
+        implements
+            IGeneticAlgorithmBuilder<C, P> {
+
+        /**
+         * Default timeout for detecting situations when there's not enough chromosomes in population for choosing
+         * mates.
+         * <br><b>Created on:</b> <i>3:50:10 AM Oct 16, 2026</i>
+         */
+        private static final Duration MATES_EXHAUST_TIMEOUT_DEFAULT = Duration.ofSeconds(5);
+
+        /**
+         * Default max number of parents bred by single worker task.
+         * <br><b>Created on:</b> <i>3:50:24 AM Oct 16, 2026</i>
+         */
+        private static final int FITNESS_BATCH_SIZE_DEFAULT = 16;
+
+        /**
+         * Name for target GA.
+         * <br><b>Created on:</b> <i>3:50:38 AM Oct 16, 2026</i>
+         */
+        private String name = ""; //$NON-NLS-1$
+
+        /**
+         * Properties for target GA.
+         * <br><b>Created on:</b> <i>3:50:51 AM Oct 16, 2026</i>
+         */
+        private final Properties props = new Properties();
+
+        /**
+         * Termination condition for target GA.
+         * <br><b>Created on:</b> <i>3:51:04 AM Oct 16, 2026</i>
+         */
+        private ITerminationCondition<C, P> termCondition = null;
+
+        /**
+         * Appearance observable for target GA.
+         * <br><b>Created on:</b> <i>3:51:17 AM Oct 16, 2026</i>
+         */
+        private Observable<C> appearSource = null;
+
+        /**
+         * Population builder for target GA.
+         * <br><b>Created on:</b> <i>3:51:30 AM Oct 16, 2026</i>
+         */
+        private Supplier<IPopulationBuilder<C, P>> populationBuilder = null;
+
+        /**
+         * Mutation selector for target GA.
+         * <br><b>Created on:</b> <i>3:51:43 AM Oct 16, 2026</i>
+         */
+        private ISelectionPredicate<C> mutationSelector = null;
+
+        /**
+         * Mutation strategy for target GA.
+         * <br><b>Created on:</b> <i>3:51:56 AM Oct 16, 2026</i>
+         */
+        private IMutationStrategy<C> mutationFunc = null;
+
+        /**
+         * Crossover strategy for target GA.
+         * <br><b>Created on:</b> <i>3:52:09 AM Oct 16, 2026</i>
+         */
+        private ICrossoverStrategy<C> crossoverFunc = null;
+
+        /**
+         * Natural selection strategy for target GA.
+         * <br><b>Created on:</b> <i>3:52:22 AM Oct 16, 2026</i>
+         */
+        private ISelectionStrategy<C> selectionFunc = null;
+
+        /**
+         * Selector for first parent for crossover for target GA.
+         * <br><b>Created on:</b> <i>3:52:35 AM Oct 16, 2026</i>
+         */
+        private ISelectionPredicate<C> parent1Selector = null;
+
+        /**
+         * Mates selector for crossover for target GA.
+         * <br><b>Created on:</b> <i>3:52:48 AM Oct 16, 2026</i>
+         */
+        private IMatesSelector<C> matesSelector = null;
+
+        /**
+         * Mates selection timeout for detection conflicting configuration.
+         * <br><b>Created on:</b> <i>3:53:01 AM Oct 16, 2026</i>
+         */
+        private Duration matesSelectTimeout = MATES_EXHAUST_TIMEOUT_DEFAULT;
+
+        /**
+         * Buffer size for target GA.
+         * <br><b>Created on:</b> <i>3:53:14 AM Oct 16, 2026</i>
+         */
+        private int bufferSize = 0;
+
+        /**
+         * Max number of parents bred by single worker task of target GA.
+         * <br><b>Created on:</b> <i>3:53:27 AM Oct 16, 2026</i>
+         */
+        private int fitnessBatchSize = FITNESS_BATCH_SIZE_DEFAULT;
+
+        /**
+         * Chromosome builder producer for evaluation of offsprings.
+         * <br><b>Created on:</b> <i>3:53:40 AM Oct 16, 2026</i>
+         */
+        private Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder = null;
+
+        /**
+         * Workers executor for target GA, null for default one.
+         * <br><b>Created on:</b> <i>3:53:53 AM Oct 16, 2026</i>
+         */
+        private ExecutorService executor = null;
+
+        /**
+         * Master seed of random streams for target GA, null for random one.
+         * <br><b>Created on:</b> <i>5:06:30 AM Oct 16, 2026</i>
+         */
+        private Long seed = null;
+
+        /**
+         * Lineage store for target GA, null if lineage is not tracked.
+         * <br><b>Created on:</b> <i>8:55:00 AM Oct 16, 2026</i>
+         */
+        private ILineageStore lineage = null;
+
+
+        /**
+         * Build target genetic algorithm.
+         * <br><b>PRE-conditions:</b> all necessary parameters were specified
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>3:54:20 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#build()
+         * @return new instance of {@link LoopGA} that is configured from current builder state
+         * @throws IllegalStateException
+         *             if wrong configuration was detected
+         */
+        @Override
+        public final IGeneticAlgorithm<C, P> build() throws IllegalStateException {
+            if (!isValid()) {
+                throw new IllegalStateException();
+            }
+            final Properties propsCopy = new Properties();
+            propsCopy.putAll(props);
+            final IMutationStrategy<C> mutation = (lineage == null) ? mutationFunc : mutationFunc.withLineage(lineage);
+            final ICrossoverStrategy<C> crossover = (lineage == null)
+                ? crossoverFunc
+                : crossoverFunc.withLineage(lineage);
+            return new LoopGA<>(name,
+                propsCopy,
+                termCondition,
+                appearSource,
+                mutationSelector,
+                mutation,
+                parent1Selector,
+                matesSelector,
+                crossover,
+                matesSelectTimeout,
+                selectionFunc,
+                bufferSize,
+                fitnessBatchSize,
+                populationBuilder,
+                chromosomeBuilder,
+                executor,
+                new RngService((seed == null) ? RngService.randomSeed() : seed.longValue()),
+                lineage);
+        }
+
+        /**
+         * Check if current builder state is valid and target GA can be built.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>3:54:51 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#isValid()
+         * @return true if builder is valid and GA can be built, false otherwise
+         */
+        @Override
+        public final boolean isValid() {
+            if (name == null) {
+                return false;
+            }
+            if (termCondition == null) {
+                return false;
+            }
+            if (appearSource == null) {
+                return false;
+            }
+            if (populationBuilder == null) {
+                return false;
+            }
+            if (mutationSelector == null || mutationFunc == null) {
+                return false;
+            }
+            if (parent1Selector == null || matesSelector == null || crossoverFunc == null) {
+                return false;
+            }
+            if (selectionFunc == null) {
+                return false;
+            }
+            if (bufferSize <= 0) {
+                return false;
+            }
+            if (chromosomeBuilder == null) {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Set name for target GA.
+         * <br><b>PRE-conditions:</b> non-empty name
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:55:24 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.INameable#name(java.lang.String)
+         * @param name
+         *            name for target GA
+         * @return previous name
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final String name(final String name) {
+            Validators.nonEmpty(name);
+            final String prevName = this.name;
+            this.name = name;
+            return prevName;
+        }
+
+        /**
+         * Get name for target GA.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>3:55:46 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.INamed#name()
+         * @return current name for target GA
+         */
+        @Override
+        public final String name() {
+            return name;
+        }
+
+        /**
+         * Set property for target GA.
+         * <br><b>PRE-conditions:</b> non-empty key, non-null value
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:56:08 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigurable#property(java.lang.String, java.lang.String)
+         * @param key
+         *            key for property
+         * @param value
+         *            property value
+         * @return previous property value
+         */
+        @Override
+        public final String property(final String key, final String value) {
+            Validators.nonEmpty(key);
+            Validators.nonNull(value);
+            return (String) props.setProperty(key, value);
+        }
+
+        /**
+         * Remove property from target GA.
+         * <br><b>PRE-conditions:</b> non-empty key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:56:31 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigurable#removeProperty(java.lang.String)
+         * @param key
+         *            property key
+         * @return previous value of property, or null if association wasn't established
+         */
+        @Override
+        public final String removeProperty(final String key) {
+            Validators.nonEmpty(key);
+            return (String) props.remove(key);
+        }
+
+        /**
+         * Get property for given key.
+         * <br><b>PRE-conditions:</b> non-empty key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>3:56:53 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigured#property(java.lang.String)
+         * @param key
+         *            property key
+         * @return property value, or null if there's no such property
+         */
+        @Override
+        public final String property(final String key) {
+            Validators.nonEmpty(key);
+            return props.getProperty(key);
+        }
+
+        /**
+         * Set termination condition function for target GA.
+         * <br><b>PRE-conditions:</b> non-null termCondition
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:57:16 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#termCondition(dburyak.jgatools.ITerminationCondition)
+         * @param termCondition
+         *            GA termination condition
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> termCondition(final ITerminationCondition<C, P> termCondition) {
+            Validators.nonNull(termCondition);
+            this.termCondition = termCondition;
+            return this;
+        }
+
+        /**
+         * Set {@code Observable} that produces chromosomes "out of nowhere" for target GA.
+         * <br><b>PRE-conditions:</b> non-null appearSource
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:57:39 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#appearSource(rx.Observable)
+         * @param appearSource
+         *            source of new chromosomes
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> appearSource(final Observable<C> appearSource) {
+            Validators.nonNull(appearSource);
+            this.appearSource = appearSource;
+            return this;
+        }
+
+        /**
+         * Set population builder producer to be used in target GA for building populations.
+         * <br><b>PRE-conditions:</b> non-null populationBuilder
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:58:02 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#populationBuilder(java.util.function.Supplier)
+         * @param populationBuilder
+         *            supplier that produces population builder
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> populationBuilder(
+            final Supplier<IPopulationBuilder<C, P>> populationBuilder) {
+
+            Validators.nonNull(populationBuilder);
+            this.populationBuilder = populationBuilder;
+            return this;
+        }
+
+        /**
+         * Set mutation selector function for target GA.
+         * <br><b>PRE-conditions:</b> non-null mutationSelector
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:58:25 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#mutationSelector(dburyak.jgatools.ISelectionPredicate)
+         * @param mutationSelector
+         *            mutation selector function to be used in target GA
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> mutationSelector(final ISelectionPredicate<C> mutationSelector) {
+            Validators.nonNull(mutationSelector);
+            this.mutationSelector = mutationSelector;
+            return this;
+        }
+
+        /**
+         * Set mutation strategy for target GA.
+         * <br><b>PRE-conditions:</b> non-null mutationFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:58:48 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#mutationFunc(dburyak.jgatools.IMutationStrategy)
+         * @param mutationFunc
+         *            mutation function for target GA
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> mutationFunc(final IMutationStrategy<C> mutationFunc) {
+            Validators.nonNull(mutationFunc);
+            this.mutationFunc = mutationFunc;
+            return this;
+        }
+
+        /**
+         * Set crossover strategy for target GA.
+         * <br><b>PRE-conditions:</b> non-null crossoverFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:59:11 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#crossoverFunc(dburyak.jgatools.ICrossoverStrategy)
+         * @param crossoverFunc
+         *            crossover strategy for target GA
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> crossoverFunc(final ICrossoverStrategy<C> crossoverFunc) {
+            Validators.nonNull(crossoverFunc);
+            this.crossoverFunc = crossoverFunc;
+            return this;
+        }
+
+        /**
+         * Set natural selection strategy for target GA.
+         * <br><b>PRE-conditions:</b> non-null selectionFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:59:34 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#selectionFunc(dburyak.jgatools.ISelectionStrategy)
+         * @param selectionFunc
+         *            natural selection strategy
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> selectionFunc(final ISelectionStrategy<C> selectionFunc) {
+            Validators.nonNull(selectionFunc);
+            this.selectionFunc = selectionFunc;
+            return this;
+        }
+
+        /**
+         * Set selector for the first parent for crossover operation.
+         * <br><b>PRE-conditions:</b> non-null parent1Selector
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>3:59:57 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#parent1Selector(dburyak.jgatools.ISelectionPredicate)
+         * @param parent1Selector
+         *            selector for choosing first parent for crossover
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> parent1Selector(final ISelectionPredicate<C> parent1Selector) {
+            Validators.nonNull(parent1Selector);
+            this.parent1Selector = parent1Selector;
+            return this;
+        }
+
+        /**
+         * Set mates selector for crossover operation for target GA.
+         * <br><b>PRE-conditions:</b> non-null matesSelector
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>4:00:20 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#matesSelector(dburyak.jgatools.IMatesSelector)
+         * @param matesSelector
+         *            selector for choosing other mates for crossover
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> matesSelector(final IMatesSelector<C> matesSelector) {
+            Validators.nonNull(matesSelector);
+            this.matesSelector = matesSelector;
+            return this;
+        }
+
+        /**
+         * Set timeout for detecting situations when there's not enough chromosomes in population for choosing mates.
+         * <br><b>PRE-conditions:</b> positive timeout
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>4:00:43 AM Oct 16, 2026</i>
+         * 
+         * @param timeout
+         *            timeout for choosing mates
+         * @return this builder (for call chaining)
+         */
+        public final IGeneticAlgorithmBuilder<C, P> matesSelectTimeout(final Duration timeout) {
+            Validators.nonNull(timeout);
+            Validators.positive(timeout);
+            matesSelectTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Set size of "buffer" intermediate zone where mutants, offsprings, aged chromosomes of current population and
+         * appeared chromosomes are collected before natural selection.
+         * <br><b>PRE-conditions:</b> bufferSize &gt; 0
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>4:01:06 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#bufferSize(int)
+         * @param bufferSize
+         *            size of buffer
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> bufferSize(final int bufferSize) {
+            Validators.positive(bufferSize);
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Set chromosome builder producer for evaluation of offsprings with deferred fitness.
+         * <br><b>PRE-conditions:</b> non-null chromosomeBuilder
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>4:01:29 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#chromosomeBuilder(java.util.function.Supplier)
+         * @param chromosomeBuilder
+         *            chromosome builder producer
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> chromosomeBuilder(
+            final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder) {
+
+            Validators.nonNull(chromosomeBuilder);
+            this.chromosomeBuilder = chromosomeBuilder;
+            return this;
+        }
+
+        /**
+         * Set lineage store for target GA. Mutation and crossover strategies are bound to it on build, so offsprings
+         * are registered in it with their parents. If not specified, lineage is not tracked.
+         * <br><b>PRE-conditions:</b> non-null lineage
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>8:55:20 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#lineage(dburyak.jgatools.ILineageStore)
+         * @param lineage
+         *            lineage store
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> lineage(final ILineageStore lineage) {
+            Validators.nonNull(lineage);
+            this.lineage = lineage;
+            return this;
+        }
+
+        /**
+         * Set max number of parents that are bred by single worker task. Offsprings of each task are evaluated as one
+         * batch (see {@link IChromosomeBuilder#evaluate(List)}). Smaller batches give better load balancing, bigger
+         * ones give less scheduling overhead. If not specified, 16 is used.
+         * <br><b>PRE-conditions:</b> positive fitnessBatchSize
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>4:01:52 AM Oct 16, 2026</i>
+         * 
+         * @param fitnessBatchSize
+         *            max number of parents per worker task
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> fitnessBatchSize(final int fitnessBatchSize) {
+            Validators.positive(fitnessBatchSize);
+            this.fitnessBatchSize = fitnessBatchSize;
+            return this;
+        }
+
+        /**
+         * Set executor for breeding and fitness evaluation workers. Executor is not shut down by GA. If not specified,
+         * GA creates its own executor on each start : virtual thread per task executor when JDK provides it, fixed
+         * pool of daemon threads otherwise.
+         * <br><b>PRE-conditions:</b> non-null executor
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>4:02:15 AM Oct 16, 2026</i>
+         * 
+         * @param executor
+         *            workers executor
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> executor(final ExecutorService executor) {
+            Validators.nonNull(executor);
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set master seed of random streams that are given to strategies. Streams are keyed by iteration and parent
+         * index, so with fixed seed (and strategies that use only given {@link dburyak.jgatools.Rng}) every run
+         * produces same populations regardless of number of workers. If not specified, random seed is used.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>5:07:05 AM Oct 16, 2026</i>
+         * 
+         * @param seed
+         *            master seed
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> seed(final long seed) {
+            this.seed = Long.valueOf(seed);
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,536 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IFingerprint;
+import dburyak.jgatools.IFitnessCache;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jtools.InstanceBuilder;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Size-bounded concurrent fitness cache with least-recently-used eviction. Cache is split into independently locked
+ * segments (chosen by fingerprint hash), each segment is an access-ordered {@link LinkedHashMap} that evicts its eldest
+ * entry when segment capacity is exceeded. Capacities of segments sum up to max size exactly, so the whole cache never
+ * holds more entries than that.<br>
+ * Underlying fitness function is called outside of segment lock, so slow evaluations never block lookups of other
+ * chromosomes. Two threads that miss on the same gene data at the same moment may both evaluate it, which is harmless
+ * since fitness functions are pure.
+ * <br><b>Created on:</b> <i>8:41:22 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <D>
+ *            type of underlying genetic data used by chromosome
+ */
+@ThreadSafe
+public final class LruFitnessCache<D extends Cloneable> implements IFitnessCache<D> {
+
+    /**
+     * Real fitness function that is called on cache miss.
+     * <br><b>Created on:</b> <i>8:42:10 PM Oct 16, 2026</i>
+     */
+    private final IFitnessFunction<D> fitnessFunc;
+
+    /**
+     * Function that produces collision-safe cache key from gene data.
+     * <br><b>Created on:</b> <i>8:42:36 PM Oct 16, 2026</i>
+     */
+    private final Function<? super D, ? extends IFingerprint> keyFunc;
+
+    /**
+     * Independently locked segments of cache. Number of segments is a power of two.
+     * <br><b>Created on:</b> <i>8:43:01 PM Oct 16, 2026</i>
+     */
+    private final Segment[] segments;
+
+    /**
+     * Bit shift for choosing segment by the highest bits of fingerprint hash.
+     * <br><b>Created on:</b> <i>8:43:29 PM Oct 16, 2026</i>
+     */
+    private final int segmentShift;
+
+    /**
+     * Cache hits counter.
+     * <br><b>Created on:</b> <i>8:43:55 PM Oct 16, 2026</i>
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Cache misses counter.
+     * <br><b>Created on:</b> <i>8:44:08 PM Oct 16, 2026</i>
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Evictions counter.
+     * <br><b>Created on:</b> <i>8:44:20 PM Oct 16, 2026</i>
+     */
+    private final LongAdder evictions = new LongAdder();
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.LruFitnessCache.<br>
+     * <br><b>PRE-conditions:</b> valid parameters, segmentsCount &lt;= maxSize
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:44:51 PM Oct 16, 2026</i>
+     * 
+     * @param fitnessFunc
+     *            real fitness function
+     * @param keyFunc
+     *            cache key function
+     * @param maxSize
+     *            max number of cached entries
+     * @param segmentsCount
+     *            number of segments, power of two
+     */
+    private LruFitnessCache(
+        final IFitnessFunction<D> fitnessFunc,
+        final Function<? super D, ? extends IFingerprint> keyFunc,
+        final int maxSize,
+        final int segmentsCount) {
+
+        this.fitnessFunc = fitnessFunc;
+        this.keyFunc = keyFunc;
+        segments = new Segment[segmentsCount];
+        // remainder is spread over first segments one entry each, rounding every segment up would exceed max size
+        final int segmentCapacity = maxSize / segmentsCount;
+        final int extended = maxSize % segmentsCount;
+        for (int i = 0; i < segmentsCount; i++) {
+            segments[i] = new Segment(segmentCapacity + ((i < extended) ? 1 : 0), evictions);
+        }
+        segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(segmentsCount);
+    }
+
+    /**
+     * Get segment responsible for given key.
+     * <br><b>PRE-conditions:</b> non-null key
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:46:12 PM Oct 16, 2026</i>
+     * 
+     * @param key
+     *            cache key
+     * @return segment for given key
+     */
+    private final Segment segmentFor(final IFingerprint key) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        return segments[(int) (key.longHash() >>> segmentShift)];
+    }
+
+    /**
+     * Get fitness of given gene data, from cache if possible.
+     * <br><b>PRE-conditions:</b> non-null data
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> underlying fitness function is called on cache miss, cache state is changed
+     * <br><b>Created on:</b> <i>8:47:03 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessFunction#calcFitness(java.lang.Cloneable)
+     * @param data
+     *            genetic data of chromosome
+     * @return fitness of given genetic data
+     */
+    @Override
+    public final Fitness calcFitness(final D data) {
+        Validators.nonNull(data);
+        final IFingerprint key = keyFunc.apply(data);
+        final Segment segment = segmentFor(key);
+        final Fitness cached = segment.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final Fitness fitness = fitnessFunc.calcFitness(data);
+        segment.put(key, fitness);
+        return fitness;
+    }
+
+    /**
+     * Get number of cache hits.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:48:20 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessCache#hits()
+     * @return number of cache hits
+     */
+    @Override
+    public final long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get number of cache misses.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:48:44 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessCache#misses()
+     * @return number of cache misses
+     */
+    @Override
+    public final long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get number of evicted entries.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:49:05 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessCache#evictions()
+     * @return number of evictions
+     */
+    @Override
+    public final long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get number of cached entries.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:49:31 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessCache#size()
+     * @return number of cached entries
+     */
+    @Override
+    public final int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Drop all cached entries.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> cache state is changed
+     * <br><b>Created on:</b> <i>8:49:58 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFitnessCache#clear()
+     */
+    @Override
+    public final void clear() {
+        for (final Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Get string representation of this cache with its counters.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-empty result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:50:27 PM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this cache
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    @Override
+    public final String toString() {
+        return String.format("LruFitnessCache[size = %d ; hits = %d ; misses = %d ; evictions = %d]",
+            size(), hits(), misses(), evictions());
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Single lock-protected LRU segment of cache.
+     * <br><b>Created on:</b> <i>8:51:14 PM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     */
+    @ThreadSafe
+    private static final class Segment {
+
+        /**
+         * Access-ordered entries of this segment.
+         * <br><b>Created on:</b> <i>8:51:50 PM Oct 16, 2026</i>
+         */
+        @GuardedBy("this")
+        private final LinkedHashMap<IFingerprint, Fitness> entries;
+
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.LruFitnessCache.Segment.<br>
+         * <br><b>PRE-conditions:</b> positive capacity, non-null evictions
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>8:52:17 PM Oct 16, 2026</i>
+         * 
+         * @param capacity
+         *            max number of entries in this segment
+         * @param evictions
+         *            evictions counter shared by all segments of cache
+         */
+        @SuppressWarnings("serial")
+        Segment(final int capacity, final LongAdder evictions) {
+            entries = new LinkedHashMap<IFingerprint, Fitness>(Math.min(capacity, 1 << 16), 0.75F, true) {
+
+                @Override
+                protected final boolean removeEldestEntry(final Map.Entry<IFingerprint, Fitness> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * Get cached fitness and mark entry as recently used.
+         * <br><b>PRE-conditions:</b> non-null key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> access order is changed
+         * <br><b>Created on:</b> <i>8:53:31 PM Oct 16, 2026</i>
+         * 
+         * @param key
+         *            cache key
+         * @return cached fitness or null if there's no entry for given key
+         */
+        final synchronized Fitness get(final IFingerprint key) {
+            return entries.get(key);
+        }
+
+        /**
+         * Put fitness to this segment, eldest entry is evicted if capacity is exceeded.
+         * <br><b>PRE-conditions:</b> non-null key and fitness
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> segment state is changed
+         * <br><b>Created on:</b> <i>8:54:02 PM Oct 16, 2026</i>
+         * 
+         * @param key
+         *            cache key
+         * @param fitness
+         *            fitness to be cached
+         */
+        final synchronized void put(final IFingerprint key, final Fitness fitness) {
+            entries.put(key, fitness);
+        }
+
+        /**
+         * Get number of entries in this segment.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> result &gt;= 0
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>8:54:39 PM Oct 16, 2026</i>
+         * 
+         * @return number of entries
+         */
+        final synchronized int size() {
+            return entries.size();
+        }
+
+        /**
+         * Remove all entries of this segment.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> segment state is changed
+         * <br><b>Created on:</b> <i>8:55:03 PM Oct 16, 2026</i>
+         */
+        final synchronized void clear() {
+            entries.clear();
+        }
+
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Builder of {@link LruFitnessCache} instances.
+     * <br><b>Created on:</b> <i>8:56:20 PM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <D>
+     *            type of underlying genetic data used by chromosome
+     */
+    @NotThreadSafe
+    public static final class LruFitnessCacheBuilder<D extends Cloneable> implements InstanceBuilder<LruFitnessCache<D>> {
+
+        /**
+         * Default max number of cached entries.
+         * <br><b>Created on:</b> <i>8:56:58 PM Oct 16, 2026</i>
+         */
+        private static final int MAX_SIZE_DEFAULT = 1 << 16;
+
+        /**
+         * Max number of segments.
+         * <br><b>Created on:</b> <i>8:57:20 PM Oct 16, 2026</i>
+         */
+        private static final int MAX_SEGMENTS = 1 << 16;
+
+        /**
+         * Real fitness function for target cache.
+         * <br><b>Created on:</b> <i>8:57:44 PM Oct 16, 2026</i>
+         */
+        private IFitnessFunction<D> fitnessFunc = null;
+
+        /**
+         * Cache key function for target cache.
+         * <br><b>Created on:</b> <i>8:58:03 PM Oct 16, 2026</i>
+         */
+        private Function<? super D, ? extends IFingerprint> keyFunc = null;
+
+        /**
+         * Max number of cached entries of target cache.
+         * <br><b>Created on:</b> <i>8:58:21 PM Oct 16, 2026</i>
+         */
+        private int maxSize = MAX_SIZE_DEFAULT;
+
+        /**
+         * Expected number of concurrently evaluating threads.
+         * <br><b>Created on:</b> <i>8:58:42 PM Oct 16, 2026</i>
+         */
+        private int concurrencyLevel = Runtime.getRuntime().availableProcessors();
+
+
+        /**
+         * Build target cache.
+         * <br><b>PRE-conditions:</b> this builder is in valid state
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>8:59:10 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#build()
+         * @return new cache instance
+         * @throws IllegalStateException
+         *             if this builder is in invalid state
+         */
+        @Override
+        public final LruFitnessCache<D> build() throws IllegalStateException {
+            if (!isValid()) {
+                throw new IllegalStateException();
+            }
+            // power of two segments, but not more than entries, so that every segment holds at least one entry
+            final int wantedSegments = Math.min(Math.min(concurrencyLevel * 4, maxSize), MAX_SEGMENTS);
+            final int segmentsCount = Integer.highestOneBit(Math.max(1, wantedSegments));
+            return new LruFitnessCache<>(fitnessFunc, keyFunc, maxSize, segmentsCount);
+        }
+
+        /**
+         * Check if this builder is in valid state.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>8:59:48 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#isValid()
+         * @return true if target cache can be built
+         */
+        @Override
+        public final boolean isValid() {
+            if (fitnessFunc == null) {
+                return false;
+            }
+            if (keyFunc == null) {
+                return false;
+            }
+            return maxSize > 0 && concurrencyLevel > 0;
+        }
+
+        /**
+         * Set real fitness function to be called on cache misses.
+         * <br><b>PRE-conditions:</b> non-null fitnessFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>9:00:31 PM Oct 16, 2026</i>
+         * 
+         * @param fitnessFunc
+         *            real fitness function
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final LruFitnessCacheBuilder<D> fitnessFunc(final IFitnessFunction<D> fitnessFunc) {
+            Validators.nonNull(fitnessFunc);
+            this.fitnessFunc = fitnessFunc;
+            return this;
+        }
+
+        /**
+         * Set function that produces collision-safe cache key from gene data. Usually it is
+         * {@code IChromosomeBuilder::fingerprint} of corresponding chromosome builder, for instance
+         * {@link BitSetFingerprint#of(java.util.BitSet)}.
+         * <br><b>PRE-conditions:</b> non-null keyFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>9:01:15 PM Oct 16, 2026</i>
+         * 
+         * @param keyFunc
+         *            cache key function
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final LruFitnessCacheBuilder<D> keyFunc(final Function<? super D, ? extends IFingerprint> keyFunc) {
+            Validators.nonNull(keyFunc);
+            this.keyFunc = keyFunc;
+            return this;
+        }
+
+        /**
+         * Set max number of cached entries. If not specified, 65536 is used.
+         * <br><b>PRE-conditions:</b> positive maxSize
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>9:02:03 PM Oct 16, 2026</i>
+         * 
+         * @param maxSize
+         *            max number of cached entries
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final LruFitnessCacheBuilder<D> maxSize(final int maxSize) {
+            Validators.positive(maxSize);
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Set expected number of threads that evaluate fitness concurrently. Defines number of independently locked
+         * segments. If not specified, number of available processors is used.
+         * <br><b>PRE-conditions:</b> positive concurrencyLevel
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>9:02:47 PM Oct 16, 2026</i>
+         * 
+         * @param concurrencyLevel
+         *            expected number of concurrent threads
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final LruFitnessCacheBuilder<D> concurrencyLevel(final int concurrencyLevel) {
+            Validators.positive(concurrencyLevel);
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,857 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IAsyncFitnessFunction;
+import dburyak.jgatools.IBatchFitnessFunction;
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IDoubleFitnessFunction;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.IIncrementalFitnessFunction;
+import dburyak.jgatools.ILineageStore;
+import dburyak.jtools.Validators;
+import rx.Single;
+
+
+/**
+ * Project : jgatools.<br>
+ * Binary string chromosome that uses immutable {@link PackedBits} as underlying data implementation. Unlike
+ * {@link BitSetChromosome}, gene data is never copied : it is shared between chromosome, its builder, its copies and
+ * strategies that read it, so mutation and crossover allocate only words of offspring.<br>
+ * Supports incremental fitness evaluation ({@link IIncrementalFitnessFunction}) : evaluation state is kept with
+ * evaluated chromosome, and chromosome built from parent with known changed loci
+ * ({@link PackedBitChromosomeBuilder#delta(PackedBitChromosome, int[])}) is evaluated from parent state in time
+ * proportional to number of changes. Parent is referenced only until such chromosome is evaluated.
+ * <br><b>Created on:</b> <i>11:04:12 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class PackedBitChromosome implements IChromosome {
+
+    /**
+     * Internal data representation - packed bit string.
+     * <br><b>Created on:</b> <i>11:05:01 PM Oct 16, 2026</i>
+     */
+    private final PackedBits bits;
+
+    /**
+     * Age of chromosome.
+     * <br><b>Created on:</b> <i>11:05:20 PM Oct 16, 2026</i>
+     */
+    private final int age;
+
+    /**
+     * Generation number of chromosome.
+     * <br><b>Created on:</b> <i>11:05:33 PM Oct 16, 2026</i>
+     */
+    private final int generation;
+
+    /**
+     * Fitness value of chromosome. Is NaN if fitness evaluation was deferred.
+     * <br><b>Created on:</b> <i>11:05:47 PM Oct 16, 2026</i>
+     */
+    private final double fitness;
+
+    /**
+     * Lineage id of this chromosome, {@link ILineageStore#NO_LINEAGE} if lineage is not tracked.
+     * <br><b>Created on:</b> <i>8:14:10 AM Oct 16, 2026</i>
+     */
+    private final long lineageId;
+
+    /**
+     * Evaluation state of incremental fitness function, null if fitness was not evaluated incrementally.
+     * <br><b>Created on:</b> <i>7:09:10 AM Oct 16, 2026</i>
+     */
+    private final Object evaluationState;
+
+    /**
+     * Evaluated chromosome this one differs from in changed loci, null if unknown. Is dropped on evaluation.
+     * <br><b>Created on:</b> <i>7:09:30 AM Oct 16, 2026</i>
+     */
+    private final PackedBitChromosome deltaParent;
+
+    /**
+     * Loci where bits of this chromosome differ from delta parent, null if unknown. Is dropped on evaluation.
+     * <br><b>Created on:</b> <i>7:09:50 AM Oct 16, 2026</i>
+     */
+    private final int[] changedLoci;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.PackedBitChromosome.<br>
+     * <br><b>PRE-conditions:</b> valid parameters
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:06:30 PM Oct 16, 2026</i>
+     * 
+     * @param bits
+     *            packed bits for chromosome internal data
+     * @param age
+     *            age of chromosome
+     * @param generation
+     *            generation number
+     * @param fitness
+     *            fitness value of chromosome, NaN if evaluation is deferred
+     * @param lineageId
+     *            lineage id of chromosome
+     * @param evaluationState
+     *            evaluation state of incremental fitness function, may be null
+     * @param deltaParent
+     *            chromosome this one differs from in changed loci, may be null
+     * @param changedLoci
+     *            loci where bits differ from delta parent, may be null
+     */
+    private PackedBitChromosome(
+        final PackedBits bits,
+        final int age,
+        final int generation,
+        final double fitness,
+        final long lineageId,
+        final Object evaluationState,
+        final PackedBitChromosome deltaParent,
+        final int[] changedLoci) {
+
+        this.bits = bits;
+        this.age = age;
+        this.generation = generation;
+        this.fitness = fitness;
+        this.lineageId = lineageId;
+        this.evaluationState = evaluationState;
+        this.deltaParent = deltaParent;
+        this.changedLoci = changedLoci;
+    }
+
+    /**
+     * Get fingerprint of this chromosome. Packed bits are their own collision-safe fingerprint.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:07:15 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosome#fingerprint()
+     * @return fingerprint of this chromosome
+     */
+    @Override
+    public final PackedBits fingerprint() {
+        return bits;
+    }
+
+    /**
+     * Get fitness value of this chromosome.
+     * <br><b>PRE-conditions:</b> this chromosome is evaluated
+     * <br><b>POST-conditions:</b> {@link Fitness#minValue()} &lt;= result &lt;= {@link Fitness#maxValue()}
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:30:30 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosome#fitnessValue()
+     * @return fitness value of this chromosome
+     * @throws IllegalStateException
+     *             if fitness evaluation was deferred and this chromosome is not evaluated yet
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final double fitnessValue() throws IllegalStateException {
+        if (Double.isNaN(fitness)) {
+            throw new IllegalStateException("fitness is not evaluated yet");
+        }
+        return fitness;
+    }
+
+    /**
+     * Check whether fitness of this chromosome is evaluated.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:08:10 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosome#evaluated()
+     * @return true if fitness of this chromosome is known
+     */
+    @Override
+    public final boolean evaluated() {
+        return !Double.isNaN(fitness);
+    }
+
+    /**
+     * Get age of this chromosome.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:08:33 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosome#age()
+     * @return age of this chromosome
+     */
+    @Override
+    public final int age() {
+        return age;
+    }
+
+    /**
+     * Get generation number of this chromosome.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:08:51 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosome#generation()
+     * @return generation number of this chromosome
+     */
+    @Override
+    public final int generation() {
+        return generation;
+    }
+
+    /**
+     * Get lineage id of this chromosome.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result or {@link ILineageStore#NO_LINEAGE}
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:14:20 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosome#lineageId()
+     * @return lineage id of this chromosome
+     */
+    @Override
+    public final long lineageId() {
+        return lineageId;
+    }
+
+    /**
+     * Get packed bits of this chromosome. Bits are immutable, so no copy is made.<br>
+     * Intended to be used by crossover and mutation implementations.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:09:40 PM Oct 16, 2026</i>
+     * 
+     * @return packed bits of this chromosome
+     */
+    public final PackedBits bits() {
+        return bits;
+    }
+
+    /**
+     * Create copy of this chromosome with given fitness. Gene data is shared.
+     * <br><b>PRE-conditions:</b> valid fitness value
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:10:05 PM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            evaluated fitness of this chromosome
+     * @return evaluated copy of this chromosome
+     */
+    @SuppressWarnings("hiding")
+    private final PackedBitChromosome withFitness(final double fitness) {
+        return withFitness(fitness, null);
+    }
+
+    /**
+     * Create copy of this chromosome with given fitness and evaluation state. Gene data is shared, delta parent is
+     * dropped.
+     * <br><b>PRE-conditions:</b> valid fitness value
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:10:30 AM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            evaluated fitness of this chromosome
+     * @param evaluationState
+     *            evaluation state of incremental fitness function, may be null
+     * @return evaluated copy of this chromosome
+     */
+    @SuppressWarnings("hiding")
+    private final PackedBitChromosome withFitness(final double fitness, final Object evaluationState) {
+        return new PackedBitChromosome(bits, age, generation, Fitness.checkValue(fitness), lineageId,
+            evaluationState, null, null);
+    }
+
+    /**
+     * Evaluate this chromosome with given incremental fitness function : from state of delta parent if it is known,
+     * from scratch otherwise.
+     * <br><b>PRE-conditions:</b> non-null fitnessFunc
+     * <br><b>POST-conditions:</b> non-null evaluated result
+     * <br><b>Side-effects:</b> fitness function is called
+     * <br><b>Created on:</b> <i>7:11:05 AM Oct 16, 2026</i>
+     * 
+     * @param fitnessFunc
+     *            incremental fitness function
+     * @return evaluated copy of this chromosome
+     */
+    private final PackedBitChromosome evaluateIncrementally(
+        final IIncrementalFitnessFunction<PackedBits, Object> fitnessFunc) {
+
+        final Object state = (deltaParent != null && deltaParent.evaluationState != null)
+            ? fitnessFunc.evaluationState(deltaParent.evaluationState, deltaParent.fitness(), bits, changedLoci)
+            : fitnessFunc.evaluationState(bits);
+        return withFitness(fitnessFunc.fitnessOf(state).value(), state);
+    }
+
+    /**
+     * Get string representation of this chromosome.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-empty result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:10:31 PM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this chromosome
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    @Override
+    public final String toString() {
+        return String.format("PackedBitChromosome[length = %d ; age = %d ; generation = %d ; fitness = %s ; fp = %x]",
+            bits.length(), age, generation, fitness, bits.longHash());
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Builder of {@link PackedBitChromosome} instances.
+     * <br><b>Created on:</b> <i>11:11:20 PM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     */
+    @NotThreadSafe
+    public static final class PackedBitChromosomeBuilder
+        implements
+            IChromosomeBuilder<PackedBitChromosome, PackedBits> {
+
+        /**
+         * Internal bits data for target chromosome.
+         * <br><b>Created on:</b> <i>11:12:02 PM Oct 16, 2026</i>
+         */
+        private PackedBits bits = null;
+
+        /**
+         * Age of target chromosome.
+         * <br><b>Created on:</b> <i>11:12:18 PM Oct 16, 2026</i>
+         */
+        private int age = -1;
+
+        /**
+         * Generation number of target chromosome.
+         * <br><b>Created on:</b> <i>11:12:30 PM Oct 16, 2026</i>
+         */
+        private int generation = -1;
+
+        /**
+         * Fitness value of target chromosome, NaN if it is not set.
+         * <br><b>Created on:</b> <i>11:12:44 PM Oct 16, 2026</i>
+         */
+        private double fitness = Double.NaN;
+
+        /**
+         * Fitness evaluation function for calculating fitness of target chromosome.
+         * <br><b>Created on:</b> <i>11:12:59 PM Oct 16, 2026</i>
+         */
+        private IFitnessFunction<PackedBits> fitnessFunc = null;
+
+        /**
+         * Whether fitness evaluation of target chromosome is deferred.
+         * <br><b>Created on:</b> <i>11:13:15 PM Oct 16, 2026</i>
+         */
+        private boolean deferFitness = false;
+
+        /**
+         * Lineage store target chromosome is registered in, null if lineage is not tracked.
+         * <br><b>Created on:</b> <i>8:14:40 AM Oct 16, 2026</i>
+         */
+        private ILineageStore lineage = null;
+
+        /**
+         * Lineage ids of parents of target chromosome.
+         * <br><b>Created on:</b> <i>8:14:50 AM Oct 16, 2026</i>
+         */
+        private long[] parentIds = new long[2];
+
+        /**
+         * Number of parent ids of target chromosome.
+         * <br><b>Created on:</b> <i>8:15:00 AM Oct 16, 2026</i>
+         */
+        private int parentCount = 0;
+
+        /**
+         * Lineage id of prototype chromosome, kept by target one instead of registering it again.
+         * <br><b>Created on:</b> <i>8:15:10 AM Oct 16, 2026</i>
+         */
+        private long lineageId = ILineageStore.NO_LINEAGE;
+
+        /**
+         * Evaluated chromosome target one differs from in changed loci.
+         * <br><b>Created on:</b> <i>7:11:40 AM Oct 16, 2026</i>
+         */
+        private PackedBitChromosome deltaParent = null;
+
+        /**
+         * Loci where bits of target chromosome differ from delta parent.
+         * <br><b>Created on:</b> <i>7:11:55 AM Oct 16, 2026</i>
+         */
+        private int[] changedLoci = null;
+
+
+        /**
+         * Build target packed bit chromosome.
+         * <br><b>PRE-conditions:</b> this builder is in valid state
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>11:14:02 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#build()
+         * @return new packed bit chromosome instance
+         * @throws IllegalStateException
+         *             if this builder is in invalid state
+         */
+        @Override
+        public final PackedBitChromosome build() throws IllegalStateException {
+            if (!isValid()) {
+                throw new IllegalStateException();
+            }
+            final PackedBitChromosome chromosome = new PackedBitChromosome(bits, age, generation, fitness,
+                lineageId(), null, deltaParent, changedLoci);
+            if (!Double.isNaN(fitness) || deferFitness) {
+                return chromosome;
+            }
+            if (fitnessFunc instanceof IIncrementalFitnessFunction) {
+                @SuppressWarnings("unchecked")
+                final IIncrementalFitnessFunction<PackedBits, Object> func =
+                    (IIncrementalFitnessFunction<PackedBits, Object>) fitnessFunc;
+                return chromosome.evaluateIncrementally(func);
+            }
+            return chromosome.withFitness(IDoubleFitnessFunction.valueOf(fitnessFunc, bits)); // most common case
+        }
+
+        /**
+         * Check if this builder is in valid state, though target chromosome can be built.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>11:14:40 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#isValid()
+         * @return true if this builder is in valid state, false otherwise
+         */
+        @Override
+        public final boolean isValid() {
+            if (bits == null) {
+                return false;
+            }
+            if (age < 0) {
+                return false;
+            }
+            if (generation < 0) {
+                return false;
+            }
+            if (deferFitness) {
+                return Double.isNaN(fitness);
+            }
+            if (Double.isNaN(fitness) && fitnessFunc == null) {
+                return false;
+            }
+            if (!Double.isNaN(fitness) && fitnessFunc != null) {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Get fingerprint of given packed bits, which is packed bits themselves.
+         * <br><b>PRE-conditions:</b> non-null data
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>11:15:22 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#fingerprint(java.lang.Cloneable)
+         * @param data
+         *            packed bits
+         * @return fingerprint of provided data
+         */
+        @Override
+        public final PackedBits fingerprint(final PackedBits data) {
+            Validators.nonNull(data);
+            return data;
+        }
+
+        /**
+         * Set internal bits data for target chromosome. Bits are immutable, so no copy is made. Lineage id copied from
+         * prototype is dropped, since target chromosome is new one.
+         * <br><b>PRE-conditions:</b> non-null data
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:16:01 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#data(java.lang.Cloneable)
+         * @param data
+         *            packed bits for target chromosome
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final PackedBitChromosomeBuilder data(final PackedBits data) {
+            Validators.nonNull(data);
+            bits = data;
+            lineageId = ILineageStore.NO_LINEAGE;
+            return this;
+        }
+
+        /**
+         * Set internal bits data for target chromosome from freshly created words. Ownership of words is taken, no
+         * copy is made (see {@link PackedBits#wrap(long[], int)}). Lineage id copied from prototype is dropped.
+         * <br><b>PRE-conditions:</b> non-null words, words.length == PackedBits.wordsFor(length)
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:16:48 PM Oct 16, 2026</i>
+         * 
+         * @param words
+         *            packed bits for target chromosome, caller must not modify them after this call
+         * @param length
+         *            number of bits
+         * @return this builder (for call chaining)
+         */
+        public final PackedBitChromosomeBuilder words(final long[] words, final int length) {
+            bits = PackedBits.wrap(words, length);
+            lineageId = ILineageStore.NO_LINEAGE;
+            return this;
+        }
+
+        /**
+         * Set evaluated chromosome that target one was derived from and loci where their bits differ. Enables
+         * incremental fitness evaluation of target chromosome when fitness function is
+         * {@link IIncrementalFitnessFunction}, ignored by other fitness functions.
+         * <br><b>PRE-conditions:</b> non-null parent and changedLoci, bits of target chromosome differ from bits of
+         * parent exactly in changedLoci (distinct indexes)
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>7:12:30 AM Oct 16, 2026</i>
+         * 
+         * @param parent
+         *            chromosome target one was derived from
+         * @param changedLoci
+         *            indexes of bits that differ from parent, are not copied and must not be modified
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final PackedBitChromosomeBuilder delta(final PackedBitChromosome parent, final int[] changedLoci) {
+            Validators.nonNull(parent);
+            Validators.nonNull(changedLoci);
+            this.deltaParent = parent;
+            this.changedLoci = changedLoci;
+            return this;
+        }
+
+        /**
+         * Copy all the data and parameters from given chromosome. Gene data is shared with given chromosome. Lineage id
+         * of given chromosome is kept by target one unless data or parent is set afterwards.
+         * <br><b>PRE-conditions:</b> non-null chromosome
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:17:35 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#from(dburyak.jgatools.IChromosome)
+         * @param chromosome
+         *            chromosome to copy data from
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final PackedBitChromosomeBuilder from(final PackedBitChromosome chromosome) {
+            Validators.nonNull(chromosome);
+            this.bits = chromosome.bits;
+            this.age = chromosome.age;
+            this.generation = chromosome.generation;
+            this.lineageId = chromosome.lineageId;
+            return this;
+        }
+
+        /**
+         * Set age of target chromosome.
+         * <br><b>PRE-conditions:</b> age &gt;= 0
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:18:02 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#age(int)
+         * @param age
+         *            age of target chromosome
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final PackedBitChromosomeBuilder age(final int age) {
+            Validators.nonNegative(age);
+            this.age = age;
+            return this;
+        }
+
+        /**
+         * Set generation number of target chromosome.
+         * <br><b>PRE-conditions:</b> generation &gt;= 0
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:18:25 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#generation(int)
+         * @param generation
+         *            generation number of target chromosome
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final PackedBitChromosomeBuilder generation(final int generation) {
+            Validators.nonNegative(generation);
+            this.generation = generation;
+            return this;
+        }
+
+        /**
+         * Set fitness of target chromosome.
+         * <br><b>PRE-conditions:</b> non-null fitness
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:18:49 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#fitness(dburyak.jgatools.Fitness)
+         * @param fitness
+         *            fitness of target chromosome
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final PackedBitChromosomeBuilder fitness(final Fitness fitness) {
+            Validators.nonNull(fitness);
+            return fitnessValue(fitness.value());
+        }
+
+        /**
+         * Set fitness value of target chromosome.
+         * <br><b>PRE-conditions:</b> {@link Fitness#minValue()} &lt;= fitnessValue &lt;= {@link Fitness#maxValue()}
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>8:31:00 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#fitnessValue(double)
+         * @param fitnessValue
+         *            fitness value of target chromosome
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final PackedBitChromosomeBuilder fitnessValue(final double fitnessValue) {
+            this.fitness = Fitness.checkValue(fitnessValue);
+            return this;
+        }
+
+        /**
+         * Set fitness evaluation strategy for calculating fitness of the target chromosome.
+         * <br><b>PRE-conditions:</b> non-null fitnessFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:19:13 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#fitnessFunc(dburyak.jgatools.IFitnessFunction)
+         * @param fitnessFunc
+         *            fitness evaluation strategy
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final PackedBitChromosomeBuilder fitnessFunc(final IFitnessFunction<PackedBits> fitnessFunc) {
+            Validators.nonNull(fitnessFunc);
+            this.fitnessFunc = fitnessFunc;
+            return this;
+        }
+
+        /**
+         * Defer fitness evaluation of target chromosome.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:19:40 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#deferFitness()
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final PackedBitChromosomeBuilder deferFitness() {
+            deferFitness = true;
+            return this;
+        }
+
+        /**
+         * Evaluate fitness of given chromosomes with fitness function of this builder.
+         * <br><b>PRE-conditions:</b> non-null chromosomes, fitness function is set if any chromosome is not evaluated
+         * <br><b>POST-conditions:</b> non-null result of the same size, all result chromosomes are evaluated
+         * <br><b>Side-effects:</b> fitness function is called
+         * <br><b>Created on:</b> <i>11:20:11 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#evaluate(java.util.List)
+         * @param chromosomes
+         *            chromosomes to be evaluated
+         * @return evaluated chromosomes in the same order
+         * @throws IllegalStateException
+         *             if fitness function is not set while some chromosome needs evaluation
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public final List<PackedBitChromosome> evaluate(final List<PackedBitChromosome> chromosomes)
+            throws IllegalStateException {
+
+            Validators.nonNull(chromosomes);
+            final List<PackedBits> data = new ArrayList<>();
+            for (final PackedBitChromosome chromosome : chromosomes) {
+                if (!chromosome.evaluated()) {
+                    data.add(chromosome.bits);
+                }
+            }
+            if (data.isEmpty()) {
+                return chromosomes;
+            }
+            if (fitnessFunc == null) {
+                throw new IllegalStateException("fitness function is not set");
+            }
+            if (fitnessFunc instanceof IIncrementalFitnessFunction) {
+                @SuppressWarnings("unchecked")
+                final IIncrementalFitnessFunction<PackedBits, Object> func =
+                    (IIncrementalFitnessFunction<PackedBits, Object>) fitnessFunc;
+                final List<PackedBitChromosome> result = new ArrayList<>(chromosomes.size());
+                for (final PackedBitChromosome chromosome : chromosomes) {
+                    result.add(chromosome.evaluated() ? chromosome : chromosome.evaluateIncrementally(func));
+                }
+                return result;
+            }
+            final double[] fitnesses = new double[data.size()];
+            if (fitnessFunc instanceof IBatchFitnessFunction) {
+                final List<Fitness> batch = ((IBatchFitnessFunction<PackedBits>) fitnessFunc).calcFitnessBatch(data);
+                Validators.isTrue(batch.size() == data.size());
+                for (int i = 0; i < fitnesses.length; i++) {
+                    fitnesses[i] = batch.get(i).value();
+                }
+            } else {
+                for (int i = 0; i < fitnesses.length; i++) {
+                    fitnesses[i] = IDoubleFitnessFunction.valueOf(fitnessFunc, data.get(i));
+                }
+            }
+            final List<PackedBitChromosome> result = new ArrayList<>(chromosomes.size());
+            int fitnessIndex = 0;
+            for (final PackedBitChromosome chromosome : chromosomes) {
+                result.add(chromosome.evaluated()
+                    ? chromosome
+                    : chromosome.withFitness(fitnesses[fitnessIndex++]));
+            }
+            return result;
+        }
+
+        /**
+         * Evaluate fitness of given chromosome asynchronously with fitness function of this builder.
+         * <br><b>PRE-conditions:</b> non-null chromosome, fitness function is set if chromosome is not evaluated
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> fitness function is called on subscription to result
+         * <br><b>Created on:</b> <i>11:21:02 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#evaluateAsync(dburyak.jgatools.IChromosome)
+         * @param chromosome
+         *            chromosome to be evaluated
+         * @return single that emits evaluated chromosome
+         * @throws IllegalStateException
+         *             if fitness function is not set while chromosome needs evaluation
+         */
+        @SuppressWarnings("nls")
+        @Override
+        public final Single<PackedBitChromosome> evaluateAsync(final PackedBitChromosome chromosome)
+            throws IllegalStateException {
+
+            Validators.nonNull(chromosome);
+            if (chromosome.evaluated()) {
+                return Single.just(chromosome);
+            }
+            if (fitnessFunc == null) {
+                throw new IllegalStateException("fitness function is not set");
+            }
+            final IFitnessFunction<PackedBits> func = fitnessFunc;
+            if (func instanceof IIncrementalFitnessFunction) {
+                @SuppressWarnings("unchecked")
+                final IIncrementalFitnessFunction<PackedBits, Object> incrementalFunc =
+                    (IIncrementalFitnessFunction<PackedBits, Object>) func;
+                return Single.fromCallable(() -> chromosome.evaluateIncrementally(incrementalFunc));
+            }
+            if (func instanceof IAsyncFitnessFunction) {
+                return ((IAsyncFitnessFunction<PackedBits>) func).calcFitnessAsync(chromosome.bits)
+                    .map(fitness -> chromosome.withFitness(fitness.value()));
+            }
+            return Single.fromCallable(
+                () -> chromosome.withFitness(IDoubleFitnessFunction.valueOf(func, chromosome.bits)));
+        }
+
+        /**
+         * Add lineage id of parent to parent list of target chromosome. Lineage id copied from prototype is dropped,
+         * since chromosome with parents is new one.
+         * <br><b>PRE-conditions:</b> non-null parent
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>11:21:40 PM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#parent(dburyak.jgatools.IChromosome)
+         * @param parent
+         *            parent of the chromosome
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final PackedBitChromosomeBuilder parent(final PackedBitChromosome parent) {
+            Validators.nonNull(parent);
+            if (parentCount == parentIds.length) {
+                parentIds = Arrays.copyOf(parentIds, 2 * parentCount);
+            }
+            parentIds[parentCount++] = parent.lineageId;
+            lineageId = ILineageStore.NO_LINEAGE;
+            return this;
+        }
+
+
+        /**
+         * Set lineage store target chromosome is registered in.
+         * <br><b>PRE-conditions:</b> non-null lineage
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>8:15:20 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IChromosome.IChromosomeBuilder#lineage(dburyak.jgatools.ILineageStore)
+         * @param lineage
+         *            lineage store
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IChromosomeBuilder<PackedBitChromosome, PackedBits> lineage(final ILineageStore lineage) {
+            Validators.nonNull(lineage);
+            this.lineage = lineage;
+            return this;
+        }
+
+        /**
+         * Get lineage id of target chromosome : id of prototype chromosome if it is known, new id registered in
+         * lineage store if it is set, {@link ILineageStore#NO_LINEAGE} otherwise.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> target chromosome may be registered in lineage store
+         * <br><b>Created on:</b> <i>8:15:40 AM Oct 16, 2026</i>
+         * 
+         * @return lineage id of target chromosome
+         */
+        private final long lineageId() {
+            if (lineageId != ILineageStore.NO_LINEAGE || lineage == null) {
+                return lineageId;
+            }
+            return lineage.register(parentIds, parentCount);
+        }
+
+    }
+
+}
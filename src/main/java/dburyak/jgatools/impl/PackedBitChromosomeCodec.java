@@ -0,0 +1,195 @@
+package dburyak.jgatools.impl;
+
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IChromosomeCodec;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Binary codec of {@link PackedBitChromosome} genomes : number of bits as varint followed by packed words. Words are
+ * written straight from shared packed bits and are read into single array that decoded chromosome wraps.
+ * <br><b>Created on:</b> <i>7:57:20 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class PackedBitChromosomeCodec implements IChromosomeCodec<PackedBitChromosome> {
+
+    /**
+     * Version of data format.
+     * <br><b>Created on:</b> <i>7:57:40 AM Oct 16, 2026</i>
+     */
+    private static final int VERSION = 1;
+
+
+    /**
+     * Fitness function for decoded chromosomes that were not evaluated, may be null.
+     * <br><b>Created on:</b> <i>7:57:55 AM Oct 16, 2026</i>
+     */
+    private final IFitnessFunction<PackedBits> fitnessFunc;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.PackedBitChromosomeCodec.<br>
+     * Not evaluated chromosomes are decoded with deferred fitness.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:58:10 AM Oct 16, 2026</i>
+     */
+    public PackedBitChromosomeCodec() {
+        this(null);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.PackedBitChromosomeCodec.<br>
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:58:25 AM Oct 16, 2026</i>
+     * 
+     * @param fitnessFunc
+     *            fitness function that evaluates decoded chromosomes that were not evaluated when encoded, null to
+     *            decode them with deferred fitness
+     */
+    public PackedBitChromosomeCodec(final IFitnessFunction<PackedBits> fitnessFunc) {
+        this.fitnessFunc = fitnessFunc;
+    }
+
+    /**
+     * Get version of data format.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:58:40 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosomeCodec#version()
+     * @return version of data format
+     */
+    @Override
+    public final int version() {
+        return VERSION;
+    }
+
+    /**
+     * Get size of encoded genome of given chromosome.
+     * <br><b>PRE-conditions:</b> non-null chromosome
+     * <br><b>POST-conditions:</b> positive result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:59:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosomeCodec#genomeSize(dburyak.jgatools.IChromosome)
+     * @param chromosome
+     *            chromosome to be encoded
+     * @return size of encoded genome in bytes
+     */
+    @Override
+    public final int genomeSize(final PackedBitChromosome chromosome) {
+        final PackedBits bits = chromosome.bits();
+        return Varints.size(bits.length()) + bits.wordCount() * Long.BYTES;
+    }
+
+    /**
+     * Write genome of given chromosome.
+     * <br><b>PRE-conditions:</b> non-null chromosome and out
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> out is written
+     * <br><b>Created on:</b> <i>7:59:20 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosomeCodec#encodeGenome(dburyak.jgatools.IChromosome, java.nio.ByteBuffer)
+     * @param chromosome
+     *            chromosome to be encoded
+     * @param out
+     *            destination buffer
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    @Override
+    public final void encodeGenome(final PackedBitChromosome chromosome, final ByteBuffer out)
+        throws BufferOverflowException {
+
+        final PackedBits bits = chromosome.bits();
+        Varints.put(out, bits.length());
+        for (int i = 0; i < bits.wordCount(); i++) {
+            out.putLong(bits.word(i));
+        }
+    }
+
+    /**
+     * Read genome and build chromosome.
+     * <br><b>PRE-conditions:</b> non-null in
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> in position is advanced
+     * <br><b>Created on:</b> <i>7:59:40 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IChromosomeCodec#decode(java.nio.ByteBuffer, int, int, int, double)
+     * @param in
+     *            source buffer
+     * @param version
+     *            version of codec that wrote data
+     * @param age
+     *            age of chromosome
+     * @param generation
+     *            generation of chromosome
+     * @param fitness
+     *            fitness value of chromosome, NaN if it was not evaluated
+     * @return decoded chromosome
+     * @throws BufferUnderflowException
+     *             if buffer ends before genome
+     */
+    @Override
+    public final PackedBitChromosome decode(
+        final ByteBuffer in,
+        final int version,
+        final int age,
+        final int generation,
+        final double fitness) throws BufferUnderflowException {
+
+        final int length = Varints.getInt(in);
+        final int wordCount = PackedBits.wordsFor(length);
+        if ((long) wordCount * Long.BYTES > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final long[] words = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = in.getLong();
+        }
+
+        final PackedBitChromosomeBuilder builder = new PackedBitChromosomeBuilder();
+        builder.words(words, length).age(age).generation(generation);
+        if (!Double.isNaN(fitness)) {
+            builder.fitnessValue(fitness);
+        } else if (fitnessFunc != null) {
+            builder.fitnessFunc(fitnessFunc);
+        } else {
+            builder.deferFitness();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get string representation of this codec.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:00:00 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this codec
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final String toString() {
+        return "PackedBitChromosomeCodec{version = [" + VERSION + "]}";
+    }
+
+}
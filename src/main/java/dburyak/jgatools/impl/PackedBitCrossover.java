@@ -0,0 +1,495 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.ICrossoverStrategy;
+import dburyak.jgatools.ILineageStore;
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import dburyak.jtools.Validators;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Crossover operators for {@link PackedBitChromosome} that work on whole 64-bit words. Every operator is expressed as
+ * swap mask : two parents produce two complementary offsprings, bit i of offsprings is swapped when bit i of mask is
+ * set. Mask is generated word by word (shifts of all-ones word for cut points, raw random words for uniform
+ * crossover), then single pass computes {@code x = (a ^ b) & mask}, {@code a ^ x} and {@code b ^ x} for each word. No
+ * bit is visited individually (except differing bits for half-uniform crossover), no parent bits are copied.<br>
+ * Offsprings are built with deferred fitness (see {@link PackedBitChromosomeBuilder#deferFitness()}), engines evaluate
+ * them in batches. Offspring has age 0 and generation next to the latest generation of parents. Operator bound to
+ * lineage store ({@link #withLineage(ILineageStore)}) registers offsprings there with both parents.
+ * <br><b>Created on:</b> <i>6:40:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class PackedBitCrossover implements ICrossoverStrategy<PackedBitChromosome> {
+
+    /**
+     * Precision of swap probability of uniform crossover, in binary digits.
+     * <br><b>Created on:</b> <i>6:40:45 AM Oct 16, 2026</i>
+     */
+    private static final int PROBABILITY_BITS = 16;
+
+
+    /**
+     * Create single-point crossover : offsprings swap all bits after random cut point.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:41:10 AM Oct 16, 2026</i>
+     * 
+     * @return single-point crossover
+     */
+    public static final PackedBitCrossover singlePoint() {
+        return kPoint(1);
+    }
+
+    /**
+     * Create k-point crossover : k distinct random cut points split bit string into segments, offsprings swap every
+     * second segment. If bit string has fewer than k possible cut points, all of them are used.
+     * <br><b>PRE-conditions:</b> positive points
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:41:40 AM Oct 16, 2026</i>
+     * 
+     * @param points
+     *            number of cut points
+     * @return k-point crossover
+     */
+    @SuppressWarnings("nls")
+    public static final PackedBitCrossover kPoint(final int points) {
+        Validators.positive(points);
+        return new PackedBitCrossover("kPoint(" + points + ")",
+            (bits1, bits2, mask, rng) -> fillPoints(bits1.length(), points, mask, rng), null);
+    }
+
+    /**
+     * Create uniform crossover : each bit is swapped independently with probability 0.5. Mask words are raw random
+     * words.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:42:15 AM Oct 16, 2026</i>
+     * 
+     * @return uniform crossover
+     */
+    public static final PackedBitCrossover uniform() {
+        return uniform(0.5D);
+    }
+
+    /**
+     * Create uniform crossover : each bit is swapped independently with given probability. Mask word is combined from
+     * random words by binary digits of probability (rounded to {@value #PROBABILITY_BITS} digits), so it costs one
+     * random word per significant digit : probability 0.5 costs one word, 0.25 or 0.75 - two words.
+     * <br><b>PRE-conditions:</b> 0 &lt;= swapProbability &lt;= 1
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:42:50 AM Oct 16, 2026</i>
+     * 
+     * @param swapProbability
+     *            probability of each bit to be swapped
+     * @return uniform crossover
+     */
+    @SuppressWarnings("nls")
+    public static final PackedBitCrossover uniform(final double swapProbability) {
+        Validators.isTrue(swapProbability >= 0.0D && swapProbability <= 1.0D);
+        final long digits = Math.round(swapProbability * (1L << PROBABILITY_BITS));
+        return new PackedBitCrossover("uniform(" + swapProbability + ")",
+            (bits1, bits2, mask, rng) -> fillUniform(digits, mask, rng), null);
+    }
+
+    /**
+     * Create half-uniform crossover (HUX) : exactly half (rounded down) of bits that differ between parents is
+     * swapped, bits are chosen uniformly at random. Differing bits are found with word XOR, then only they are
+     * visited.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:43:30 AM Oct 16, 2026</i>
+     * 
+     * @return half-uniform crossover
+     */
+    @SuppressWarnings("nls")
+    public static final PackedBitCrossover halfUniform() {
+        return new PackedBitCrossover("halfUniform", PackedBitCrossover::fillHalfUniform, null);
+    }
+
+    /**
+     * Create masked crossover : bits that are set in given fixed mask are swapped. Useful when genome consists of
+     * known blocks that should be inherited together.
+     * <br><b>PRE-conditions:</b> non-null mask of the same length as parents
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:44:05 AM Oct 16, 2026</i>
+     * 
+     * @param mask
+     *            bits to be swapped
+     * @return masked crossover
+     */
+    @SuppressWarnings("nls")
+    public static final PackedBitCrossover masked(final PackedBits mask) {
+        Validators.nonNull(mask);
+        return new PackedBitCrossover("masked", (bits1, bits2, dest, rng) -> {
+            Validators.isTrue(mask.length() == bits1.length());
+            mask.copyWordsTo(dest);
+        }, null);
+    }
+
+    /**
+     * Fill swap mask with segments between given number of distinct random cut points : every second segment
+     * (starting from the one after the first cut point) is set.
+     * <br><b>PRE-conditions:</b> non-negative length, positive points, mask.length == wordsFor(length), non-null rng
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> mask is filled, rng state is changed
+     * <br><b>Created on:</b> <i>6:44:50 AM Oct 16, 2026</i>
+     * 
+     * @param length
+     *            number of bits
+     * @param points
+     *            number of cut points
+     * @param mask
+     *            (out) swap mask
+     * @param rng
+     *            random generator
+     */
+    private static final void fillPoints(final int length, final int points, final long[] mask, final Rng rng) {
+        // cut point p lies between bits p - 1 and p, so there are (length - 1) possible points
+        final int count = Math.min(points, Math.max(0, length - 1));
+        final int[] cuts = new int[count];
+        for (int i = 0; i < count; i++) {
+            int cut;
+            boolean duplicate;
+            do {
+                cut = 1 + rng.nextInt(length - 1);
+                duplicate = false;
+                for (int j = 0; j < i && !duplicate; j++) {
+                    duplicate = cuts[j] == cut;
+                }
+            } while (duplicate);
+            cuts[i] = cut;
+        }
+        Arrays.sort(cuts);
+        // each cut inverts mask from its position up to the end
+        long fill = 0L;
+        int next = 0;
+        for (int w = 0; w < mask.length; w++) {
+            long word = fill;
+            final int wordEnd = (w + 1) << 6;
+            for (; next < count && cuts[next] < wordEnd; next++) {
+                word ^= -1L << cuts[next]; // shift distance is taken modulo 64
+                fill = ~fill;
+            }
+            mask[w] = word;
+        }
+    }
+
+    /**
+     * Fill swap mask with independent bits set with probability given as fixed-point binary fraction. Digits are
+     * consumed from the least significant one : set digit ORs random word into mask, clear digit ANDs it, so each bit
+     * ends up set with probability {@code digits / 2^PROBABILITY_BITS}.
+     * <br><b>PRE-conditions:</b> 0 &lt;= digits &lt;= 2^PROBABILITY_BITS, non-null mask and rng
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> mask is filled, rng state is changed
+     * <br><b>Created on:</b> <i>6:45:40 AM Oct 16, 2026</i>
+     * 
+     * @param digits
+     *            swap probability multiplied by 2^PROBABILITY_BITS
+     * @param mask
+     *            (out) swap mask
+     * @param rng
+     *            random generator
+     */
+    private static final void fillUniform(final long digits, final long[] mask, final Rng rng) {
+        if (digits == 0L || digits == (1L << PROBABILITY_BITS)) {
+            Arrays.fill(mask, (digits == 0L) ? 0L : -1L);
+            return;
+        }
+        final int from = Long.numberOfTrailingZeros(digits);
+        for (int w = 0; w < mask.length; w++) {
+            long word = 0L;
+            for (int digit = from; digit < PROBABILITY_BITS; digit++) {
+                word = (((digits >>> digit) & 1L) != 0L) ? (word | rng.nextLong()) : (word & rng.nextLong());
+            }
+            mask[w] = word;
+        }
+    }
+
+    /**
+     * Fill swap mask with exactly half (rounded down) of bits that differ between parents, chosen by sequential
+     * selection sampling.
+     * <br><b>PRE-conditions:</b> non-null parents of the same length, mask.length == wordsFor(length), non-null rng
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> mask is filled, rng state is changed
+     * <br><b>Created on:</b> <i>6:46:20 AM Oct 16, 2026</i>
+     * 
+     * @param bits1
+     *            bits of first parent
+     * @param bits2
+     *            bits of second parent
+     * @param mask
+     *            (out) swap mask
+     * @param rng
+     *            random generator
+     */
+    private static final void fillHalfUniform(
+        final PackedBits bits1,
+        final PackedBits bits2,
+        final long[] mask,
+        final Rng rng) {
+
+        int remaining = 0;
+        for (int w = 0; w < mask.length; w++) {
+            mask[w] = bits1.word(w) ^ bits2.word(w);
+            remaining += Long.bitCount(mask[w]);
+        }
+        int needed = remaining / 2;
+        for (int w = 0; w < mask.length; w++) {
+            long differing = mask[w];
+            long word = 0L;
+            while (differing != 0L && needed > 0) {
+                final long lowest = differing & -differing;
+                if (rng.nextInt(remaining) < needed) {
+                    word |= lowest;
+                    needed--;
+                }
+                remaining--;
+                differing ^= lowest;
+            }
+            mask[w] = word;
+        }
+    }
+
+
+    /**
+     * Name of operator, for string representation.
+     * <br><b>Created on:</b> <i>6:47:00 AM Oct 16, 2026</i>
+     */
+    private final String name;
+
+    /**
+     * Generator of swap mask.
+     * <br><b>Created on:</b> <i>6:47:15 AM Oct 16, 2026</i>
+     */
+    private final IMaskGenerator maskGenerator;
+
+    /**
+     * Lineage store offsprings are registered in, null if lineage is not tracked.
+     * <br><b>Created on:</b> <i>8:58:30 AM Oct 16, 2026</i>
+     */
+    private final ILineageStore lineage;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.PackedBitCrossover.<br>
+     * <br><b>PRE-conditions:</b> non-null name and maskGenerator
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:47:40 AM Oct 16, 2026</i>
+     * 
+     * @param name
+     *            name of operator
+     * @param maskGenerator
+     *            generator of swap mask
+     * @param lineage
+     *            lineage store offsprings are registered in, null if lineage is not tracked
+     */
+    private PackedBitCrossover(final String name, final IMaskGenerator maskGenerator, final ILineageStore lineage) {
+        this.name = name;
+        this.maskGenerator = maskGenerator;
+        this.lineage = lineage;
+    }
+
+    /**
+     * Perform crossover of two parents with generator of current thread.
+     * <br><b>PRE-conditions:</b> non-null parents with exactly two chromosomes of the same length
+     * <br><b>POST-conditions:</b> non-null result with two offsprings
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:48:10 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ICrossoverStrategy#crossover(rx.Observable)
+     * @param parents
+     *            parents that participate in crossover
+     * @return two complementary offsprings
+     */
+    @Override
+    public final Observable<PackedBitChromosome> crossover(final Observable<PackedBitChromosome> parents) {
+        return crossover(parents, new Rng(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Perform crossover of two parents drawing randomness from given generator.
+     * <br><b>PRE-conditions:</b> non-null parents with exactly two chromosomes of the same length, non-null rng
+     * <br><b>POST-conditions:</b> non-null result with two offsprings
+     * <br><b>Side-effects:</b> rng state is changed when result is consumed
+     * <br><b>Created on:</b> <i>6:48:40 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ICrossoverStrategy#crossover(rx.Observable, dburyak.jgatools.Rng)
+     * @param parents
+     *            parents that participate in crossover
+     * @param rng
+     *            random generator owned by calling task
+     * @return two complementary offsprings
+     */
+    @Override
+    public final Observable<PackedBitChromosome> crossover(
+        final Observable<PackedBitChromosome> parents,
+        final Rng rng) {
+
+        Validators.nonNull(parents);
+        Validators.nonNull(rng);
+        return parents.toList().flatMap(list -> {
+            Validators.isTrue(list.size() == 2);
+            final PackedBitChromosome parent1 = list.get(0);
+            final PackedBitChromosome parent2 = list.get(1);
+            final long[][] offsprings = crossover(parent1.bits(), parent2.bits(), rng);
+            final int length = parent1.bits().length();
+            final int generation = Math.max(parent1.generation(), parent2.generation()) + 1;
+            return Observable.just(
+                offspring(offsprings[0], length, generation, parent1, parent2),
+                offspring(offsprings[1], length, generation, parent1, parent2));
+        });
+    }
+
+    /**
+     * Produce words of two offsprings of given parents bits.
+     * <br><b>PRE-conditions:</b> non-null bits1 and bits2 of the same length, non-null rng
+     * <br><b>POST-conditions:</b> non-null result with two arrays of wordsFor(length) words
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>6:49:20 AM Oct 16, 2026</i>
+     * 
+     * @param bits1
+     *            bits of first parent
+     * @param bits2
+     *            bits of second parent
+     * @param rng
+     *            random generator
+     * @return words of first and second offspring
+     */
+    final long[][] crossover(final PackedBits bits1, final PackedBits bits2, final Rng rng) {
+        Validators.isTrue(bits1.length() == bits2.length());
+        final int wordCount = bits1.wordCount();
+        final long[] offspring1 = new long[wordCount];
+        final long[] offspring2 = new long[wordCount];
+        maskGenerator.fill(bits1, bits2, offspring1, rng); // mask is built in place of the first offspring
+        for (int w = 0; w < wordCount; w++) {
+            final long word1 = bits1.word(w);
+            final long word2 = bits2.word(w);
+            final long swap = (word1 ^ word2) & offspring1[w];
+            offspring1[w] = word1 ^ swap;
+            offspring2[w] = word2 ^ swap;
+        }
+        return new long[][] { offspring1, offspring2 };
+    }
+
+    /**
+     * Build offspring with deferred fitness from given words. Offspring is registered in lineage store, if any.
+     * <br><b>PRE-conditions:</b> words.length == wordsFor(length), non-negative generation, non-null parents
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> offspring may be registered in lineage store
+     * <br><b>Created on:</b> <i>6:49:55 AM Oct 16, 2026</i>
+     * 
+     * @param words
+     *            words of offspring, ownership is taken
+     * @param length
+     *            number of bits
+     * @param generation
+     *            generation of offspring
+     * @param parent1
+     *            first parent
+     * @param parent2
+     *            second parent
+     * @return offspring
+     */
+    private final PackedBitChromosome offspring(
+        final long[] words,
+        final int length,
+        final int generation,
+        final PackedBitChromosome parent1,
+        final PackedBitChromosome parent2) {
+
+        final PackedBitChromosomeBuilder builder = new PackedBitChromosomeBuilder();
+        if (lineage != null) {
+            builder.lineage(lineage);
+            builder.parent(parent1);
+            builder.parent(parent2);
+        }
+        return builder.words(words, length).age(0).generation(generation).deferFitness().build();
+    }
+
+    /**
+     * Get the same crossover that registers offsprings in given lineage store.
+     * <br><b>PRE-conditions:</b> non-null lineage
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:59:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ICrossoverStrategy#withLineage(dburyak.jgatools.ILineageStore)
+     * @param lineage
+     *            lineage store
+     * @return crossover bound to given lineage store
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public final PackedBitCrossover withLineage(final ILineageStore lineage) {
+        Validators.nonNull(lineage);
+        return new PackedBitCrossover(name, maskGenerator, lineage);
+    }
+
+    /**
+     * Get string representation of this operator.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:50:20 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this operator
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final String toString() {
+        return "PackedBitCrossover{" + name + "}";
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Generator of swap mask of crossover.
+     * <br><b>Created on:</b> <i>6:50:50 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     */
+    @FunctionalInterface
+    private static interface IMaskGenerator {
+
+        /**
+         * Fill swap mask for given parents.
+         * <br><b>PRE-conditions:</b> non-null parents of the same length, mask.length == wordsFor(length), non-null
+         * rng
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> mask is filled, rng state may be changed
+         * <br><b>Created on:</b> <i>6:51:15 AM Oct 16, 2026</i>
+         * 
+         * @param bits1
+         *            bits of first parent
+         * @param bits2
+         *            bits of second parent
+         * @param mask
+         *            (out) swap mask, bit i is set if bit i of offsprings should be swapped
+         * @param rng
+         *            random generator
+         */
+        public void fill(final PackedBits bits1, final PackedBits bits2, final long[] mask, final Rng rng);
+
+    }
+
+}
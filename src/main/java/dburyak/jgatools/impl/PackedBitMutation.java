@@ -0,0 +1,331 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.ILineageStore;
+import dburyak.jgatools.IMutationStrategy;
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Bit-flip mutation operators for {@link PackedBitChromosome}. Operator first samples sorted indexes of bits to flip
+ * ({@link #flips(int, Rng)}), then flips them directly in copy of packed words ({@link #apply(PackedBits, int[])}), so
+ * cost is proportional to number of flips plus one word copy, not to genome length. Both steps are public, so callers
+ * that evaluate fitness incrementally can get changed indexes together with mutant bits. Mutants built by this
+ * operator record flipped indexes (see {@link PackedBitChromosomeBuilder#delta(PackedBitChromosome, int[])}), so
+ * {@link dburyak.jgatools.IIncrementalFitnessFunction} evaluates them from state of original chromosome.<br>
+ * Per-bit rate mutation uses geometric skip sampling : distance to the next flipped bit is drawn from geometric
+ * distribution with one random number, instead of drawing one random number per bit.<br>
+ * Mutants are built with deferred fitness (see {@link PackedBitChromosomeBuilder#deferFitness()}), engines evaluate
+ * them in batches. Mutant has age 0 and generation next to generation of original chromosome. Operator bound to
+ * lineage store ({@link #withLineage(ILineageStore)}) registers mutants there with original chromosome as parent.
+ * <br><b>Created on:</b> <i>6:56:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class PackedBitMutation implements IMutationStrategy<PackedBitChromosome> {
+
+    /**
+     * Create mutation that flips exactly one random bit.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:56:45 AM Oct 16, 2026</i>
+     * 
+     * @return single bit-flip mutation
+     */
+    public static final PackedBitMutation singleBit() {
+        return exactly(1);
+    }
+
+    /**
+     * Create mutation that flips exactly given number of distinct random bits (all bits if genome is shorter).
+     * Indexes are drawn with Floyd sampling, one random number per flip.
+     * <br><b>PRE-conditions:</b> positive count
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:57:15 AM Oct 16, 2026</i>
+     * 
+     * @param count
+     *            number of bits to flip
+     * @return fixed count bit-flip mutation
+     */
+    public static final PackedBitMutation exactly(final int count) {
+        Validators.positive(count);
+        return new PackedBitMutation(count, 0.0D, null);
+    }
+
+    /**
+     * Create mutation that flips each bit independently with given probability. Expected cost is proportional to
+     * {@code rate * length}.
+     * <br><b>PRE-conditions:</b> 0 &lt;= rate &lt;= 1
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:57:50 AM Oct 16, 2026</i>
+     * 
+     * @param rate
+     *            probability of each bit to be flipped
+     * @return per-bit rate mutation
+     */
+    public static final PackedBitMutation perBit(final double rate) {
+        Validators.isTrue(rate >= 0.0D && rate <= 1.0D);
+        return new PackedBitMutation(0, rate, null);
+    }
+
+    /**
+     * Get copy of given bits with given bits flipped.
+     * <br><b>PRE-conditions:</b> non-null bits and flips, 0 &lt;= flips[i] &lt; bits length
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>6:58:30 AM Oct 16, 2026</i>
+     * 
+     * @param bits
+     *            original bits
+     * @param flips
+     *            indexes of bits to flip
+     * @return mutated bits, original bits if there's nothing to flip
+     */
+    public static final PackedBits apply(final PackedBits bits, final int[] flips) {
+        Validators.nonNull(bits);
+        Validators.nonNull(flips);
+        if (flips.length == 0) {
+            return bits;
+        }
+        final long[] words = bits.toLongArray();
+        for (final int index : flips) {
+            Validators.isTrue(index >= 0 && index < bits.length());
+            words[index >>> 6] ^= 1L << index;
+        }
+        return PackedBits.wrap(words, bits.length());
+    }
+
+
+    /**
+     * Number of bits flipped by fixed count mutation, 0 for per-bit rate mutation.
+     * <br><b>Created on:</b> <i>6:59:05 AM Oct 16, 2026</i>
+     */
+    private final int count;
+
+    /**
+     * Probability of each bit to be flipped by per-bit rate mutation.
+     * <br><b>Created on:</b> <i>6:59:20 AM Oct 16, 2026</i>
+     */
+    private final double rate;
+
+    /**
+     * Reciprocal of ln(1 - rate), scales ln(U) into geometric skip.
+     * <br><b>Created on:</b> <i>6:59:35 AM Oct 16, 2026</i>
+     */
+    private final double skipScale;
+
+    /**
+     * Lineage store mutants are registered in, null if lineage is not tracked.
+     * <br><b>Created on:</b> <i>8:57:30 AM Oct 16, 2026</i>
+     */
+    private final ILineageStore lineage;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.PackedBitMutation.<br>
+     * <br><b>PRE-conditions:</b> non-negative count, 0 &lt;= rate &lt;= 1
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:00:00 AM Oct 16, 2026</i>
+     * 
+     * @param count
+     *            number of bits flipped by fixed count mutation, 0 for per-bit rate mutation
+     * @param rate
+     *            probability of each bit to be flipped by per-bit rate mutation
+     * @param lineage
+     *            lineage store mutants are registered in, null if lineage is not tracked
+     */
+    private PackedBitMutation(final int count, final double rate, final ILineageStore lineage) {
+        this.count = count;
+        this.rate = rate;
+        this.skipScale = 1.0D / Math.log1p(-rate);
+        this.lineage = lineage;
+    }
+
+    /**
+     * Sample indexes of bits to be flipped in genome of given length.
+     * <br><b>PRE-conditions:</b> non-negative length, non-null rng
+     * <br><b>POST-conditions:</b> non-null result, distinct indexes in ascending order
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>7:00:40 AM Oct 16, 2026</i>
+     * 
+     * @param length
+     *            number of bits in genome
+     * @param rng
+     *            random generator
+     * @return indexes of bits to flip
+     */
+    public final int[] flips(final int length, final Rng rng) {
+        Validators.nonNegative(length);
+        Validators.nonNull(rng);
+        return (count > 0) ? fixedFlips(length, rng) : rateFlips(length, rng);
+    }
+
+    /**
+     * Sample fixed number of distinct indexes with Floyd algorithm.
+     * <br><b>PRE-conditions:</b> non-negative length, non-null rng
+     * <br><b>POST-conditions:</b> non-null result, distinct indexes in ascending order
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>7:01:15 AM Oct 16, 2026</i>
+     * 
+     * @param length
+     *            number of bits in genome
+     * @param rng
+     *            random generator
+     * @return indexes of bits to flip
+     */
+    private final int[] fixedFlips(final int length, final Rng rng) {
+        final int flipCount = Math.min(count, length);
+        final int[] flips = new int[flipCount];
+        // Floyd : for j in [length - k, length) take random t in [0, j], or j itself if t is already taken
+        for (int i = 0, j = length - flipCount; i < flipCount; i++, j++) {
+            final int candidate = rng.nextInt(j + 1);
+            boolean taken = false;
+            for (int k = 0; k < i && !taken; k++) {
+                taken = flips[k] == candidate;
+            }
+            flips[i] = taken ? j : candidate;
+        }
+        Arrays.sort(flips);
+        return flips;
+    }
+
+    /**
+     * Sample indexes with per-bit rate by geometric skips : skip before the next flip is floor(ln(U) / ln(1 - rate))
+     * for uniform U in (0, 1].
+     * <br><b>PRE-conditions:</b> non-negative length, non-null rng
+     * <br><b>POST-conditions:</b> non-null result, distinct indexes in ascending order
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>7:01:50 AM Oct 16, 2026</i>
+     * 
+     * @param length
+     *            number of bits in genome
+     * @param rng
+     *            random generator
+     * @return indexes of bits to flip
+     */
+    private final int[] rateFlips(final int length, final Rng rng) {
+        if (rate <= 0.0D || length == 0) {
+            return new int[0];
+        }
+        if (rate >= 1.0D) {
+            final int[] all = new int[length];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        int[] flips = new int[(int) Math.min(length, 4L + (long) (2.0D * rate * length))];
+        int flipCount = 0;
+        double position = -1.0D;
+        while (true) {
+            position += 1.0D + Math.floor(Math.log(1.0D - rng.nextDouble()) * skipScale);
+            if (position >= length) {
+                break;
+            }
+            if (flipCount == flips.length) {
+                flips = Arrays.copyOf(flips, Math.min(length, flips.length * 2));
+            }
+            flips[flipCount++] = (int) position;
+        }
+        return (flipCount == flips.length) ? flips : Arrays.copyOf(flips, flipCount);
+    }
+
+    /**
+     * Mutate chromosome with generator of current thread.
+     * <br><b>PRE-conditions:</b> non-null chromosome
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:02:30 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IMutationStrategy#mutate(dburyak.jgatools.IChromosome)
+     * @param chromosome
+     *            chromosome to be mutated
+     * @return mutant
+     */
+    @Override
+    public final PackedBitChromosome mutate(final PackedBitChromosome chromosome) {
+        return mutate(chromosome, new Rng(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Mutate chromosome drawing randomness from given generator. Original bits are shared by mutant if no bit was
+     * flipped.
+     * <br><b>PRE-conditions:</b> non-null chromosome and rng
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>7:03:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IMutationStrategy#mutate(dburyak.jgatools.IChromosome, dburyak.jgatools.Rng)
+     * @param chromosome
+     *            chromosome to be mutated
+     * @param rng
+     *            random generator owned by calling task
+     * @return mutant
+     */
+    @Override
+    public final PackedBitChromosome mutate(final PackedBitChromosome chromosome, final Rng rng) {
+        Validators.nonNull(chromosome);
+        final PackedBits bits = chromosome.bits();
+        final int[] flips = flips(bits.length(), rng);
+        final PackedBitChromosomeBuilder builder = new PackedBitChromosomeBuilder();
+        if (lineage != null) {
+            builder.lineage(lineage);
+            builder.parent(chromosome);
+        }
+        return builder
+            .data(apply(bits, flips))
+            .delta(chromosome, flips)
+            .age(0)
+            .generation(chromosome.generation() + 1)
+            .deferFitness()
+            .build();
+    }
+
+    /**
+     * Get the same mutation that registers mutants in given lineage store.
+     * <br><b>PRE-conditions:</b> non-null lineage
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:58:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IMutationStrategy#withLineage(dburyak.jgatools.ILineageStore)
+     * @param lineage
+     *            lineage store
+     * @return mutation bound to given lineage store
+     */
+    @SuppressWarnings("hiding")
+    @Override
+    public final PackedBitMutation withLineage(final ILineageStore lineage) {
+        Validators.nonNull(lineage);
+        return new PackedBitMutation(count, rate, lineage);
+    }
+
+    /**
+     * Get string representation of this operator.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:03:30 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this operator
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final String toString() {
+        return (count > 0) ? ("PackedBitMutation{exactly(" + count + ")}") : ("PackedBitMutation{perBit(" + rate + ")}");
+    }
+
+}
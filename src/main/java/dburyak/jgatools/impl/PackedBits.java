@@ -0,0 +1,416 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IFingerprint;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Immutable fixed-length bit string packed into {@code long[]} words (bit i is stored in word i / 64 at position
+ * i % 64, same layout as {@link BitSet#toLongArray()}). All read operations work directly on packed words and do not
+ * allocate, so bits can be shared between chromosomes and handed to strategies without copying.<br>
+ * Bit string is its own collision-safe fingerprint : equality is exact comparison of length and words, and 64-bit hash
+ * is calculated lazily once.
+ * <br><b>Created on:</b> <i>10:41:20 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class PackedBits implements Cloneable, IFingerprint {
+
+    /**
+     * Number of bits in one word.
+     * <br><b>Created on:</b> <i>10:42:05 PM Oct 16, 2026</i>
+     */
+    public static final int WORD_SIZE = Long.SIZE;
+
+
+    /**
+     * Get number of words needed for storing given number of bits.
+     * <br><b>PRE-conditions:</b> non-negative length
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:42:37 PM Oct 16, 2026</i>
+     * 
+     * @param length
+     *            number of bits
+     * @return number of words
+     */
+    public static final int wordsFor(final int length) {
+        Validators.nonNegative(length);
+        return (length + WORD_SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Create bit string that takes ownership of given words without copying. Caller <b>MUST NOT</b> modify words
+     * after this call. Bits of the last word beyond length are cleared.<br>
+     * Intended for mutation and crossover implementations that build offspring words from scratch.
+     * <br><b>PRE-conditions:</b> non-null words, non-negative length, words.length == wordsFor(length)
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> bits beyond length in the last word are cleared
+     * <br><b>Created on:</b> <i>10:44:10 PM Oct 16, 2026</i>
+     * 
+     * @param words
+     *            packed bits, ownership is taken
+     * @param length
+     *            number of bits
+     * @return bit string backed by given words
+     */
+    public static final PackedBits wrap(final long[] words, final int length) {
+        Validators.nonNull(words);
+        Validators.isTrue(words.length == wordsFor(length));
+        final int tailBits = length & (WORD_SIZE - 1);
+        if (tailBits != 0) {
+            words[words.length - 1] &= (-1L >>> (WORD_SIZE - tailBits));
+        }
+        return new PackedBits(words, length);
+    }
+
+    /**
+     * Create bit string from copy of given words.
+     * <br><b>PRE-conditions:</b> non-null words, non-negative length, words.length &gt;= wordsFor(length)
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:45:33 PM Oct 16, 2026</i>
+     * 
+     * @param words
+     *            packed bits
+     * @param length
+     *            number of bits
+     * @return bit string with copy of given words
+     */
+    public static final PackedBits copyOf(final long[] words, final int length) {
+        Validators.nonNull(words);
+        Validators.isTrue(words.length >= wordsFor(length));
+        return wrap(Arrays.copyOf(words, wordsFor(length)), length);
+    }
+
+    /**
+     * Create bit string of given length from bitset. Bits of bitset beyond length are ignored.
+     * <br><b>PRE-conditions:</b> non-null bitset, non-negative length
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:46:51 PM Oct 16, 2026</i>
+     * 
+     * @param bitset
+     *            source bits
+     * @param length
+     *            number of bits
+     * @return bit string with bits of given bitset
+     */
+    public static final PackedBits of(final BitSet bitset, final int length) {
+        Validators.nonNull(bitset);
+        return wrap(Arrays.copyOf(bitset.toLongArray(), wordsFor(length)), length);
+    }
+
+
+    /**
+     * Packed bits. Never modified after construction.
+     * <br><b>Created on:</b> <i>10:47:40 PM Oct 16, 2026</i>
+     */
+    private final long[] words;
+
+    /**
+     * Number of bits.
+     * <br><b>Created on:</b> <i>10:48:02 PM Oct 16, 2026</i>
+     */
+    private final int length;
+
+    /**
+     * Lazily calculated 64-bit hash, 0 means not calculated yet. Benign data race : calculation is idempotent.
+     * <br><b>Created on:</b> <i>10:48:25 PM Oct 16, 2026</i>
+     */
+    private volatile long longHash = 0L;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.PackedBits.<br>
+     * <br><b>PRE-conditions:</b> words.length == wordsFor(length), bits beyond length are clear
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:49:30 PM Oct 16, 2026</i>
+     * 
+     * @param words
+     *            packed bits, ownership is taken
+     * @param length
+     *            number of bits
+     */
+    private PackedBits(final long[] words, final int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * Get number of bits.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:50:12 PM Oct 16, 2026</i>
+     * 
+     * @return number of bits
+     */
+    public final int length() {
+        return length;
+    }
+
+    /**
+     * Get number of packed words.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> result &gt;= 0
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:50:40 PM Oct 16, 2026</i>
+     * 
+     * @return number of words
+     */
+    public final int wordCount() {
+        return words.length;
+    }
+
+    /**
+     * Get packed word.
+     * <br><b>PRE-conditions:</b> 0 &lt;= index &lt; wordCount()
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:51:08 PM Oct 16, 2026</i>
+     * 
+     * @param index
+     *            index of word
+     * @return word with bits [index * 64, index * 64 + 63]
+     */
+    public final long word(final int index) {
+        return words[index];
+    }
+
+    /**
+     * Get bit value.
+     * <br><b>PRE-conditions:</b> 0 &lt;= index &lt; length()
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:51:39 PM Oct 16, 2026</i>
+     * 
+     * @param index
+     *            index of bit
+     * @return true if bit is set
+     */
+    public final boolean get(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+        return (words[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Get number of set bits.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> 0 &lt;= result &lt;= length()
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:52:15 PM Oct 16, 2026</i>
+     * 
+     * @return number of set bits
+     */
+    public final int cardinality() {
+        int cardinality = 0;
+        for (final long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Get index of the first set bit that occurs on or after given index.
+     * <br><b>PRE-conditions:</b> non-negative fromIndex
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:52:48 PM Oct 16, 2026</i>
+     * 
+     * @param fromIndex
+     *            index to start search from (inclusive)
+     * @return index of next set bit, or -1 if there's no such bit
+     */
+    public final int nextSetBit(final int fromIndex) {
+        Validators.nonNegative(fromIndex);
+        int wordIndex = fromIndex >>> 6;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0L) {
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Call consumer for index of each set bit in ascending order.
+     * <br><b>PRE-conditions:</b> non-null consumer
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> consumer is called
+     * <br><b>Created on:</b> <i>10:53:37 PM Oct 16, 2026</i>
+     * 
+     * @param consumer
+     *            consumer of set bits indexes
+     */
+    public final void forEachSetBit(final IntConsumer consumer) {
+        Validators.nonNull(consumer);
+        for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            long word = words[wordIndex];
+            while (word != 0L) {
+                consumer.accept((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1L;
+            }
+        }
+    }
+
+    /**
+     * Copy packed words to given array.
+     * <br><b>PRE-conditions:</b> non-null dest, dest.length &gt;= wordCount()
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> dest is changed
+     * <br><b>Created on:</b> <i>10:54:20 PM Oct 16, 2026</i>
+     * 
+     * @param dest
+     *            destination array
+     */
+    public final void copyWordsTo(final long[] dest) {
+        Validators.nonNull(dest);
+        System.arraycopy(words, 0, dest, 0, words.length);
+    }
+
+    /**
+     * Get copy of packed words. Intended for building modified bit strings with {@link #wrap(long[], int)}.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:54:58 PM Oct 16, 2026</i>
+     * 
+     * @return copy of packed words
+     */
+    public final long[] toLongArray() {
+        return words.clone();
+    }
+
+    /**
+     * Convert to bitset.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:55:31 PM Oct 16, 2026</i>
+     * 
+     * @return new bitset with the same bits
+     */
+    public final BitSet toBitSet() {
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Get clone of this bit string. Bit string is immutable, so this instance is returned.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:56:02 PM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#clone()
+     * @return this bit string
+     */
+    @Override
+    public final PackedBits clone() {
+        return this;
+    }
+
+    /**
+     * Get 64-bit hash of this bit string.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> hash is calculated on first call
+     * <br><b>Created on:</b> <i>10:56:40 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFingerprint#longHash()
+     * @return 64-bit hash
+     */
+    @Override
+    public final long longHash() {
+        long hash = longHash;
+        if (hash == 0L) {
+            hash = BitSetFingerprint.hashWords(words, words.length) ^ length;
+            if (hash == 0L) { // reserved for "not calculated"
+                hash = 1L;
+            }
+            longHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Check exact equality of bit strings.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:57:15 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFingerprint#equals(java.lang.Object)
+     * @param other
+     *            other bit string
+     * @return true if other bit string has the same length and bits
+     */
+    @Override
+    public final boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PackedBits)) {
+            return false;
+        }
+        final PackedBits otherBits = (PackedBits) other;
+        return length == otherBits.length
+            && longHash() == otherBits.longHash()
+            && Arrays.equals(words, otherBits.words);
+    }
+
+    /**
+     * Get 32-bit hash of this bit string.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:57:48 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IFingerprint#hashCode()
+     * @return 32-bit hash
+     */
+    @Override
+    public final int hashCode() {
+        return Long.hashCode(longHash());
+    }
+
+    /**
+     * Get string representation of this bit string.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>10:58:20 PM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string of '0' and '1' characters, bit 0 first
+     */
+    @Override
+    public final String toString() {
+        final StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(((words[i >>> 6] & (1L << i)) != 0L) ? '1' : '0');
+        }
+        return sb.toString();
+    }
+
+}
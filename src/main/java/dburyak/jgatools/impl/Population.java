@@ -2,6 +2,7 @@ package dburyak.jgatools.impl;
 
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -12,7 +13,7 @@ import javax.annotation.concurrent.NotThreadSafe;
 import dburyak.jgatools.IChromosome;
 import dburyak.jgatools.IPopulation;
 import dburyak.jgatools.PopulationStats;
-import dburyak.jgatools.PopulationStats.PopulationStatsBuilder;
+import dburyak.jgatools.PopulationStatsAccumulator;
 import dburyak.jtools.Validators;
 import rx.Observable;
 
@@ -48,6 +49,12 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
      */
     private final int eliteCount;
 
+    /**
+     * Ages of chromosomes of this population.
+     * <br/><b>Created on:</b> <i>8:21:40 AM Oct 16, 2026</i>
+     */
+    private final PopulationAges<C> ages;
+
     /**
      * Stats of this population.
      * <br><b>Created on:</b> <i>3:39:19 AM Sep 12, 2016</i>
@@ -68,11 +75,19 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
      *            all chromosomes for this population (sorted)
      * @param eliteCount
      *            number of elite chromosomes in this population
+     * @param ages
+     *            ages of chromosomes
      */
-    private Population(final Properties props, final List<C> chromosomes, final int eliteCount) {
+    private Population(
+        final Properties props,
+        final List<C> chromosomes,
+        final int eliteCount,
+        final PopulationAges<C> ages) {
+
         this.props = props;
         this.chromosomes = Collections.unmodifiableList(chromosomes);
         this.eliteCount = eliteCount;
+        this.ages = ages;
         stats = evalStats();
     }
 
@@ -86,10 +101,12 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
      * @return stats of this population
      */
     private final PopulationStats evalStats() {
-        final PopulationStatsBuilder b = new PopulationStatsBuilder();
-        b.eval(chromosomes.stream());
-        b.eliteCount(eliteCount);
-        return b.build();
+        final PopulationStatsAccumulator acc = new PopulationStatsAccumulator();
+        for (int i = 0; i < chromosomes.size(); i++) {
+            final C c = chromosomes.get(i);
+            acc.add(ages.ageAt(i), c.generation(), c.fitnessValue());
+        }
+        return acc.toStats(eliteCount);
     }
 
     /**
@@ -186,6 +203,23 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
         return stats;
     }
 
+    /**
+     * Get age of given chromosome in this population.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:22:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IPopulation#ageOf(dburyak.jgatools.IChromosome)
+     * @param chromosome
+     *            chromosome of this population
+     * @return age of chromosome in this population, negative if chromosome is not member of this population
+     */
+    @Override
+    public final int ageOf(final C chromosome) {
+        return ages.ageOf(chromosome);
+    }
+
 
     /**
      * Project : jgatools.<br/>
@@ -231,13 +265,13 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
         private final Set<C> added = new HashSet<>();
 
         /**
-         * Chromosomes to be denied (filtered out) in target population.
+         * Genomes to be denied (filtered out) in target population.
          * <br/><b>Created on:</b> <i>11:50:50 PM Sep 9, 2016</i>
          */
-        private final Set<C> denied = new HashSet<>();
+        private final GenomeSet denied = new GenomeSet(0);
 
         /**
-         * Whether duplicate chromosomes should be removed from target population.
+         * Whether duplicate chromosomes (with equal fingerprints) should be removed from target population.
          * <br/><b>Created on:</b> <i>11:52:15 PM Sep 9, 2016</i>
          */
         private boolean removeDuplicates = true;
@@ -254,6 +288,24 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
          */
         private int eliteCount = NOT_SET_INT;
 
+        /**
+         * Whether target population should keep the fittest supplied chromosomes instead of the first ones.
+         * <br><b>Created on:</b> <i>2:38:47 AM Oct 16, 2026</i>
+         */
+        private boolean selectFittest = false;
+
+        /**
+         * Population chromosomes of target population may come from, null if there's no such.
+         * <br/><b>Created on:</b> <i>8:22:20 AM Oct 16, 2026</i>
+         */
+        private Population<C> elders = null;
+
+        /**
+         * Number to add to ages of chromosomes that come from {@link #elders} : 1 for survivors, 0 for copy.
+         * <br/><b>Created on:</b> <i>8:22:30 AM Oct 16, 2026</i>
+         */
+        private int agingStep = 1;
+
 
         /**
          * Build target population.
@@ -272,20 +324,64 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
             if (!isValid()) {
                 throw new IllegalStateException();
             }
+            if (selectFittest) {
+                return buildFittest();
+            }
             @SuppressWarnings("boxing") Observable<C> allChromosomes = Observable.from(added)
                 .concatWith(chromosomes)
                 .concatWith(appearSource)
                 .filter(c -> !denied.contains(c));
             if (removeDuplicates) {
-                allChromosomes = allChromosomes.distinct();
+                final GenomeSet unique = new GenomeSet(size);
+                allChromosomes = allChromosomes.filter(unique::add);
             }
             allChromosomes = allChromosomes.take(size);
             // subscription happens here, target population is the subscriber for all chromosomes (evaluate stats)
-            @SuppressWarnings("boxing") final List<C> chromosomesList = allChromosomes
-                .toSortedList((c1, c2) -> -c1.fitness().compareTo(c2.fitness()))
+            final List<C> chromosomesList = allChromosomes
+                .toList()
+                .map(FitnessOrder::sortedDescending)
                 .toBlocking().single();
             Validators.isTrue(chromosomesList.size() == size);
-            return new Population<>(props, chromosomesList, eliteCount);
+            return new Population<>(props, chromosomesList, eliteCount,
+                new PopulationAges<>(chromosomesList, elders, agingStep));
+        }
+
+        /**
+         * Build target population from the fittest supplied chromosomes. All added and source chromosomes are
+         * traversed with top-k selection, appear source is used only if there are not enough of them.
+         * <br><b>PRE-conditions:</b> this builder is in valid state, chromosomes source is finite
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>2:40:15 AM Oct 16, 2026</i>
+         * 
+         * @return new population instance
+         */
+        @SuppressWarnings("boxing")
+        private final Population<C> buildFittest() {
+            final Comparator<C> byFitness = (c1, c2) -> Double.compare(c1.fitnessValue(), c2.fitnessValue());
+            Observable<C> candidates = Observable.from(added)
+                .concatWith(chromosomes)
+                .filter(c -> !denied.contains(c));
+            if (removeDuplicates) {
+                final GenomeSet unique = new GenomeSet(size);
+                candidates = candidates.filter(unique::add);
+            }
+            List<C> chromosomesList = TopK.select(candidates, size, byFitness).toBlocking().single();
+            if (chromosomesList.size() < size) { // not enough chromosomes, fill up from appear source
+                Observable<C> allChromosomes = Observable.from(chromosomesList)
+                    .concatWith(appearSource.filter(c -> !denied.contains(c)));
+                if (removeDuplicates) {
+                    final GenomeSet unique = new GenomeSet(size);
+                    allChromosomes = allChromosomes.filter(unique::add);
+                }
+                chromosomesList = allChromosomes.take(size)
+                    .toList()
+                    .map(FitnessOrder::sortedDescending)
+                    .toBlocking().single();
+            }
+            Validators.isTrue(chromosomesList.size() == size);
+            return new Population<>(props, chromosomesList, eliteCount,
+                new PopulationAges<>(chromosomesList, elders, agingStep));
         }
 
         /**
@@ -395,6 +491,8 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
             denied.clear();
             size = population.size();
             eliteCount = population.eliteCount();
+            elders = population;
+            agingStep = 0;
             return this;
         }
 
@@ -418,6 +516,27 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
             return this;
         }
 
+        /**
+         * Set previous population of target one, chromosomes that survived from it keep their identity and get age
+         * incremented by target population.
+         * <br/><b>PRE-conditions:</b> non-null previous
+         * <br/><b>POST-conditions:</b> non-null result
+         * <br/><b>Side-effects:</b> this builder state is changed
+         * <br/><b>Created on:</b> <i>8:22:50 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IPopulation.IPopulationBuilder#survivorsOf(dburyak.jgatools.IPopulation)
+         * @param previous
+         *            population survivors come from
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IPopulationBuilder<C, Population<C>> survivorsOf(final Population<C> previous) {
+            Validators.nonNull(previous);
+            elders = previous;
+            agingStep = 1;
+            return this;
+        }
+
         /**
          * Add extra chromosome to the target population. Chromosomes passed through this method will be added first to
          * the target population.
@@ -474,7 +593,7 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
         @Override
         public final IPopulationBuilder<C, Population<C>> removeDuplicates(final boolean removeDuplicates) {
             this.removeDuplicates = removeDuplicates;
-            return null;
+            return this;
         }
 
         /**
@@ -543,6 +662,27 @@ public final class Population<C extends IChromosome> implements IPopulation<C> {
             return this;
         }
 
+        /**
+         * Configure whether target population should consist of the fittest supplied chromosomes. By default first
+         * {@code size} chromosomes are taken (added ones, then chromosomes source, then appear source) and sorted.
+         * When enabled, all added and source chromosomes are traversed and the fittest {@code size} of them are kept
+         * using top-k partial selection in O(n log size), so that whole buffer doesn't need to be sorted by selection
+         * strategy beforehand. Chromosomes source must be finite in this mode.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>2:39:20 AM Oct 16, 2026</i>
+         * 
+         * @param selectFittest
+         *            whether the fittest chromosomes should be selected
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final PopulationBuilder<C> selectFittest(final boolean selectFittest) {
+            this.selectFittest = selectFittest;
+            return this;
+        }
+
     }
 
 }
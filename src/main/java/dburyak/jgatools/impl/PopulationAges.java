@@ -0,0 +1,145 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.List;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IPopulation;
+
+
+/**
+ * Project : jgatools.<br>
+ * Ages of chromosomes of population. Age is property of population rather than of chromosome : chromosome that
+ * survives to the next population is carried over by reference and its age there is its age in previous population
+ * plus one, other chromosomes have their own age ({@link IChromosome#age()}). Ages are stored in primitive array
+ * parallel to chromosomes of population, lookup of age of chromosome goes through identity hash table over primitive
+ * arrays (open addressing, linear probing) that is built on first lookup.
+ * <br><b>Created on:</b> <i>8:16:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@ThreadSafe
+final class PopulationAges<C extends IChromosome> {
+
+    /**
+     * Chromosomes of population.
+     * <br><b>Created on:</b> <i>8:16:40 AM Oct 16, 2026</i>
+     */
+    private final Object[] chromosomes;
+
+    /**
+     * Ages of {@link #chromosomes} (parallel array).
+     * <br><b>Created on:</b> <i>8:16:55 AM Oct 16, 2026</i>
+     */
+    private final int[] ages;
+
+    /**
+     * Chromosomes by slots of identity hash table, null for empty slots. Null until the first lookup.
+     * <br><b>Created on:</b> <i>8:17:10 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private Object[] keys = null;
+
+    /**
+     * Indexes in {@link #chromosomes} by slots of identity hash table (parallel to {@link #keys}).
+     * <br><b>Created on:</b> <i>8:17:25 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private int[] indexes = null;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.PopulationAges.<br>
+     * <br><b>PRE-conditions:</b> non-null chromosomes, non-negative step
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:17:50 AM Oct 16, 2026</i>
+     * 
+     * @param chromosomes
+     *            chromosomes of population in their order in population
+     * @param elders
+     *            population chromosomes may come from, null if there's no such
+     * @param step
+     *            number to add to ages of chromosomes that come from elders (1 for survivors, 0 for copy)
+     */
+    PopulationAges(final List<C> chromosomes, final IPopulation<C> elders, final int step) {
+        this.chromosomes = chromosomes.toArray();
+        ages = new int[this.chromosomes.length];
+        for (int i = 0; i < ages.length; i++) {
+            final C c = chromosomes.get(i);
+            final int elderAge = (elders == null) ? -1 : elders.ageOf(c);
+            ages[i] = (elderAge < 0) ? c.age() : elderAge + step;
+        }
+    }
+
+    /**
+     * Get age of chromosome at given index of population.
+     * <br><b>PRE-conditions:</b> 0 &lt;= index &lt; size
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:18:20 AM Oct 16, 2026</i>
+     * 
+     * @param index
+     *            index of chromosome
+     * @return age of chromosome at given index
+     */
+    final int ageAt(final int index) {
+        return ages[index];
+    }
+
+    /**
+     * Get age of given chromosome in population.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> identity hash table is built on first call
+     * <br><b>Created on:</b> <i>8:18:40 AM Oct 16, 2026</i>
+     * 
+     * @param chromosome
+     *            chromosome to look up
+     * @return age of chromosome, negative if it's not member of population
+     */
+    final synchronized int ageOf(final Object chromosome) {
+        if (keys == null) {
+            index();
+        }
+        final int mask = keys.length - 1;
+        for (int slot = System.identityHashCode(chromosome) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == chromosome) {
+                return ages[indexes[slot]];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Build identity hash table of chromosomes. Table is kept at most half full.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> {@link #keys} and {@link #indexes} are set
+     * <br><b>Created on:</b> <i>8:19:10 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private final void index() {
+        final int capacity = Integer.highestOneBit(Math.max(2, chromosomes.length) * 2 - 1) * 2;
+        keys = new Object[capacity];
+        indexes = new int[capacity];
+        final int mask = capacity - 1;
+        for (int i = 0; i < chromosomes.length; i++) {
+            int slot = System.identityHashCode(chromosomes[i]) & mask;
+            while (keys[slot] != null && keys[slot] != chromosomes[i]) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == null) {
+                keys[slot] = chromosomes[i];
+                indexes[slot] = i;
+            }
+        }
+    }
+
+}
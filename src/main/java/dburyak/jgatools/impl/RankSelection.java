@@ -0,0 +1,158 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IIndexedSelectionStrategy;
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Linear ranking natural selection : probability of chromosome to be picked depends only on its rank, not on raw
+ * fitness value, so selection pressure stays constant when fitness values converge. The fittest chromosome gets weight
+ * {@code pressure}, the worst one gets {@code 2 - pressure}, tied chromosomes share the better rank.<br>
+ * Ranks are computed from sorted primitive copy of fitness values, then cumulative table of weights is precomputed
+ * once per selection and each pick is binary search in it, O(log n). Parallel variant sorts, computes weights and
+ * draws chunks of survivors in common fork/join pool. Weights are summed sequentially in both variants, so the table
+ * (and picks for the same random generator) does not depend on parallelism.
+ * <br><b>Created on:</b> <i>5:41:05 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@Immutable
+public final class RankSelection<C extends IChromosome> implements IIndexedSelectionStrategy<C> {
+
+    /**
+     * Default selection pressure.
+     * <br><b>Created on:</b> <i>5:41:40 AM Oct 16, 2026</i>
+     */
+    private static final double PRESSURE_DEFAULT = 1.5;
+
+    /**
+     * Number of chromosomes that survive selection.
+     * <br><b>Created on:</b> <i>5:41:58 AM Oct 16, 2026</i>
+     */
+    private final int size;
+
+    /**
+     * Selection pressure, expected number of copies of the fittest chromosome per selected population size.
+     * <br><b>Created on:</b> <i>5:42:15 AM Oct 16, 2026</i>
+     */
+    private final double pressure;
+
+    /**
+     * Whether selection is performed in parallel.
+     * <br><b>Created on:</b> <i>5:42:33 AM Oct 16, 2026</i>
+     */
+    private final boolean parallel;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.RankSelection.<br>
+     * Sequential selection with default pressure (1.5).
+     * <br><b>PRE-conditions:</b> non-negative size
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>5:42:58 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes that survive selection
+     */
+    public RankSelection(final int size) {
+        this(size, PRESSURE_DEFAULT, false);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.RankSelection.<br>
+     * <br><b>PRE-conditions:</b> non-negative size, 1 &lt;= pressure &lt;= 2
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>5:43:20 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes that survive selection
+     * @param pressure
+     *            selection pressure, 1 for uniform selection, 2 for the strongest linear ranking
+     * @param parallel
+     *            whether selection should be performed in parallel
+     */
+    public RankSelection(final int size, final double pressure, final boolean parallel) {
+        Validators.nonNegative(size);
+        Validators.isTrue(pressure >= 1.0 && pressure <= 2.0);
+        this.size = size;
+        this.pressure = pressure;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Choose survivors with probabilities given by their ranks.
+     * <br><b>PRE-conditions:</b> non-null fitness and rng
+     * <br><b>POST-conditions:</b> non-null result of selection size, empty for empty fitness
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>5:44:02 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IIndexedSelectionStrategy#selectIndexes(double[], dburyak.jgatools.Rng)
+     * @param fitness
+     *            fitness values of buffer chromosomes
+     * @param rng
+     *            random generator owned by caller
+     * @return indexes of survivors
+     */
+    @Override
+    public final int[] selectIndexes(final double[] fitness, final Rng rng) {
+        Validators.nonNull(fitness);
+        final int n = fitness.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        final double[] cumulative = cumulativeTable(fitness);
+        final double total = cumulative[n - 1];
+        return Draws.independent(size, rng, parallel,
+            r -> Draws.upperBound(cumulative, r.nextDouble() * total));
+    }
+
+    /**
+     * Build cumulative table of rank weights of given fitness values (in order of fitness array).
+     * <br><b>PRE-conditions:</b> non-null non-empty fitness
+     * <br><b>POST-conditions:</b> non-null non-decreasing result of fitness length
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>5:45:10 AM Oct 16, 2026</i>
+     * 
+     * @param fitness
+     *            fitness values
+     * @return cumulative weights
+     */
+    private final double[] cumulativeTable(final double[] fitness) {
+        final int n = fitness.length;
+        final double[] sorted = fitness.clone();
+        if (parallel) {
+            Arrays.parallelSort(sorted);
+        } else {
+            Arrays.sort(sorted);
+        }
+        // weight of rank r (0 is the fittest) : pressure - (2 * pressure - 2) * r / (n - 1)
+        final double slope = (n > 1) ? (2.0 * pressure - 2.0) / (n - 1) : 0.0;
+        final double[] cumulative = new double[n];
+        final IntStream indexes = IntStream.range(0, n);
+        (parallel ? indexes.parallel() : indexes).forEach(i -> {
+            // rank is number of strictly fitter values ; upper bound is clamped to last index, which the fittest
+            // values must not count
+            final int rank = n - Draws.upperBound(sorted, fitness[i]) - ((sorted[n - 1] <= fitness[i]) ? 1 : 0);
+            cumulative[i] = pressure - slope * rank;
+        });
+        for (int i = 1; i < n; i++) { // sequential, parallel prefix rounds differently
+            cumulative[i] += cumulative[i - 1];
+        }
+        return cumulative;
+    }
+
+}
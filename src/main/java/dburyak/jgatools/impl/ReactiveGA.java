@@ -1,13 +1,16 @@
 package dburyak.jgatools.impl;
 
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
@@ -19,6 +22,7 @@ import dburyak.jgatools.IChromosome;
 import dburyak.jgatools.IChromosome.IChromosomeBuilder;
 import dburyak.jgatools.ICrossoverStrategy;
 import dburyak.jgatools.IGeneticAlgorithm;
+import dburyak.jgatools.ILineageStore;
 import dburyak.jgatools.IMatesSelector;
 import dburyak.jgatools.IMutationStrategy;
 import dburyak.jgatools.IPopulation;
@@ -27,10 +31,13 @@ import dburyak.jgatools.ISelectionPredicate;
 import dburyak.jgatools.ISelectionStrategy;
 import dburyak.jgatools.ITerminationCondition;
 import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.Rng;
 import dburyak.jtools.Validators;
 import dburyak.jtools.tuples.Tuples;
 import rx.Observable;
+import rx.Scheduler;
 import rx.Single;
+import rx.Scheduler.Worker;
 import rx.Subscription;
 import rx.schedulers.Schedulers;
 import rx.subjects.PublishSubject;
@@ -133,6 +140,58 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
      */
     private final int bufferSize;
 
+    /**
+     * Max number of mutants and offsprings that are evaluated together by
+     * {@link IChromosomeBuilder#evaluate(java.util.List)}. Matters only when mutation and crossover strategies build
+     * chromosomes with deferred fitness.
+     * <br><b>Created on:</b> <i>9:40:12 PM Oct 16, 2026</i>
+     */
+    private final int fitnessBatchSize;
+
+    /**
+     * Scheduler for asynchronous fitness evaluation of mutants and offsprings with deferred fitness. Is null if fitness
+     * is evaluated synchronously in batches.
+     * <br><b>Created on:</b> <i>10:18:40 PM Oct 16, 2026</i>
+     */
+    private final Scheduler fitnessScheduler;
+
+    /**
+     * Max number of asynchronous fitness evaluations in flight.
+     * <br><b>Created on:</b> <i>10:19:12 PM Oct 16, 2026</i>
+     */
+    private final int fitnessConcurrency;
+
+    /**
+     * Whether offsprings and mutants that are genomically identical to already known chromosomes of current generation
+     * are dropped before fitness evaluation.
+     * <br><b>Created on:</b> <i>3:01:14 AM Oct 16, 2026</i>
+     */
+    private final boolean removeDuplicates;
+
+    /**
+     * Parallelism of fork/join breeding, 0 if mutation and crossover are performed by sequential pipeline.
+     * <br><b>Created on:</b> <i>4:22:10 AM Oct 16, 2026</i>
+     */
+    private final int parallelism;
+
+    /**
+     * Breeding step for data-parallel breeding of generation, null if parallelism is 0.
+     * <br><b>Created on:</b> <i>4:22:31 AM Oct 16, 2026</i>
+     */
+    private final Breeder<C> breeder;
+
+    /**
+     * Source of random streams for strategies.
+     * <br/><b>Created on:</b> <i>5:11:05 AM Oct 16, 2026</i>
+     */
+    private final RngService rngs;
+
+    /**
+     * Lineage store strategies of this GA are bound to, null if lineage is not tracked.
+     * <br/><b>Created on:</b> <i>8:53:00 AM Oct 16, 2026</i>
+     */
+    private final ILineageStore lineage;
+
     /**
      * Supplier function that creates new builders for {@link IPopulation} instances. It is used on each evolution
      * iteration step to create a new population.
@@ -142,11 +201,43 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
 
     /**
      * Supplier function that produces new builders of {@link IChromosome} instances. It is used on each evolution
-     * iteration step to increment age of non-modified chromosomes.
+     * iteration step to evaluate fitness of mutants and offsprings with deferred fitness.
      * <br><b>Created on:</b> <i>7:13:16 AM Sep 14, 2016</i>
      */
     private final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder;
 
+    /**
+     * Store of checkpoints of running GA, null if checkpoints are not taken.
+     * <br><b>Created on:</b> <i>7:28:10 AM Oct 16, 2026</i>
+     */
+    private final CheckpointStore<C> checkpoints;
+
+    /**
+     * Number of iterations between checkpoints.
+     * <br><b>Created on:</b> <i>7:28:25 AM Oct 16, 2026</i>
+     */
+    private final int checkpointInterval;
+
+    /**
+     * Checkpoint evolution is resumed from on start, null for evolution from initial population.
+     * <br><b>Created on:</b> <i>7:28:40 AM Oct 16, 2026</i>
+     */
+    private final CheckpointStore.Snapshot<C> resumed;
+
+    /**
+     * Worker that writes checkpoints one by one in background. Is created on each start of GA.
+     * <br><b>Created on:</b> <i>7:28:55 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private Worker checkpointWorker = null;
+
+    /**
+     * Fork/join pool for data-parallel breeding. Is created on each start of GA (see {@link #openBreedPool()}) and
+     * is shut down when GA stops or terminates, null if GA is not running or breeding is sequential.
+     * <br><b>Created on:</b> <i>8:40:00 AM Oct 16, 2026</i>
+     */
+    private volatile ForkJoinPool breedPool = null;
+
     /**
      * Subscription of evolution loop. Is created on each start of GA. If is unsubscribed, then GA terminates.
      * <br/><b>Created on:</b> <i>4:14:13 AM Sep 6, 2016</i>
@@ -216,10 +307,30 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
      *            natural selection strategy
      * @param bufferSize
      *            size of "buffer" intermediate zone
+     * @param fitnessBatchSize
+     *            max number of chromosomes in fitness evaluation batch
+     * @param fitnessScheduler
+     *            scheduler for asynchronous fitness evaluation, null for synchronous evaluation
+     * @param fitnessConcurrency
+     *            max number of asynchronous fitness evaluations in flight
+     * @param removeDuplicates
+     *            whether duplicate genomes are dropped before fitness evaluation
+     * @param parallelism
+     *            parallelism of fork/join breeding, 0 for sequential pipeline
      * @param populationBuilderProducer
      *            supplier of population builder instances
      * @param chromosomeBuilder
      *            supplier of chromosome builder instances
+     * @param rngs
+     *            source of random streams for strategies
+     * @param lineage
+     *            lineage store strategies are bound to, null if lineage is not tracked
+     * @param checkpoints
+     *            store of checkpoints, null if checkpoints are not taken
+     * @param checkpointInterval
+     *            number of iterations between checkpoints
+     * @param resumed
+     *            checkpoint to resume evolution from, null for evolution from initial population
      */
     private ReactiveGA(
         final String name,
@@ -234,8 +345,18 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
         final Duration matesSelectTimeout,
         final ISelectionStrategy<C> selectFunc,
         final int bufferSize,
+        final int fitnessBatchSize,
+        final Scheduler fitnessScheduler,
+        final int fitnessConcurrency,
+        final boolean removeDuplicates,
+        final int parallelism,
         final Supplier<IPopulationBuilder<C, P>> populationBuilderProducer,
-        final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder) {
+        final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder,
+        final RngService rngs,
+        final ILineageStore lineage,
+        final CheckpointStore<C> checkpoints,
+        final int checkpointInterval,
+        final CheckpointStore.Snapshot<C> resumed) {
 
         this.name = name;
         this.props = props;
@@ -251,10 +372,32 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
         this.matesSelectTimeout = matesSelectTimeout;
 
         this.bufferSize = bufferSize;
+        this.fitnessBatchSize = fitnessBatchSize;
+        this.fitnessScheduler = fitnessScheduler;
+        this.fitnessConcurrency = fitnessConcurrency;
+        this.removeDuplicates = removeDuplicates;
+        this.rngs = rngs;
+        this.lineage = lineage;
+        this.parallelism = parallelism;
+        if (parallelism > 0) {
+            this.breeder = new Breeder<>(mutationSelector,
+                mutationFunc,
+                parent1Selector,
+                matesSelector,
+                crossoverFunc,
+                matesSelectTimeout,
+                chromosomeBuilder,
+                rngs);
+        } else {
+            this.breeder = null;
+        }
 
         this.populationBuilderProducer = populationBuilderProducer;
         this.selectFunc = selectFunc;
         this.chromosomeBuilder = chromosomeBuilder;
+        this.checkpoints = checkpoints;
+        this.checkpointInterval = checkpointInterval;
+        this.resumed = resumed;
 
         evolutionPipelineSubscr = null;
         populations = null;
@@ -294,7 +437,7 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
 
     /**
      * Get {@code Observable} that produces initial population "out of nowhere". Population chromosomes are generated
-     * purely from {@link #appearSource}.
+     * purely from {@link #appearSource}. Package-private for {@link IslandGA}.
      * <br/><b>PRE-conditions:</b> NONE
      * <br/><b>POST-conditions:</b> non-null result
      * <br/><b>Side-effects:</b> NONE
@@ -302,85 +445,199 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
      * 
      * @return observable that emits "out of nowhere" initial population
      */
-    private final Observable<P> initialPopulation() {
+    final Observable<P> initialPopulation() {
         final IPopulationBuilder<C, P> initPopulationBuilder = populationBuilderProducer.get()
             .chromosomes(appearSource); // set chromosomes generator
         return Observable.fromCallable(initPopulationBuilder::build);
     }
 
+    /**
+     * Get {@code Observable} that produces population evolution starts from : population of resumed checkpoint
+     * (restored chromosomes are not evaluated again), or initial population if there's no checkpoint.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:29:20 AM Oct 16, 2026</i>
+     * 
+     * @return observable that emits first population of evolution
+     */
+    private final Observable<P> startPopulation() {
+        if (resumed == null) {
+            return initialPopulation();
+        }
+        final IPopulationBuilder<C, P> resumedPopulationBuilder = populationBuilderProducer.get()
+            .chromosomes(Observable.from(resumed.chromosomes()));
+        return Observable.fromCallable(resumedPopulationBuilder::build);
+    }
+
+    /**
+     * Check termination condition of this GA. Package-private for {@link IslandGA}.
+     * <br><b>PRE-conditions:</b> non-null population, iteration &gt;= 0, non-null runtime
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> termination condition is called
+     * <br><b>Created on:</b> <i>12:31:20 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population at given iteration
+     * @param iteration
+     *            current iteration
+     * @param runtime
+     *            time that GA is running
+     * @return true if termination condition is met
+     */
+    final boolean shouldTerminate(final P population, final int iteration, final Duration runtime) {
+        return termCondition.shouldTerminate(population, iteration, runtime);
+    }
+
+    /**
+     * Build population with given immigrants put in front of original chromosomes. Population builder of this GA
+     * takes first chromosomes up to population size, so immigrants replace the tail of original population (the
+     * worst chromosomes for fitness-sorted populations). Package-private for {@link IslandGA}.
+     * <br><b>PRE-conditions:</b> non-null population and immigrants
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:33:02 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            original population
+     * @param immigrants
+     *            chromosomes migrated from other populations
+     * @return new population with immigrants
+     */
+    final P immigrate(final P population, final List<C> immigrants) {
+        return populationBuilderProducer.get()
+            .from(population) // residents keep their ages
+            .chromosomes(Observable.from(immigrants).concatWith(population.chromosomes()))
+            .build();
+    }
+
     /**
      * Core algorithm function. Performs mutation, crossover and selection on current population and produces next
-     * generation population.
-     * <br/><b>PRE-conditions:</b> non-null population
+     * generation population. Package-private for benchmarks.
+     * <br/><b>PRE-conditions:</b> non-null population, breeding pool is open if breeding is parallel
      * <br/><b>POST-conditions:</b> non-null result
      * <br/><b>Side-effects:</b> appear source is subscribed, mutation and crossover functions are called
      * <br/><b>Created on:</b> <i>4:29:35 AM Sep 6, 2016</i>
      * 
      * @param population
      *            current population
+     * @param iteration
+     *            number of current iteration, keys random streams of strategies
      * @return observable that emits next generation population
+     * @throws IllegalStateException
+     *             if breeding is parallel and breeding pool is not open (see {@link #openBreedPool()})
      */
     @SuppressWarnings("nls")
-    private final Observable<P> buildIterationPipeline(final IPopulation<C> population) {
+    final Observable<P> buildIterationPipeline(final P population, final int iteration) {
         LOG.debug("building iteration pipeline with origin : population = [%s]", population);
         final Observable<C> origin = population.chromosomes();
         final int eliteCount = population.eliteCount();
 
-        final Observable<C> modified = Observable.merge(
-            // MUTATION
-            origin.filter(mutationSelector::select) // choose mutants
-                .doOnNext(c -> LOG.debug("chosen for mutation : c = [%s]", c))
-                .map(mutationFunc::mutate), // mutate
+        // duplicates elimination index, shared by all stages of this iteration
+        final GenomeSet genomes = removeDuplicates ? new GenomeSet(bufferSize) : null;
 
-
-            // CROSSOVER
-            origin.filter(parent1Selector::select) // choose parent1
-                .doOnNext(c -> LOG.debug("chosen for crossover : c = [%s]", c))
-                .map(p1 -> {
-                    // maybe use origin.repeat() ?
-                    return matesSelector.select(p1, origin) // choose mates
-                        .startWith(p1); // don't forget about parent1
+        final Observable<C> modified;
+        if (breeder != null) {
+            final ForkJoinPool pool = breedPool;
+            if (pool == null) {
+                throw new IllegalStateException("breeding pool is not open");
+            }
+            // MUTATION and CROSSOVER over index ranges of population in fork/join pool, duplicates are dropped before
+            // evaluation ; ranges are bounded by fitness batch size, so no evaluation batch exceeds it
+            modified = origin.toList()
+                .concatMapIterable(chromosomes -> {
+                    if (genomes != null) {
+                        chromosomes.forEach(genomes::add); // register current generation first
+                    }
+                    final int leafSize =
+                        Math.min(Breeder.leafSize(chromosomes.size(), pool.getParallelism()), fitnessBatchSize);
+                    return breeder.breedParallel(pool, chromosomes, leafSize, iteration,
+                        (genomes != null) ? genomes::add : c -> true);
+                });
+        } else {
+            Observable<C> offsprings;
+            // stages run sequentially, each draws from its own stream
+            final Rng mutationRng = rngs.stream(iteration, RngService.MUTATION_STREAM);
+            final Rng crossoverRng = rngs.stream(iteration, RngService.CROSSOVER_STREAM);
+            offsprings = Observable.merge(
+                // MUTATION
+                origin.filter(c -> mutationSelector.select(c, mutationRng)) // choose mutants
+                    .doOnNext(c -> LOG.debug("chosen for mutation : c = [%s]", c))
+                    .map(c -> mutationFunc.mutate(c, mutationRng)), // mutate
+
+
+                // CROSSOVER, mates selector is prepared once for whole generation
+                origin.toList().concatMap(chromosomes -> {
+                    final IMatesSelector<C> mates = matesSelector.forGeneration(chromosomes);
+                    final Observable<C> candidates = Observable.from(chromosomes);
+                    return candidates.filter(c -> parent1Selector.select(c, crossoverRng)) // choose parent1
+                        .doOnNext(c -> LOG.debug("chosen for crossover : c = [%s]", c))
+                        .map(p1 -> {
+                            // maybe use candidates.repeat() ?
+                            return mates.select(p1, candidates, crossoverRng) // choose mates
+                                .startWith(p1); // don't forget about parent1
+                        })
+                        // detect infinite mates selection, @see IMatesSelector#select(C, Observable<C>)
+                        .timeout(matesSelectTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        // apply crossover on received Observable with parents
+                        .flatMap(parents -> crossoverFunc.crossover(parents, crossoverRng));
                 })
-                // detect infinite mates selection, @see IMatesSelector#select(C, Observable<C>)
-                .timeout(matesSelectTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                .flatMap(crossoverFunc::crossover) // apply crossover on received Observable with parents
-        );
+            );
+            if (genomes != null) {
+                // register current generation first, then drop offsprings that repeat already known genomes
+                offsprings = origin.doOnNext(genomes::add)
+                    .ignoreElements()
+                    .concatWith(offsprings.filter(genomes::add));
+            }
+            modified = evaluate(offsprings);
+        }
+        final Observable<C> appeared = (genomes != null) ? appearSource.filter(genomes::add) : appearSource;
 
+        // survivors are carried over by reference, next population increments their age
         final Observable<C> buffer =
             origin.take(eliteCount) // original elite
-                .map(this::incrementAge) // increment age of original elite
-                .doOnError(e -> LOG.error("got error when incrementing"))
                 .concatWith(modified)
-                .concatWith(origin.skip(eliteCount) // original non-elite
-                    .map(this::incrementAge)) // increment age of origin non-elite
-                .concatWith(appearSource)
+                .concatWith(origin.skip(eliteCount)) // original non-elite
+                .concatWith(appeared)
                 .take(bufferSize);
 
-        final Observable<C> nextGeneration = selectFunc.select(buffer); // selection
+        final Observable<C> nextGeneration = // selection
+            selectFunc.select(buffer, rngs.stream(iteration, RngService.SELECTION_STREAM));
 
         final IPopulationBuilder<C, P> nextPopulationBuilder = populationBuilderProducer.get() // new population builder
-            .chromosomes(nextGeneration); // set chromosomes for next population
+            .chromosomes(nextGeneration) // set chromosomes for next population
+            .survivorsOf(population); // chromosomes of current population age there
         return Observable.fromCallable(nextPopulationBuilder::build);
     }
 
     /**
-     * Increment age of provided chromosome. Note that chromosome is cloned using configured chromosome builder
-     * {@link #chromosomeBuilder}.
-     * <br><b>PRE-conditions:</b> non-null original
+     * Evaluate fitness of mutants and offsprings that were built with deferred fitness. If fitness executor is
+     * configured, then chromosomes are evaluated asynchronously with at most {@link #fitnessConcurrency} evaluations
+     * in flight and are emitted as soon as their fitness is known (in completion order). Otherwise chromosomes are
+     * evaluated synchronously in batches of {@link #fitnessBatchSize}.
+     * <br><b>PRE-conditions:</b> non-null chromosomes
      * <br><b>POST-conditions:</b> non-null result
      * <br><b>Side-effects:</b> NONE
-     * <br><b>Created on:</b> <i>7:35:00 AM Sep 14, 2016</i>
+     * <br><b>Created on:</b> <i>10:21:35 PM Oct 16, 2026</i>
      * 
-     * @param original
-     *            original chromosome to increment age
-     * @return new chromosome with incremented age
+     * @param chromosomes
+     *            mutants and offsprings
+     * @return observable that emits evaluated chromosomes
      */
-    private final C incrementAge(final C original) {
-        Validators.nonNull(original);
-        return chromosomeBuilder.get()
-            .from(original)
-            .age(original.age() + 1)
-            .build();
+    private final Observable<C> evaluate(final Observable<C> chromosomes) {
+        if (fitnessScheduler == null) {
+            return chromosomes
+                .buffer(fitnessBatchSize)
+                .concatMapIterable(batch -> chromosomeBuilder.get().evaluate(batch));
+        }
+        return chromosomes.flatMap(c -> {
+            if (c.evaluated()) {
+                return Observable.just(c);
+            }
+            return chromosomeBuilder.get().evaluateAsync(c)
+                .subscribeOn(fitnessScheduler)
+                .toObservable();
+        }, fitnessConcurrency);
     }
 
     /**
@@ -394,18 +651,14 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
      */
     @SuppressWarnings({ "nls", "boxing" })
     private final Subscription startEvolution() {
-        final Observable<Integer> iterations = Observable.from(() -> IntStream.iterate(0, i -> i + 1).iterator());
-        final Instant startTime = Instant.now();
-        final Observable<Duration> durations = Observable.from(() -> {
-            return Stream.generate(() -> IntStream.iterate(0, i -> i + 1).iterator())
-                .map(tick -> Duration.between(startTime, Instant.now())).iterator();
-        });
-        return Observable.zip(
-            initialPopulation().concatWith(
-                populations.doOnCompleted(() -> LOG.debug("populations completed"))),
-            iterations,
-            durations,
-            (p, i, d) -> Tuples.create(p, i, d))
+        final int firstIteration = (resumed == null) ? 0 : resumed.iteration();
+        final Instant startTime = (resumed == null) ? Instant.now() : Instant.now().minus(resumed.runtime());
+        final Worker checkpointer = checkpointWorker;
+        // iteration number and runtime are taken when population arrives, nothing is generated ahead of demand
+        return startPopulation().concatWith(
+                populations.doOnCompleted(() -> LOG.debug("populations completed")))
+            .zipWith(Observable.range(firstIteration, Integer.MAX_VALUE - firstIteration),
+                (p, i) -> Tuples.create(p, i, Duration.between(startTime, Instant.now())))
             .observeOn(Schedulers.computation())
             .subscribeOn(Schedulers.computation())
             .subscribe(
@@ -417,9 +670,13 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
                         // send result
                         resultSubj.onNext(t3._1.fittest());
                         populations.onCompleted();
+                        closeBreedPool();
                     } else {
                         stats.onNext(t3._1.stats());
-                        buildIterationPipeline(t3._1)
+                        if (checkpointer != null && t3._2 % checkpointInterval == 0 && t3._2 != firstIteration) {
+                            checkpointer.schedule(() -> checkpoint(t3._1, t3._2, t3._3));
+                        }
+                        buildIterationPipeline(t3._1, t3._2)
                             .observeOn(Schedulers.computation())
                             .subscribeOn(Schedulers.computation())
                             .subscribe(p -> populations.onNext(p));
@@ -433,6 +690,60 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
                 });
     }
 
+    /**
+     * Write checkpoint of given population. Failure is logged, evolution goes on.
+     * <br><b>PRE-conditions:</b> checkpoints are configured, non-null population and runtime
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> checkpoint file is written
+     * <br><b>Created on:</b> <i>7:30:00 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population to be stored
+     * @param iteration
+     *            iteration of population
+     * @param runtime
+     *            time that GA is running
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    private final void checkpoint(final P population, final int iteration, final Duration runtime) {
+        try {
+            checkpoints.write(population, iteration, runtime, rngs.masterSeed());
+            LOG.debug("checkpoint written : iteration = [%d] ; store = [%s]", iteration, checkpoints);
+        } catch (final IOException e) {
+            LOG.error("failed to write checkpoint : iteration = [%d] ; store = [%s]", iteration, checkpoints, e);
+        }
+    }
+
+    /**
+     * Create fork/join pool for breeding of this run if breeding is parallel and pool is not open yet. Called on
+     * start of GA. Package-private for {@link IslandGA}, which drives islands without starting them.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> pool is open if parallelism is positive
+     * <br><b>Side-effects:</b> fork/join pool may be created
+     * <br><b>Created on:</b> <i>8:40:30 AM Oct 16, 2026</i>
+     */
+    final synchronized void openBreedPool() {
+        if (parallelism > 0 && breedPool == null) {
+            breedPool = new ForkJoinPool(parallelism);
+        }
+    }
+
+    /**
+     * Shut down fork/join pool for breeding if it is open. Breeding that is in progress is completed, new generations
+     * can't be bred until pool is open again. Called on stop and termination of GA. Package-private for
+     * {@link IslandGA}.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> pool is not open
+     * <br><b>Side-effects:</b> fork/join pool may be shut down
+     * <br><b>Created on:</b> <i>8:41:00 AM Oct 16, 2026</i>
+     */
+    final synchronized void closeBreedPool() {
+        if (breedPool != null) {
+            breedPool.shutdown();
+            breedPool = null;
+        }
+    }
+
     /**
      * Start genetic algorithm.
      * <br/><b>PRE-conditions:</b> this GA is stopped (or haven't been run)
@@ -452,6 +763,8 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
         populations = PublishSubject.create();
         resultSubj = PublishSubject.create();
         result = resultSubj.take(1).cache().toSingle();
+        checkpointWorker = (checkpoints == null) ? null : Schedulers.io().createWorker();
+        openBreedPool();
         evolutionPipelineSubscr = startEvolution();
         LOG.info("GA started");
     }
@@ -479,6 +792,13 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
         populations = null;
         resultSubj = null;
         result = null;
+        if (checkpointWorker != null) {
+            // checkpoints already scheduled are written before worker is released
+            final Worker checkpointer = checkpointWorker;
+            checkpointer.schedule(checkpointer::unsubscribe);
+            checkpointWorker = null;
+        }
+        closeBreedPool();
         LOG.info("GA stopped");
     }
 
@@ -517,6 +837,21 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
         return result;
     }
 
+    /**
+     * Get lineage store of this GA.
+     * <br/><b>PRE-conditions:</b> NONE
+     * <br/><b>POST-conditions:</b> NONE
+     * <br/><b>Side-effects:</b> NONE
+     * <br/><b>Created on:</b> <i>8:53:20 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#lineage()
+     * @return lineage store, null if lineage is not tracked
+     */
+    @Override
+    public final ILineageStore lineage() {
+        return lineage;
+    }
+
 
     /**
      * Project : jgatools.<br/>
@@ -541,6 +876,12 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
          */
         private static final Duration MATES_EXHAUST_TIMEOUT_DEFAULT = Duration.ofSeconds(5);
 
+        /**
+         * Default max number of chromosomes in fitness evaluation batch.
+         * <br><b>Created on:</b> <i>9:42:51 PM Oct 16, 2026</i>
+         */
+        private static final int FITNESS_BATCH_SIZE_DEFAULT = 64;
+
         /**
          * Name for target GA.
          * <br/><b>Created on:</b> <i>4:55:04 AM Sep 6, 2016</i>
@@ -620,11 +961,71 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
         private int bufferSize = -1;
 
         /**
-         * Chromosome builder producer for cloning chromosomes.
+         * Max number of chromosomes in fitness evaluation batch for target GA.
+         * <br><b>Created on:</b> <i>9:43:30 PM Oct 16, 2026</i>
+         */
+        private int fitnessBatchSize = FITNESS_BATCH_SIZE_DEFAULT;
+
+        /**
+         * Executor for asynchronous fitness evaluation for target GA.
+         * <br><b>Created on:</b> <i>10:24:02 PM Oct 16, 2026</i>
+         */
+        private Executor fitnessExecutor = null;
+
+        /**
+         * Max number of asynchronous fitness evaluations in flight for target GA.
+         * <br><b>Created on:</b> <i>10:24:30 PM Oct 16, 2026</i>
+         */
+        private int fitnessConcurrency = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Whether duplicate genomes are dropped before fitness evaluation for target GA.
+         * <br><b>Created on:</b> <i>3:02:30 AM Oct 16, 2026</i>
+         */
+        private boolean removeDuplicates = false;
+
+        /**
+         * Parallelism of fork/join breeding for target GA, 0 for sequential pipeline.
+         * <br><b>Created on:</b> <i>4:23:10 AM Oct 16, 2026</i>
+         */
+        private int parallelism = 0;
+
+        /**
+         * Master seed of random streams for target GA, null for random one.
+         * <br/><b>Created on:</b> <i>5:12:20 AM Oct 16, 2026</i>
+         */
+        private Long seed = null;
+
+        /**
+         * Lineage store for target GA, null if lineage is not tracked.
+         * <br/><b>Created on:</b> <i>8:53:40 AM Oct 16, 2026</i>
+         */
+        private ILineageStore lineage = null;
+
+        /**
+         * Chromosome builder producer for evaluation of mutants and offsprings.
          * <br><b>Created on:</b> <i>6:59:33 AM Sep 14, 2016</i>
          */
         private Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder = null;
 
+        /**
+         * Store of checkpoints for target GA, null if checkpoints are not taken.
+         * <br><b>Created on:</b> <i>7:30:40 AM Oct 16, 2026</i>
+         */
+        private CheckpointStore<C> checkpoints = null;
+
+        /**
+         * Number of iterations between checkpoints for target GA.
+         * <br><b>Created on:</b> <i>7:30:55 AM Oct 16, 2026</i>
+         */
+        private int checkpointInterval = 1;
+
+        /**
+         * Store of checkpoint that target GA resumes from, null for evolution from initial population.
+         * <br><b>Created on:</b> <i>7:31:10 AM Oct 16, 2026</i>
+         */
+        private CheckpointStore<C> resumeFrom = null;
+
 
         /**
          * Constructor for class : [jgatools] dburyak.jgatools.impl.ReactiveGABuilder.<br/>
@@ -648,26 +1049,51 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
          * @return new instance of {@link ReactiveGA} that is configured from current builder state
          * @throws IllegalStateException
          *             if wrong configuration was detected
+         * @throws UncheckedIOException
+         *             if checkpoint to resume from can't be read
          */
         @Override
-        public final IGeneticAlgorithm<C, P> build() throws IllegalStateException {
+        public final ReactiveGA<C, P> build() throws IllegalStateException {
             if (!isValid()) {
                 throw new IllegalStateException();
             }
+            final CheckpointStore.Snapshot<C> resumed;
+            try {
+                resumed = (resumeFrom == null) ? null : resumeFrom.read();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            final long masterSeed = (resumed != null)
+                ? resumed.masterSeed()
+                : ((seed == null) ? RngService.randomSeed() : seed.longValue());
+            final IMutationStrategy<C> mutation = (lineage == null) ? mutationFunc : mutationFunc.withLineage(lineage);
+            final ICrossoverStrategy<C> crossover = (lineage == null)
+                ? crossoverFunc
+                : crossoverFunc.withLineage(lineage);
             return new ReactiveGA<>(name,
                 props,
                 termCondition,
                 appearSource,
                 mutationSelector,
-                mutationFunc,
+                mutation,
                 parent1Selector,
                 matesSelector,
-                crossoverFunc,
+                crossover,
                 matesSelectTimeout,
                 selectionFunc,
                 bufferSize,
+                fitnessBatchSize,
+                (fitnessExecutor == null) ? null : Schedulers.from(fitnessExecutor),
+                fitnessConcurrency,
+                removeDuplicates,
+                parallelism,
                 populationBuilder,
-                chromosomeBuilder);
+                chromosomeBuilder,
+                new RngService(masterSeed),
+                lineage,
+                checkpoints,
+                checkpointInterval,
+                resumed);
         }
 
         /**
@@ -721,6 +1147,9 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
             if (chromosomeBuilder == null) {
                 return false;
             }
+            if (parallelism > 0 && fitnessExecutor != null) { // fork/join pool evaluates fitness itself
+                return false;
+            }
             return true;
         }
 
@@ -1041,7 +1470,138 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
         }
 
         /**
-         * Set chromosome builder producer for chromosomes cloning and increasing age on each evolution iteration.
+         * Set max number of mutants and offsprings that are evaluated together. Mutation and crossover strategies that
+         * build chromosomes with deferred fitness (see {@link IChromosomeBuilder#deferFitness()}) let GA collect them
+         * into batches of this size, which are evaluated by single call of
+         * {@link dburyak.jgatools.IBatchFitnessFunction#calcFitnessBatch(java.util.List)} of the fitness function
+         * configured in chromosome builder. With fork/join breeding (see {@link #parallelism(int)}) it bounds index
+         * ranges that subtasks breed and evaluate. If not specified, 64 is used.
+         * <br><b>PRE-conditions:</b> positive fitnessBatchSize
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>9:45:08 PM Oct 16, 2026</i>
+         * 
+         * @param fitnessBatchSize
+         *            max number of chromosomes in fitness evaluation batch
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> fitnessBatchSize(final int fitnessBatchSize) {
+            Validators.positive(fitnessBatchSize);
+            this.fitnessBatchSize = fitnessBatchSize;
+            return this;
+        }
+
+        /**
+         * Set executor for asynchronous fitness evaluation. When executor is set, mutants and offsprings with deferred
+         * fitness (see {@link IChromosomeBuilder#deferFitness()}) are evaluated by
+         * {@link IChromosomeBuilder#evaluateAsync(IChromosome)} on this executor and flow into the selection buffer as
+         * soon as their fitness is known, {@link #fitnessBatchSize(int)} is not used then. If executor is not set,
+         * fitness is evaluated synchronously in batches. Can't be combined with fork/join breeding (see
+         * {@link #parallelism(int)}), which evaluates fitness in its own pool : builder is not valid then.
+         * <br><b>PRE-conditions:</b> non-null fitnessExecutor
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>10:26:14 PM Oct 16, 2026</i>
+         * 
+         * @param fitnessExecutor
+         *            executor for asynchronous fitness evaluation
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> fitnessExecutor(final Executor fitnessExecutor) {
+            Validators.nonNull(fitnessExecutor);
+            this.fitnessExecutor = fitnessExecutor;
+            return this;
+        }
+
+        /**
+         * Set max number of asynchronous fitness evaluations in flight. Used only if fitness executor is set (see
+         * {@link #fitnessExecutor(Executor)}), so is not used with fork/join breeding either. If not specified, number of
+         * available processors is used.
+         * <br><b>PRE-conditions:</b> positive fitnessConcurrency
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>10:27:48 PM Oct 16, 2026</i>
+         * 
+         * @param fitnessConcurrency
+         *            max number of evaluations in flight
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> fitnessConcurrency(final int fitnessConcurrency) {
+            Validators.positive(fitnessConcurrency);
+            this.fitnessConcurrency = fitnessConcurrency;
+            return this;
+        }
+
+        /**
+         * Set whether mutants, offsprings and newly appeared chromosomes that are genomically identical (have equal
+         * fingerprints) to chromosomes already seen in current generation are dropped before fitness evaluation. Saves
+         * fitness evaluations and keeps population diverse at the cost of fingerprint computation. Disabled by default.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>3:03:12 AM Oct 16, 2026</i>
+         * 
+         * @param removeDuplicates
+         *            true to drop duplicate genomes
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> removeDuplicates(final boolean removeDuplicates) {
+            this.removeDuplicates = removeDuplicates;
+            return this;
+        }
+
+        /**
+         * Set parallelism of fork/join breeding. When positive, each generation is bred in dedicated fork/join pool of
+         * given parallelism : population is split into index ranges, mutants and offsprings of each range are produced
+         * and evaluated by separate subtasks, and results are merged into buffer in order of ranges. All strategies
+         * (selectors, mutation, crossover, fitness) are then called concurrently and must be thread-safe. Zero (default)
+         * keeps sequential Rx pipeline with asynchronous fitness evaluation. Pool is created on each start of GA and is
+         * shut down when GA stops or terminates. Fitness is evaluated in the pool too, in ranges of at most
+         * {@link #fitnessBatchSize(int)} chromosomes, so fitness executor can't be set then (builder is not valid).
+         * <br><b>PRE-conditions:</b> non-negative parallelism
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>4:23:48 AM Oct 16, 2026</i>
+         * 
+         * @param parallelism
+         *            number of fork/join workers, 0 for sequential pipeline
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> parallelism(final int parallelism) {
+            Validators.nonNegative(parallelism);
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Set master seed of random streams that are given to strategies. Streams are keyed by iteration and by
+         * pipeline stage (or by parent index when breeding in fork/join pool), so with fixed seed and strategies that
+         * use only given {@link Rng} every run makes same random choices regardless of threads that run it. If not
+         * specified, random seed is used.
+         * <br/><b>PRE-conditions:</b> NONE
+         * <br/><b>POST-conditions:</b> non-null result
+         * <br/><b>Side-effects:</b> this builder state is changed
+         * <br/><b>Created on:</b> <i>5:12:58 AM Oct 16, 2026</i>
+         * 
+         * @param seed
+         *            master seed
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> seed(final long seed) {
+            this.seed = Long.valueOf(seed);
+            return this;
+        }
+
+        /**
+         * Set chromosome builder producer for evaluation of mutants and offsprings with deferred fitness on each evolution
+         * iteration. Survivors are not rebuilt to increase their age, they are carried over to next population by
+         * reference and ages are kept by population ({@link PopulationAges}, {@link IPopulation#ageOf(IChromosome)}).
          * <br><b>PRE-conditions:</b> non-null chromosomeBuilder
          * <br><b>POST-conditions:</b> non-null result
          * <br><b>Side-effects:</b> this builder state is changed
@@ -1062,6 +1622,74 @@ public final class ReactiveGA<C extends IChromosome, P extends IPopulation<C>> i
             return this;
         }
 
+        /**
+         * Set lineage store for target GA. Mutation and crossover strategies are bound to it on build, so offsprings
+         * are registered in it with their parents. If not specified, lineage is not tracked.
+         * <br/><b>PRE-conditions:</b> non-null lineage
+         * <br/><b>POST-conditions:</b> non-null result
+         * <br/><b>Side-effects:</b> this builder state is changed
+         * <br/><b>Created on:</b> <i>8:54:00 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#lineage(dburyak.jgatools.ILineageStore)
+         * @param lineage
+         *            lineage store
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> lineage(final ILineageStore lineage) {
+            Validators.nonNull(lineage);
+            this.lineage = lineage;
+            return this;
+        }
+
+        /**
+         * Take checkpoints of running target GA each given number of iterations. Checkpoints are written in
+         * background, one at a time, evolution doesn't wait for them.
+         * <br><b>PRE-conditions:</b> non-null checkpoints, positive interval
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>7:31:40 AM Oct 16, 2026</i>
+         * 
+         * @param checkpoints
+         *            store of checkpoints
+         * @param interval
+         *            number of iterations between checkpoints
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> checkpoints(
+            final CheckpointStore<C> checkpoints,
+            final int interval) {
+
+            Validators.nonNull(checkpoints);
+            Validators.positive(interval);
+            this.checkpoints = checkpoints;
+            this.checkpointInterval = interval;
+            return this;
+        }
+
+        /**
+         * Resume target GA from the last checkpoint of given store : evolution starts from stored population
+         * without evaluating it again, with stored iteration counter, runtime and master seed (overrides
+         * {@link #seed(long)}). If store has no checkpoint, then GA starts from initial population. Checkpoint is
+         * read when target GA is built. Usually it is the same store that is given to
+         * {@link #checkpoints(CheckpointStore, int)}.
+         * <br><b>PRE-conditions:</b> non-null checkpoints
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>7:32:20 AM Oct 16, 2026</i>
+         * 
+         * @param checkpoints
+         *            store of checkpoint to resume from
+         * @return this builder (for call chaining)
+         */
+        public final IGeneticAlgorithmBuilder<C, P> resumeFrom(final CheckpointStore<C> checkpoints) {
+            Validators.nonNull(checkpoints);
+            this.resumeFrom = checkpoints;
+            return this;
+        }
+
     }
 
 }
@@ -0,0 +1,260 @@
+package dburyak.jgatools.impl;
+
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import dburyak.jgatools.ILineageStore;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Lineage store of fixed size that keeps records of the last {@link #capacity()} registered chromosomes. Records are
+ * kept in ring buffer of longs, on heap or off heap (direct buffer), so lineage of long runs costs neither garbage
+ * collection work nor unbounded memory. Record is slot of fixed width : lineage id, number of parents and up to
+ * {@link #maxParents()} parent ids; extra parents are not recorded. Lineage ids are assigned sequentially, record of
+ * id goes to slot (id mod capacity) and overwrites the oldest one, so record is forgotten after capacity newer
+ * registrations.
+ * <br><b>Created on:</b> <i>8:06:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@ThreadSafe
+public final class RingLineageStore implements ILineageStore {
+
+    /**
+     * Number of longs in record header : lineage id and number of parents.
+     * <br><b>Created on:</b> <i>8:06:40 AM Oct 16, 2026</i>
+     */
+    private static final int RECORD_HEADER_SIZE = 2;
+
+    /**
+     * Empty result of parents query.
+     * <br><b>Created on:</b> <i>8:06:55 AM Oct 16, 2026</i>
+     */
+    private static final long[] NO_PARENTS = new long[0];
+
+
+    /**
+     * Max number of kept records.
+     * <br><b>Created on:</b> <i>8:07:10 AM Oct 16, 2026</i>
+     */
+    private final int capacity;
+
+    /**
+     * Max number of recorded parents of single chromosome.
+     * <br><b>Created on:</b> <i>8:07:25 AM Oct 16, 2026</i>
+     */
+    private final int maxParents;
+
+    /**
+     * Number of longs in single record.
+     * <br><b>Created on:</b> <i>8:07:40 AM Oct 16, 2026</i>
+     */
+    private final int recordSize;
+
+    /**
+     * Ring buffer of records.
+     * <br><b>Created on:</b> <i>8:07:55 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private final LongBuffer records;
+
+    /**
+     * Lineage id of next registered chromosome.
+     * <br><b>Created on:</b> <i>8:08:10 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private long nextId = 0L;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.RingLineageStore.<br>
+     * Records are kept on heap.
+     * <br><b>PRE-conditions:</b> positive capacity, non-negative maxParents
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:08:30 AM Oct 16, 2026</i>
+     * 
+     * @param capacity
+     *            max number of kept records
+     * @param maxParents
+     *            max number of recorded parents of single chromosome
+     */
+    public RingLineageStore(final int capacity, final int maxParents) {
+        this(capacity, maxParents, false);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.RingLineageStore.<br>
+     * <br><b>PRE-conditions:</b> positive capacity, non-negative maxParents, buffer of capacity records fits into
+     * {@link Integer#MAX_VALUE} bytes
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> memory for all records is allocated
+     * <br><b>Created on:</b> <i>8:08:50 AM Oct 16, 2026</i>
+     * 
+     * @param capacity
+     *            max number of kept records
+     * @param maxParents
+     *            max number of recorded parents of single chromosome
+     * @param offHeap
+     *            true to keep records in direct buffer out of java heap
+     */
+    public RingLineageStore(final int capacity, final int maxParents, final boolean offHeap) {
+        Validators.positive(capacity);
+        Validators.nonNegative(maxParents);
+        Validators.isTrue((long) capacity * (RECORD_HEADER_SIZE + maxParents) * Long.BYTES <= Integer.MAX_VALUE);
+        this.capacity = capacity;
+        this.maxParents = maxParents;
+        this.recordSize = RECORD_HEADER_SIZE + maxParents;
+        final int length = capacity * recordSize;
+        this.records = offHeap ? ByteBuffer.allocateDirect(length * Long.BYTES).asLongBuffer()
+            : LongBuffer.allocate(length);
+        for (int slot = 0; slot < capacity; slot++) {
+            records.put(slot * recordSize, NO_LINEAGE);
+        }
+    }
+
+    /**
+     * Get max number of kept records.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> positive result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:09:20 AM Oct 16, 2026</i>
+     * 
+     * @return capacity of this store
+     */
+    public final int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Get max number of recorded parents of single chromosome.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:09:40 AM Oct 16, 2026</i>
+     * 
+     * @return max number of parents per record
+     */
+    public final int maxParents() {
+        return maxParents;
+    }
+
+    /**
+     * Register new chromosome with given parents. Record overwrites the oldest one when store is full, parents beyond
+     * {@link #maxParents()} are not recorded.
+     * <br><b>PRE-conditions:</b> non-null parentIds, 0 &lt;= parentCount &lt;= parentIds.length
+     * <br><b>POST-conditions:</b> non-negative result, unique in this store
+     * <br><b>Side-effects:</b> record is written, the oldest record may be forgotten
+     * <br><b>Created on:</b> <i>8:10:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ILineageStore#register(long[], int)
+     * @param parentIds
+     *            lineage ids of parents
+     * @param parentCount
+     *            number of parents in parentIds
+     * @return lineage id of new chromosome
+     */
+    @Override
+    public final synchronized long register(final long[] parentIds, final int parentCount) {
+        Validators.nonNull(parentIds);
+        Validators.isTrue(parentCount >= 0 && parentCount <= parentIds.length);
+        final long id = nextId++;
+        final int base = slotOf(id);
+        int count = 0;
+        for (int i = 0; i < parentCount && count < maxParents; i++) {
+            if (parentIds[i] != NO_LINEAGE) {
+                records.put(base + RECORD_HEADER_SIZE + count, parentIds[i]);
+                count++;
+            }
+        }
+        records.put(base, id);
+        records.put(base + 1, count);
+        return id;
+    }
+
+    /**
+     * Check if record of chromosome with given lineage id is not overwritten yet.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:10:30 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ILineageStore#contains(long)
+     * @param id
+     *            lineage id
+     * @return true if record is kept, false if it was overwritten or never registered
+     */
+    @Override
+    public final synchronized boolean contains(final long id) {
+        return id >= 0L && id < nextId && records.get(slotOf(id)) == id;
+    }
+
+    /**
+     * Get lineage ids of recorded parents of chromosome with given lineage id.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:10:50 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ILineageStore#parents(long)
+     * @param id
+     *            lineage id of chromosome
+     * @return lineage ids of parents, empty if chromosome has no parents or its record is overwritten
+     */
+    @Override
+    public final synchronized long[] parents(final long id) {
+        if (!contains(id)) {
+            return NO_PARENTS;
+        }
+        final int base = slotOf(id);
+        final long[] parents = new long[(int) records.get(base + 1)];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = records.get(base + RECORD_HEADER_SIZE + i);
+        }
+        return parents;
+    }
+
+    /**
+     * Get lineage ids of known ancestors of chromosome with given lineage id up to given depth. Store is locked for
+     * the whole query, so records are not overwritten while ancestry is traversed.
+     * <br><b>PRE-conditions:</b> non-negative depth
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:11:20 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ILineageStore#ancestors(long, int)
+     * @param id
+     *            lineage id of chromosome
+     * @param depth
+     *            max number of generations to go back
+     * @return lineage ids of known ancestors
+     */
+    @Override
+    public final synchronized long[] ancestors(final long id, final int depth) {
+        Validators.nonNegative(depth);
+        return ILineageStore.super.ancestors(id, depth);
+    }
+
+    /**
+     * Get index of the first long of record of given lineage id.
+     * <br><b>PRE-conditions:</b> non-negative id
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:11:50 AM Oct 16, 2026</i>
+     * 
+     * @param id
+     *            lineage id
+     * @return index of record in buffer
+     */
+    private final int slotOf(final long id) {
+        return (int) (id % capacity) * recordSize;
+    }
+
+}
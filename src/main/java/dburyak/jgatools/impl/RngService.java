@@ -0,0 +1,132 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.Rng;
+
+
+/**
+ * Project : jgatools.<br>
+ * Source of independent random streams for GA engines, all derived from single master seed. Stream is identified by
+ * generation number and task key (e.g. index of parent in population), not by thread that consumes it, so run of
+ * engine is reproducible for given master seed regardless of number of workers and of how work is distributed among
+ * them, as long as strategies draw randomness only from {@link Rng} they are given.<br>
+ * Deriving stream is a couple of multiplications, so streams are meant to be created per task rather than cached.
+ * <br><b>Created on:</b> <i>4:50:05 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+@Immutable
+public final class RngService {
+
+    /**
+     * Task key of stream of mutation stage of sequential pipeline. Engine-level keys are negative, so they never
+     * collide with parent indexes used as task keys by {@link Breeder}.
+     * <br><b>Created on:</b> <i>5:59:02 AM Oct 16, 2026</i>
+     */
+    static final long MUTATION_STREAM = -1L;
+
+    /**
+     * Task key of stream of crossover stage of sequential pipeline.
+     * <br><b>Created on:</b> <i>5:59:20 AM Oct 16, 2026</i>
+     */
+    static final long CROSSOVER_STREAM = -2L;
+
+    /**
+     * Task key of stream of natural selection.
+     * <br><b>Created on:</b> <i>5:59:38 AM Oct 16, 2026</i>
+     */
+    static final long SELECTION_STREAM = -3L;
+
+    /**
+     * Task key of stream of island migration, generation is migration number.
+     * <br><b>Created on:</b> <i>8:46:30 AM Oct 16, 2026</i>
+     */
+    static final long MIGRATION_STREAM = -4L;
+
+    /**
+     * Master seed all streams are derived from.
+     * <br><b>Created on:</b> <i>4:50:40 AM Oct 16, 2026</i>
+     */
+    private final long masterSeed;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.RngService.<br>
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>4:51:02 AM Oct 16, 2026</i>
+     * 
+     * @param masterSeed
+     *            master seed, any value is allowed
+     */
+    public RngService(final long masterSeed) {
+        this.masterSeed = masterSeed;
+    }
+
+    /**
+     * Get new random master seed, for engines that were not given explicit one.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>4:51:40 AM Oct 16, 2026</i>
+     * 
+     * @return random seed
+     */
+    public static final long randomSeed() {
+        return ThreadLocalRandom.current().nextLong() ^ System.nanoTime();
+    }
+
+    /**
+     * Get master seed of this service.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>4:52:05 AM Oct 16, 2026</i>
+     * 
+     * @return master seed
+     */
+    public final long masterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Get new generator of stream identified by given generation and task key. Same arguments always give generator
+     * that produces same sequence.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>4:52:40 AM Oct 16, 2026</i>
+     * 
+     * @param generation
+     *            number of generation (iteration) of engine
+     * @param task
+     *            key of task within generation, meaning is defined by engine
+     * @return generator owned by caller
+     */
+    public final Rng stream(final long generation, final long task) {
+        return new Rng(Rng.derive(Rng.derive(masterSeed, generation), task));
+    }
+
+    /**
+     * Get string representation of this service.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>4:53:10 AM Oct 16, 2026</i>
+     * 
+     * @see java.lang.Object#toString()
+     * @return string representation of this service
+     */
+    @SuppressWarnings({ "nls", "boxing" })
+    @Override
+    public final String toString() {
+        return String.format("RngService{masterSeed = [%d]}", masterSeed);
+    }
+
+}
@@ -0,0 +1,1392 @@
+package dburyak.jgatools.impl;
+
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IChromosome.IChromosomeBuilder;
+import dburyak.jgatools.ICrossoverStrategy;
+import dburyak.jgatools.IGeneticAlgorithm;
+import dburyak.jgatools.ILineageStore;
+import dburyak.jgatools.IMatesSelector;
+import dburyak.jgatools.IMutationStrategy;
+import dburyak.jgatools.IPopulation;
+import dburyak.jgatools.IPopulation.IPopulationBuilder;
+import dburyak.jgatools.ISelectionPredicate;
+import dburyak.jgatools.ISelectionStrategy;
+import dburyak.jgatools.ITerminationCondition;
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+import rx.Observable;
+import rx.Single;
+import rx.subjects.PublishSubject;
+import rx.subjects.Subject;
+
+
+/**
+ * Project : jgatools.<br>
+ * Steady-state GA implementation. Unlike generational {@link ReactiveGA}, offsprings are produced continuously by
+ * worker threads and replace individuals in place in a mutable population (array of slots updated with
+ * compare-and-set). Each worker step picks random individual, mutates it or crosses it over with mates chosen from
+ * current population, evaluates offsprings and lets each offspring replace the worst individual of a small random
+ * replacement tournament if offspring is not worse. The fittest individual is never replaced by worse one, so
+ * elitism is implicit.<br>
+ * Population object is not rebuilt on each step : immutable snapshot {@code P} is built by population builder only
+ * once per "epoch" (number of offsprings equal to population size) for termination check and stats. Epoch number is
+ * passed to termination condition as iteration number. Mates selector is prepared over population of each epoch
+ * ({@link IMatesSelector#forGeneration(List)}), so index-based selectors build their index once per epoch instead of
+ * scanning population for each first parent, and mates are chosen among individuals of the latest epoch.<br>
+ * Natural selection strategy and buffer size of builder are not used, since replacement tournament plays their role.
+ * Epochs are checked one at a time in order (epoch that is reached while later one is already checked is skipped), and
+ * each snapshot is built with previous one as source of survivors, so age of individual in snapshot
+ * ({@link IPopulation#ageOf(IChromosome)}) is number of epochs it survived.<br>
+ * Each worker draws randomness (choice of individuals and strategies calls) from its own stream of {@link RngService}
+ * keyed by worker index. Interleaving of workers is not reproducible, but run with single worker is reproducible for
+ * fixed seed.
+ * <br><b>Created on:</b> <i>11:48:05 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type this GA works with
+ * @param <P>
+ *            concrete population implementation type
+ */
+@ThreadSafe
+public final class SteadyStateGA<C extends IChromosome, P extends IPopulation<C>> implements IGeneticAlgorithm<C, P> {
+
+    /**
+     * System logger.
+     * <br><b>Created on:</b> <i>11:48:41 PM Oct 16, 2026</i>
+     */
+    private static final Logger LOG = LogManager.getFormatterLogger(SteadyStateGA.class);
+
+    /**
+     * Name of this instance.
+     * <br><b>Created on:</b> <i>11:49:02 PM Oct 16, 2026</i>
+     */
+    private final String name;
+
+    /**
+     * Properties for this instance.
+     * <br><b>Created on:</b> <i>11:49:15 PM Oct 16, 2026</i>
+     */
+    private final Properties props;
+
+    /**
+     * Termination condition evaluation function used by this GA.
+     * <br><b>Created on:</b> <i>11:49:29 PM Oct 16, 2026</i>
+     */
+    private final ITerminationCondition<C, P> termCondition;
+
+    /**
+     * Observable that produces initial chromosomes (chromosomes out of nowhere).
+     * <br><b>Created on:</b> <i>11:49:44 PM Oct 16, 2026</i>
+     */
+    private final Observable<C> appearSource;
+
+    /**
+     * Selector function to be used for choosing chromosomes for mutation.
+     * <br><b>Created on:</b> <i>11:49:58 PM Oct 16, 2026</i>
+     */
+    private final ISelectionPredicate<C> mutationSelector;
+
+    /**
+     * Mutation strategy to be applied to chromosomes under mutation.
+     * <br><b>Created on:</b> <i>11:50:11 PM Oct 16, 2026</i>
+     */
+    private final IMutationStrategy<C> mutationFunc;
+
+    /**
+     * Selector for choosing first parent for crossover operation.
+     * <br><b>Created on:</b> <i>11:50:25 PM Oct 16, 2026</i>
+     */
+    private final ISelectionPredicate<C> parent1Selector;
+
+    /**
+     * Selector for choosing other mates for crossover operation.
+     * <br><b>Created on:</b> <i>11:50:39 PM Oct 16, 2026</i>
+     */
+    private final IMatesSelector<C> matesSelector;
+
+    /**
+     * Crossover strategy to be applied to chromosomes for crossover.
+     * <br><b>Created on:</b> <i>11:50:52 PM Oct 16, 2026</i>
+     */
+    private final ICrossoverStrategy<C> crossoverFunc;
+
+    /**
+     * Timeout for detecting situations when there's not enough chromosomes in population for choosing mates.
+     * <br><b>Created on:</b> <i>11:51:06 PM Oct 16, 2026</i>
+     */
+    private final Duration matesSelectTimeout;
+
+    /**
+     * Supplier function that creates new builders for {@link IPopulation} instances. It is used for building initial
+     * population and population snapshots.
+     * <br><b>Created on:</b> <i>11:51:21 PM Oct 16, 2026</i>
+     */
+    private final Supplier<IPopulationBuilder<C, P>> populationBuilderProducer;
+
+    /**
+     * Supplier function that produces new builders of {@link IChromosome} instances. It is used for evaluating
+     * offsprings with deferred fitness.
+     * <br><b>Created on:</b> <i>11:51:37 PM Oct 16, 2026</i>
+     */
+    private final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder;
+
+    /**
+     * Number of worker threads.
+     * <br><b>Created on:</b> <i>11:51:52 PM Oct 16, 2026</i>
+     */
+    private final int workersCount;
+
+    /**
+     * Number of individuals in replacement tournament.
+     * <br><b>Created on:</b> <i>11:52:08 PM Oct 16, 2026</i>
+     */
+    private final int replaceTournamentSize;
+
+    /**
+     * Source of per-worker random streams.
+     * <br><b>Created on:</b> <i>8:45:00 AM Oct 16, 2026</i>
+     */
+    private final RngService rngs;
+
+    /**
+     * Lineage store strategies of this GA are bound to, null if lineage is not tracked.
+     * <br><b>Created on:</b> <i>8:55:40 AM Oct 16, 2026</i>
+     */
+    private final ILineageStore lineage;
+
+    /**
+     * Mutable population. Slots are replaced in place with compare-and-set.
+     * <br><b>Created on:</b> <i>11:52:24 PM Oct 16, 2026</i>
+     */
+    private volatile AtomicReferenceArray<C> slots = null;
+
+    /**
+     * Read-only list view of {@link #slots} that is passed to mates selector without copying.
+     * <br><b>Created on:</b> <i>11:52:41 PM Oct 16, 2026</i>
+     */
+    private volatile List<C> slotsView = null;
+
+    /**
+     * Mates selector prepared for population of the latest epoch.
+     * <br><b>Created on:</b> <i>11:20:00 AM Oct 16, 2026</i>
+     */
+    private volatile IMatesSelector<C> epochMates = null;
+
+    /**
+     * Number of offsprings produced since start.
+     * <br><b>Created on:</b> <i>11:52:57 PM Oct 16, 2026</i>
+     */
+    private final AtomicLong offspringsCount = new AtomicLong();
+
+    /**
+     * Whether evolution is running. Workers exit their loops when it becomes false.
+     * <br><b>Created on:</b> <i>11:53:12 PM Oct 16, 2026</i>
+     */
+    private volatile boolean running = false;
+
+    /**
+     * Time when evolution was started.
+     * <br><b>Created on:</b> <i>11:53:26 PM Oct 16, 2026</i>
+     */
+    private volatile Instant startTime = null;
+
+    /**
+     * Executor that runs workers.
+     * <br><b>Created on:</b> <i>11:53:40 PM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private ExecutorService executor = null;
+
+    /**
+     * Result of this GA evaluations.
+     * <br><b>Created on:</b> <i>11:53:55 PM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private PublishSubject<C> resultSubj = null;
+
+    /**
+     * Single that holds result of evolution computation. Is cached.
+     * <br><b>Created on:</b> <i>11:54:09 PM Oct 16, 2026</i>
+     */
+    @GuardedBy("this")
+    private Single<C> result = null;
+
+    /**
+     * Subject for emitting population stats on each epoch to subscribers. Is serialized, since epochs are checked by
+     * worker threads.
+     * <br><b>Created on:</b> <i>11:54:23 PM Oct 16, 2026</i>
+     */
+    private final Subject<PopulationStats, PopulationStats> stats = PublishSubject.<PopulationStats> create()
+        .toSerialized();
+
+    /**
+     * Lock that epoch checks are done under.
+     * <br><b>Created on:</b> <i>8:49:00 AM Oct 16, 2026</i>
+     */
+    private final Object epochLock = new Object();
+
+    /**
+     * Snapshot of the latest checked epoch, source of survivors for the next snapshot. Is reset on bootstrap (not on
+     * stop, since termination is done under {@link #epochLock} and takes lock of this GA).
+     * <br><b>Created on:</b> <i>8:49:20 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("epochLock")
+    private P lastSnapshot = null;
+
+    /**
+     * Number of the latest checked epoch.
+     * <br><b>Created on:</b> <i>8:49:40 AM Oct 16, 2026</i>
+     */
+    @GuardedBy("epochLock")
+    private int lastEpoch = -1;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.SteadyStateGA.<br>
+     * <br><b>PRE-conditions:</b> valid parameters
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:54:51 PM Oct 16, 2026</i>
+     * 
+     * @param name
+     *            name of this GA
+     * @param props
+     *            configuration for this GA
+     * @param termCondition
+     *            termination condition
+     * @param appearSource
+     *            source of new generated chromosomes
+     * @param mutationSelector
+     *            selector for mutating chromosomes
+     * @param mutationFunc
+     *            mutation strategy
+     * @param parent1Selector
+     *            selector for choosing first parent for crossover
+     * @param matesSelector
+     *            selector for choosing other mates for crossover
+     * @param crossoverFunc
+     *            crossover strategy
+     * @param matesSelectTimeout
+     *            timeout for detecting incompatible population size and number of mates parameters
+     * @param populationBuilderProducer
+     *            supplier of population builder instances
+     * @param chromosomeBuilder
+     *            supplier of chromosome builder instances
+     * @param workersCount
+     *            number of worker threads
+     * @param replaceTournamentSize
+     *            number of individuals in replacement tournament
+     * @param rngs
+     *            source of per-worker random streams
+     * @param lineage
+     *            lineage store strategies are bound to, null if lineage is not tracked
+     */
+    private SteadyStateGA(
+        final String name,
+        final Properties props,
+        final ITerminationCondition<C, P> termCondition,
+        final Observable<C> appearSource,
+        final ISelectionPredicate<C> mutationSelector,
+        final IMutationStrategy<C> mutationFunc,
+        final ISelectionPredicate<C> parent1Selector,
+        final IMatesSelector<C> matesSelector,
+        final ICrossoverStrategy<C> crossoverFunc,
+        final Duration matesSelectTimeout,
+        final Supplier<IPopulationBuilder<C, P>> populationBuilderProducer,
+        final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder,
+        final int workersCount,
+        final int replaceTournamentSize,
+        final RngService rngs,
+        final ILineageStore lineage) {
+
+        this.name = name;
+        this.props = props;
+        this.termCondition = termCondition;
+        this.appearSource = appearSource;
+        this.mutationSelector = mutationSelector;
+        this.mutationFunc = mutationFunc;
+        this.parent1Selector = parent1Selector;
+        this.matesSelector = matesSelector;
+        this.crossoverFunc = crossoverFunc;
+        this.matesSelectTimeout = matesSelectTimeout;
+        this.populationBuilderProducer = populationBuilderProducer;
+        this.chromosomeBuilder = chromosomeBuilder;
+        this.workersCount = workersCount;
+        this.replaceTournamentSize = replaceTournamentSize;
+        this.rngs = rngs;
+        this.lineage = lineage;
+    }
+
+    /**
+     * Get name of GA.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:55:40 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jtools.INamed#name()
+     * @return name of this GA
+     */
+    @Override
+    public final String name() {
+        return name;
+    }
+
+    /**
+     * Get specific property of this GA.
+     * <br><b>PRE-conditions:</b> non-empty key
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>11:55:58 PM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jtools.IConfigured#property(java.lang.String)
+     * @param key
+     *            property key
+     * @return property value or null if there's no value defined for given key
+     */
+    @Override
+    public final String property(final String key) {
+        return props.getProperty(key);
+    }
+
+    /**
+     * Build initial population, fill slots with its chromosomes and launch workers.
+     * <br><b>PRE-conditions:</b> GA is running
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> slots are initialized, workers are submitted to executor
+     * <br><b>Created on:</b> <i>11:56:31 PM Oct 16, 2026</i>
+     * 
+     * @param workersExecutor
+     *            executor for workers
+     */
+    @SuppressWarnings("nls")
+    private final void bootstrap(final ExecutorService workersExecutor) {
+        final P initial = populationBuilderProducer.get()
+            .chromosomes(appearSource)
+            .build();
+        final List<C> initialChromosomes = initial.chromosomes().toList().toBlocking().single();
+        Validators.isTrue(!initialChromosomes.isEmpty());
+        final AtomicReferenceArray<C> initialSlots = new AtomicReferenceArray<>(initialChromosomes.size());
+        for (int i = 0; i < initialChromosomes.size(); i++) {
+            initialSlots.set(i, initialChromosomes.get(i));
+        }
+        slots = initialSlots;
+        slotsView = new AbstractList<C>() {
+
+            @Override
+            public C get(final int index) {
+                return initialSlots.get(index);
+            }
+
+            @Override
+            public int size() {
+                return initialSlots.length();
+            }
+        };
+        LOG.debug("initial population : population = [%s]", initial);
+        epochMates = matesSelector.forGeneration(initialChromosomes);
+        synchronized (epochLock) {
+            lastSnapshot = initial;
+            lastEpoch = 0;
+            if (checkEpoch(initial, 0)) {
+                return;
+            }
+        }
+        for (int i = 0; i < workersCount; i++) {
+            final int worker = i;
+            workersExecutor.execute(() -> work(worker));
+        }
+    }
+
+    /**
+     * Worker loop. Produces offsprings and puts them to population until GA is stopped. Any error fails the whole run.
+     * Worker is bound to population of the run it was launched for and exits once GA is stopped or restarted, so a
+     * late worker of previous run never touches or fails the next one.
+     * <br><b>PRE-conditions:</b> slots are initialized, 0 &lt;= worker &lt; workersCount
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> strategies are called, population is changed
+     * <br><b>Created on:</b> <i>11:58:02 PM Oct 16, 2026</i>
+     * 
+     * @param worker
+     *            index of worker, keys its random stream
+     */
+    @SuppressWarnings("nls")
+    private final void work(final int worker) {
+        final AtomicReferenceArray<C> population = slots;
+        final List<C> populationView = slotsView;
+        final int size = population.length();
+        final Rng rng = rngs.stream(0L, worker); // owned by this worker for the whole run
+        while (running && slots == population) {
+            try {
+                final C parent1 = population.get(rng.nextInt(size));
+                final List<C> offsprings = breed(parent1, populationView, rng);
+                for (final C offspring : offsprings) {
+                    if (slots != population) { // stopped while breeding
+                        return;
+                    }
+                    replace(population, offspring, rng);
+                    final long count = offspringsCount.incrementAndGet();
+                    if (count % size == 0L && epoch((int) (count / size))) {
+                        return;
+                    }
+                }
+            } catch (final RuntimeException e) {
+                if (slots == population) {
+                    LOG.error("error in steady-state worker", e);
+                    fail(e);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Produce evaluated offsprings of given individual : mutant if individual is chosen for mutation, crossover
+     * offsprings if it is chosen as first parent, or nothing.
+     * <br><b>PRE-conditions:</b> non-null parent1 and population
+     * <br><b>POST-conditions:</b> non-null result, all offsprings are evaluated
+     * <br><b>Side-effects:</b> strategies are called
+     * <br><b>Created on:</b> <i>11:59:30 PM Oct 16, 2026</i>
+     * 
+     * @param parent1
+     *            randomly chosen individual
+     * @param population
+     *            read-only view of population mates are chosen from
+     * @param rng
+     *            random generator of calling worker
+     * @return list of offsprings, may be empty
+     */
+    private final List<C> breed(final C parent1, final List<C> population, final Rng rng) {
+        final List<C> offsprings;
+        if (mutationSelector.select(parent1, rng)) {
+            offsprings = Collections.singletonList(mutationFunc.mutate(parent1, rng));
+        } else if (parent1Selector.select(parent1, rng)) {
+            final Observable<C> parents = epochMates.select(parent1, Observable.from(population), rng)
+                .startWith(parent1);
+            offsprings = crossoverFunc.crossover(parents, rng)
+                .timeout(matesSelectTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .toList()
+                .toBlocking()
+                .single();
+        } else {
+            return Collections.emptyList();
+        }
+        return chromosomeBuilder.get().evaluate(offsprings);
+    }
+
+    /**
+     * Put offspring to population in place of the worst individual of random replacement tournament, if offspring is
+     * not worse than it.
+     * <br><b>PRE-conditions:</b> non-null population and offspring, offspring is evaluated
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> population may be changed, rng state is changed
+     * <br><b>Created on:</b> <i>12:01:12 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population slots
+     * @param offspring
+     *            new individual
+     * @param rng
+     *            random generator of calling worker
+     */
+    private final void replace(final AtomicReferenceArray<C> population, final C offspring, final Rng rng) {
+        final int size = population.length();
+        int worstIndex = rng.nextInt(size);
+        C worst = population.get(worstIndex);
+        for (int i = 1; i < replaceTournamentSize; i++) {
+            final int index = rng.nextInt(size);
+            final C candidate = population.get(index);
+            if (candidate.fitnessValue() < worst.fitnessValue()) {
+                worstIndex = index;
+                worst = candidate;
+            }
+        }
+        if (offspring.fitnessValue() >= worst.fitnessValue()) {
+            // lost race means that slot was already improved by other worker, so offspring is just dropped
+            population.compareAndSet(worstIndex, worst, offspring);
+        }
+    }
+
+    /**
+     * Check reached epoch : build snapshot of current population, prepare mates selector for it and check it. Epoch
+     * that is not later than the latest checked one is skipped, as well as any epoch reached after GA was terminated.
+     * <br><b>PRE-conditions:</b> slots are initialized, positive epoch
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> stats are published, mates selector is prepared, GA may be terminated
+     * <br><b>Created on:</b> <i>8:50:00 AM Oct 16, 2026</i>
+     * 
+     * @param epoch
+     *            number of reached epoch
+     * @return true if GA was terminated
+     */
+    private final boolean epoch(final int epoch) {
+        synchronized (epochLock) {
+            if (!running) { // terminated by epoch checked while this one was waiting for lock
+                return true;
+            }
+            if (epoch <= lastEpoch) {
+                return false;
+            }
+            final AtomicReferenceArray<C> current = slots;
+            final List<C> chromosomes = new ArrayList<>(current.length());
+            for (int i = 0; i < current.length(); i++) {
+                chromosomes.add(current.get(i));
+            }
+            final P population = snapshot(chromosomes, lastSnapshot);
+            epochMates = matesSelector.forGeneration(chromosomes);
+            lastSnapshot = population;
+            lastEpoch = epoch;
+            return checkEpoch(population, epoch);
+        }
+    }
+
+    /**
+     * Build immutable population snapshot of current population. Individuals of previous snapshot that are still in
+     * population are its survivors, so their age is advanced.
+     * <br><b>PRE-conditions:</b> non-null chromosomes and previous
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:02:40 AM Oct 16, 2026</i>
+     * 
+     * @param chromosomes
+     *            individuals of current population
+     * @param previous
+     *            snapshot of previous epoch
+     * @return snapshot of current population
+     */
+    private final P snapshot(final List<C> chromosomes, final P previous) {
+        return populationBuilderProducer.get()
+            .chromosomes(Observable.from(chromosomes))
+            .survivorsOf(previous)
+            .build();
+    }
+
+    /**
+     * Publish stats of population snapshot and check termination condition. If condition is met, result is published
+     * and evolution is stopped.
+     * <br><b>PRE-conditions:</b> non-null population, non-negative epoch, called under {@link #epochLock}
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> stats are published, GA may be terminated
+     * <br><b>Created on:</b> <i>12:04:05 AM Oct 16, 2026</i>
+     * 
+     * @param population
+     *            population snapshot
+     * @param epoch
+     *            number of epochs passed since start
+     * @return true if GA was terminated
+     */
+    @GuardedBy("epochLock")
+    @SuppressWarnings({ "nls", "boxing" })
+    private final boolean checkEpoch(final P population, final int epoch) {
+        final Duration runtime = Duration.between(startTime, Instant.now());
+        LOG.debug("evolution epoch : epoch = [%d] ; duration = [%s] ; population = [%s]", epoch, runtime, population);
+        if (termCondition.shouldTerminate(population, epoch, runtime)) {
+            LOG.debug("termination condition met");
+            terminate(population.fittest());
+            return true;
+        }
+        stats.onNext(population.stats());
+        return false;
+    }
+
+    /**
+     * Publish result and stop workers.
+     * <br><b>PRE-conditions:</b> non-null fittest
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> GA becomes not running
+     * <br><b>Created on:</b> <i>12:05:18 AM Oct 16, 2026</i>
+     * 
+     * @param fittest
+     *            result of evolution
+     */
+    private final synchronized void terminate(final C fittest) {
+        if (!running) {
+            return;
+        }
+        running = false;
+        resultSubj.onNext(fittest);
+        executor.shutdown();
+    }
+
+    /**
+     * Publish error as result and stop workers.
+     * <br><b>PRE-conditions:</b> non-null error
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> GA becomes not running
+     * <br><b>Created on:</b> <i>12:05:41 AM Oct 16, 2026</i>
+     * 
+     * @param error
+     *            cause of evolution failure
+     */
+    private final synchronized void fail(final Throwable error) {
+        if (!running) {
+            return;
+        }
+        running = false;
+        resultSubj.onError(error);
+        executor.shutdown();
+    }
+
+    /**
+     * Start genetic algorithm.
+     * <br><b>PRE-conditions:</b> this GA is stopped (or haven't been run)
+     * <br><b>POST-conditions:</b> this GA becomes running
+     * <br><b>Side-effects:</b> internal state is changed, worker threads are started
+     * <br><b>Created on:</b> <i>12:06:02 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#start()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized void start() {
+        if (executor != null) {
+            LOG.error("already started");
+            return;
+        }
+        final AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workersCount, runnable -> {
+            final Thread thread = new Thread(runnable, name + "-steady-state-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        resultSubj = PublishSubject.create();
+        result = resultSubj.take(1).cache().toSingle();
+        offspringsCount.set(0L);
+        startTime = Instant.now();
+        running = true;
+        final ExecutorService workersExecutor = executor;
+        workersExecutor.execute(() -> {
+            try {
+                bootstrap(workersExecutor);
+            } catch (final RuntimeException e) {
+                LOG.error("failed to build initial population", e);
+                fail(e);
+            }
+        });
+        LOG.info("GA started");
+    }
+
+    /**
+     * Stop this genetic algorithm.
+     * <br><b>PRE-conditions:</b> this GA is running
+     * <br><b>POST-conditions:</b> this GA becomes stopped
+     * <br><b>Side-effects:</b> internal state is changed, worker threads are stopped
+     * <br><b>Created on:</b> <i>12:07:11 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#stop()
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized void stop() {
+        if (executor == null) {
+            LOG.error("already stopped");
+            return;
+        }
+        running = false;
+        executor.shutdownNow();
+        executor = null;
+        resultSubj.onCompleted();
+        resultSubj = null;
+        result = null;
+        slots = null;
+        slotsView = null;
+        epochMates = null;
+        LOG.info("GA stopped");
+    }
+
+    /**
+     * Get source of population stats on each epoch.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:07:58 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#stats()
+     * @return observable that emits stats of population snapshot on each epoch
+     */
+    @Override
+    public final Observable<PopulationStats> stats() {
+        return stats.asObservable();
+    }
+
+    /**
+     * Get result of this GA evaluations.
+     * <br><b>PRE-conditions:</b> GA is running
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>12:08:30 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#result()
+     * @return future that holds this GA computation result
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public final synchronized Single<C> result() throws IllegalStateException {
+        if (executor == null) { // not running
+            throw new IllegalStateException("GA is not running");
+        }
+        return result;
+    }
+
+    /**
+     * Get lineage store of this GA.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>8:56:00 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IGeneticAlgorithm#lineage()
+     * @return lineage store, null if lineage is not tracked
+     */
+    @Override
+    public final ILineageStore lineage() {
+        return lineage;
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Builder for {@link SteadyStateGA} instance.
+     * <br><b>Created on:</b> <i>12:09:40 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <C>
+     *            concrete chromosome implementation type for target GA
+     * @param <P>
+     *            concrete population implementation type for target GA
+     */
+    @NotThreadSafe
+    public static final class SteadyStateGABuilder<C extends IChromosome, P extends IPopulation<C>>
+        implements
+            IGeneticAlgorithmBuilder<C, P> {
+
+        /**
+         * Default timeout for detecting situations when there's not enough chromosomes in population for choosing
+         * mates.
+         * <br><b>Created on:</b> <i>12:10:15 AM Oct 16, 2026</i>
+         */
+        private static final Duration MATES_EXHAUST_TIMEOUT_DEFAULT = Duration.ofSeconds(5);
+
+        /**
+         * Default number of individuals in replacement tournament.
+         * <br><b>Created on:</b> <i>12:10:32 AM Oct 16, 2026</i>
+         */
+        private static final int REPLACE_TOURNAMENT_SIZE_DEFAULT = 2;
+
+        /**
+         * Name for target GA.
+         * <br><b>Created on:</b> <i>12:10:50 AM Oct 16, 2026</i>
+         */
+        private String name = ""; //$NON-NLS-1$
+
+        /**
+         * Properties for target GA.
+         * <br><b>Created on:</b> <i>12:11:03 AM Oct 16, 2026</i>
+         */
+        private final Properties props = new Properties();
+
+        /**
+         * Termination condition for target GA.
+         * <br><b>Created on:</b> <i>12:11:16 AM Oct 16, 2026</i>
+         */
+        private ITerminationCondition<C, P> termCondition = null;
+
+        /**
+         * Appearance observable for target GA.
+         * <br><b>Created on:</b> <i>12:11:29 AM Oct 16, 2026</i>
+         */
+        private Observable<C> appearSource = null;
+
+        /**
+         * Population builder for target GA.
+         * <br><b>Created on:</b> <i>12:11:42 AM Oct 16, 2026</i>
+         */
+        private Supplier<IPopulationBuilder<C, P>> populationBuilder = null;
+
+        /**
+         * Mutation selector for target GA.
+         * <br><b>Created on:</b> <i>12:11:55 AM Oct 16, 2026</i>
+         */
+        private ISelectionPredicate<C> mutationSelector = null;
+
+        /**
+         * Mutation strategy for target GA.
+         * <br><b>Created on:</b> <i>12:12:08 AM Oct 16, 2026</i>
+         */
+        private IMutationStrategy<C> mutationFunc = null;
+
+        /**
+         * Crossover strategy for target GA.
+         * <br><b>Created on:</b> <i>12:12:21 AM Oct 16, 2026</i>
+         */
+        private ICrossoverStrategy<C> crossoverFunc = null;
+
+        /**
+         * Selector for first parent for crossover for target GA.
+         * <br><b>Created on:</b> <i>12:12:34 AM Oct 16, 2026</i>
+         */
+        private ISelectionPredicate<C> parent1Selector = null;
+
+        /**
+         * Mates selector for crossover for target GA.
+         * <br><b>Created on:</b> <i>12:12:47 AM Oct 16, 2026</i>
+         */
+        private IMatesSelector<C> matesSelector = null;
+
+        /**
+         * Mates selection timeout for detection conflicting configuration.
+         * <br><b>Created on:</b> <i>12:13:00 AM Oct 16, 2026</i>
+         */
+        private Duration matesSelectTimeout = MATES_EXHAUST_TIMEOUT_DEFAULT;
+
+        /**
+         * Chromosome builder producer for evaluating offsprings.
+         * <br><b>Created on:</b> <i>12:13:13 AM Oct 16, 2026</i>
+         */
+        private Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder = null;
+
+        /**
+         * Number of worker threads of target GA.
+         * <br><b>Created on:</b> <i>12:13:26 AM Oct 16, 2026</i>
+         */
+        private int workersCount = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Number of individuals in replacement tournament of target GA.
+         * <br><b>Created on:</b> <i>12:13:39 AM Oct 16, 2026</i>
+         */
+        private int replaceTournamentSize = REPLACE_TOURNAMENT_SIZE_DEFAULT;
+
+        /**
+         * Master seed of random streams for target GA, null for random one.
+         * <br><b>Created on:</b> <i>8:45:30 AM Oct 16, 2026</i>
+         */
+        private Long seed = null;
+
+        /**
+         * Lineage store for target GA, null if lineage is not tracked.
+         * <br><b>Created on:</b> <i>8:56:20 AM Oct 16, 2026</i>
+         */
+        private ILineageStore lineage = null;
+
+
+        /**
+         * Build target genetic algorithm.
+         * <br><b>PRE-conditions:</b> all necessary parameters were specified
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>12:14:10 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#build()
+         * @return new instance of {@link SteadyStateGA} that is configured from current builder state
+         * @throws IllegalStateException
+         *             if wrong configuration was detected
+         */
+        @Override
+        public final IGeneticAlgorithm<C, P> build() throws IllegalStateException {
+            if (!isValid()) {
+                throw new IllegalStateException();
+            }
+            final Properties propsCopy = new Properties();
+            propsCopy.putAll(props);
+            final IMutationStrategy<C> mutation = (lineage == null) ? mutationFunc : mutationFunc.withLineage(lineage);
+            final ICrossoverStrategy<C> crossover = (lineage == null)
+                ? crossoverFunc
+                : crossoverFunc.withLineage(lineage);
+            return new SteadyStateGA<>(name,
+                propsCopy,
+                termCondition,
+                appearSource,
+                mutationSelector,
+                mutation,
+                parent1Selector,
+                matesSelector,
+                crossover,
+                matesSelectTimeout,
+                populationBuilder,
+                chromosomeBuilder,
+                workersCount,
+                replaceTournamentSize,
+                new RngService((seed == null) ? RngService.randomSeed() : seed.longValue()),
+                lineage);
+        }
+
+        /**
+         * Check if current builder state is valid and target GA can be built. Natural selection strategy and buffer
+         * size are not required.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>12:14:51 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.InstanceBuilder#isValid()
+         * @return true if builder is valid and GA can be built, false otherwise
+         */
+        @Override
+        public final boolean isValid() {
+            if (name == null) {
+                return false;
+            }
+            if (termCondition == null) {
+                return false;
+            }
+            if (appearSource == null) {
+                return false;
+            }
+            if (populationBuilder == null) {
+                return false;
+            }
+            if (mutationSelector == null || mutationFunc == null) {
+                return false;
+            }
+            if (parent1Selector == null || matesSelector == null || crossoverFunc == null) {
+                return false;
+            }
+            if (chromosomeBuilder == null) {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Set name for target GA.
+         * <br><b>PRE-conditions:</b> non-empty name
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:15:30 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.INameable#name(java.lang.String)
+         * @param name
+         *            name for target GA
+         * @return previous name
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final String name(final String name) {
+            Validators.nonEmpty(name);
+            final String prevName = this.name;
+            this.name = name;
+            return prevName;
+        }
+
+        /**
+         * Get name for target GA.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>12:15:52 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.INamed#name()
+         * @return current name for target GA
+         */
+        @Override
+        public final String name() {
+            return name;
+        }
+
+        /**
+         * Set property for target GA.
+         * <br><b>PRE-conditions:</b> non-empty key, non-null value
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:16:14 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigurable#property(java.lang.String, java.lang.String)
+         * @param key
+         *            key for property
+         * @param value
+         *            property value
+         * @return previous property value
+         */
+        @Override
+        public final String property(final String key, final String value) {
+            Validators.nonEmpty(key);
+            Validators.nonNull(value);
+            return (String) props.setProperty(key, value);
+        }
+
+        /**
+         * Remove property from target GA.
+         * <br><b>PRE-conditions:</b> non-empty key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:16:37 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigurable#removeProperty(java.lang.String)
+         * @param key
+         *            property key
+         * @return previous value of property, or null if association wasn't established
+         */
+        @Override
+        public final String removeProperty(final String key) {
+            Validators.nonEmpty(key);
+            return (String) props.remove(key);
+        }
+
+        /**
+         * Get property for given key.
+         * <br><b>PRE-conditions:</b> non-empty key
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>12:16:59 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jtools.IConfigured#property(java.lang.String)
+         * @param key
+         *            property key
+         * @return property value, or null if there's no such property
+         */
+        @Override
+        public final String property(final String key) {
+            Validators.nonEmpty(key);
+            return props.getProperty(key);
+        }
+
+        /**
+         * Set termination condition function for target GA. Epoch number is passed as iteration number.
+         * <br><b>PRE-conditions:</b> non-null termCondition
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:17:22 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#termCondition(dburyak.jgatools.ITerminationCondition)
+         * @param termCondition
+         *            GA termination condition
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> termCondition(final ITerminationCondition<C, P> termCondition) {
+            Validators.nonNull(termCondition);
+            this.termCondition = termCondition;
+            return this;
+        }
+
+        /**
+         * Set {@code Observable} that produces initial chromosomes "out of nowhere" for target GA.
+         * <br><b>PRE-conditions:</b> non-null appearSource
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:17:45 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#appearSource(rx.Observable)
+         * @param appearSource
+         *            source of initial chromosomes
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> appearSource(final Observable<C> appearSource) {
+            Validators.nonNull(appearSource);
+            this.appearSource = appearSource;
+            return this;
+        }
+
+        /**
+         * Set population builder producer to be used in target GA for building initial population and population
+         * snapshots.
+         * <br><b>PRE-conditions:</b> non-null populationBuilder
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:18:08 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#populationBuilder(java.util.function.Supplier)
+         * @param populationBuilder
+         *            supplier that produces population builder
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> populationBuilder(
+            final Supplier<IPopulationBuilder<C, P>> populationBuilder) {
+
+            Validators.nonNull(populationBuilder);
+            this.populationBuilder = populationBuilder;
+            return this;
+        }
+
+        /**
+         * Set mutation selector function for target GA.
+         * <br><b>PRE-conditions:</b> non-null mutationSelector
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:18:31 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#mutationSelector(dburyak.jgatools.ISelectionPredicate)
+         * @param mutationSelector
+         *            mutation selector function to be used in target GA
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> mutationSelector(final ISelectionPredicate<C> mutationSelector) {
+            Validators.nonNull(mutationSelector);
+            this.mutationSelector = mutationSelector;
+            return this;
+        }
+
+        /**
+         * Set mutation strategy for target GA.
+         * <br><b>PRE-conditions:</b> non-null mutationFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:18:54 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#mutationFunc(dburyak.jgatools.IMutationStrategy)
+         * @param mutationFunc
+         *            mutation function for target GA
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> mutationFunc(final IMutationStrategy<C> mutationFunc) {
+            Validators.nonNull(mutationFunc);
+            this.mutationFunc = mutationFunc;
+            return this;
+        }
+
+        /**
+         * Set crossover strategy for target GA.
+         * <br><b>PRE-conditions:</b> non-null crossoverFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:19:17 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#crossoverFunc(dburyak.jgatools.ICrossoverStrategy)
+         * @param crossoverFunc
+         *            crossover strategy for target GA
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> crossoverFunc(final ICrossoverStrategy<C> crossoverFunc) {
+            Validators.nonNull(crossoverFunc);
+            this.crossoverFunc = crossoverFunc;
+            return this;
+        }
+
+        /**
+         * Natural selection strategy is not used by steady-state GA : replacement tournament plays its role. Given
+         * strategy is ignored.
+         * <br><b>PRE-conditions:</b> non-null selectionFunc
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>12:19:40 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#selectionFunc(dburyak.jgatools.ISelectionStrategy)
+         * @param selectionFunc
+         *            ignored
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> selectionFunc(final ISelectionStrategy<C> selectionFunc) {
+            Validators.nonNull(selectionFunc);
+            return this;
+        }
+
+        /**
+         * Set selector for the first parent for crossover operation.
+         * <br><b>PRE-conditions:</b> non-null parent1Selector
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:20:03 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#parent1Selector(dburyak.jgatools.ISelectionPredicate)
+         * @param parent1Selector
+         *            selector for choosing first parent for crossover
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> parent1Selector(final ISelectionPredicate<C> parent1Selector) {
+            Validators.nonNull(parent1Selector);
+            this.parent1Selector = parent1Selector;
+            return this;
+        }
+
+        /**
+         * Set mates selector for crossover operation for target GA. Candidates are live view of current population.
+         * <br><b>PRE-conditions:</b> non-null matesSelector
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> state is changed
+         * <br><b>Created on:</b> <i>12:20:26 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#matesSelector(dburyak.jgatools.IMatesSelector)
+         * @param matesSelector
+         *            selector for choosing other mates for crossover
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> matesSelector(final IMatesSelector<C> matesSelector) {
+            Validators.nonNull(matesSelector);
+            this.matesSelector = matesSelector;
+            return this;
+        }
+
+        /**
+         * Set timeout for detecting situations when there's not enough chromosomes in population for choosing mates.
+         * <br><b>PRE-conditions:</b> positive timeout
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>12:20:49 AM Oct 16, 2026</i>
+         * 
+         * @param timeout
+         *            timeout for choosing mates
+         * @return this builder (for call chaining)
+         */
+        public final IGeneticAlgorithmBuilder<C, P> matesSelectTimeout(final Duration timeout) {
+            Validators.nonNull(timeout);
+            Validators.positive(timeout);
+            matesSelectTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Buffer is not used by steady-state GA. Given size is ignored.
+         * <br><b>PRE-conditions:</b> bufferSize &gt; 0
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>12:21:12 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#bufferSize(int)
+         * @param bufferSize
+         *            ignored
+         * @return this builder (for call chaining)
+         */
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> bufferSize(final int bufferSize) {
+            Validators.positive(bufferSize);
+            return this;
+        }
+
+        /**
+         * Set chromosome builder producer for evaluating offsprings with deferred fitness.
+         * <br><b>PRE-conditions:</b> non-null chromosomeBuilder
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>12:21:35 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#chromosomeBuilder(java.util.function.Supplier)
+         * @param chromosomeBuilder
+         *            chromosome builder producer
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> chromosomeBuilder(
+            final Supplier<IChromosomeBuilder<C, ? extends Cloneable>> chromosomeBuilder) {
+
+            Validators.nonNull(chromosomeBuilder);
+            this.chromosomeBuilder = chromosomeBuilder;
+            return this;
+        }
+
+        /**
+         * Set lineage store for target GA. Mutation and crossover strategies are bound to it on build, so offsprings
+         * are registered in it with their parents. If not specified, lineage is not tracked.
+         * <br><b>PRE-conditions:</b> non-null lineage
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>8:56:40 AM Oct 16, 2026</i>
+         * 
+         * @see dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder#lineage(dburyak.jgatools.ILineageStore)
+         * @param lineage
+         *            lineage store
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        @Override
+        public final IGeneticAlgorithmBuilder<C, P> lineage(final ILineageStore lineage) {
+            Validators.nonNull(lineage);
+            this.lineage = lineage;
+            return this;
+        }
+
+        /**
+         * Set number of worker threads that produce offsprings concurrently. If not specified, number of available
+         * processors is used.
+         * <br><b>PRE-conditions:</b> positive workersCount
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>12:21:58 AM Oct 16, 2026</i>
+         * 
+         * @param workersCount
+         *            number of worker threads
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> workersCount(final int workersCount) {
+            Validators.positive(workersCount);
+            this.workersCount = workersCount;
+            return this;
+        }
+
+        /**
+         * Set number of individuals in replacement tournament. Bigger tournament means higher selection pressure. If
+         * not specified, 2 is used.
+         * <br><b>PRE-conditions:</b> positive replaceTournamentSize
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>12:22:21 AM Oct 16, 2026</i>
+         * 
+         * @param replaceTournamentSize
+         *            number of individuals in replacement tournament
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> replaceTournamentSize(final int replaceTournamentSize) {
+            Validators.positive(replaceTournamentSize);
+            this.replaceTournamentSize = replaceTournamentSize;
+            return this;
+        }
+
+
+        /**
+         * Set master seed of random streams that are given to strategies. Each worker gets its own stream keyed by
+         * worker index, so with fixed seed (and strategies that use only given {@link dburyak.jgatools.Rng}) run with
+         * single worker always produces same populations. If not specified, random seed is used.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this builder state is changed
+         * <br><b>Created on:</b> <i>8:46:00 AM Oct 16, 2026</i>
+         * 
+         * @param seed
+         *            master seed
+         * @return this builder (for call chaining)
+         */
+        @SuppressWarnings("hiding")
+        public final IGeneticAlgorithmBuilder<C, P> seed(final long seed) {
+            this.seed = Long.valueOf(seed);
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.stream.IntStream;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IIndexedSelectionStrategy;
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Stochastic universal sampling natural selection : fitness proportionate selection with single random offset. Places
+ * equally spaced pointers over cumulative fitness and picks chromosomes they fall on, so each chromosome gets either
+ * floor or ceiling of its expected number of copies (minimal spread) and the whole selection is one O(n + size) pass
+ * with a single random number. If all fitness values are zero, picks are uniform.<br>
+ * Parallel variant walks ranges of pointers in common fork/join pool, each range starts from binary search of its
+ * first pointer. Cumulative table is summed sequentially in both variants, since parallel prefix rounds differently
+ * and would make picks of parallel variant differ from sequential one for the same random generator.
+ * <br><b>Created on:</b> <i>5:50:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@Immutable
+public final class StochasticUniversalSampling<C extends IChromosome> implements IIndexedSelectionStrategy<C> {
+
+    /**
+     * Number of chromosomes that survive selection.
+     * <br><b>Created on:</b> <i>5:50:40 AM Oct 16, 2026</i>
+     */
+    private final int size;
+
+    /**
+     * Whether selection is performed in parallel.
+     * <br><b>Created on:</b> <i>5:50:58 AM Oct 16, 2026</i>
+     */
+    private final boolean parallel;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.StochasticUniversalSampling.<br>
+     * Sequential selection.
+     * <br><b>PRE-conditions:</b> non-negative size
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>5:51:20 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes that survive selection
+     */
+    public StochasticUniversalSampling(final int size) {
+        this(size, false);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.StochasticUniversalSampling.<br>
+     * <br><b>PRE-conditions:</b> non-negative size
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>5:51:42 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes that survive selection
+     * @param parallel
+     *            whether selection should be performed in parallel
+     */
+    public StochasticUniversalSampling(final int size, final boolean parallel) {
+        Validators.nonNegative(size);
+        this.size = size;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Choose survivors by equally spaced pointers over cumulative fitness. Survivors are ordered by their index in
+     * buffer.
+     * <br><b>PRE-conditions:</b> non-null fitness with non-negative values, non-null rng
+     * <br><b>POST-conditions:</b> non-null result of selection size, empty for empty fitness
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>5:52:20 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IIndexedSelectionStrategy#selectIndexes(double[], dburyak.jgatools.Rng)
+     * @param fitness
+     *            fitness values of buffer chromosomes
+     * @param rng
+     *            random generator owned by caller
+     * @return indexes of survivors
+     */
+    @Override
+    public final int[] selectIndexes(final double[] fitness, final Rng rng) {
+        Validators.nonNull(fitness);
+        Validators.nonNull(rng);
+        final int n = fitness.length;
+        if (n == 0 || size == 0) {
+            return new int[0];
+        }
+        final double[] cumulative = fitness.clone();
+        for (int i = 1; i < n; i++) { // sequential, parallel prefix rounds differently
+            cumulative[i] += cumulative[i - 1];
+        }
+        if (!(cumulative[n - 1] > 0.0)) { // all fitness values are zero, every chromosome gets the same weight
+            for (int i = 0; i < n; i++) {
+                cumulative[i] = i + 1;
+            }
+        }
+        final double step = cumulative[n - 1] / size;
+        final double offset = rng.nextDouble() * step;
+        final int[] indexes = new int[size];
+        if (parallel) {
+            final int ranges = (size + Draws.CHUNK_SIZE - 1) / Draws.CHUNK_SIZE;
+            IntStream.range(0, ranges).parallel().forEach(range -> walk(cumulative, offset, step, indexes,
+                range * Draws.CHUNK_SIZE, Math.min(size, (range + 1) * Draws.CHUNK_SIZE)));
+        } else {
+            walk(cumulative, offset, step, indexes, 0, size);
+        }
+        return indexes;
+    }
+
+    /**
+     * Resolve given range of pointers to chromosome indexes in single forward pass over cumulative table.
+     * <br><b>PRE-conditions:</b> non-null non-empty non-decreasing cumulative, 0 &lt;= from &lt;= to &lt;= indexes
+     * length
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> indexes of range are filled
+     * <br><b>Created on:</b> <i>5:54:05 AM Oct 16, 2026</i>
+     * 
+     * @param cumulative
+     *            cumulative fitness table
+     * @param offset
+     *            position of the first pointer
+     * @param step
+     *            distance between pointers
+     * @param indexes
+     *            (out) selected indexes
+     * @param from
+     *            first pointer of range (inclusive)
+     * @param to
+     *            end pointer of range (exclusive)
+     */
+    private static final void walk(
+        final double[] cumulative,
+        final double offset,
+        final double step,
+        final int[] indexes,
+        final int from,
+        final int to) {
+
+        if (from >= to) {
+            return;
+        }
+        final int last = cumulative.length - 1;
+        int index = Draws.upperBound(cumulative, offset + from * step);
+        for (int pointer = from; pointer < to; pointer++) {
+            final double position = offset + pointer * step;
+            while (index < last && cumulative[index] <= position) {
+                index++;
+            }
+            indexes[pointer] = index;
+        }
+    }
+
+}
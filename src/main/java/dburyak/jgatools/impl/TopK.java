@@ -0,0 +1,300 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collector;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import dburyak.jtools.Validators;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Top-k partial selection utilities. Keeps k best elements of arbitrary long sequence in bounded binary heap, which
+ * costs O(n log k) time and O(k) memory instead of O(n log n) and O(n) of full sort. Elements that are not better than
+ * the worst kept element are rejected with single comparison, so for n &gt;&gt; k selection is close to O(n).<br>
+ * "Better" is defined by given comparator : greater element is better. All methods return kept elements sorted from
+ * the best to the worst.
+ * <br><b>Created on:</b> <i>2:20:05 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public final class TopK {
+
+    /**
+     * Select k best elements of given observable.
+     * <br><b>PRE-conditions:</b> non-null items and order, non-negative k
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:21:10 AM Oct 16, 2026</i>
+     * 
+     * @param <T>
+     *            type of elements
+     * @param items
+     *            finite source of elements
+     * @param k
+     *            max number of elements to keep
+     * @param order
+     *            comparator, greater element is better
+     * @return observable that emits single list of best elements sorted from the best to the worst
+     */
+    public static final <T> Observable<List<T>> select(
+        final Observable<? extends T> items,
+        final int k,
+        final Comparator<? super T> order) {
+
+        Validators.nonNull(items);
+        Validators.nonNegative(k);
+        Validators.nonNull(order);
+        return items
+            .collect(() -> new Heap<T>(k, order), Heap::offer)
+            .map(Heap::toSortedList);
+    }
+
+    /**
+     * Select k best elements of given collection sequentially.
+     * <br><b>PRE-conditions:</b> non-null items and order, non-negative k
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:22:31 AM Oct 16, 2026</i>
+     * 
+     * @param <T>
+     *            type of elements
+     * @param items
+     *            elements to select from
+     * @param k
+     *            max number of elements to keep
+     * @param order
+     *            comparator, greater element is better
+     * @return list of best elements sorted from the best to the worst
+     */
+    public static final <T> List<T> select(
+        final Collection<? extends T> items,
+        final int k,
+        final Comparator<? super T> order) {
+
+        Validators.nonNull(items);
+        final Heap<T> heap = new Heap<>(k, order);
+        for (final T item : items) {
+            heap.offer(item);
+        }
+        return heap.toSortedList();
+    }
+
+    /**
+     * Select k best elements of given collection in parallel : each fork/join task keeps its own heap, heaps are
+     * merged afterwards. Worth it only for large collections.
+     * <br><b>PRE-conditions:</b> non-null items and order, non-negative k
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> common fork/join pool is used
+     * <br><b>Created on:</b> <i>2:23:48 AM Oct 16, 2026</i>
+     * 
+     * @param <T>
+     *            type of elements
+     * @param items
+     *            elements to select from
+     * @param k
+     *            max number of elements to keep
+     * @param order
+     *            comparator, greater element is better
+     * @return list of best elements sorted from the best to the worst
+     */
+    public static final <T> List<T> selectParallel(
+        final Collection<? extends T> items,
+        final int k,
+        final Comparator<? super T> order) {
+
+        Validators.nonNull(items);
+        return items.parallelStream().collect(collector(k, order));
+    }
+
+    /**
+     * Get collector that keeps k best elements of stream. Works for both sequential and parallel streams.
+     * <br><b>PRE-conditions:</b> non-null order, non-negative k
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:25:02 AM Oct 16, 2026</i>
+     * 
+     * @param <T>
+     *            type of elements
+     * @param k
+     *            max number of elements to keep
+     * @param order
+     *            comparator, greater element is better
+     * @return top-k collector that produces list of best elements sorted from the best to the worst
+     */
+    public static final <T> Collector<T, ?, List<T>> collector(final int k, final Comparator<? super T> order) {
+        Validators.nonNegative(k);
+        Validators.nonNull(order);
+        return Collector.<T, Heap<T>, List<T>> of(
+            () -> new Heap<>(k, order),
+            Heap::offer,
+            Heap::merge,
+            Heap::toSortedList,
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.TopK.<br>
+     * Utility class, instantiation is not allowed.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:25:40 AM Oct 16, 2026</i>
+     */
+    private TopK() {
+    }
+
+
+    /**
+     * Project : jgatools.<br>
+     * Bounded binary min-heap (by given order) : root is the worst of kept elements, so it is the one to be replaced
+     * by better element when heap is full.
+     * <br><b>Created on:</b> <i>2:26:18 AM Oct 16, 2026</i>
+     * 
+     * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+     * @version 0.1
+     * @param <T>
+     *            type of elements
+     */
+    @NotThreadSafe
+    private static final class Heap<T> {
+
+        /**
+         * Kept elements in heap order.
+         * <br><b>Created on:</b> <i>2:26:45 AM Oct 16, 2026</i>
+         */
+        private final Object[] elements;
+
+        /**
+         * Number of kept elements.
+         * <br><b>Created on:</b> <i>2:27:01 AM Oct 16, 2026</i>
+         */
+        private int size = 0;
+
+        /**
+         * Order of elements, greater element is better.
+         * <br><b>Created on:</b> <i>2:27:17 AM Oct 16, 2026</i>
+         */
+        private final Comparator<? super T> order;
+
+
+        /**
+         * Constructor for class : [jgatools] dburyak.jgatools.impl.TopK.Heap.<br>
+         * <br><b>PRE-conditions:</b> non-negative capacity, non-null order
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>2:27:40 AM Oct 16, 2026</i>
+         * 
+         * @param capacity
+         *            max number of kept elements
+         * @param order
+         *            order of elements, greater element is better
+         */
+        Heap(final int capacity, final Comparator<? super T> order) {
+            elements = new Object[capacity];
+            this.order = order;
+        }
+
+        /**
+         * Get kept element at given heap position.
+         * <br><b>PRE-conditions:</b> 0 &lt;= index &lt; size
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>2:28:05 AM Oct 16, 2026</i>
+         * 
+         * @param index
+         *            heap position
+         * @return element at given position
+         */
+        @SuppressWarnings("unchecked")
+        private final T at(final int index) {
+            return (T) elements[index];
+        }
+
+        /**
+         * Offer element to this heap. Element is kept if heap is not full or if it is better than the worst kept
+         * element (which is evicted then).
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> NONE
+         * <br><b>Side-effects:</b> this heap state may be changed
+         * <br><b>Created on:</b> <i>2:28:40 AM Oct 16, 2026</i>
+         * 
+         * @param item
+         *            offered element
+         */
+        final void offer(final T item) {
+            if (size < elements.length) {
+                int child = size++;
+                while (child > 0) { // sift up
+                    final int parent = (child - 1) >>> 1;
+                    if (order.compare(item, at(parent)) >= 0) {
+                        break;
+                    }
+                    elements[child] = elements[parent];
+                    child = parent;
+                }
+                elements[child] = item;
+            } else if (size > 0 && order.compare(item, at(0)) > 0) {
+                int parent = 0;
+                final int half = size >>> 1;
+                while (parent < half) { // sift down
+                    int child = (parent << 1) + 1;
+                    final int right = child + 1;
+                    if (right < size && order.compare(at(right), at(child)) < 0) {
+                        child = right;
+                    }
+                    if (order.compare(item, at(child)) <= 0) {
+                        break;
+                    }
+                    elements[parent] = elements[child];
+                    parent = child;
+                }
+                elements[parent] = item;
+            }
+        }
+
+        /**
+         * Merge other heap into this one.
+         * <br><b>PRE-conditions:</b> non-null other
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> this heap state may be changed
+         * <br><b>Created on:</b> <i>2:30:12 AM Oct 16, 2026</i>
+         * 
+         * @param other
+         *            heap to be merged into this one
+         * @return this heap
+         */
+        final Heap<T> merge(final Heap<T> other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.at(i));
+            }
+            return this;
+        }
+
+        /**
+         * Get kept elements sorted from the best to the worst.
+         * <br><b>PRE-conditions:</b> NONE
+         * <br><b>POST-conditions:</b> non-null result
+         * <br><b>Side-effects:</b> NONE
+         * <br><b>Created on:</b> <i>2:30:48 AM Oct 16, 2026</i>
+         * 
+         * @return sorted kept elements
+         */
+        @SuppressWarnings("unchecked")
+        final List<T> toSortedList() {
+            final T[] sorted = (T[]) Arrays.copyOf(elements, size);
+            Arrays.sort(sorted, order.reversed());
+            return new ArrayList<>(Arrays.asList(sorted));
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package dburyak.jgatools.impl;
+
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.IIndexedSelectionStrategy;
+import dburyak.jgatools.Rng;
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * K-tournament natural selection : each survivor is the fittest of k chromosomes drawn uniformly at random (with
+ * replacement) from buffer. Costs O(k) per pick and needs neither sorting nor fitness totals, selection pressure grows
+ * with tournament size. Parallel variant draws chunks of survivors in common fork/join pool and produces the same
+ * result as sequential one.
+ * <br><b>Created on:</b> <i>5:30:05 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@Immutable
+public final class TournamentSelection<C extends IChromosome> implements IIndexedSelectionStrategy<C> {
+
+    /**
+     * Number of chromosomes that survive selection.
+     * <br><b>Created on:</b> <i>5:30:40 AM Oct 16, 2026</i>
+     */
+    private final int size;
+
+    /**
+     * Number of chromosomes that compete in each tournament.
+     * <br><b>Created on:</b> <i>5:30:58 AM Oct 16, 2026</i>
+     */
+    private final int tournamentSize;
+
+    /**
+     * Whether selection is performed in parallel.
+     * <br><b>Created on:</b> <i>5:31:15 AM Oct 16, 2026</i>
+     */
+    private final boolean parallel;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.TournamentSelection.<br>
+     * Sequential selection.
+     * <br><b>PRE-conditions:</b> non-negative size, positive tournamentSize
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>5:31:40 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes that survive selection
+     * @param tournamentSize
+     *            number of chromosomes that compete in each tournament
+     */
+    public TournamentSelection(final int size, final int tournamentSize) {
+        this(size, tournamentSize, false);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.TournamentSelection.<br>
+     * <br><b>PRE-conditions:</b> non-negative size, positive tournamentSize
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>5:32:02 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes that survive selection
+     * @param tournamentSize
+     *            number of chromosomes that compete in each tournament
+     * @param parallel
+     *            whether selection should be performed in parallel
+     */
+    public TournamentSelection(final int size, final int tournamentSize, final boolean parallel) {
+        Validators.nonNegative(size);
+        Validators.positive(tournamentSize);
+        this.size = size;
+        this.tournamentSize = tournamentSize;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Choose survivors by running one tournament per survivor.
+     * <br><b>PRE-conditions:</b> non-null fitness and rng
+     * <br><b>POST-conditions:</b> non-null result of selection size, empty for empty fitness
+     * <br><b>Side-effects:</b> rng state is changed
+     * <br><b>Created on:</b> <i>5:32:40 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.IIndexedSelectionStrategy#selectIndexes(double[], dburyak.jgatools.Rng)
+     * @param fitness
+     *            fitness values of buffer chromosomes
+     * @param rng
+     *            random generator owned by caller
+     * @return indexes of survivors
+     */
+    @Override
+    public final int[] selectIndexes(final double[] fitness, final Rng rng) {
+        Validators.nonNull(fitness);
+        final int n = fitness.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        return Draws.independent(size, rng, parallel, r -> {
+            int winner = r.nextInt(n);
+            for (int i = 1; i < tournamentSize; i++) {
+                final int rival = r.nextInt(n);
+                if (fitness[rival] > fitness[winner]) {
+                    winner = rival;
+                }
+            }
+            return winner;
+        });
+    }
+
+}
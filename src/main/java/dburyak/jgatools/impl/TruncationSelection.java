@@ -0,0 +1,103 @@
+package dburyak.jgatools.impl;
+
+
+import java.util.Comparator;
+
+import javax.annotation.concurrent.Immutable;
+
+import dburyak.jgatools.IChromosome;
+import dburyak.jgatools.ISelectionStrategy;
+import dburyak.jtools.Validators;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Truncation natural selection : keeps given number of the fittest chromosomes of buffer. Uses top-k partial selection
+ * ({@link TopK}) instead of sorting whole buffer. Parallel variant materializes buffer first and selects in
+ * fork/join pool, which pays off only for large buffers.
+ * <br><b>Created on:</b> <i>2:33:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ * @param <C>
+ *            concrete chromosome implementation type
+ */
+@Immutable
+public final class TruncationSelection<C extends IChromosome> implements ISelectionStrategy<C> {
+
+    /**
+     * Number of chromosomes that survive selection.
+     * <br><b>Created on:</b> <i>2:33:41 AM Oct 16, 2026</i>
+     */
+    private final int size;
+
+    /**
+     * Whether selection is performed in parallel.
+     * <br><b>Created on:</b> <i>2:33:58 AM Oct 16, 2026</i>
+     */
+    private final boolean parallel;
+
+    /**
+     * Order of chromosomes by fitness, fitter chromosome is greater.
+     * <br><b>Created on:</b> <i>2:34:15 AM Oct 16, 2026</i>
+     */
+    private final Comparator<C> byFitness = (c1, c2) -> Double.compare(c1.fitnessValue(), c2.fitnessValue());
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.TruncationSelection.<br>
+     * Sequential selection.
+     * <br><b>PRE-conditions:</b> non-negative size
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:34:40 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes that survive selection
+     */
+    public TruncationSelection(final int size) {
+        this(size, false);
+    }
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.TruncationSelection.<br>
+     * <br><b>PRE-conditions:</b> non-negative size
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:35:02 AM Oct 16, 2026</i>
+     * 
+     * @param size
+     *            number of chromosomes that survive selection
+     * @param parallel
+     *            whether selection should be performed in parallel
+     */
+    public TruncationSelection(final int size, final boolean parallel) {
+        Validators.nonNegative(size);
+        this.size = size;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Select the fittest chromosomes of buffer.
+     * <br><b>PRE-conditions:</b> non-null finite buffer
+     * <br><b>POST-conditions:</b> non-null result
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>2:35:35 AM Oct 16, 2026</i>
+     * 
+     * @see dburyak.jgatools.ISelectionStrategy#select(rx.Observable)
+     * @param buffer
+     *            chromosomes to select from
+     * @return the fittest chromosomes sorted by fitness (descending)
+     */
+    @Override
+    public final Observable<C> select(final Observable<C> buffer) {
+        if (parallel) {
+            return buffer.toList()
+                .concatMapIterable(all -> TopK.selectParallel(all, size, byFitness));
+        }
+        return TopK.select(buffer, size, byFitness)
+            .concatMapIterable(fittest -> fittest);
+    }
+
+}
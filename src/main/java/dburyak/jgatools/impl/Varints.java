@@ -0,0 +1,137 @@
+package dburyak.jgatools.impl;
+
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import dburyak.jtools.Validators;
+
+
+/**
+ * Project : jgatools.<br>
+ * Variable-length encoding of non-negative integers for binary formats : 7 bits per byte, least significant group
+ * first, high bit of byte marks that more bytes follow. Values below 128 take single byte, any long takes at most 10
+ * bytes.
+ * <br><b>Created on:</b> <i>7:36:10 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public final class Varints {
+
+    /**
+     * Max number of bytes of encoded long.
+     * <br><b>Created on:</b> <i>7:36:40 AM Oct 16, 2026</i>
+     */
+    public static final int MAX_SIZE = 10;
+
+
+    /**
+     * Constructor for class : [jgatools] dburyak.jgatools.impl.Varints.<br>
+     * Utility class.
+     * <br><b>PRE-conditions:</b> NONE
+     * <br><b>POST-conditions:</b> NONE
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:37:00 AM Oct 16, 2026</i>
+     */
+    private Varints() {
+        // utility class
+    }
+
+    /**
+     * Get number of bytes of encoded value.
+     * <br><b>PRE-conditions:</b> non-negative value
+     * <br><b>POST-conditions:</b> 1 &lt;= result &lt;= {@link #MAX_SIZE}
+     * <br><b>Side-effects:</b> NONE
+     * <br><b>Created on:</b> <i>7:37:20 AM Oct 16, 2026</i>
+     * 
+     * @param value
+     *            value to be encoded
+     * @return size of encoded value in bytes
+     */
+    public static final int size(final long value) {
+        Validators.nonNegative(value);
+        return 1 + (63 - Long.numberOfLeadingZeros(value | 1L)) / 7;
+    }
+
+    /**
+     * Write encoded value at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null out, non-negative value
+     * <br><b>POST-conditions:</b> out position is advanced by {@link #size(long)}
+     * <br><b>Side-effects:</b> out is written
+     * <br><b>Created on:</b> <i>7:37:50 AM Oct 16, 2026</i>
+     * 
+     * @param out
+     *            destination buffer
+     * @param value
+     *            value to be encoded
+     * @throws BufferOverflowException
+     *             if there's not enough space in buffer
+     */
+    public static final void put(final ByteBuffer out, final long value) throws BufferOverflowException {
+        Validators.nonNegative(value);
+        long rest = value;
+        while (rest >= 0x80L) {
+            out.put((byte) (rest | 0x80L));
+            rest >>>= 7;
+        }
+        out.put((byte) rest);
+    }
+
+    /**
+     * Read encoded long at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null in
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> in position is advanced
+     * <br><b>Created on:</b> <i>7:38:20 AM Oct 16, 2026</i>
+     * 
+     * @param in
+     *            source buffer
+     * @return decoded value
+     * @throws BufferUnderflowException
+     *             if buffer ends before value
+     * @throws IllegalArgumentException
+     *             if data is not encoded non-negative long
+     */
+    @SuppressWarnings("nls")
+    public static final long getLong(final ByteBuffer in) throws BufferUnderflowException, IllegalArgumentException {
+        long value = 0L;
+        for (int shift = 0; shift < 7 * MAX_SIZE; shift += 7) {
+            final byte b = in.get();
+            value |= (b & 0x7FL) << shift;
+            if (b >= 0) {
+                if (value < 0L) {
+                    throw new IllegalArgumentException("varint is out of range");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint is too long");
+    }
+
+    /**
+     * Read encoded int at current position of given buffer.
+     * <br><b>PRE-conditions:</b> non-null in
+     * <br><b>POST-conditions:</b> non-negative result
+     * <br><b>Side-effects:</b> in position is advanced
+     * <br><b>Created on:</b> <i>7:38:50 AM Oct 16, 2026</i>
+     * 
+     * @param in
+     *            source buffer
+     * @return decoded value
+     * @throws BufferUnderflowException
+     *             if buffer ends before value
+     * @throws IllegalArgumentException
+     *             if data is not encoded non-negative int
+     */
+    @SuppressWarnings("nls")
+    public static final int getInt(final ByteBuffer in) throws BufferUnderflowException, IllegalArgumentException {
+        final long value = getLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("varint is out of int range : " + value);
+        }
+        return (int) value;
+    }
+
+}
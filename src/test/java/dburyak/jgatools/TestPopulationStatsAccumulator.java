@@ -0,0 +1,296 @@
+package dburyak.jgatools;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import dburyak.jgatools.PopulationStats.PopulationStatsBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Stats of {@link PopulationStatsAccumulator} against separate pass per attribute : sequential and parallel
+ * collection, merge of partial accumulators, restoring from evaluated stats and removal of chromosomes with loss of
+ * exact bounds.
+ * <br><b>Created on:</b> <i>12:40:00 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestPopulationStatsAccumulator {
+
+    private static final double DELTA = 1.0E-12D;
+
+    /**
+     * Chromosome with given attributes, its age in population is kept separately from birth age.
+     */
+    private static final class Sample implements IChromosome {
+
+        private final int age;
+
+        private final int generation;
+
+        private final double fitness;
+
+
+        private Sample(final int age, final int generation, final double fitness) {
+            this.age = age;
+            this.generation = generation;
+            this.fitness = fitness;
+        }
+
+        @Override
+        public Object fingerprint() {
+            return this;
+        }
+
+        @Override
+        public double fitnessValue() {
+            return fitness;
+        }
+
+        @Override
+        public boolean evaluated() {
+            return true;
+        }
+
+        @Override
+        public int age() {
+            return 0;
+        }
+
+        @Override
+        public int generation() {
+            return generation;
+        }
+
+        @Override
+        public long lineageId() {
+            return 0L;
+        }
+
+    }
+
+
+    /**
+     * Samples with many ties : ages, generations and fitness values are taken from small ranges. Fitness values are
+     * multiples of 1/16 below 1, so their sums are exact.
+     */
+    private static final List<Sample> samples(final long seed, final int size) {
+        final Rng rng = new Rng(seed);
+        final List<Sample> samples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            samples.add(new Sample(rng.nextInt(10), 5 + rng.nextInt(20), rng.nextInt(16) / 16.0D));
+        }
+        return samples;
+    }
+
+    private static final int ageOf(final Sample sample) {
+        return sample.age;
+    }
+
+    /**
+     * Reference stats : separate pass over samples for each attribute.
+     */
+    private static final PopulationStats twoPass(final List<Sample> samples) {
+        final IntSummaryStatistics ages = samples.stream()
+            .collect(Collectors.summarizingInt(TestPopulationStatsAccumulator::ageOf));
+        final IntSummaryStatistics gens = samples.stream()
+            .collect(Collectors.summarizingInt(IChromosome::generation));
+        final DoubleSummaryStatistics fits = samples.stream()
+            .collect(Collectors.summarizingDouble(IChromosome::fitnessValue));
+        return new PopulationStatsBuilder()
+            .size(samples.size())
+            .eliteCount(0)
+            .minAge(ages.getMin())
+            .maxAge(ages.getMax())
+            .avgAge(ages.getAverage())
+            .minGeneration(gens.getMin())
+            .maxGeneration(gens.getMax())
+            .avgGeneration(gens.getAverage())
+            .minFitness(new Fitness(fits.getMin()))
+            .maxFitness(new Fitness(fits.getMax()))
+            .avgFitness(new Fitness(fits.getAverage()))
+            .build();
+    }
+
+    private static final PopulationStatsAccumulator addAll(final List<Sample> samples) {
+        final PopulationStatsAccumulator acc = new PopulationStatsAccumulator();
+        samples.forEach(sample -> acc.add(sample, sample.age));
+        return acc;
+    }
+
+    private static final List<Sample> listOf(final Sample... samples) {
+        final List<Sample> list = new ArrayList<>(samples.length);
+        for (final Sample sample : samples) {
+            list.add(sample);
+        }
+        return list;
+    }
+
+    private static final void assertStats(final PopulationStats expected, final PopulationStats actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.minAge(), actual.minAge());
+        assertEquals(expected.maxAge(), actual.maxAge());
+        assertEquals(expected.avgAge(), actual.avgAge(), DELTA);
+        assertEquals(expected.minGeneration(), actual.minGeneration());
+        assertEquals(expected.maxGeneration(), actual.maxGeneration());
+        assertEquals(expected.avgGeneration(), actual.avgGeneration(), DELTA);
+        assertEquals(expected.minFitness().value(), actual.minFitness().value(), 0.0D);
+        assertEquals(expected.maxFitness().value(), actual.maxFitness().value(), 0.0D);
+        assertEquals(expected.avgFitness().value(), actual.avgFitness().value(), DELTA);
+    }
+
+
+    @Test
+    public void sequentialMatchesTwoPass() {
+        for (final int size : new int[] { 1, 2, 17, 1000 }) {
+            final List<Sample> samples = samples(size, size);
+            final PopulationStats expected = twoPass(samples);
+            assertStats(expected, new PopulationStatsBuilder()
+                .eval(samples.stream(), TestPopulationStatsAccumulator::ageOf)
+                .eliteCount(0)
+                .build());
+            final PopulationStatsAccumulator acc = addAll(samples);
+            assertEquals(size, acc.count());
+            assertTrue(acc.boundsExact());
+            assertStats(expected, acc.toStats(0));
+        }
+    }
+
+    @Test
+    public void parallelMatchesSequential() {
+        final List<Sample> samples = samples(1L, 100_000);
+        final PopulationStatsAccumulator sequential = samples.stream()
+            .collect(PopulationStatsAccumulator.collector(TestPopulationStatsAccumulator::ageOf));
+        final PopulationStatsAccumulator parallel = samples.parallelStream()
+            .collect(PopulationStatsAccumulator.collector(TestPopulationStatsAccumulator::ageOf));
+        assertEquals(samples.size(), parallel.count());
+        assertTrue(parallel.boundsExact());
+        assertStats(sequential.toStats(0), parallel.toStats(0));
+        assertStats(twoPass(samples), new PopulationStatsBuilder()
+            .eval(samples.parallelStream(), TestPopulationStatsAccumulator::ageOf)
+            .eliteCount(0)
+            .build());
+    }
+
+    @Test
+    public void emptyStats() {
+        final PopulationStats stats = new PopulationStatsAccumulator().toStats(0);
+        assertEquals(0, stats.size());
+        assertEquals(0, stats.minAge());
+        assertEquals(0, stats.maxAge());
+        assertEquals(0, stats.minGeneration());
+        assertEquals(0, stats.maxGeneration());
+        assertEquals(Fitness.minValue(), stats.minFitness().value(), 0.0D);
+        assertEquals(Fitness.minValue(), stats.maxFitness().value(), 0.0D);
+        assertEquals(Fitness.minValue(), stats.avgFitness().value(), 0.0D);
+        assertEquals(0, PopulationStatsAccumulator.of(stats).count());
+    }
+
+    @Test
+    public void mergeOfPartsMatchesWhole() {
+        final List<Sample> samples = samples(2L, 500);
+        final Rng rng = new Rng(3L);
+        for (int i = 0; i < 20; i++) {
+            final int split1 = rng.nextInt(samples.size() + 1);
+            final int split2 = split1 + rng.nextInt(samples.size() - split1 + 1);
+            final PopulationStatsAccumulator acc = addAll(samples.subList(0, split1))
+                .merge(addAll(samples.subList(split1, split2)))
+                .merge(new PopulationStatsAccumulator())
+                .merge(addAll(samples.subList(split2, samples.size())));
+            assertEquals(samples.size(), acc.count());
+            assertTrue(acc.boundsExact());
+            assertStats(twoPass(samples), acc.toStats(0));
+        }
+        final PopulationStatsAccumulator empty = new PopulationStatsAccumulator().merge(addAll(samples));
+        assertStats(twoPass(samples), empty.toStats(0));
+    }
+
+    @Test
+    public void mergeKeepsNumberOfBoundHolders() {
+        // both parts hold minimal and maximum values, so removing one holder keeps bounds exact
+        final Sample low1 = new Sample(1, 1, 0.0D);
+        final Sample high1 = new Sample(9, 9, 1.0D);
+        final Sample low2 = new Sample(1, 1, 0.0D);
+        final Sample high2 = new Sample(9, 9, 1.0D);
+        final PopulationStatsAccumulator acc = addAll(listOf(low1, high1)).merge(addAll(listOf(low2, high2)));
+        acc.remove(low1, low1.age);
+        acc.remove(high1, high1.age);
+        assertTrue(acc.boundsExact());
+        assertStats(twoPass(listOf(low2, high2)), acc.toStats(0));
+        acc.remove(low2, low2.age);
+        assertFalse(acc.boundsExact());
+    }
+
+    @Test
+    public void ofRestoresStats() {
+        final List<Sample> samples1 = samples(4L, 300);
+        final List<Sample> samples2 = samples(5L, 200);
+        final List<Sample> all = new ArrayList<>(samples1);
+        all.addAll(samples2);
+        final PopulationStatsAccumulator acc = PopulationStatsAccumulator.of(twoPass(samples1))
+            .merge(PopulationStatsAccumulator.of(twoPass(samples2)));
+        assertEquals(all.size(), acc.count());
+        assertStats(twoPass(all), acc.toStats(0));
+    }
+
+    @Test
+    public void removeKeepsSumsAndLosesExactBounds() {
+        final Sample min = new Sample(0, 1, 0.0D);
+        final Sample tiedMin = new Sample(0, 1, 0.0D);
+        final Sample middle = new Sample(5, 10, 0.5D);
+        final Sample max = new Sample(20, 30, 1.0D);
+        final List<Sample> samples = new ArrayList<>(samples(6L, 50));
+        samples.addAll(listOf(min, tiedMin, middle, max));
+        final PopulationStatsAccumulator acc = addAll(samples);
+
+        // removing chromosome that holds no bound, or one of several holders, keeps bounds exact
+        acc.remove(middle, middle.age);
+        samples.remove(middle);
+        acc.remove(min, min.age);
+        samples.remove(min);
+        assertTrue(acc.boundsExact());
+        assertEquals(samples.size(), acc.count());
+        assertStats(twoPass(samples), acc.toStats(0));
+
+        // removing the last holder keeps previous bounds, they are valid but not tight
+        acc.remove(max, max.age);
+        samples.remove(max);
+        assertFalse(acc.boundsExact());
+        final PopulationStats expected = twoPass(samples);
+        final PopulationStats actual = acc.toStats(0);
+        assertEquals(samples.size(), actual.size());
+        assertEquals(expected.avgAge(), actual.avgAge(), DELTA);
+        assertEquals(expected.avgGeneration(), actual.avgGeneration(), DELTA);
+        assertEquals(expected.avgFitness().value(), actual.avgFitness().value(), DELTA);
+        assertEquals(max.age, actual.maxAge());
+        assertEquals(max.generation, actual.maxGeneration());
+        assertEquals(max.fitness, actual.maxFitness().value(), 0.0D);
+        assertTrue(expected.maxAge() <= actual.maxAge());
+        assertTrue(expected.maxGeneration() <= actual.maxGeneration());
+        assertTrue(expected.maxFitness().value() <= actual.maxFitness().value());
+
+        // inexact bounds are propagated by merge
+        assertFalse(new PopulationStatsAccumulator().merge(addAll(listOf(middle))).merge(acc).boundsExact());
+
+        // removing everything resets accumulator
+        for (final Sample sample : samples) {
+            acc.remove(sample, sample.age);
+        }
+        assertEquals(0, acc.count());
+        assertTrue(acc.boundsExact());
+        acc.add(middle, middle.age);
+        assertStats(twoPass(listOf(middle)), acc.toStats(0));
+    }
+
+}
@@ -5,6 +5,7 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
@@ -28,9 +29,12 @@ import org.junit.Test;
 
 import dburyak.jgatools.impl.BitSetChromosome;
 import dburyak.jgatools.impl.BitSetChromosome.BitSetChromosomeBuilder;
+import dburyak.jgatools.impl.HammingMatesSelector;
+import dburyak.jgatools.impl.ImmigrantSource;
 import dburyak.jgatools.impl.Population;
 import dburyak.jgatools.impl.Population.PopulationBuilder;
 import dburyak.jgatools.impl.ReactiveGA.ReactiveGABuilder;
+import dburyak.jgatools.impl.RingLineageStore;
 import dburyak.jtools.Validators;
 import rx.Observable;
 
@@ -81,10 +85,10 @@ public class TestSplitSet {
 
     private final Instant startTime;
 
-    private final IFitnessFunction<BitSet> fitnessFunc = new IFitnessFunction<BitSet>() {
+    private final IFitnessFunction<BitSet> fitnessFunc = new IDoubleFitnessFunction<BitSet>() {
 
         @Override
-        public final Fitness calcFitness(final BitSet data) {
+        public final double calcFitnessValue(final BitSet data) {
             final long weight1 = data.stream().parallel() // indices
                                                           // with
                                                           // "true"
@@ -95,10 +99,24 @@ public class TestSplitSet {
             LOG.debug("weights : w1 = [%d] ; w2 = [%d]", weight1, weight2);
             final double diffRatio = Math.abs((double) (weight1 - weight2) / (double) totalWeight);
             final double fitValue = 1.0D - diffRatio;
-            return new Fitness(fitValue);
+            return fitValue;
         }
     };
 
+    /**
+     * Lineage of offsprings : last 64K registrations with up to two parents each.
+     * <br><b>Created on:</b> <i>8:59:30 AM Oct 16, 2026</i>
+     */
+    private final ILineageStore lineage = new RingLineageStore(64 * 1024, 2);
+
+    private final ImmigrantSource<BitSetChromosome> appearSource = new ImmigrantSource<>(
+        () -> (new BitSetChromosomeBuilder())
+            .age(0)
+            .generation(0)
+            .data(randomBitset(size))
+            .fitnessFunc(fitnessFunc)
+            .build());
+
     private final ITerminationCondition<BitSetChromosome, Population<BitSetChromosome>> termCondition =
         (final Population<BitSetChromosome> population, final int iteration, final Duration runtime) -> {
             if (runtime.compareTo(MAX_TIMEOUT) > 0) {
@@ -119,30 +137,30 @@ public class TestSplitSet {
      */
     private final IMutationStrategy<BitSetChromosome> mutationFunc = new IMutationStrategy<BitSetChromosome>() {
 
-        private final Random rnd = new Random(System.currentTimeMillis());
-
-
         @Override
         public final BitSetChromosome mutate(final BitSetChromosome chromosome) {
+            return mutate(chromosome, new Rng(System.nanoTime()));
+        }
+
+        @Override
+        public final BitSetChromosome mutate(final BitSetChromosome chromosome, final Rng rng) {
             final BitSet mutated = chromosome.bitset();
-            mutated.flip(rnd.nextInt(size));
+            mutated.flip(rng.nextInt(size));
             return (new BitSetChromosomeBuilder()).fitnessFunc(fitnessFunc).age(0).generation(chromosome.generation()
-                + 1).data(mutated).build();
+                + 1).data(mutated).lineage(lineage).parent(chromosome).build();
         }
     };
 
     private final ICrossoverStrategy<BitSetChromosome> crossoverFunc = new ICrossoverStrategy<BitSetChromosome>() {
 
-        private final Random rndPoint = new Random(System.currentTimeMillis());
-        private final Random rndParent = new Random(System.nanoTime());
         private final double mean = 0.5D;
         private final double factor = 0.18D;
         private final double min = 0.0D;
         private final double max = 1.0D;
 
 
-        private final int generateCrossoverPoint() {
-            return DoubleStream.generate(rndPoint::nextGaussian).map(d -> {
+        private final int generateCrossoverPoint(final Rng rng) {
+            return DoubleStream.generate(rng::nextGaussian).map(d -> {
                 return (d * factor) + mean;
             }).filter(d -> Double.compare(min, d) <= 0 && Double.compare(d, max) <= 0).mapToInt(posFct -> (int) (posFct
                 * size)).findFirst().getAsInt();
@@ -157,6 +175,14 @@ public class TestSplitSet {
 
         @Override
         public final Observable<BitSetChromosome> crossover(final Observable<BitSetChromosome> parents) {
+            return crossover(parents, new Rng(System.nanoTime()));
+        }
+
+        @Override
+        public final Observable<BitSetChromosome> crossover(
+            final Observable<BitSetChromosome> parents,
+            final Rng rng) {
+
             return parents.toList().doOnNext((list) -> Validators.isTrue(list.size() == 2)) // check
                                                                                             // number
                                                                                             // of
@@ -165,53 +191,33 @@ public class TestSplitSet {
                     BitSetChromosome parent1 = list.get(0);
                     BitSetChromosome parent2 = list.get(1);
                     // randomly choose which parent should give first part of chromosome, and which the second one
-                    if (rndParent.nextBoolean()) {
+                    if (rng.nextBoolean()) {
                         BitSetChromosome tmp = parent1;
                         parent1 = parent2;
                         parent2 = tmp;
                     }
 
                     final BitSet offspringData = new BitSet(size);
-                    final int splitPoint = generateCrossoverPoint();
+                    final int splitPoint = generateCrossoverPoint(rng);
                     copySubset(parent1.bitset(), offspringData, 0, splitPoint);
                     copySubset(parent2.bitset(), offspringData, splitPoint, size);
 
                     return (new BitSetChromosomeBuilder()).data(offspringData).age(0).fitnessFunc(fitnessFunc)
-                        .generation(Math.max(parent1.generation(), parent2.generation())).build(); // do
-                                                                                                   // not
-                                                                                                   // keep
-                                                                                                   // track
-                                                                                                   // of
-                                                                                                   // parents
+                        .generation(Math.max(parent1.generation(), parent2.generation()))
+                        .lineage(lineage).parent(parent1).parent(parent2).build();
                 });
         }
     };
 
     private final ISelectionStrategy<BitSetChromosome> selectionFunc = (buffer) -> {
-        return buffer.sorted((c1, c2) -> -c1.fitness().compareTo(c2.fitness()))
+        return buffer.sorted((c1, c2) -> Double.compare(c2.fitnessValue(), c1.fitnessValue()))
             .take(populationSize);
     };
 
-    private final IMatesSelector<BitSetChromosome> matesSelectFunc = new IMatesSelector<BitSetChromosome>() {
-
-        private final double similarityFactor = 0.75D;
-
-
-        private final double similarity(final BitSetChromosome c1, final BitSetChromosome c2) {
-            final BitSet xored = c1.bitset();
-            xored.xor(c2.bitset());
-            return (size - xored.cardinality()) / (double) size;
-        }
-
-        @Override
-        public final Observable<BitSetChromosome> select(
-            final BitSetChromosome parent1,
-            final Observable<BitSetChromosome> candidates) {
-
-            return candidates.sorted((c1, c2) -> -Double.compare(Math.abs(similarity(parent1, c1) - similarityFactor),
-                Math.abs(similarity(parent1, c2) - similarityFactor))).take(1);
-        }
-    };
+    // BitSetChromosome has no view of its words, so extractor copies bits twice (bitset() clone and toLongArray());
+    // engine prepares selector once per generation, so copies are made once per chromosome, not on every lookup
+    private final IMatesSelector<BitSetChromosome> matesSelectFunc =
+        new HammingMatesSelector<>(c -> c.bitset().toLongArray(), size, 0.75D);
 
     private final TimeSeries seriesMinAge = new TimeSeries("minAge");
     private final TimeSeries seriesAvgAge = new TimeSeries("avgAge");
@@ -246,17 +252,7 @@ public class TestSplitSet {
     }
 
     private final Observable<BitSetChromosome> appearSource() {
-        return Observable.<BitSetChromosome> create(subscriber -> {
-            while (!subscriber.isUnsubscribed()) {
-                final BitSetChromosome randomChromosome = (new BitSetChromosomeBuilder())
-                    .age(0)
-                    .generation(0)
-                    .data(randomBitset(size))
-                    .fitnessFunc(fitnessFunc)
-                    .build();
-                subscriber.onNext(randomChromosome);
-            }
-        });
+        return appearSource.chromosomes();
     }
 
     private final JFreeChart buildMemChart() {
@@ -334,8 +330,6 @@ public class TestSplitSet {
 
         buildUI();
 
-        final Random mutSelectionRnd = new Random();
-        final Random p1SelectionRnd = new Random();
         final Observable<BitSetChromosome> appearSource = appearSource();
 
         final IGeneticAlgorithm<BitSetChromosome, Population<BitSetChromosome>> ga =
@@ -349,13 +343,14 @@ public class TestSplitSet {
                         .appearSource(appearSource);
                 })
                 .chromosomeBuilder(() -> (new BitSetChromosomeBuilder()).fitnessFunc(fitnessFunc))
-                .mutationSelector((c) -> Double.compare(mutSelectionRnd.nextDouble(), mutationRate) < 0)
+                .mutationSelector(ISelectionPredicate.withProbability(mutationRate))
                 .mutationFunc(mutationFunc)
                 .crossoverFunc(crossoverFunc)
                 .selectionFunc(selectionFunc)
-                .parent1Selector((c) -> Double.compare(p1SelectionRnd.nextDouble(), crossoverRate) < 0)
+                .parent1Selector(ISelectionPredicate.withProbability(crossoverRate))
                 .matesSelector(matesSelectFunc)
                 .bufferSize(100)
+                .lineage(lineage)
                 .build();
 
         ga.stats().subscribe((stats) -> {
@@ -381,6 +376,8 @@ public class TestSplitSet {
         ga.start();
         ga.result().subscribe((c) -> {
             LOG.info("result : c = [%s]", c);
+            LOG.info("ancestors : %s", Arrays.toString(ga.lineage().ancestors(c.lineageId(), 3)));
+            LOG.info("immigrants : %s", appearSource);
             ga.stop();
         });
 
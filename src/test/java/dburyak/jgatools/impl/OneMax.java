@@ -0,0 +1,167 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.IGeneticAlgorithm;
+import dburyak.jgatools.IGeneticAlgorithm.IGeneticAlgorithmBuilder;
+import dburyak.jgatools.IMatesSelector;
+import dburyak.jgatools.ISelectionPredicate;
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import dburyak.jgatools.impl.Population.PopulationBuilder;
+import rx.Observable;
+import rx.Subscription;
+
+
+/**
+ * Project : jgatools.<br>
+ * OneMax fixture for engine tests : fitness is share of set bits in packed genome. All strategies draw randomness
+ * only from {@link Rng} they are given and initial chromosomes come from seeded source, so runs of engine with fixed
+ * seed are reproducible.
+ * <br><b>Created on:</b> <i>9:16:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+final class OneMax {
+
+    static final int LENGTH = 200;
+
+    static final int POPULATION = 30;
+
+    static final int GENERATIONS = 15;
+
+    static final long SEED = 0x5EEDL;
+
+    static final IFitnessFunction<PackedBits> FITNESS = data -> new Fitness((double) data.cardinality() / LENGTH);
+
+
+    /**
+     * Picks one random mate among candidates.
+     */
+    static final class RandomMate implements IMatesSelector<PackedBitChromosome> {
+
+        @Override
+        public Observable<PackedBitChromosome> select(final PackedBitChromosome parent1,
+            final Observable<PackedBitChromosome> candidates) {
+
+            return select(parent1, candidates, new Rng(ThreadLocalRandom.current().nextLong()));
+        }
+
+        @Override
+        public Observable<PackedBitChromosome> select(final PackedBitChromosome parent1,
+            final Observable<PackedBitChromosome> candidates, final Rng rng) {
+
+            return candidates.toList().map(list -> list.get(rng.nextInt(list.size())));
+        }
+
+    }
+
+
+    /**
+     * Get source of random evaluated chromosomes. Each call returns new source with the same sequence.
+     */
+    static final Observable<PackedBitChromosome> appearSource() {
+        final Random rnd = new Random(SEED);
+        return new ImmigrantSource<>(() -> {
+            final long[] words = new long[PackedBits.wordsFor(LENGTH)];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = rnd.nextLong() & rnd.nextLong(); // start far from optimum
+            }
+            return new PackedBitChromosomeBuilder()
+                .words(words, LENGTH)
+                .age(0)
+                .generation(0)
+                .fitnessFunc(FITNESS)
+                .build();
+        }).chromosomes();
+    }
+
+    /**
+     * Configure given engine builder with OneMax strategies, terminating after {@link #GENERATIONS} iterations.
+     */
+    static final <B extends IGeneticAlgorithmBuilder<PackedBitChromosome, Population<PackedBitChromosome>>> B configure(
+        final B builder) {
+
+        final Observable<PackedBitChromosome> appearSource = appearSource();
+        builder.termCondition((population, iteration, runtime) -> iteration >= GENERATIONS);
+        builder.appearSource(appearSource);
+        builder.populationBuilder(() -> new PopulationBuilder<PackedBitChromosome>()
+            .size(POPULATION)
+            .eliteCount(2)
+            .appearSource(appearSource));
+        builder.chromosomeBuilder(() -> new PackedBitChromosomeBuilder().fitnessFunc(FITNESS));
+        builder.mutationSelector(ISelectionPredicate.withProbability(0.3D));
+        builder.mutationFunc(PackedBitMutation.exactly(2));
+        builder.parent1Selector(ISelectionPredicate.withProbability(0.3D));
+        builder.matesSelector(new RandomMate());
+        builder.crossoverFunc(PackedBitCrossover.uniform());
+        builder.selectionFunc(new TruncationSelection<>(POPULATION));
+        builder.bufferSize(3 * POPULATION);
+        return builder;
+    }
+
+    /**
+     * Start given engine and wait until it terminates on its own. Stats emitted during the run are added to given list.
+     */
+    static final PackedBitChromosome run(
+        final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga,
+        final List<PopulationStats> stats) {
+
+        final Subscription subscription = ga.stats().subscribe(s -> {
+            synchronized (stats) {
+                stats.add(s);
+            }
+        });
+        ga.start();
+        try {
+            return ga.result().toBlocking().value();
+        } finally {
+            subscription.unsubscribe();
+        }
+    }
+
+    /**
+     * Check that result of engine that has terminated on its own is still available, then stop engine and check that
+     * result is released.
+     */
+    static final void stopAfterTermination(
+        final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga,
+        final PackedBitChromosome result) {
+
+        assertSame(result, ga.result().toBlocking().value());
+        ga.stop();
+        try {
+            ga.result();
+            fail("result of stopped GA");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        ga.stop(); // already stopped, only logged
+    }
+
+    /**
+     * Get average fitness of each stats entry.
+     */
+    static final List<Double> avgFitness(final List<PopulationStats> stats) {
+        final List<Double> avg = new ArrayList<>(stats.size());
+        for (final PopulationStats s : stats) {
+            avg.add(Double.valueOf(s.avgFitness().value()));
+        }
+        return avg;
+    }
+
+    private OneMax() {
+    }
+
+}
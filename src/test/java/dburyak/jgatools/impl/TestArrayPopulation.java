@@ -0,0 +1,207 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.ArrayPopulation.ArrayPopulationBuilder;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Indexed access of {@link ArrayPopulation} : attributes at index agree with chromosomes observable, rank lookup with
+ * ties and values out of population range, and ages of chromosomes carried over by survivorsOf and from.
+ * <br><b>Created on:</b> <i>12:55:00 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestArrayPopulation {
+
+    private static final int LENGTH = 64;
+
+    private static final int SIZE = 40;
+
+
+    private final Rng rng = new Rng(0x5EEDL);
+
+
+    /**
+     * Chromosome with given birth age, fitness values are multiples of 1/8 so that there are many ties.
+     */
+    private final PackedBitChromosome chromosome(final int age) {
+        return new PackedBitChromosomeBuilder()
+            .words(new long[] { rng.nextLong() }, LENGTH)
+            .age(age)
+            .generation(rng.nextInt(10))
+            .fitnessValue(rng.nextInt(9) / 8.0D)
+            .build();
+    }
+
+    private final List<PackedBitChromosome> chromosomes(final int count) {
+        final List<PackedBitChromosome> chromosomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            chromosomes.add(chromosome(rng.nextInt(3)));
+        }
+        return chromosomes;
+    }
+
+    private static final ArrayPopulationBuilder<PackedBitChromosome> builder(
+        final List<PackedBitChromosome> chromosomes) {
+
+        final ArrayPopulationBuilder<PackedBitChromosome> builder = new ArrayPopulationBuilder<>();
+        builder.chromosomes(Observable.from(chromosomes))
+            .appearSource(Observable.empty())
+            .size(chromosomes.size())
+            .eliteCount(0);
+        return builder;
+    }
+
+    private static final int naiveRank(final ArrayPopulation<PackedBitChromosome> population, final double fitness) {
+        int rank = 0;
+        for (int i = 0; i < population.size(); i++) {
+            if (Double.compare(population.get(i).fitnessValue(), fitness) > 0) {
+                rank++;
+            }
+        }
+        return rank;
+    }
+
+
+    @Test
+    public void attributesAtIndexAgreeWithChromosomes() {
+        final List<PackedBitChromosome> chromosomes = chromosomes(SIZE);
+        final ArrayPopulation<PackedBitChromosome> population = builder(chromosomes).build();
+        final List<PackedBitChromosome> emitted = population.chromosomes().toList().toBlocking().single();
+        assertEquals(SIZE, population.size());
+        assertEquals(SIZE, emitted.size());
+        assertTrue(emitted.containsAll(chromosomes));
+        assertSame(emitted.get(0), population.fittest());
+        for (int i = 0; i < SIZE; i++) {
+            final PackedBitChromosome chromosome = emitted.get(i);
+            assertSame(chromosome, population.get(i));
+            assertEquals(chromosome.fitnessValue(), population.fitnessAt(i), 0.0D);
+            assertEquals(chromosome.generation(), population.generationAt(i));
+            assertEquals(chromosome.age(), population.ageAt(i)); // no elders, birth age is kept
+            assertEquals(population.ageAt(i), population.ageOf(chromosome));
+            if (i > 0) {
+                assertTrue("sorted by fitness", population.fitnessAt(i - 1) >= population.fitnessAt(i));
+            }
+        }
+        assertEquals(-1, population.ageOf(chromosome(0)));
+    }
+
+    @Test
+    public void rankOfMatchesNumberOfFitterChromosomes() {
+        final ArrayPopulation<PackedBitChromosome> population = builder(chromosomes(SIZE)).build();
+        for (int k = 0; k <= 8; k++) { // every value present in population has ties
+            final double fitness = k / 8.0D;
+            assertEquals("fitness " + fitness, naiveRank(population, fitness), population.rankOf(fitness));
+            assertEquals(naiveRank(population, fitness + 1.0D / 16), population.rankOf(fitness + 1.0D / 16));
+        }
+        for (int i = 0; i < SIZE; i++) { // rank of member is index of the first one of its ties
+            final int rank = population.rankOf(population.fitnessAt(i));
+            assertTrue(rank <= i);
+            assertEquals(population.fitnessAt(i), population.fitnessAt(rank), 0.0D);
+            assertTrue(rank == 0 || population.fitnessAt(rank - 1) > population.fitnessAt(i));
+        }
+        final double max = population.fitnessAt(0);
+        final double min = population.fitnessAt(SIZE - 1);
+        assertEquals(0, population.rankOf(max + 0.5D));
+        assertEquals(0, population.rankOf(Double.POSITIVE_INFINITY));
+        assertEquals(SIZE, population.rankOf(min - 0.5D));
+        assertEquals(SIZE, population.rankOf(Double.NEGATIVE_INFINITY));
+        // NaN is ordered above any value as by Double.compare, so no chromosome is fitter
+        assertEquals(0, population.rankOf(Double.NaN));
+    }
+
+    @Test
+    public void rankOfAllTies() {
+        final List<PackedBitChromosome> chromosomes = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            chromosomes.add(new PackedBitChromosomeBuilder()
+                .words(new long[] { i }, LENGTH)
+                .age(0)
+                .generation(0)
+                .fitnessValue(0.5D)
+                .build());
+        }
+        final ArrayPopulation<PackedBitChromosome> population = builder(chromosomes).build();
+        assertEquals(0, population.rankOf(0.5D));
+        assertEquals(0, population.rankOf(0.75D));
+        assertEquals(7, population.rankOf(0.25D));
+    }
+
+    @Test
+    public void emptyPopulation() {
+        final ArrayPopulation<PackedBitChromosome> population = builder(new ArrayList<>()).build();
+        assertEquals(0, population.size());
+        assertNull(population.fittest());
+        assertEquals(0, population.rankOf(0.5D));
+        assertEquals(0, population.rankOf(Double.NaN));
+        assertTrue(population.chromosomes().isEmpty().toBlocking().single());
+    }
+
+    @Test
+    public void survivorsAreAgedAndCopiesKeepAges() {
+        final ArrayPopulation<PackedBitChromosome> first = builder(chromosomes(SIZE)).build();
+
+        // half of the first population survives, the rest is replaced by newcomers
+        final List<PackedBitChromosome> survivors = new ArrayList<>();
+        for (int i = 0; i < SIZE; i += 2) {
+            survivors.add(first.get(i));
+        }
+        final List<PackedBitChromosome> newcomers = chromosomes(SIZE - survivors.size());
+        final List<PackedBitChromosome> nextChromosomes = new ArrayList<>(survivors);
+        nextChromosomes.addAll(newcomers);
+        final ArrayPopulationBuilder<PackedBitChromosome> nextBuilder = builder(nextChromosomes);
+        nextBuilder.survivorsOf(first);
+        final ArrayPopulation<PackedBitChromosome> second = nextBuilder.build();
+        for (final PackedBitChromosome survivor : survivors) {
+            assertEquals(first.ageOf(survivor) + 1, second.ageOf(survivor));
+        }
+        for (final PackedBitChromosome newcomer : newcomers) {
+            assertEquals(newcomer.age(), second.ageOf(newcomer));
+        }
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(second.ageOf(second.get(i)), second.ageAt(i));
+        }
+
+        // survivor of two generations is aged twice
+        final ArrayPopulationBuilder<PackedBitChromosome> thirdBuilder = builder(nextChromosomes);
+        thirdBuilder.survivorsOf(second);
+        final ArrayPopulation<PackedBitChromosome> third = thirdBuilder.build();
+        for (final PackedBitChromosome survivor : survivors) {
+            assertEquals(first.ageOf(survivor) + 2, third.ageOf(survivor));
+        }
+        for (final PackedBitChromosome newcomer : newcomers) {
+            assertEquals(newcomer.age() + 1, third.ageOf(newcomer));
+        }
+
+        // copy keeps ages and stats
+        final ArrayPopulation<PackedBitChromosome> copy = new ArrayPopulationBuilder<PackedBitChromosome>()
+            .from(third)
+            .appearSource(Observable.empty())
+            .build();
+        assertEquals(SIZE, copy.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertSame(third.get(i), copy.get(i));
+            assertEquals(third.ageAt(i), copy.ageAt(i));
+            assertEquals(third.ageOf(third.get(i)), copy.ageOf(third.get(i)));
+        }
+        assertEquals(third.stats().avgAge(), copy.stats().avgAge(), 0.0D);
+        assertEquals(third.stats().maxAge(), copy.stats().maxAge());
+        assertEquals(-1, copy.ageOf(first.get(1))); // replaced in second population
+    }
+
+}
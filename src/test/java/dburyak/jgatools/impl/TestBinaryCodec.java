@@ -0,0 +1,160 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Round-trip of chromosomes through {@link BinaryCodec} : in-memory buffers, channels with short reads and records
+ * larger than channel buffer.
+ * <br><b>Created on:</b> <i>9:01:30 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestBinaryCodec {
+
+    private final BinaryCodec<PackedBitChromosome> codec = new BinaryCodec<>(new PackedBitChromosomeCodec());
+
+    private final Random rnd = new Random(42L);
+
+
+    private final PackedBitChromosome chromosome(final int length, final int age, final boolean evaluated) {
+        final long[] words = new long[PackedBits.wordsFor(length)];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = rnd.nextLong();
+        }
+        final PackedBitChromosomeBuilder builder = new PackedBitChromosomeBuilder();
+        builder.words(words, length).age(age).generation(age + 3);
+        if (evaluated) {
+            builder.fitnessValue(rnd.nextDouble());
+        } else {
+            builder.deferFitness();
+        }
+        return builder.build();
+    }
+
+    private final List<PackedBitChromosome> chromosomes(final int count, final int length) {
+        final List<PackedBitChromosome> chromosomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            chromosomes.add(chromosome(length + i, i, i % 3 != 0));
+        }
+        return chromosomes;
+    }
+
+    private static final void assertDecoded(final List<PackedBitChromosome> expected,
+        final List<PackedBitChromosome> actual) {
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final PackedBitChromosome e = expected.get(i);
+            final PackedBitChromosome a = actual.get(i);
+            assertEquals("bits " + i, e.bits(), a.bits());
+            assertEquals("age " + i, e.age(), a.age());
+            assertEquals("generation " + i, e.generation(), a.generation());
+            assertEquals("evaluated " + i, e.evaluated(), a.evaluated());
+            if (e.evaluated()) {
+                assertEquals("fitness " + i, e.fitnessValue(), a.fitnessValue(), 0.0);
+            }
+        }
+    }
+
+    private static final ReadableByteChannel trickle(final byte[] bytes, final int chunk) {
+        final ReadableByteChannel source = Channels.newChannel(new ByteArrayInputStream(bytes));
+        return new ReadableByteChannel() {
+
+            @Override
+            public boolean isOpen() {
+                return source.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                source.close();
+            }
+
+            @Override
+            public int read(final ByteBuffer dst) throws IOException {
+                final ByteBuffer window = dst.duplicate();
+                window.limit(Math.min(dst.limit(), dst.position() + chunk));
+                final int count = source.read(window);
+                if (count > 0) {
+                    dst.position(dst.position() + count);
+                }
+                return count;
+            }
+        };
+    }
+
+    @Test
+    public void recordSize() {
+        final PackedBitChromosome chromosome = chromosome(100, 7, true);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        codec.encode(chromosome, buffer);
+        assertEquals(codec.recordSize(chromosome), buffer.position());
+    }
+
+    @Test
+    public void bufferRoundTrip() throws IOException {
+        final List<PackedBitChromosome> chromosomes = chromosomes(20, 60);
+        final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        codec.encode(chromosomes, buffer);
+        buffer.flip();
+        assertDecoded(chromosomes, codec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void channelRoundTrip() throws IOException {
+        final List<PackedBitChromosome> chromosomes = chromosomes(500, 1000);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(chromosomes, Channels.newChannel(bytes));
+        assertDecoded(chromosomes, codec.read(trickle(bytes.toByteArray(), 777)));
+    }
+
+    @Test
+    public void recordsLargerThanChannelBuffer() throws IOException {
+        final List<PackedBitChromosome> chromosomes = new ArrayList<>();
+        chromosomes.add(chromosome(10, 0, true));
+        chromosomes.add(chromosome(1_000_000, 1, true)); // ~122 KiB record
+        chromosomes.add(chromosome(10, 2, false));
+        chromosomes.add(chromosome(3_000_000, 3, false)); // ~366 KiB record
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(chromosomes, Channels.newChannel(bytes));
+        assertTrue(bytes.size() > 4 * 64 * 1024);
+        assertDecoded(chromosomes, codec.read(trickle(bytes.toByteArray(), 10_000)));
+    }
+
+    @Test(expected = IOException.class)
+    public void badMagic() throws IOException {
+        codec.decode(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }));
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedChannel() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(chromosomes(5, 100), Channels.newChannel(bytes));
+        final byte[] all = bytes.toByteArray();
+        final byte[] truncated = new byte[all.length - 3];
+        System.arraycopy(all, 0, truncated, 0, truncated.length);
+        codec.read(trickle(truncated, 64));
+    }
+
+}
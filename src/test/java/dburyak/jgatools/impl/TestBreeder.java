@@ -0,0 +1,202 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IBatchFitnessFunction;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.IGeneticAlgorithm;
+import dburyak.jgatools.ISelectionPredicate;
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import dburyak.jgatools.impl.ReactiveGA.ReactiveGABuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Fork/join breeding of {@link Breeder} : offsprings don't depend on parallelism and leaf size since each parent has
+ * its own random stream, filter drops offsprings before evaluation, and {@link ReactiveGA} with fixed seed gives the
+ * same run for any parallelism, evaluates in batches of at most fitness batch size and rejects fitness executor.
+ * <br><b>Created on:</b> <i>9:22:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestBreeder {
+
+    private static final int[] PARALLELISMS = { 1, 2, 4 };
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    private final IFitnessFunction<PackedBits> countingFitness = data -> {
+        evaluations.incrementAndGet();
+        return new Fitness((double) data.cardinality() / OneMax.LENGTH);
+    };
+
+
+    private final Breeder<PackedBitChromosome> breeder() {
+        return new Breeder<>(
+            ISelectionPredicate.withProbability(0.3D),
+            PackedBitMutation.exactly(2),
+            ISelectionPredicate.withProbability(0.3D),
+            new OneMax.RandomMate(),
+            PackedBitCrossover.uniform(),
+            Duration.ofSeconds(10L),
+            () -> new PackedBitChromosomeBuilder().fitnessFunc(countingFitness),
+            new RngService(OneMax.SEED));
+    }
+
+    private static final List<PackedBitChromosome> origin(final int size) {
+        return OneMax.appearSource().take(size).toList().toBlocking().single();
+    }
+
+    private static final void assertSameChromosomes(final String message, final List<PackedBitChromosome> expected,
+        final List<PackedBitChromosome> actual) {
+
+        assertEquals(message, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(message + " ; index " + i, expected.get(i).bits(), actual.get(i).bits());
+            assertTrue(message + " ; index " + i, actual.get(i).evaluated());
+            assertEquals(message + " ; index " + i, expected.get(i).fitnessValue(), actual.get(i).fitnessValue(),
+                0.0D);
+        }
+    }
+
+    private static final ReactiveGA<PackedBitChromosome, Population<PackedBitChromosome>> reactiveGA(
+        final int parallelism) {
+
+        final ReactiveGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder =
+            OneMax.configure(new ReactiveGABuilder<>());
+        builder.seed(OneMax.SEED);
+        builder.parallelism(parallelism);
+        return builder.build();
+    }
+
+
+    @Test
+    public void parallelBreedingMatchesSingleRange() {
+        final Breeder<PackedBitChromosome> breeder = breeder();
+        final List<PackedBitChromosome> origin = origin(64);
+        for (int generation = 0; generation < 3; generation++) {
+            final List<PackedBitChromosome> expected =
+                breeder.breed(origin, breeder.matesFor(origin), 0, origin.size(), generation);
+            assertTrue(!expected.isEmpty());
+            for (final int parallelism : PARALLELISMS) {
+                final ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try {
+                    for (final int leafSize : new int[] { 1, 3, Breeder.leafSize(origin.size(), parallelism), 64 }) {
+                        assertSameChromosomes("parallelism " + parallelism + " ; leaf size " + leafSize, expected,
+                            breeder.breedParallel(pool, origin, leafSize, generation, c -> true));
+                    }
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void rejectedOffspringsAreNotEvaluated() {
+        final Breeder<PackedBitChromosome> breeder = breeder();
+        final List<PackedBitChromosome> origin = origin(64);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final int before = evaluations.get();
+            final List<PackedBitChromosome> all = breeder.breedParallel(pool, origin, 4, 0L, c -> true);
+            assertEquals(before + all.size(), evaluations.get());
+
+            final List<PackedBitChromosome> half = new ArrayList<>();
+            final int[] seen = { 0 };
+            final List<PackedBitChromosome> accepted = breeder.breedParallel(pool, origin, 4, 0L,
+                c -> (seen[0]++ % 2) == 0); // filter is called on current thread in order of ranges
+            for (int i = 0; i < all.size(); i += 2) {
+                half.add(all.get(i));
+            }
+            assertSameChromosomes("accepted", half, accepted);
+            assertEquals(before + all.size() + half.size(), evaluations.get());
+
+            assertTrue(breeder.breedParallel(pool, origin, 4, 0L, c -> false).isEmpty());
+            assertEquals(before + all.size() + half.size(), evaluations.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(timeout = 60_000L)
+    public void reactiveGATerminatesWithResultAndStopsCleanly() {
+        final ReactiveGA<PackedBitChromosome, Population<PackedBitChromosome>> ga = reactiveGA(2);
+        final PackedBitChromosome result = OneMax.run(ga, new ArrayList<>());
+        assertNotNull(result);
+        OneMax.stopAfterTermination(ga, result);
+    }
+
+    @Test(timeout = 60_000L)
+    public void reactiveGASameRunForAnyParallelism() {
+        PackedBitChromosome expected = null;
+        List<Double> expectedStats = null;
+        for (final int parallelism : PARALLELISMS) {
+            final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga = reactiveGA(parallelism);
+            final List<PopulationStats> stats = new ArrayList<>();
+            final PackedBitChromosome result = OneMax.run(ga, stats);
+            ga.stop();
+            if (expected == null) {
+                expected = result;
+                expectedStats = OneMax.avgFitness(stats);
+                assertTrue(!expectedStats.isEmpty());
+            } else {
+                assertEquals("parallelism " + parallelism, expected.bits(), result.bits());
+                assertEquals("parallelism " + parallelism, expectedStats, OneMax.avgFitness(stats));
+            }
+        }
+    }
+
+    @Test(timeout = 60_000L)
+    public void reactiveGAParallelBreedingKeepsFitnessBatchSize() {
+        final AtomicInteger batches = new AtomicInteger();
+        final AtomicInteger maxBatch = new AtomicInteger();
+        final IBatchFitnessFunction<PackedBits> batchFitness = data -> {
+            batches.incrementAndGet();
+            maxBatch.accumulateAndGet(data.size(), Math::max);
+            final List<Fitness> fitnesses = new ArrayList<>(data.size());
+            for (final PackedBits bits : data) {
+                fitnesses.add(OneMax.FITNESS.calcFitness(bits));
+            }
+            return fitnesses;
+        };
+        final ReactiveGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder =
+            OneMax.configure(new ReactiveGABuilder<>());
+        builder.chromosomeBuilder(() -> new PackedBitChromosomeBuilder().fitnessFunc(batchFitness));
+        builder.seed(OneMax.SEED);
+        builder.parallelism(2);
+        builder.fitnessBatchSize(2);
+        final ReactiveGA<PackedBitChromosome, Population<PackedBitChromosome>> ga = builder.build();
+        assertNotNull(OneMax.run(ga, new ArrayList<>()));
+        ga.stop();
+        assertTrue(batches.get() > 0);
+        assertTrue("max batch " + maxBatch.get(), maxBatch.get() <= 2);
+    }
+
+    @Test
+    public void reactiveGAParallelBreedingRejectsFitnessExecutor() {
+        final ReactiveGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder =
+            OneMax.configure(new ReactiveGABuilder<>());
+        builder.fitnessExecutor(Executors.newSingleThreadExecutor());
+        assertTrue(builder.isValid());
+        builder.parallelism(2);
+        assertFalse(builder.isValid());
+    }
+
+}
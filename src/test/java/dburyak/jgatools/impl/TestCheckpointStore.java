@@ -0,0 +1,243 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import dburyak.jgatools.impl.ArrayPopulation.ArrayPopulationBuilder;
+import dburyak.jgatools.impl.CheckpointStore.Snapshot;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Checkpoint log of {@link CheckpointStore} : incremental frames that reference chromosomes of previous frame,
+ * compaction, and recovery of the last intact frame when tail of file is torn or corrupted.
+ * <br><b>Created on:</b> <i>9:02:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestCheckpointStore {
+
+    private static final int LENGTH = 512;
+
+    private static final int SIZE = 40;
+
+    private static final long SEED = 0x5EEDL;
+
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final Random rnd = new Random(7L);
+
+    private Path file;
+
+
+    @Before
+    public void setUp() {
+        file = folder.getRoot().toPath().resolve("ga.ckpt");
+    }
+
+    private final PackedBitChromosome chromosome() {
+        final long[] words = new long[PackedBits.wordsFor(LENGTH)];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = rnd.nextLong();
+        }
+        return new PackedBitChromosomeBuilder()
+            .words(words, LENGTH)
+            .age(0)
+            .generation(rnd.nextInt(10))
+            .fitnessValue(rnd.nextDouble())
+            .build();
+    }
+
+    private final List<PackedBitChromosome> chromosomes(final int count) {
+        final List<PackedBitChromosome> chromosomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            chromosomes.add(chromosome());
+        }
+        return chromosomes;
+    }
+
+    private static final ArrayPopulation<PackedBitChromosome> population(
+        final List<PackedBitChromosome> chromosomes,
+        final ArrayPopulation<PackedBitChromosome> previous) {
+
+        final ArrayPopulationBuilder<PackedBitChromosome> builder = new ArrayPopulationBuilder<>();
+        builder.chromosomes(Observable.from(chromosomes))
+            .appearSource(Observable.empty())
+            .size(chromosomes.size())
+            .eliteCount(0);
+        if (previous != null) {
+            builder.survivorsOf(previous);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Next population keeps all but given number of chromosomes of previous one, replaced ones are new.
+     */
+    private final ArrayPopulation<PackedBitChromosome> next(
+        final ArrayPopulation<PackedBitChromosome> previous,
+        final int replaced) {
+
+        final List<PackedBitChromosome> chromosomes = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE - replaced; i++) {
+            chromosomes.add(previous.get(i));
+        }
+        chromosomes.addAll(chromosomes(replaced));
+        return population(chromosomes, previous);
+    }
+
+    private final CheckpointStore<PackedBitChromosome> store(final int compactInterval) {
+        return new CheckpointStore<>(file, new PackedBitChromosomeCodec(), compactInterval);
+    }
+
+    private static final void assertSnapshot(
+        final Snapshot<PackedBitChromosome> snapshot,
+        final ArrayPopulation<PackedBitChromosome> population,
+        final int iteration) {
+
+        assertEquals(iteration, snapshot.iteration());
+        assertEquals(Duration.ofMillis(iteration * 100L), snapshot.runtime());
+        assertEquals(SEED, snapshot.masterSeed());
+        final List<PackedBitChromosome> restored = snapshot.chromosomes();
+        assertEquals(population.size(), restored.size());
+        for (int i = 0; i < restored.size(); i++) {
+            final PackedBitChromosome expected = population.get(i);
+            final PackedBitChromosome actual = restored.get(i);
+            assertEquals("bits " + i, expected.bits(), actual.bits());
+            assertEquals("fitness " + i, expected.fitnessValue(), actual.fitnessValue(), 0.0);
+            assertEquals("generation " + i, expected.generation(), actual.generation());
+            assertEquals("age " + i, population.ageAt(i), actual.age());
+        }
+    }
+
+    private final void write(
+        final CheckpointStore<PackedBitChromosome> store,
+        final ArrayPopulation<PackedBitChromosome> population,
+        final int iteration) throws IOException {
+
+        store.write(population, iteration, Duration.ofMillis(iteration * 100L), SEED);
+    }
+
+    private final void truncate(final long size) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    @Test
+    public void missingFile() throws IOException {
+        assertNull(store(4).read());
+    }
+
+    @Test(expected = IOException.class)
+    public void notCheckpointFile() throws IOException {
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
+        store(4).read();
+    }
+
+    @Test
+    public void incrementalFramesReferencePreviousFrame() throws IOException {
+        final CheckpointStore<PackedBitChromosome> store = store(8);
+        final ArrayPopulation<PackedBitChromosome> first = population(chromosomes(SIZE), null);
+        write(store, first, 1);
+        final long fullSize = Files.size(file);
+        assertSnapshot(store(8).read(), first, 1);
+
+        final ArrayPopulation<PackedBitChromosome> second = next(first, 2);
+        write(store, second, 2);
+        final long frameSize = Files.size(file) - fullSize;
+        // 38 references and 2 full records : far less than full frame
+        assertTrue("frame size " + frameSize, frameSize < fullSize / 4);
+        assertSnapshot(store(8).read(), second, 2);
+
+        // references of third frame point to records of second frame that were themselves references
+        final ArrayPopulation<PackedBitChromosome> third = next(second, 5);
+        write(store, third, 3);
+        assertSnapshot(store(8).read(), third, 3);
+    }
+
+    @Test
+    public void compaction() throws IOException {
+        final CheckpointStore<PackedBitChromosome> store = store(2);
+        ArrayPopulation<PackedBitChromosome> population = population(chromosomes(SIZE), null);
+        write(store, population, 1);
+        final long fullSize = Files.size(file);
+        population = next(population, 1);
+        write(store, population, 2);
+        final long appendedSize = Files.size(file);
+        assertTrue(appendedSize > fullSize);
+        population = next(population, 1);
+        write(store, population, 3); // rewrites file with single full frame
+        assertTrue(Files.size(file) < appendedSize);
+        assertTrue(Math.abs(Files.size(file) - fullSize) < SIZE);
+        assertSnapshot(store(2).read(), population, 3);
+        assertTrue(Files.notExists(file.resolveSibling(file.getFileName() + ".tmp")));
+    }
+
+    @Test
+    public void tornTail() throws IOException {
+        final CheckpointStore<PackedBitChromosome> store = store(8);
+        final ArrayPopulation<PackedBitChromosome> first = population(chromosomes(SIZE), null);
+        write(store, first, 1);
+        final ArrayPopulation<PackedBitChromosome> second = next(first, 3);
+        write(store, second, 2);
+        final long intactSize = Files.size(file);
+        write(store, next(second, 3), 3);
+        final long fullSize = Files.size(file);
+
+        for (final long size : new long[] { fullSize - 1L, intactSize + 12L, intactSize + 4L, intactSize }) {
+            truncate(size);
+            assertSnapshot(store(8).read(), second, 2);
+        }
+    }
+
+    @Test
+    public void corruptedTail() throws IOException {
+        final CheckpointStore<PackedBitChromosome> store = store(8);
+        final ArrayPopulation<PackedBitChromosome> first = population(chromosomes(SIZE), null);
+        write(store, first, 1);
+        final long intactSize = Files.size(file);
+        write(store, next(first, 3), 2);
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer b = ByteBuffer.allocate(1);
+            final long position = (intactSize + channel.size()) / 2;
+            channel.read(b, position);
+            b.put(0, (byte) ~b.get(0));
+            b.rewind();
+            channel.write(b, position);
+        }
+        assertSnapshot(store(8).read(), first, 1);
+    }
+
+    @Test
+    public void tornFirstFrame() throws IOException {
+        write(store(8), population(chromosomes(SIZE), null), 1);
+        truncate(Files.size(file) - 10L);
+        assertNull(store(8).read());
+    }
+
+}
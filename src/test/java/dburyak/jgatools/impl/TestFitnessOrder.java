@@ -0,0 +1,107 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Ordering of {@link FitnessOrder} : result matches stable descending sort for lengths around insertion sort runs,
+ * equal fitness values keep their order, -0.0 is less fit than 0.0.
+ * <br><b>Created on:</b> <i>9:08:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestFitnessOrder {
+
+    private static final int[] LENGTHS = { 0, 1, 2, 15, 16, 17, 31, 32, 33, 64, 100, 257, 1000 };
+
+
+    /**
+     * Reference order : {@link List#sort(Comparator)} is stable merge sort.
+     */
+    private static final int[] stableDescending(final double[] fitness) {
+        final List<Integer> order = new ArrayList<>();
+        IntStream.range(0, fitness.length).forEach(order::add);
+        order.sort((i1, i2) -> Double.compare(fitness[i2.intValue()], fitness[i1.intValue()]));
+        return order.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    public void fewDistinctValuesKeepOrder() {
+        final Random rnd = new Random(17L);
+        for (final int length : LENGTHS) {
+            final double[] fitness = new double[length];
+            for (int i = 0; i < length; i++) {
+                fitness[i] = rnd.nextInt(4) / 4.0;
+            }
+            assertArrayEquals("length " + length, stableDescending(fitness), FitnessOrder.descending(fitness));
+        }
+    }
+
+    @Test
+    public void distinctValues() {
+        final Random rnd = new Random(19L);
+        for (final int length : LENGTHS) {
+            final double[] fitness = new double[length];
+            for (int i = 0; i < length; i++) {
+                fitness[i] = rnd.nextDouble();
+            }
+            assertArrayEquals("length " + length, stableDescending(fitness), FitnessOrder.descending(fitness));
+        }
+    }
+
+    @Test
+    public void allEqual() {
+        for (final int length : LENGTHS) {
+            final double[] fitness = new double[length];
+            assertArrayEquals(IntStream.range(0, length).toArray(), FitnessOrder.descending(fitness));
+        }
+    }
+
+    @Test
+    public void ascendingInput() {
+        final double[] fitness = new double[100];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = i / 100.0;
+        }
+        final int[] order = FitnessOrder.descending(fitness);
+        for (int i = 0; i < order.length; i++) {
+            assertEquals(order.length - 1 - i, order[i]);
+        }
+    }
+
+    @Test
+    public void negativeZeroIsLessFit() {
+        assertArrayEquals(new int[] { 1, 2, 0, 3 }, FitnessOrder.descending(new double[] { -0.0, 0.0, 0.0, -0.0 }));
+    }
+
+    @Test
+    public void sortedChromosomesKeepOrderOfEqualFitness() {
+        final List<PackedBitChromosome> chromosomes = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            chromosomes.add(new PackedBitChromosomeBuilder()
+                .words(new long[] { i }, 8).age(0).generation(0).fitnessValue((i % 3) / 2.0).build());
+        }
+        final List<PackedBitChromosome> sorted = FitnessOrder.sortedDescending(chromosomes);
+        assertEquals(chromosomes.size(), sorted.size());
+        final int[] expected = stableDescending(chromosomes.stream().mapToDouble(c -> c.fitnessValue()).toArray());
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(chromosomes.get(expected[i]), sorted.get(i));
+        }
+    }
+
+}
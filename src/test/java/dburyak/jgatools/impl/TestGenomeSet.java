@@ -0,0 +1,152 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import dburyak.jgatools.IFingerprint;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Open addressing of {@link GenomeSet} : linear probing over colliding hashes, reserved empty hash, growth from
+ * minimal capacity and lookup of chromosomes by genome.
+ * <br><b>Created on:</b> <i>9:03:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestGenomeSet {
+
+    /**
+     * Fingerprint with given hash, equal only to fingerprint with the same id.
+     */
+    private static final class Key implements IFingerprint {
+
+        private final int id;
+
+        private final long hash;
+
+
+        private Key(final int id, final long hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public long longHash() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return (other instanceof Key) && ((Key) other).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+    }
+
+
+    @Test
+    public void collidingHashesAreProbed() {
+        final GenomeSet set = new GenomeSet(4);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(set.addFingerprint(new Key(i, 42L)));
+        }
+        assertEquals(100, set.size());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(set.containsFingerprint(new Key(i, 42L)));
+            assertFalse(set.addFingerprint(new Key(i, 42L)));
+        }
+        assertFalse(set.containsFingerprint(new Key(100, 42L)));
+        assertEquals(100, set.size());
+    }
+
+    @Test
+    public void hashesOfSameSlotAreProbed() {
+        // different hashes that map into the same slot of small table
+        final GenomeSet set = new GenomeSet(0);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(set.addFingerprint(new Key(i, ((long) i) << 40)));
+        }
+        for (int i = 0; i < 7; i++) {
+            assertTrue(set.containsFingerprint(new Key(i, ((long) i) << 40)));
+        }
+        assertFalse(set.containsFingerprint(new Key(7, 7L << 40)));
+    }
+
+    @Test
+    public void emptyHashIsReserved() {
+        final GenomeSet set = new GenomeSet(0);
+        assertFalse(set.containsFingerprint(new Key(0, 0L)));
+        assertTrue(set.addFingerprint(new Key(0, 0L)));
+        assertTrue(set.containsFingerprint(new Key(0, 0L)));
+        assertTrue(set.addFingerprint(new Key(1, 1L))); // shares hash with reserved one
+        assertTrue(set.containsFingerprint(new Key(1, 1L)));
+        assertFalse(set.addFingerprint(new Key(0, 0L)));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void growth() {
+        final GenomeSet set = new GenomeSet(0);
+        final int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            assertTrue(set.addFingerprint(Integer.valueOf(i)));
+            assertEquals(i + 1, set.size());
+        }
+        for (int i = 0; i < count; i++) {
+            assertTrue(Integer.toString(i), set.containsFingerprint(Integer.valueOf(i)));
+            assertFalse(set.addFingerprint(Integer.valueOf(i)));
+        }
+        assertFalse(set.containsFingerprint(Integer.valueOf(count)));
+        assertEquals(count, set.size());
+    }
+
+    @Test
+    public void clear() {
+        final GenomeSet set = new GenomeSet(8);
+        for (int i = 0; i < 50; i++) {
+            set.addFingerprint(new Key(i, i));
+        }
+        set.clear();
+        assertEquals(0, set.size());
+        for (int i = 0; i < 50; i++) {
+            assertFalse(set.containsFingerprint(new Key(i, i)));
+        }
+        assertTrue(set.addFingerprint(new Key(3, 3L)));
+    }
+
+    @Test
+    public void chromosomesWithSameGenome() {
+        final BitSet genome = new BitSet();
+        genome.set(3);
+        genome.set(70);
+        final PackedBitChromosome c1 = new PackedBitChromosomeBuilder()
+            .data(PackedBits.of(genome, 100)).age(0).generation(0).fitnessValue(0.5).build();
+        final PackedBitChromosome c2 = new PackedBitChromosomeBuilder()
+            .data(PackedBits.of(genome, 100)).age(4).generation(2).fitnessValue(0.5).build();
+        genome.set(71);
+        final PackedBitChromosome c3 = new PackedBitChromosomeBuilder()
+            .data(PackedBits.of(genome, 100)).age(0).generation(0).fitnessValue(0.5).build();
+
+        final GenomeSet set = new GenomeSet(2);
+        assertTrue(set.add(c1));
+        assertTrue(set.contains(c2));
+        assertFalse(set.add(c2));
+        assertFalse(set.contains(c3));
+        assertTrue(set.add(c3));
+        assertEquals(2, set.size());
+    }
+
+}
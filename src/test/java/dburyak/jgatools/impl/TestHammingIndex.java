@@ -0,0 +1,191 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Rng;
+
+
+/**
+ * Project : jgatools.<br>
+ * Queries of {@link HammingIndex} against brute force : popcount distance, exact answer when probed range covers the
+ * whole index, recall of planted near neighbours, closeness to target distance compared to random choice, exclusion
+ * of query entry and not-found result.
+ * <br><b>Created on:</b> <i>11:40:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestHammingIndex {
+
+    private static final int LENGTH = 200;
+
+    private static final int SIZE = 256;
+
+
+    private static final long[] randomBits(final Rng rng) {
+        final long[] words = new long[PackedBits.wordsFor(LENGTH)];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = rng.nextLong();
+        }
+        words[words.length - 1] &= (1L << (LENGTH % 64)) - 1L;
+        return words;
+    }
+
+    private static final long[] flipped(final long[] words, final int flips, final Rng rng) {
+        final long[] result = words.clone();
+        for (int i = 0; i < flips; i++) {
+            final int bit = rng.nextInt(LENGTH);
+            result[bit >>> 6] ^= 1L << bit;
+        }
+        return result;
+    }
+
+    private static final List<long[]> randomEntries(final Rng rng) {
+        final List<long[]> entries = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            entries.add(randomBits(rng));
+        }
+        return entries;
+    }
+
+    private static final int naiveDistance(final long[] words1, final long[] words2) {
+        int distance = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            if (((words1[i >>> 6] >>> i) & 1L) != ((words2[i >>> 6] >>> i) & 1L)) {
+                distance++;
+            }
+        }
+        return distance;
+    }
+
+    private static final int bestError(final List<long[]> entries, final int query, final int target) {
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < entries.size(); i++) {
+            if (i != query) {
+                best = Math.min(best, Math.abs(naiveDistance(entries.get(query), entries.get(i)) - target));
+            }
+        }
+        return best;
+    }
+
+
+    @Test
+    public void distanceIsPopcountOfDifference() {
+        final Rng rng = new Rng(1L);
+        final List<long[]> entries = randomEntries(rng);
+        final HammingIndex index = new HammingIndex(entries, LENGTH, 2, 16, new Rng(2L));
+        for (int i = 0; i + 1 < SIZE; i++) {
+            final int expected = naiveDistance(entries.get(i), entries.get(i + 1));
+            assertEquals(expected, HammingIndex.distance(entries.get(i), entries.get(i + 1)));
+            assertEquals(expected, index.distance(i, i + 1));
+        }
+        assertEquals(0, index.distance(3, 3));
+    }
+
+    @Test
+    public void exactWhenProbedRangeCoversIndex() {
+        final Rng rng = new Rng(3L);
+        final List<long[]> entries = randomEntries(rng);
+        final HammingIndex index = new HammingIndex(entries, LENGTH, 1, 24, new Rng(4L));
+        for (final int target : new int[] { 0, 20, LENGTH / 2, LENGTH }) {
+            for (int query = 0; query < SIZE; query += 7) {
+                final int found = index.closest(query, target, SIZE, rng);
+                assertNotEquals(query, found);
+                assertEquals("target " + target + " ; query " + query, bestError(entries, query, target),
+                    Math.abs(index.distance(query, found) - target));
+            }
+        }
+    }
+
+    @Test
+    public void recallOfPlantedNeighbours() {
+        final Rng rng = new Rng(5L);
+        final List<long[]> entries = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE / 2; i++) { // pairs at distance at most 4, random pairs are at about LENGTH / 2
+            final long[] words = randomBits(rng);
+            entries.add(words);
+            entries.add(flipped(words, 4, rng));
+        }
+        final HammingIndex index = new HammingIndex(entries, LENGTH, HammingMatesSelector.DEFAULT_TABLES, 24,
+            new Rng(6L));
+        int found = 0;
+        for (int query = 0; query < SIZE; query++) {
+            if (index.distance(query, index.closest(query, 0, 8, rng)) <= 4) {
+                found++;
+            }
+        }
+        assertTrue("recall " + found + " of " + SIZE, found >= SIZE * 95 / 100);
+    }
+
+    @Test
+    public void targetDistanceIsCloserThanRandomChoice() {
+        final Rng rng = new Rng(7L);
+        final List<long[]> entries = randomEntries(rng);
+        final HammingIndex index = new HammingIndex(entries, LENGTH, HammingMatesSelector.DEFAULT_TABLES, 24,
+            new Rng(8L));
+        final int target = 90;
+        long indexError = 0L;
+        long randomError = 0L;
+        long bruteError = 0L;
+        for (int query = 0; query < SIZE; query++) {
+            indexError += Math.abs(index.distance(query, index.closest(query, target, 8, rng)) - target);
+            randomError += Math.abs(index.distance(query, (query + 1 + rng.nextInt(SIZE - 1)) % SIZE) - target);
+            bruteError += bestError(entries, query, target);
+        }
+        assertTrue(indexError >= bruteError);
+        assertTrue("index " + indexError + " ; random " + randomError, 4L * indexError < randomError);
+    }
+
+    @Test
+    public void queryEntryIsExcluded() {
+        final Rng rng = new Rng(9L);
+        final long[] words = randomBits(rng);
+        final List<long[]> entries = new ArrayList<>(Collections.nCopies(5, words));
+        entries.add(flipped(words, 30, rng));
+        final HammingIndex index = new HammingIndex(entries, LENGTH, 2, 16, new Rng(10L));
+        for (int query = 0; query < entries.size(); query++) {
+            for (int i = 0; i < 20; i++) {
+                final int found = index.closest(query, 0, 1, rng);
+                assertNotEquals(query, found);
+                assertTrue(found >= 0 && found < entries.size());
+            }
+        }
+        // bit string query is not an entry, so exact copy is found
+        assertEquals(0, HammingIndex.distance(words, entries.get(index.closest(words.clone(), 0, 8, rng))));
+    }
+
+    @Test
+    public void notFound() {
+        final Rng rng = new Rng(11L);
+        final long[] words = randomBits(rng);
+        final HammingIndex single = new HammingIndex(Collections.singletonList(words), LENGTH, 2, 16, new Rng(12L));
+        assertEquals(-1, single.closest(0, 0, 8, rng));
+        assertEquals(0, single.closest(words, 0, 8, rng));
+
+        final HammingIndex empty = new HammingIndex(Collections.emptyList(), LENGTH, 2, 16, new Rng(13L));
+        assertEquals(0, empty.size());
+        assertEquals(-1, empty.closest(words, LENGTH / 2, 8, rng));
+    }
+
+    @Test
+    public void sameSeedSameAnswers() {
+        final List<long[]> entries = randomEntries(new Rng(14L));
+        final HammingIndex index1 = new HammingIndex(entries, LENGTH, 3, 20, new Rng(15L));
+        final HammingIndex index2 = new HammingIndex(entries, LENGTH, 3, 20, new Rng(15L));
+        final Rng rng1 = new Rng(16L);
+        final Rng rng2 = new Rng(16L);
+        for (int query = 0; query < SIZE; query++) {
+            assertEquals(index1.closest(query, 60, 4, rng1), index2.closest(query, 60, 4, rng2));
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import dburyak.jgatools.IMatesSelector;
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Mates of {@link HammingMatesSelector} : scan without preparation picks the best candidate, prepared selector never
+ * returns first parent while there's other chromosome and falls back to it otherwise, and queries without random
+ * generator are reproducible for the same population.
+ * <br><b>Created on:</b> <i>11:45:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestHammingMatesSelector {
+
+    private static final int LENGTH = 200;
+
+    private static final double SIMILARITY = 0.75D;
+
+    private static final int TARGET = (int) Math.round((1.0D - SIMILARITY) * LENGTH);
+
+
+    private static final HammingMatesSelector<PackedBitChromosome> selector() {
+        return new HammingMatesSelector<>(c -> c.bits().toLongArray(), LENGTH, SIMILARITY);
+    }
+
+    private static final PackedBitChromosome chromosome(final long[] words) {
+        return new PackedBitChromosomeBuilder()
+            .words(words, LENGTH)
+            .age(0)
+            .generation(0)
+            .fitnessFunc(OneMax.FITNESS)
+            .build();
+    }
+
+    private static final List<PackedBitChromosome> population(final long seed, final int size) {
+        final Rng rng = new Rng(seed);
+        final List<PackedBitChromosome> population = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final long[] words = new long[PackedBits.wordsFor(LENGTH)];
+            for (int w = 0; w < words.length; w++) {
+                words[w] = rng.nextLong();
+            }
+            words[words.length - 1] &= (1L << (LENGTH % 64)) - 1L;
+            population.add(chromosome(words));
+        }
+        return population;
+    }
+
+    private static final int error(final PackedBitChromosome parent1, final PackedBitChromosome mate) {
+        return Math.abs(HammingIndex.distance(parent1.bits().toLongArray(), mate.bits().toLongArray()) - TARGET);
+    }
+
+    private static final PackedBitChromosome single(final Observable<PackedBitChromosome> mates) {
+        final List<PackedBitChromosome> list = mates.toList().toBlocking().single();
+        assertEquals(1, list.size());
+        return list.get(0);
+    }
+
+
+    @Test
+    public void scanPicksBestCandidate() {
+        final HammingMatesSelector<PackedBitChromosome> selector = selector();
+        final List<PackedBitChromosome> population = population(1L, 64);
+        for (final PackedBitChromosome parent1 : population) {
+            final PackedBitChromosome mate = single(selector.select(parent1, Observable.from(population)));
+            assertNotSame(parent1, mate);
+            int best = Integer.MAX_VALUE;
+            for (final PackedBitChromosome candidate : population) {
+                if (candidate != parent1) {
+                    best = Math.min(best, error(parent1, candidate));
+                }
+            }
+            assertEquals(best, error(parent1, mate));
+        }
+    }
+
+    @Test
+    public void scanFallsBackToFirstParent() {
+        final PackedBitChromosome parent1 = population(2L, 1).get(0);
+        assertSame(parent1, single(selector().select(parent1, Observable.just(parent1))));
+        assertSame(parent1, single(selector().select(parent1, Observable.empty())));
+    }
+
+    @Test
+    public void preparedSelectorExcludesFirstParent() {
+        final List<PackedBitChromosome> population = population(3L, 128);
+        final IMatesSelector<PackedBitChromosome> prepared = selector().forGeneration(population);
+        final Rng rng = new Rng(4L);
+        for (final PackedBitChromosome parent1 : population) {
+            final PackedBitChromosome mate = single(prepared.select(parent1, Observable.empty(), rng));
+            assertNotSame(parent1, mate);
+            assertTrue(population.contains(mate));
+        }
+
+        // first parent that is not member of indexed population gets a member as mate
+        final PackedBitChromosome stranger = population(5L, 1).get(0);
+        assertTrue(population.contains(single(prepared.select(stranger, Observable.empty(), rng))));
+    }
+
+    @Test
+    public void preparedSelectorFallsBackToFirstParent() {
+        final List<PackedBitChromosome> population = population(6L, 1);
+        final PackedBitChromosome parent1 = population.get(0);
+        final IMatesSelector<PackedBitChromosome> prepared = selector().forGeneration(population);
+        assertSame(parent1, single(prepared.select(parent1, Observable.empty(), new Rng(7L))));
+        assertSame(parent1, single(prepared.select(parent1, Observable.empty())));
+
+        final PackedBitChromosome stranger = population(8L, 1).get(0);
+        final IMatesSelector<PackedBitChromosome> empty = selector().forGeneration(Collections.emptyList());
+        assertSame(stranger, single(empty.select(stranger, Observable.empty())));
+    }
+
+    @Test
+    public void queriesWithoutRngAreReproducible() {
+        final List<PackedBitChromosome> population = population(9L, 128);
+        final IMatesSelector<PackedBitChromosome> prepared1 = selector().forGeneration(population);
+        final IMatesSelector<PackedBitChromosome> prepared2 = selector().forGeneration(new ArrayList<>(population));
+        final PackedBitChromosome stranger = population(10L, 1).get(0);
+        for (final PackedBitChromosome parent1 : population) {
+            final PackedBitChromosome mate = single(prepared1.select(parent1, Observable.empty()));
+            assertNotSame(parent1, mate);
+            assertSame(mate, single(prepared1.select(parent1, Observable.empty())));
+            assertSame(mate, single(prepared2.select(parent1, Observable.empty())));
+        }
+        assertSame(single(prepared1.select(stranger, Observable.empty())),
+            single(prepared2.select(stranger, Observable.empty())));
+    }
+
+}
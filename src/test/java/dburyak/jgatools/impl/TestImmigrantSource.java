@@ -0,0 +1,196 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import dburyak.jgatools.impl.Population.PopulationBuilder;
+import dburyak.jgatools.impl.ReactiveGA.ReactiveGABuilder;
+import rx.Observable;
+import rx.Subscriber;
+
+
+/**
+ * Project : jgatools.<br>
+ * Demand of {@link ImmigrantSource} : bounded consumers get exactly as many chromosomes as they take, chromosomes
+ * dropped as duplicates by population builder and by {@link ReactiveGA} buffer are replaced on demand, and nothing is
+ * produced ahead of demand.
+ * <br><b>Created on:</b> <i>1:30:00 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestImmigrantSource {
+
+    /**
+     * Every chromosome with this period is copy of genome of previous one.
+     */
+    private static final int DUPLICATE_PERIOD = 3;
+
+
+    /**
+     * Subscriber that requests chromosomes only when asked to.
+     */
+    private static final class StepSubscriber extends Subscriber<PackedBitChromosome> {
+
+        private final List<PackedBitChromosome> received = new ArrayList<>();
+
+
+        private final void more(final long count) {
+            request(count);
+        }
+
+        @Override
+        public void onStart() {
+            request(0L);
+        }
+
+        @Override
+        public void onNext(final PackedBitChromosome chromosome) {
+            received.add(chromosome);
+        }
+
+        @Override
+        public void onCompleted() {
+            // never completes
+        }
+
+        @Override
+        public void onError(final Throwable e) {
+            throw new AssertionError(e);
+        }
+
+    }
+
+
+    private final AtomicLong duplicates = new AtomicLong();
+
+
+    /**
+     * Source where every {@link #DUPLICATE_PERIOD}-th chromosome duplicates genome of previous one.
+     */
+    private final ImmigrantSource<PackedBitChromosome> source(final boolean withDuplicates) {
+        final Rng rng = new Rng(OneMax.SEED);
+        final long[][] last = { null };
+        final AtomicLong built = new AtomicLong();
+        return new ImmigrantSource<>(() -> {
+            final long[] words;
+            if (withDuplicates && built.incrementAndGet() % DUPLICATE_PERIOD == 0) {
+                words = last[0].clone();
+                duplicates.incrementAndGet();
+            } else {
+                words = new long[PackedBits.wordsFor(OneMax.LENGTH)];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = rng.nextLong() & rng.nextLong();
+                }
+                words[words.length - 1] &= (1L << (OneMax.LENGTH % 64)) - 1L;
+            }
+            last[0] = words;
+            return new PackedBitChromosomeBuilder()
+                .words(words, OneMax.LENGTH)
+                .age(0)
+                .generation(0)
+                .fitnessFunc(OneMax.FITNESS)
+                .build();
+        });
+    }
+
+
+    @Test
+    public void takeProducesExactlyWhatIsTaken() {
+        final ImmigrantSource<PackedBitChromosome> source = source(false);
+        assertEquals(0L, source.produced());
+        assertEquals(7, source.chromosomes().take(7).toList().toBlocking().single().size());
+        assertEquals(7L, source.produced());
+        assertEquals(7L, source.requested());
+
+        // counters are shared by all subscribers, each subscriber gets its own stream
+        source.chromosomes().take(3).subscribe();
+        assertEquals(10L, source.produced());
+        assertEquals(10L, source.requested());
+    }
+
+    @Test
+    public void producesOnlyWhatIsRequested() {
+        final ImmigrantSource<PackedBitChromosome> source = source(false);
+        final StepSubscriber subscriber = new StepSubscriber();
+        source.chromosomes().subscribe(subscriber);
+        assertEquals(0L, source.produced());
+        subscriber.more(2L);
+        assertEquals(2L, source.produced());
+        subscriber.more(3L);
+        assertEquals(5L, source.produced());
+        assertEquals(5L, source.requested());
+        assertEquals(5, subscriber.received.size());
+        subscriber.unsubscribe();
+    }
+
+    @Test
+    public void duplicatesDroppedByPopulationBuilderAreReplaced() {
+        final ImmigrantSource<PackedBitChromosome> source = source(true);
+        final PopulationBuilder<PackedBitChromosome> builder = new PopulationBuilder<>();
+        builder.chromosomes(Observable.empty())
+            .appearSource(source.chromosomes())
+            .size(OneMax.POPULATION)
+            .eliteCount(0)
+            .removeDuplicates(true);
+        final Population<PackedBitChromosome> population = builder.build();
+        assertEquals(OneMax.POPULATION, population.size());
+        assertTrue(duplicates.get() > 0L);
+        // filter requests replacement for each duplicate, so demand covers dropped chromosomes too
+        assertEquals(OneMax.POPULATION + duplicates.get(), source.produced());
+        assertEquals(source.produced(), source.requested());
+    }
+
+    @Test(timeout = 60_000L)
+    public void reactiveGABufferConsumesOnDemand() {
+        final ImmigrantSource<PackedBitChromosome> source = source(true);
+        final int generations = 5;
+        final List<long[]> counters = Collections.synchronizedList(new ArrayList<>()); // produced, requested, dups
+        final ReactiveGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder =
+            OneMax.configure(new ReactiveGABuilder<>());
+        builder.appearSource(source.chromosomes());
+        builder.populationBuilder(() -> new PopulationBuilder<PackedBitChromosome>()
+            .size(OneMax.POPULATION)
+            .eliteCount(2)
+            .appearSource(source.chromosomes()));
+        builder.removeDuplicates(true);
+        builder.seed(OneMax.SEED);
+        builder.termCondition((population, iteration, runtime) -> {
+            counters.add(new long[] { source.produced(), source.requested(), duplicates.get() });
+            return iteration >= generations;
+        });
+        final ReactiveGA<PackedBitChromosome, Population<PackedBitChromosome>> ga = builder.build();
+        assertEquals(0L, source.produced()); // nothing is generated before start
+        final PackedBitChromosome result = OneMax.run(ga, new ArrayList<>());
+        assertNotNull(result);
+        ga.stop();
+
+        assertEquals(generations + 1, counters.size());
+        assertTrue(duplicates.get() > 0L);
+        // initial population takes immigrants until it is full
+        assertEquals(OneMax.POPULATION + counters.get(0)[2], counters.get(0)[0]);
+        for (int g = 0; g <= generations; g++) {
+            final long[] current = counters.get(g);
+            assertEquals("generation " + g, current[0], current[1]); // no outstanding demand between generations
+            if (g > 0) {
+                final long[] previous = counters.get(g - 1);
+                final long unique = (current[0] - previous[0]) - (current[2] - previous[2]);
+                // buffer takes immigrants only to fill up after original chromosomes and offsprings
+                assertTrue("generation " + g + " ; unique immigrants " + unique,
+                    unique <= 3 * OneMax.POPULATION - OneMax.POPULATION);
+            }
+        }
+    }
+
+}
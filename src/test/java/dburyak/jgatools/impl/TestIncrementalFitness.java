@@ -0,0 +1,247 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IFitnessFunction;
+import dburyak.jgatools.IIncrementalFitnessFunction;
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Delta evaluation of {@link PackedBitChromosome} with {@link IIncrementalFitnessFunction} : over chains of mutations
+ * result is the same as full evaluation in {@link PackedBitChromosomeBuilder#build()},
+ * {@link PackedBitChromosomeBuilder#evaluate(List)} and {@link PackedBitChromosomeBuilder#evaluateAsync}, and
+ * chromosome without evaluation state falls back to full evaluation.
+ * <br><b>Created on:</b> <i>9:10:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestIncrementalFitness {
+
+    private static final int LENGTH = 300;
+
+    private static final int CHAIN = 50;
+
+    private static final double EPSILON = 1e-9;
+
+
+    /**
+     * Weighted count of set bits, state is raw weighted sum. Counts full and delta evaluations.
+     */
+    private static final class WeightedOnes implements IIncrementalFitnessFunction<PackedBits, Double> {
+
+        private final double[] weights;
+
+        private final double totalWeight;
+
+        private int fullCount = 0;
+
+        private int deltaCount = 0;
+
+
+        private WeightedOnes(final double[] weights) {
+            this.weights = weights;
+            double total = 0.0D;
+            for (final double weight : weights) {
+                total += weight;
+            }
+            totalWeight = total;
+        }
+
+        private final double reference(final PackedBits data) {
+            double sum = 0.0D;
+            for (int i = 0; i < data.length(); i++) {
+                if (data.get(i)) {
+                    sum += weights[i];
+                }
+            }
+            return Math.min(1.0D, sum / totalWeight);
+        }
+
+        @Override
+        public synchronized Double evaluationState(final PackedBits data) {
+            fullCount++;
+            final double[] sum = { 0.0D };
+            data.forEachSetBit(i -> sum[0] += weights[i]);
+            return Double.valueOf(sum[0]);
+        }
+
+        @Override
+        public synchronized Double evaluationState(final Double parentState, final Fitness parentFitness,
+            final PackedBits childData, final int[] changedLoci) {
+
+            deltaCount++;
+            double sum = parentState.doubleValue();
+            for (final int locus : changedLoci) {
+                sum += childData.get(locus) ? weights[locus] : -weights[locus];
+            }
+            return Double.valueOf(sum);
+        }
+
+        @Override
+        public Fitness fitnessOf(final Double state) {
+            return new Fitness(Math.max(0.0D, Math.min(1.0D, state.doubleValue() / totalWeight)));
+        }
+
+    }
+
+
+    private final Random rnd = new Random(42L);
+
+    private final Rng rng = new Rng(42L);
+
+    private final WeightedOnes func = weightedOnes();
+
+
+    private final WeightedOnes weightedOnes() {
+        final double[] weights = new double[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            weights[i] = rnd.nextDouble();
+        }
+        return new WeightedOnes(weights);
+    }
+
+    private final PackedBits randomBits() {
+        final long[] words = new long[PackedBits.wordsFor(LENGTH)];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = rnd.nextLong();
+        }
+        return PackedBits.wrap(words, LENGTH);
+    }
+
+    private final PackedBitChromosome root() {
+        return new PackedBitChromosomeBuilder()
+            .data(randomBits())
+            .age(0)
+            .generation(0)
+            .fitnessFunc(func)
+            .build();
+    }
+
+    private final void assertMatchesFull(final PackedBitChromosome chromosome) {
+        assertTrue(chromosome.evaluated());
+        assertEquals(func.reference(chromosome.bits()), chromosome.fitnessValue(), EPSILON);
+    }
+
+
+    @Test
+    public void buildChainMatchesFullEvaluation() {
+        PackedBitChromosome parent = root();
+        assertMatchesFull(parent);
+        assertEquals(1, func.fullCount);
+        final PackedBitMutation mutation = PackedBitMutation.exactly(3);
+        for (int i = 0; i < CHAIN; i++) {
+            final int[] flips = mutation.flips(LENGTH, rng);
+            final PackedBitChromosome child = new PackedBitChromosomeBuilder()
+                .data(PackedBitMutation.apply(parent.bits(), flips))
+                .delta(parent, flips)
+                .age(0)
+                .generation(parent.generation() + 1)
+                .fitnessFunc(func)
+                .build();
+            assertMatchesFull(child);
+            parent = child;
+        }
+        assertEquals(1, func.fullCount);
+        assertEquals(CHAIN, func.deltaCount);
+    }
+
+    @Test
+    public void deferredMutantsEvaluatedByListMatchFullEvaluation() {
+        PackedBitChromosome parent = root();
+        final PackedBitMutation mutation = PackedBitMutation.perBit(0.02D);
+        final PackedBitChromosomeBuilder evaluator = new PackedBitChromosomeBuilder();
+        evaluator.fitnessFunc(func);
+        for (int i = 0; i < CHAIN; i++) {
+            final List<PackedBitChromosome> mutants = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                final PackedBitChromosome mutant = mutation.mutate(parent, rng);
+                assertFalse(mutant.evaluated());
+                mutants.add(mutant);
+            }
+            mutants.add(parent); // already evaluated, kept as is
+            final List<PackedBitChromosome> evaluated = evaluator.evaluate(mutants);
+            assertEquals(mutants.size(), evaluated.size());
+            evaluated.forEach(this::assertMatchesFull);
+            assertTrue(parent == evaluated.get(evaluated.size() - 1));
+            parent = evaluated.get(i % 4);
+        }
+        assertEquals(1, func.fullCount);
+        assertEquals(CHAIN * 4, func.deltaCount);
+    }
+
+    @Test
+    public void deferredMutantsEvaluatedAsyncMatchFullEvaluation() {
+        PackedBitChromosome parent = root();
+        final PackedBitMutation mutation = PackedBitMutation.exactly(5);
+        final PackedBitChromosomeBuilder evaluator = new PackedBitChromosomeBuilder();
+        evaluator.fitnessFunc(func);
+        for (int i = 0; i < CHAIN; i++) {
+            final PackedBitChromosome mutant = mutation.mutate(parent, rng);
+            final PackedBitChromosome evaluated = evaluator.evaluateAsync(mutant).toBlocking().value();
+            assertMatchesFull(evaluated);
+            assertTrue(evaluated == evaluator.evaluateAsync(evaluated).toBlocking().value());
+            parent = evaluated;
+        }
+        assertEquals(1, func.fullCount);
+        assertEquals(CHAIN, func.deltaCount);
+    }
+
+    @Test
+    public void parentWithoutStateFallsBackToFullEvaluation() {
+        final PackedBitChromosome evaluated = root();
+        // copy with explicit fitness doesn't carry evaluation state
+        final PackedBitChromosome copy = new PackedBitChromosomeBuilder()
+            .from(evaluated)
+            .fitness(evaluated.fitness())
+            .build();
+        // parent evaluated by plain fitness function has no evaluation state either
+        final IFitnessFunction<PackedBits> plain = data -> new Fitness(func.reference(data));
+        final PackedBitChromosome plainEvaluated = new PackedBitChromosomeBuilder()
+            .data(randomBits())
+            .age(0)
+            .generation(0)
+            .fitnessFunc(plain)
+            .build();
+        final PackedBitMutation mutation = PackedBitMutation.exactly(2);
+        final PackedBitChromosomeBuilder evaluator = new PackedBitChromosomeBuilder();
+        evaluator.fitnessFunc(func);
+        final int fullBefore = func.fullCount;
+        for (final PackedBitChromosome parent : new PackedBitChromosome[] { copy, plainEvaluated }) {
+            assertMatchesFull(evaluator.evaluateAsync(mutation.mutate(parent, rng)).toBlocking().value());
+            final List<PackedBitChromosome> list = new ArrayList<>();
+            list.add(mutation.mutate(parent, rng));
+            assertMatchesFull(evaluator.evaluate(list).get(0));
+        }
+        assertEquals(fullBefore + 4, func.fullCount);
+        assertEquals(0, func.deltaCount);
+    }
+
+    @Test
+    public void emptyDeltaKeepsParentFitness() {
+        final PackedBitChromosome parent = root();
+        final PackedBitChromosome child = new PackedBitChromosomeBuilder()
+            .data(parent.bits())
+            .delta(parent, new int[0])
+            .age(0)
+            .generation(1)
+            .fitnessFunc(func)
+            .build();
+        assertEquals(parent.fitnessValue(), child.fitnessValue(), 0.0D);
+        assertEquals(1, func.deltaCount);
+    }
+
+}
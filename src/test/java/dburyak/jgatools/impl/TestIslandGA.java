@@ -0,0 +1,143 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.impl.IslandGA.IslandGABuilder;
+import dburyak.jgatools.impl.IslandGA.MigrationTopology;
+import dburyak.jgatools.impl.ReactiveGA.ReactiveGABuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Lifecycle of {@link IslandGA} on OneMax : run terminates on its own with result that stays available until stop, GA
+ * can be restarted after stop (also while islands are breeding), and master seed alone decides islands and migration,
+ * so stats of migrations (all islands are at the same generation there) are the same for the same seed.
+ * <br><b>Created on:</b> <i>9:24:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestIslandGA {
+
+    private static final int ISLANDS = 3;
+
+    private static final int MIGRATION_INTERVAL = 5;
+
+
+    private static final IslandGA<PackedBitChromosome, Population<PackedBitChromosome>> islandGA(final long seed) {
+        return new IslandGABuilder<PackedBitChromosome, Population<PackedBitChromosome>>()
+            .island(index -> OneMax.configure(new ReactiveGABuilder<>()))
+            .islandsCount(ISLANDS)
+            .migrationInterval(MIGRATION_INTERVAL)
+            .migrationSize(2)
+            .topology(MigrationTopology.RANDOM)
+            .seed(seed)
+            .build();
+    }
+
+    /**
+     * Get average fitness on migrations that all islands surely pass before the first of them terminates.
+     */
+    private static final List<Double> migrationsFitness(final long seed) {
+        final IslandGA<PackedBitChromosome, Population<PackedBitChromosome>> ga = islandGA(seed);
+        final List<PopulationStats> stats = new ArrayList<>();
+        assertNotNull(OneMax.run(ga, stats));
+        ga.stop();
+        final int migrations = (OneMax.GENERATIONS - 1) / MIGRATION_INTERVAL;
+        return OneMax.avgFitness(stats).subList(0, migrations);
+    }
+
+
+    @Test(timeout = 60_000L)
+    public void terminatesWithResultAndStopsCleanly() {
+        final IslandGA<PackedBitChromosome, Population<PackedBitChromosome>> ga = islandGA(OneMax.SEED);
+        final List<PopulationStats> stats = new ArrayList<>();
+        final PackedBitChromosome result = OneMax.run(ga, stats);
+        assertNotNull(result);
+        assertFalse(stats.isEmpty());
+        assertEquals(OneMax.POPULATION * ISLANDS, stats.get(0).size());
+        OneMax.stopAfterTermination(ga, result);
+
+        // stopped GA can be run again
+        assertNotNull(OneMax.run(ga, new ArrayList<>()));
+        ga.stop();
+    }
+
+    @Test(timeout = 60_000L)
+    public void masterSeedDecidesRun() {
+        final List<Double> expected = migrationsFitness(OneMax.SEED);
+        assertEquals(expected, migrationsFitness(OneMax.SEED));
+        assertFalse(expected.equals(migrationsFitness(OneMax.SEED + 1L)));
+    }
+
+    @Test(timeout = 60_000L)
+    public void restartWhileIslandsRunIsNotAffectedByStoppedIslands() throws InterruptedException {
+        final AtomicBoolean blockOnce = new AtomicBoolean(true);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<Thread> staleThread = new AtomicReference<>();
+        final AtomicInteger staleCalls = new AtomicInteger();
+        final IslandGA<PackedBitChromosome, Population<PackedBitChromosome>> ga =
+            new IslandGABuilder<PackedBitChromosome, Population<PackedBitChromosome>>()
+                .island(index -> {
+                    final ReactiveGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> island =
+                        OneMax.configure(new ReactiveGABuilder<>());
+                    island.termCondition((population, iteration, runtime) -> {
+                        if (Thread.currentThread() == staleThread.get()) {
+                            staleCalls.incrementAndGet();
+                        } else if (index == 0 && iteration == 3 && blockOnce.compareAndSet(true, false)) {
+                            staleThread.set(Thread.currentThread());
+                            blocked.countDown();
+                            awaitUninterruptibly(release); // island of first run is busy and doesn't see stop
+                        }
+                        return iteration >= OneMax.GENERATIONS;
+                    });
+                    return island;
+                })
+                .islandsCount(ISLANDS)
+                .migrationInterval(MIGRATION_INTERVAL)
+                .migrationSize(2)
+                .seed(OneMax.SEED)
+                .build();
+
+        ga.start();
+        blocked.await();
+        ga.stop();
+        ga.start();
+        release.countDown(); // stopped island goes on while the new run is evolving
+        staleThread.get().join(10_000L);
+        assertFalse(staleThread.get().isAlive());
+        assertNotNull(ga.result().toBlocking().value());
+        ga.stop();
+        assertEquals(0, staleCalls.get());
+    }
+
+    private static final void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import dburyak.jgatools.IGeneticAlgorithm;
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.impl.LoopGA.LoopGABuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Lifecycle of {@link LoopGA} on OneMax : run terminates on its own with result that stays available until stop, GA
+ * can be restarted after stop (also in the middle of generation), and fixed seed gives the same run regardless of
+ * number of workers.
+ * <br><b>Created on:</b> <i>9:18:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestLoopGA {
+
+    private static final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> loopGA(
+        final ExecutorService executor) {
+
+        final LoopGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder =
+            OneMax.configure(new LoopGABuilder<>());
+        builder.seed(OneMax.SEED);
+        builder.fitnessBatchSize(4);
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        return builder.build();
+    }
+
+
+    @Test(timeout = 30_000L)
+    public void terminatesWithResultAndStopsCleanly() {
+        final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga = loopGA(null);
+        final List<PopulationStats> stats = new ArrayList<>();
+        final PackedBitChromosome result = OneMax.run(ga, stats);
+        assertNotNull(result);
+        assertEquals(OneMax.GENERATIONS, stats.size());
+        assertEquals(stats.get(stats.size() - 1).maxFitness().value(), result.fitnessValue(), 1.0D / OneMax.LENGTH);
+        assertTrue(stats.get(0).avgFitness().value() < stats.get(stats.size() - 1).avgFitness().value());
+        OneMax.stopAfterTermination(ga, result);
+
+        // stopped GA can be run again
+        assertNotNull(OneMax.run(ga, new ArrayList<>()));
+        ga.stop();
+    }
+
+    @Test(timeout = 30_000L)
+    public void sameRunForAnyWorkersCount() {
+        PackedBitChromosome expected = null;
+        List<Double> expectedStats = null;
+        for (final int workers : new int[] { 1, 2, 4 }) {
+            final ExecutorService executor = Executors.newFixedThreadPool(workers);
+            try {
+                final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga = loopGA(executor);
+                final List<PopulationStats> stats = new ArrayList<>();
+                final PackedBitChromosome result = OneMax.run(ga, stats);
+                ga.stop();
+                if (expected == null) {
+                    expected = result;
+                    expectedStats = OneMax.avgFitness(stats);
+                } else {
+                    assertEquals("workers " + workers, expected.bits(), result.bits());
+                    assertEquals("workers " + workers, expectedStats, OneMax.avgFitness(stats));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test(timeout = 30_000L)
+    public void restartDuringGenerationIsNotAffectedByStoppedLoop() throws InterruptedException {
+        final AtomicBoolean blockOnce = new AtomicBoolean(true);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final LoopGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder =
+            OneMax.configure(new LoopGABuilder<>());
+        builder.seed(OneMax.SEED);
+        builder.fitnessBatchSize(4);
+        builder.termCondition((population, iteration, runtime) -> {
+            if (iteration == 3 && blockOnce.compareAndSet(true, false)) {
+                blocked.countDown();
+                awaitUninterruptibly(release); // loop of first run is busy and doesn't see stop
+            }
+            return iteration >= OneMax.GENERATIONS;
+        });
+        final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga = builder.build();
+
+        ga.start();
+        blocked.await();
+        ga.stop();
+        final List<PopulationStats> stats = new ArrayList<>();
+        ga.stats().subscribe(s -> {
+            synchronized (stats) {
+                stats.add(s);
+            }
+        });
+        ga.start();
+        release.countDown(); // stopped loop goes on while the new run is evolving
+        assertNotNull(ga.result().toBlocking().value());
+        ga.stop();
+        synchronized (stats) {
+            assertEquals(OneMax.GENERATIONS, stats.size());
+        }
+    }
+
+    private static final void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Fitness;
+import dburyak.jgatools.IFingerprint;
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.LruFitnessCache.LruFitnessCacheBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Caching of {@link LruFitnessCache} : hits and misses, least-recently-used eviction order within segment, total size
+ * bounded by max size for any number of segments, and genomes with colliding fingerprint hashes cached separately.
+ * <br><b>Created on:</b> <i>12:10:00 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestLruFitnessCache {
+
+    /**
+     * Genome identified by id with given fingerprint hash, fitness is derived from its id.
+     */
+    private static final class Genome implements Cloneable {
+
+        private final int id;
+
+        private final long hash;
+
+
+        private Genome(final int id, final long hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+    }
+
+    /**
+     * Fingerprint of genome, equal only to fingerprint of genome with the same id.
+     */
+    private static final class Key implements IFingerprint {
+
+        private final Genome genome;
+
+
+        private Key(final Genome genome) {
+            this.genome = genome;
+        }
+
+        @Override
+        public long longHash() {
+            return genome.hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return (other instanceof Key) && ((Key) other).genome.id == genome.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return genome.id;
+        }
+
+    }
+
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+
+    private final LruFitnessCache<Genome> cache(final int maxSize, final int concurrencyLevel) {
+        return new LruFitnessCacheBuilder<Genome>()
+            .fitnessFunc(genome -> {
+                evaluations.incrementAndGet();
+                return new Fitness(fitnessOf(genome));
+            })
+            .keyFunc(Key::new)
+            .maxSize(maxSize)
+            .concurrencyLevel(concurrencyLevel)
+            .build();
+    }
+
+    private static final double fitnessOf(final Genome genome) {
+        return 1.0D / (genome.id + 1);
+    }
+
+    /**
+     * Genome that falls into the first segment of any cache : segment is chosen by the highest bits of hash.
+     */
+    private static final Genome firstSegment(final int id) {
+        return new Genome(id, id);
+    }
+
+    private final void assertHit(final LruFitnessCache<Genome> cache, final Genome genome) {
+        final int before = evaluations.get();
+        assertEquals(fitnessOf(genome), cache.calcFitness(genome).value(), 0.0D);
+        assertEquals("genome " + genome.id + " is cached", before, evaluations.get());
+    }
+
+    private final void assertMiss(final LruFitnessCache<Genome> cache, final Genome genome) {
+        final int before = evaluations.get();
+        assertEquals(fitnessOf(genome), cache.calcFitness(genome).value(), 0.0D);
+        assertEquals("genome " + genome.id + " is evaluated", before + 1, evaluations.get());
+    }
+
+
+    @Test
+    public void hitsAndMisses() {
+        final LruFitnessCache<Genome> cache = cache(16, 1);
+        final Genome a = firstSegment(1);
+        final Genome b = firstSegment(2);
+        assertMiss(cache, a);
+        assertHit(cache, a);
+        assertMiss(cache, b);
+        assertHit(cache, a);
+        assertHit(cache, b);
+        assertEquals(3L, cache.hits());
+        assertEquals(2L, cache.misses());
+        assertEquals(0L, cache.evictions());
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertMiss(cache, a);
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        // 4 segments of 3 entries, all genomes fall into the first one
+        final LruFitnessCache<Genome> cache = cache(12, 1);
+        final Genome a = firstSegment(1);
+        final Genome b = firstSegment(2);
+        final Genome c = firstSegment(3);
+        final Genome d = firstSegment(4);
+        assertMiss(cache, a);
+        assertMiss(cache, b);
+        assertMiss(cache, c);
+        assertHit(cache, a); // b is the eldest now
+        assertMiss(cache, d);
+        assertEquals(1L, cache.evictions());
+        assertHit(cache, a);
+        assertHit(cache, c);
+        assertHit(cache, d);
+        assertMiss(cache, b); // evicted, evicts a as the eldest
+        assertMiss(cache, a);
+        assertEquals(3L, cache.evictions());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void sizeIsBoundedByMaxSize() {
+        final Rng rng = new Rng(1L);
+        for (final int maxSize : new int[] { 1, 5, 100, 1000 }) {
+            for (final int concurrencyLevel : new int[] { 1, 3, 16 }) {
+                final LruFitnessCache<Genome> cache = cache(maxSize, concurrencyLevel);
+                final int genomes = maxSize * 50;
+                for (int i = 0; i < genomes; i++) {
+                    cache.calcFitness(new Genome(i, rng.nextLong()));
+                }
+                // every segment gets far more genomes than it holds, so all of them are full
+                assertEquals("max size " + maxSize + " ; concurrency " + concurrencyLevel, maxSize, cache.size());
+                assertEquals(genomes - maxSize, cache.evictions());
+            }
+        }
+    }
+
+    @Test
+    public void collidingHashesAreCachedSeparately() {
+        final LruFitnessCache<Genome> cache = cache(64, 1); // colliding genomes share segment of 16 entries
+        final long hash = 0x9E3779B97F4A7C15L;
+        final Genome a = new Genome(1, hash);
+        final Genome b = new Genome(2, hash);
+        assertMiss(cache, a);
+        assertMiss(cache, b);
+        assertHit(cache, a);
+        assertHit(cache, b);
+        assertEquals(2, cache.size());
+    }
+
+}
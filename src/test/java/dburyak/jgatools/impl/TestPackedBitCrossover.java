@@ -0,0 +1,234 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Swap masks of {@link PackedBitCrossover} : offsprings are complementary, k-point cuts at word boundaries give exactly
+ * k segment switches, uniform probability is composed from binary digits, half-uniform swaps exactly half of differing
+ * bits, no bit is set beyond length.
+ * <br><b>Created on:</b> <i>9:14:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestPackedBitCrossover {
+
+    private static final int[] LENGTHS = { 1, 2, 63, 64, 65, 66, 127, 128, 129, 300 };
+
+    private static final int TRIALS = 200;
+
+    private final Random rnd = new Random(42L);
+
+    private final Rng rng = new Rng(42L);
+
+
+    private final PackedBits randomBits(final int length) {
+        final long[] words = new long[PackedBits.wordsFor(length)];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = rnd.nextLong();
+        }
+        return PackedBits.wrap(words, length);
+    }
+
+    private static final PackedBits constant(final int length, final boolean set) {
+        final long[] words = new long[PackedBits.wordsFor(length)];
+        if (set) {
+            Arrays.fill(words, -1L);
+        }
+        return PackedBits.wrap(words, length);
+    }
+
+    private static final PackedBitChromosome chromosome(final PackedBits bits) {
+        return new PackedBitChromosomeBuilder()
+            .data(bits)
+            .age(0)
+            .generation(0)
+            .fitnessValue(0.5D)
+            .build();
+    }
+
+    private final List<PackedBitChromosome> offsprings(final PackedBitCrossover crossover, final PackedBits bits1,
+        final PackedBits bits2) {
+
+        return crossover.crossover(Observable.just(chromosome(bits1), chromosome(bits2)), rng)
+            .toList()
+            .toBlocking()
+            .single();
+    }
+
+    /**
+     * Get swap mask of given crossover : first offspring of all-zeros and all-ones parents.
+     */
+    private final PackedBits mask(final PackedBitCrossover crossover, final int length) {
+        final List<PackedBitChromosome> offsprings = offsprings(crossover, constant(length, false),
+            constant(length, true));
+        return offsprings.get(0).bits();
+    }
+
+    private static final void assertComplementary(final PackedBits bits1, final PackedBits bits2,
+        final List<PackedBitChromosome> offsprings) {
+
+        assertEquals(2, offsprings.size());
+        final PackedBits offspring1 = offsprings.get(0).bits();
+        final PackedBits offspring2 = offsprings.get(1).bits();
+        assertEquals(bits1.length(), offspring1.length());
+        assertEquals(bits1.length(), offspring2.length());
+        for (int i = 0; i < bits1.length(); i++) {
+            final boolean kept = offspring1.get(i) == bits1.get(i) && offspring2.get(i) == bits2.get(i);
+            final boolean swapped = offspring1.get(i) == bits2.get(i) && offspring2.get(i) == bits1.get(i);
+            assertTrue("bit " + i, kept || swapped);
+        }
+    }
+
+    private static final void assertNoTailBits(final long[] words, final int length) {
+        assertEquals(PackedBits.wordsFor(length), words.length);
+        final int tail = length & 63;
+        if (tail != 0) {
+            assertEquals("length " + length, 0L, words[words.length - 1] & (-1L << tail));
+        }
+    }
+
+    private static final int switches(final PackedBits mask) {
+        int switches = 0;
+        for (int i = 1; i < mask.length(); i++) {
+            if (mask.get(i) != mask.get(i - 1)) {
+                switches++;
+            }
+        }
+        return switches;
+    }
+
+
+    @Test
+    public void offspringsAreComplementary() {
+        final PackedBitCrossover[] crossovers = { PackedBitCrossover.singlePoint(), PackedBitCrossover.kPoint(3),
+            PackedBitCrossover.uniform(), PackedBitCrossover.uniform(0.3D), PackedBitCrossover.halfUniform() };
+        for (final PackedBitCrossover crossover : crossovers) {
+            for (final int length : LENGTHS) {
+                for (int trial = 0; trial < 20; trial++) {
+                    final PackedBits bits1 = randomBits(length);
+                    final PackedBits bits2 = randomBits(length);
+                    assertComplementary(bits1, bits2, offsprings(crossover, bits1, bits2));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void noBitsBeyondLength() {
+        final PackedBitCrossover[] crossovers = { PackedBitCrossover.kPoint(5), PackedBitCrossover.uniform(1.0D),
+            PackedBitCrossover.halfUniform() };
+        for (final PackedBitCrossover crossover : crossovers) {
+            for (final int length : LENGTHS) {
+                final long[][] offsprings = crossover.crossover(constant(length, false), constant(length, true), rng);
+                assertNoTailBits(offsprings[0], length);
+                assertNoTailBits(offsprings[1], length);
+            }
+        }
+    }
+
+    @Test
+    public void kPointGivesExactlyKSwitches() {
+        for (final int points : new int[] { 1, 2, 3, 7 }) {
+            final PackedBitCrossover crossover = PackedBitCrossover.kPoint(points);
+            for (final int length : LENGTHS) {
+                for (int trial = 0; trial < TRIALS; trial++) {
+                    final PackedBits mask = mask(crossover, length);
+                    assertFalse(mask.get(0)); // first segment is never swapped
+                    assertEquals("points " + points + " length " + length, Math.min(points, length - 1),
+                        switches(mask));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void kPointCutsAtWordBoundary() {
+        // 66 bits have cut points 1..65, k = 3 of them hit 63, 64 and 65 often enough
+        final PackedBitCrossover crossover = PackedBitCrossover.kPoint(3);
+        final boolean[] seen = new boolean[3];
+        for (int trial = 0; trial < 20_000; trial++) {
+            final PackedBits mask = mask(crossover, 66);
+            assertEquals(3, switches(mask));
+            for (int cut = 63; cut <= 65; cut++) {
+                seen[cut - 63] |= mask.get(cut) != mask.get(cut - 1);
+            }
+        }
+        for (int i = 0; i < seen.length; i++) {
+            assertTrue("cut " + (63 + i), seen[i]);
+        }
+    }
+
+    @Test
+    public void kPointWithAllCutsAlternates() {
+        for (final int length : LENGTHS) {
+            final PackedBits mask = mask(PackedBitCrossover.kPoint(length + 5), length);
+            for (int i = 0; i < length; i++) {
+                assertEquals("length " + length + " bit " + i, (i & 1) != 0, mask.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void uniformSwapProbability() {
+        final int length = 1000;
+        for (final double probability : new double[] { 0.0D, 0.25D, 0.3D, 0.5D, 0.75D, 0.9D, 1.0D }) {
+            final PackedBitCrossover crossover = PackedBitCrossover.uniform(probability);
+            long swapped = 0L;
+            for (int trial = 0; trial < TRIALS; trial++) {
+                swapped += mask(crossover, length).cardinality();
+            }
+            final double bits = (double) length * TRIALS;
+            final double sigma = Math.sqrt(bits * probability * (1.0D - probability));
+            // probability is rounded to 16 binary digits
+            assertEquals("probability " + probability, probability * bits, swapped, 5.0D * sigma + bits / 65536.0D);
+            if (probability == 0.0D || probability == 1.0D) {
+                assertEquals(probability * bits, swapped, 0.0D);
+            }
+        }
+    }
+
+    @Test
+    public void halfUniformSwapsHalfOfDifferingBits() {
+        for (final int length : LENGTHS) {
+            for (int trial = 0; trial < 20; trial++) {
+                final PackedBits bits1 = randomBits(length);
+                final PackedBits bits2 = randomBits(length);
+                int differing = 0;
+                for (int i = 0; i < length; i++) {
+                    differing += (bits1.get(i) != bits2.get(i)) ? 1 : 0;
+                }
+                final PackedBits offspring1 = offsprings(PackedBitCrossover.halfUniform(), bits1, bits2).get(0)
+                    .bits();
+                int swapped = 0;
+                for (int i = 0; i < length; i++) {
+                    swapped += (offspring1.get(i) != bits1.get(i)) ? 1 : 0;
+                }
+                assertEquals("length " + length, differing / 2, swapped);
+            }
+        }
+    }
+
+    @Test
+    public void halfUniformOfOppositeParentsSwapsHalf() {
+        for (final int length : LENGTHS) {
+            assertEquals(length / 2, mask(PackedBitCrossover.halfUniform(), length).cardinality());
+        }
+    }
+
+}
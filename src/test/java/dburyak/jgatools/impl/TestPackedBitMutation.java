@@ -0,0 +1,154 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Rng;
+
+
+/**
+ * Project : jgatools.<br>
+ * Sampling of flipped indexes by {@link PackedBitMutation} : Floyd sampling of fixed count gives distinct sorted
+ * uniformly spread indexes, geometric skips of per-bit rate give about {@code rate * length} flips, edge rates flip
+ * nothing or everything.
+ * <br><b>Created on:</b> <i>9:12:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestPackedBitMutation {
+
+    private static final int[] LENGTHS = { 0, 1, 5, 63, 64, 65, 200 };
+
+    private static final int TRIALS = 20_000;
+
+    private final Rng rng = new Rng(42L);
+
+
+    private static final void assertDistinctSorted(final int[] flips, final int length) {
+        for (int i = 0; i < flips.length; i++) {
+            assertTrue(flips[i] >= 0 && flips[i] < length);
+            if (i > 0) {
+                assertTrue(flips[i - 1] < flips[i]);
+            }
+        }
+    }
+
+    private static final int[] all(final int length) {
+        final int[] all = new int[length];
+        for (int i = 0; i < length; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+
+    @Test
+    public void exactlyGivesDistinctSortedIndexes() {
+        for (final int count : new int[] { 1, 2, 7, 64 }) {
+            final PackedBitMutation mutation = PackedBitMutation.exactly(count);
+            for (final int length : LENGTHS) {
+                for (int trial = 0; trial < 100; trial++) {
+                    final int[] flips = mutation.flips(length, rng);
+                    assertEquals("count " + count + " length " + length, Math.min(count, length), flips.length);
+                    assertDistinctSorted(flips, length);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void exactlyAtLeastLengthFlipsAllBits() {
+        for (final int length : LENGTHS) {
+            assertArrayEquals(all(length), PackedBitMutation.exactly(Math.max(1, length)).flips(length, rng));
+            assertArrayEquals(all(length), PackedBitMutation.exactly(length + 10).flips(length, rng));
+        }
+    }
+
+    @Test
+    public void exactlyIsUniform() {
+        final int length = 20;
+        final int count = 5;
+        final PackedBitMutation mutation = PackedBitMutation.exactly(count);
+        final int[] hits = new int[length];
+        for (int trial = 0; trial < TRIALS; trial++) {
+            for (final int index : mutation.flips(length, rng)) {
+                hits[index]++;
+            }
+        }
+        // expected TRIALS * count / length = 5000 per index, standard deviation is about 61
+        for (int i = 0; i < length; i++) {
+            assertEquals("index " + i, (double) TRIALS * count / length, hits[i], 300.0D);
+        }
+    }
+
+    @Test
+    public void zeroRateFlipsNothing() {
+        final PackedBitMutation mutation = PackedBitMutation.perBit(0.0D);
+        for (final int length : LENGTHS) {
+            assertEquals(0, mutation.flips(length, rng).length);
+        }
+    }
+
+    @Test
+    public void unitRateFlipsAllBits() {
+        final PackedBitMutation mutation = PackedBitMutation.perBit(1.0D);
+        for (final int length : LENGTHS) {
+            assertArrayEquals(all(length), mutation.flips(length, rng));
+        }
+    }
+
+    @Test
+    public void rateGivesDistinctSortedIndexes() {
+        for (final double rate : new double[] { 0.001D, 0.05D, 0.5D, 0.99D }) {
+            final PackedBitMutation mutation = PackedBitMutation.perBit(rate);
+            for (final int length : LENGTHS) {
+                for (int trial = 0; trial < 100; trial++) {
+                    assertDistinctSorted(mutation.flips(length, rng), length);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void meanFlipCountIsRateTimesLength() {
+        final int length = 1000;
+        for (final double rate : new double[] { 0.001D, 0.01D, 0.1D, 0.5D, 0.9D }) {
+            final PackedBitMutation mutation = PackedBitMutation.perBit(rate);
+            final int trials = 2_000;
+            long total = 0L;
+            final int[] hits = new int[2];
+            for (int trial = 0; trial < trials; trial++) {
+                final int[] flips = mutation.flips(length, rng);
+                total += flips.length;
+                for (final int index : flips) {
+                    hits[index * 2 / length]++;
+                }
+            }
+            final double expected = rate * length;
+            final double sigma = Math.sqrt(expected * (1.0D - rate) / trials);
+            assertEquals("rate " + rate, expected, (double) total / trials, 5.0D * sigma);
+            // flips are spread evenly, not bunched at the beginning of genome
+            assertEquals("rate " + rate, hits[0], hits[1], 5.0D * Math.sqrt(total));
+        }
+    }
+
+    @Test
+    public void applyFlipsGivenBits() {
+        final PackedBits bits = PackedBits.wrap(new long[] { 0xFL, 0x1L }, 100);
+        final int[] flips = { 0, 5, 63, 64, 99 };
+        final PackedBits mutant = PackedBitMutation.apply(bits, flips);
+        for (int i = 0; i < bits.length(); i++) {
+            final boolean flipped = Arrays.binarySearch(flips, i) >= 0;
+            assertEquals("bit " + i, bits.get(i) ^ flipped, mutant.get(i));
+        }
+        assertTrue(bits == PackedBitMutation.apply(bits, new int[0]));
+    }
+
+}
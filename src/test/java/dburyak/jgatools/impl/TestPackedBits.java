@@ -0,0 +1,113 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+
+/**
+ * Project : jgatools.<br>
+ * Tail and word masks of {@link PackedBits} : bits beyond length are cleared on wrap, so cardinality, equality and
+ * iteration see only the genome.
+ * <br><b>Created on:</b> <i>9:00:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestPackedBits {
+
+    private static final int[] LENGTHS = { 0, 1, 5, 63, 64, 65, 127, 128, 129, 1000 };
+
+
+    @Test
+    public void wordsFor() {
+        assertEquals(0, PackedBits.wordsFor(0));
+        assertEquals(1, PackedBits.wordsFor(1));
+        assertEquals(1, PackedBits.wordsFor(64));
+        assertEquals(2, PackedBits.wordsFor(65));
+        assertEquals(2, PackedBits.wordsFor(128));
+        assertEquals(3, PackedBits.wordsFor(129));
+    }
+
+    @Test
+    public void wrapClearsTailBits() {
+        for (final int length : LENGTHS) {
+            final long[] words = new long[PackedBits.wordsFor(length)];
+            Arrays.fill(words, -1L);
+            final PackedBits bits = PackedBits.wrap(words, length);
+            assertEquals("length " + length, length, bits.cardinality());
+            for (int i = 0; i < bits.wordCount(); i++) {
+                final int bitsInWord = Math.min(PackedBits.WORD_SIZE, length - i * PackedBits.WORD_SIZE);
+                final long expected = (bitsInWord == PackedBits.WORD_SIZE) ? -1L : (1L << bitsInWord) - 1L;
+                assertEquals("length " + length + " word " + i, expected, bits.word(i));
+            }
+        }
+    }
+
+    @Test
+    public void tailBitsDoNotAffectEquality() {
+        final PackedBits clean = PackedBits.wrap(new long[] { 0x5L, 0x1L }, 65);
+        final PackedBits dirty = PackedBits.copyOf(new long[] { 0x5L, 0xF1L, 0xFFL }, 65);
+        assertEquals(clean, dirty);
+        assertEquals(clean.longHash(), dirty.longHash());
+        assertEquals(clean.hashCode(), dirty.hashCode());
+    }
+
+    @Test
+    public void differentLengthsAreNotEqual() {
+        assertFalse(PackedBits.wrap(new long[] { 0x3L }, 10).equals(PackedBits.wrap(new long[] { 0x3L }, 11)));
+    }
+
+    @Test
+    public void nextSetBitMasksLowerBits() {
+        final PackedBits bits = PackedBits.wrap(new long[] { 1L | (1L << 63), 1L << 1 }, 100);
+        assertEquals(0, bits.nextSetBit(0));
+        assertEquals(63, bits.nextSetBit(1));
+        assertEquals(63, bits.nextSetBit(63));
+        assertEquals(65, bits.nextSetBit(64));
+        assertEquals(-1, bits.nextSetBit(66));
+        assertEquals(-1, bits.nextSetBit(1000));
+    }
+
+    @Test
+    public void forEachSetBitMatchesGet() {
+        final BitSet bitset = new BitSet();
+        for (int i = 0; i < 200; i += 7) {
+            bitset.set(i);
+        }
+        final PackedBits bits = PackedBits.of(bitset, 150);
+        final List<Integer> visited = new ArrayList<>();
+        bits.forEachSetBit(visited::add);
+        int expected = 0;
+        for (final int index : visited) {
+            assertEquals(expected, index);
+            assertTrue(bits.get(index));
+            expected += 7;
+        }
+        assertEquals(bitset.get(0, 150).cardinality(), visited.size());
+        assertEquals(bitset.get(0, 150), bits.toBitSet());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getBeyondLengthFails() {
+        PackedBits.wrap(new long[] { -1L }, 10).get(10);
+    }
+
+    @Test
+    public void toLongArrayIsCopy() {
+        final PackedBits bits = PackedBits.wrap(new long[] { 0xAL }, 4);
+        final long[] words = bits.toLongArray();
+        words[0] = 0L;
+        assertArrayEquals(new long[] { 0xAL }, bits.toLongArray());
+    }
+
+}
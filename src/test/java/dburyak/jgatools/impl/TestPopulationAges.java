@@ -0,0 +1,204 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+import dburyak.jgatools.impl.Population.PopulationBuilder;
+import dburyak.jgatools.impl.ReactiveGA.ReactiveGABuilder;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Ages owned by population : survivors are carried to the next population by reference and get their age incremented
+ * there, newcomers keep their birth age, chromosomes that are not members have no age, and copy of population keeps
+ * ages. Checked with population builder directly and over several generations of {@link ReactiveGA}.
+ * <br><b>Created on:</b> <i>1:10:00 PM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestPopulationAges {
+
+    private static final int GENERATIONS = 3;
+
+
+    private static final List<PackedBitChromosome> newcomers(final int count, final long seed) {
+        final List<PackedBitChromosome> newcomers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final long[] words = new long[PackedBits.wordsFor(OneMax.LENGTH)];
+            words[0] = seed + i;
+            newcomers.add(new PackedBitChromosomeBuilder()
+                .words(words, OneMax.LENGTH)
+                .age(0)
+                .generation(0)
+                .fitnessFunc(OneMax.FITNESS)
+                .build());
+        }
+        return newcomers;
+    }
+
+    private static final Population<PackedBitChromosome> population(
+        final List<PackedBitChromosome> chromosomes,
+        final Population<PackedBitChromosome> previous) {
+
+        final PopulationBuilder<PackedBitChromosome> builder = new PopulationBuilder<>();
+        builder.chromosomes(Observable.from(chromosomes))
+            .appearSource(Observable.empty())
+            .size(chromosomes.size())
+            .eliteCount(1);
+        if (previous != null) {
+            builder.survivorsOf(previous);
+        }
+        return builder.build();
+    }
+
+    private static final List<PackedBitChromosome> members(final Population<PackedBitChromosome> population) {
+        return population.chromosomes().toList().toBlocking().single();
+    }
+
+    private static final Set<PackedBitChromosome> identitySet(final List<PackedBitChromosome> chromosomes) {
+        final Set<PackedBitChromosome> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(chromosomes);
+        return set;
+    }
+
+    private static final void assertAgesMatchStats(final Population<PackedBitChromosome> population) {
+        long sum = 0L;
+        int max = Integer.MIN_VALUE;
+        for (final PackedBitChromosome c : members(population)) {
+            sum += population.ageOf(c);
+            max = Math.max(max, population.ageOf(c));
+        }
+        assertEquals(max, population.stats().maxAge());
+        assertEquals((double) sum / population.size(), population.stats().avgAge(), 1.0E-12D);
+    }
+
+
+    @Test
+    public void builderAgesSurvivorsOverGenerations() {
+        final List<PackedBitChromosome> firstChromosomes = newcomers(10, 100L);
+        final Population<PackedBitChromosome> first = population(firstChromosomes, null);
+
+        // 6 of the first population survive
+        final List<PackedBitChromosome> secondChromosomes = new ArrayList<>(firstChromosomes.subList(0, 6));
+        final List<PackedBitChromosome> secondNewcomers = newcomers(4, 200L);
+        secondChromosomes.addAll(secondNewcomers);
+        final Population<PackedBitChromosome> second = population(secondChromosomes, first);
+
+        // 3 of the first population and 2 newcomers of the second one survive, one chromosome of the first population
+        // comes back after it was not member of the second one
+        final List<PackedBitChromosome> thirdChromosomes = new ArrayList<>(firstChromosomes.subList(0, 3));
+        thirdChromosomes.addAll(secondNewcomers.subList(0, 2));
+        final PackedBitChromosome returned = firstChromosomes.get(9);
+        thirdChromosomes.add(returned);
+        final List<PackedBitChromosome> thirdNewcomers = newcomers(4, 300L);
+        thirdChromosomes.addAll(thirdNewcomers);
+        final Population<PackedBitChromosome> third = population(thirdChromosomes, second);
+
+        for (final PackedBitChromosome c : firstChromosomes) {
+            assertEquals(0, first.ageOf(c));
+        }
+        for (int i = 0; i < 6; i++) {
+            assertEquals(1, second.ageOf(firstChromosomes.get(i)));
+        }
+        for (final PackedBitChromosome c : secondNewcomers) {
+            assertEquals(0, second.ageOf(c));
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, third.ageOf(firstChromosomes.get(i)));
+        }
+        assertEquals(1, third.ageOf(secondNewcomers.get(0)));
+        assertEquals(1, third.ageOf(secondNewcomers.get(1)));
+        assertEquals(0, third.ageOf(returned)); // ages are taken only from previous population
+        for (final PackedBitChromosome c : thirdNewcomers) {
+            assertEquals(0, third.ageOf(c));
+        }
+
+        // non-members
+        assertEquals(-1, second.ageOf(returned));
+        assertEquals(-1, third.ageOf(firstChromosomes.get(5)));
+        assertEquals(-1, third.ageOf(secondNewcomers.get(3)));
+        assertEquals(-1, first.ageOf(thirdNewcomers.get(0)));
+
+        // survivors are the same instances, birth age of chromosome is not changed
+        assertTrue(identitySet(members(third)).containsAll(firstChromosomes.subList(0, 3)));
+        assertEquals(0, firstChromosomes.get(0).age());
+        assertAgesMatchStats(second);
+        assertAgesMatchStats(third);
+        assertEquals(2, third.stats().maxAge());
+
+        // copy keeps ages
+        final Population<PackedBitChromosome> copy = new PopulationBuilder<PackedBitChromosome>()
+            .from(third)
+            .appearSource(Observable.empty())
+            .build();
+        for (final PackedBitChromosome c : thirdChromosomes) {
+            assertEquals(third.ageOf(c), copy.ageOf(c));
+        }
+        assertEquals(third.stats().avgAge(), copy.stats().avgAge(), 0.0D);
+        assertEquals(third.stats().maxAge(), copy.stats().maxAge());
+    }
+
+    @Test(timeout = 60_000L)
+    public void reactiveGASurvivorsAgeAcrossGenerations() {
+        final List<Population<PackedBitChromosome>> populations = Collections.synchronizedList(new ArrayList<>());
+        final ReactiveGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder =
+            OneMax.configure(new ReactiveGABuilder<>());
+        builder.seed(OneMax.SEED);
+        builder.termCondition((population, iteration, runtime) -> {
+            populations.add(population);
+            return iteration >= GENERATIONS;
+        });
+        final ReactiveGA<PackedBitChromosome, Population<PackedBitChromosome>> ga = builder.build();
+        final PackedBitChromosome result = OneMax.run(ga, new ArrayList<>());
+        assertNotNull(result);
+        ga.stop();
+
+        assertEquals(GENERATIONS + 1, populations.size());
+        for (final PackedBitChromosome c : members(populations.get(0))) {
+            assertEquals(0, populations.get(0).ageOf(c));
+        }
+        int oldest = 0;
+        for (int g = 1; g <= GENERATIONS; g++) {
+            final Population<PackedBitChromosome> previous = populations.get(g - 1);
+            final Population<PackedBitChromosome> current = populations.get(g);
+            final List<PackedBitChromosome> currentMembers = members(current);
+            final Set<PackedBitChromosome> currentSet = identitySet(currentMembers);
+            int survivors = 0;
+            for (final PackedBitChromosome c : currentMembers) {
+                final int previousAge = previous.ageOf(c);
+                if (previousAge >= 0) { // survivor carried by reference
+                    survivors++;
+                    assertEquals("generation " + g, previousAge + 1, current.ageOf(c));
+                } else { // offspring, mutant or immigrant
+                    assertEquals("generation " + g, 0, current.ageOf(c));
+                }
+                assertEquals(0, c.age());
+                oldest = Math.max(oldest, current.ageOf(c));
+            }
+            assertTrue("generation " + g + " ; survivors " + survivors, survivors >= current.eliteCount());
+            for (final PackedBitChromosome c : members(previous)) {
+                if (!currentSet.contains(c)) {
+                    assertEquals("generation " + g, -1, current.ageOf(c));
+                }
+            }
+            assertAgesMatchStats(current);
+        }
+        assertTrue("oldest " + oldest, oldest >= 2);
+        assertSame(result, populations.get(GENERATIONS).fittest());
+    }
+
+}
@@ -0,0 +1,89 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Rng;
+
+
+/**
+ * Project : jgatools.<br>
+ * Linear ranking of {@link RankSelection} : selection frequency depends on rank only, equal fitness values share
+ * rank, the least fit chromosome gets weight {@code 2 - pressure}.
+ * <br><b>Created on:</b> <i>9:06:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestRankSelection {
+
+    private static final int DRAWS = 300_000;
+
+
+    private static final double[] frequencies(final double[] fitness, final double pressure, final long seed) {
+        final int[] indexes = new RankSelection<>(DRAWS, pressure, false).selectIndexes(fitness, new Rng(seed));
+        assertEquals(DRAWS, indexes.length);
+        final double[] frequencies = new double[fitness.length];
+        for (final int index : indexes) {
+            frequencies[index] += 1.0 / DRAWS;
+        }
+        return frequencies;
+    }
+
+    @Test
+    public void frequencyDependsOnRankOnly() {
+        // ranks : 0.9 -> 0, 0.5 -> 1, 0.4 -> 2, 0.0 -> 3 ; weights with pressure 1.5 : 1.5, 1.1(6), 0.8(3), 0.5
+        final double[] frequencies = frequencies(new double[] { 0.4, 0.9, 0.0, 0.5 }, 1.5, 1L);
+        final double total = 1.5 + (1.5 - 1.0 / 3.0) + (1.5 - 2.0 / 3.0) + 0.5;
+        assertEquals((1.5 - 2.0 / 3.0) / total, frequencies[0], 0.005);
+        assertEquals(1.5 / total, frequencies[1], 0.005);
+        assertEquals(0.5 / total, frequencies[2], 0.005);
+        assertEquals((1.5 - 1.0 / 3.0) / total, frequencies[3], 0.005);
+
+        // same ranks for values far apart
+        assertArrayEquals(frequencies, frequencies(new double[] { 0.02, 1.0, 0.0, 0.03 }, 1.5, 1L), 0.0);
+    }
+
+    @Test
+    public void fullPressureNeverSelectsTheWorst() {
+        final double[] frequencies = frequencies(new double[] { 0.3, 0.1, 0.2 }, 2.0, 2L);
+        assertEquals(0.0, frequencies[1], 0.0);
+        assertEquals(2.0 / 3.0, frequencies[0], 0.005);
+        assertEquals(1.0 / 3.0, frequencies[2], 0.005);
+    }
+
+    @Test
+    public void noPressureIsUniform() {
+        final double[] frequencies = frequencies(new double[] { 0.3, 0.0, 1.0, 0.2, 0.2 }, 1.0, 3L);
+        for (final double frequency : frequencies) {
+            assertEquals(0.2, frequency, 0.005);
+        }
+    }
+
+    @Test
+    public void equalFitnessSharesRank() {
+        final double[] frequencies = frequencies(new double[] { 0.7, 0.2, 0.7, 0.7 }, 2.0, 4L);
+        assertEquals(0.0, frequencies[1], 0.0);
+        assertEquals(frequencies[0], frequencies[2], 0.005);
+        assertEquals(frequencies[0], frequencies[3], 0.005);
+        assertTrue(frequencies[0] > 0.0);
+    }
+
+    @Test
+    public void parallelIsSameAsSequential() {
+        final double[] fitness = new double[1000];
+        final Rng values = new Rng(5L);
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = values.nextInt(50) / 50.0;
+        }
+        final int size = 8 * Draws.CHUNK_SIZE + 1;
+        assertArrayEquals(
+            new RankSelection<>(size, 1.7, false).selectIndexes(fitness, new Rng(8L)),
+            new RankSelection<>(size, 1.7, true).selectIndexes(fitness, new Rng(8L)));
+    }
+
+}
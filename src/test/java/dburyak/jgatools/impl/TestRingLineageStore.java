@@ -0,0 +1,137 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import dburyak.jgatools.ILineageStore;
+import dburyak.jgatools.impl.PackedBitChromosome.PackedBitChromosomeBuilder;
+
+
+/**
+ * Project : jgatools.<br>
+ * Bounded lineage of {@link RingLineageStore} : slots are reused when ring wraps around, evicted records are
+ * forgotten, ancestry walk stops at them; chromosome builders register rebuilt chromosomes as new ones.
+ * <br><b>Created on:</b> <i>9:07:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestRingLineageStore {
+
+    private static final long[] NONE = new long[0];
+
+
+    private static final long register(final ILineageStore store, final long... parents) {
+        return store.register(parents, parents.length);
+    }
+
+    private static final long[] sorted(final long[] ids) {
+        final long[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static final void assertWrapAround(final RingLineageStore store) {
+        final int capacity = store.capacity();
+        final long[] ids = new long[3 * capacity + 1];
+        ids[0] = register(store);
+        for (int i = 1; i < ids.length; i++) {
+            ids[i] = register(store, ids[i - 1], ids[0]);
+            assertEquals(i, ids[i]);
+        }
+        for (int i = 0; i < ids.length; i++) {
+            final boolean live = i >= ids.length - capacity;
+            assertEquals("id " + i, live, store.contains(ids[i]));
+            if (live) {
+                assertArrayEquals(new long[] { ids[i - 1], ids[0] }, store.parents(ids[i]));
+            } else {
+                assertArrayEquals(NONE, store.parents(ids[i]));
+            }
+        }
+        assertFalse(store.contains(ids.length));
+        assertFalse(store.contains(ILineageStore.NO_LINEAGE));
+    }
+
+    @Test
+    public void wrapAround() {
+        assertWrapAround(new RingLineageStore(4, 2));
+        assertWrapAround(new RingLineageStore(1, 2));
+    }
+
+    @Test
+    public void wrapAroundOffHeap() {
+        assertWrapAround(new RingLineageStore(5, 3, true));
+    }
+
+    @Test
+    public void parentsAreTruncatedAndUnknownOnesSkipped() {
+        final RingLineageStore store = new RingLineageStore(16, 2);
+        final long a = register(store);
+        final long b = register(store);
+        final long c = register(store);
+        assertArrayEquals(new long[] { a, b }, store.parents(register(store, a, b, c)));
+        assertArrayEquals(new long[] { b, c },
+            store.parents(register(store, ILineageStore.NO_LINEAGE, b, ILineageStore.NO_LINEAGE, c)));
+        assertArrayEquals(NONE, store.parents(register(new RingLineageStore(4, 0), a)));
+        assertArrayEquals(new long[] { a }, store.parents(store.register(new long[] { a, b }, 1)));
+    }
+
+    @Test
+    public void ancestors() {
+        final RingLineageStore store = new RingLineageStore(8, 2);
+        final long root = register(store);
+        final long left = register(store, root);
+        final long right = register(store, root);
+        final long child = register(store, left, right);
+        assertArrayEquals(new long[] { left, right }, sorted(store.ancestors(child, 1)));
+        assertArrayEquals(new long[] { root, left, right }, sorted(store.ancestors(child, 5)));
+        assertArrayEquals(NONE, store.ancestors(child, 0));
+        assertArrayEquals(NONE, store.ancestors(root, 5));
+    }
+
+    @Test
+    public void ancestorsStopAtEvictedRecords() {
+        final RingLineageStore store = new RingLineageStore(4, 1);
+        long id = register(store);
+        for (int i = 1; i < 8; i++) {
+            id = register(store, id);
+        }
+        // records 4..7 are live, 4 still names evicted 3 as its parent, walk stops there
+        assertArrayEquals(new long[] { 3L, 4L, 5L, 6L }, sorted(store.ancestors(id, 100)));
+        assertArrayEquals(new long[] { 5L, 6L }, sorted(store.ancestors(id, 2)));
+        assertArrayEquals(NONE, store.ancestors(2L, 100));
+    }
+
+    @Test
+    public void builderRegistersRebuiltChromosome() {
+        final RingLineageStore store = new RingLineageStore(16, 2);
+        final PackedBitChromosome parent = new PackedBitChromosomeBuilder()
+            .words(new long[] { 0x0FL }, 8).age(0).generation(0).fitnessValue(0.5).lineage(store).build();
+        assertTrue(store.contains(parent.lineageId()));
+
+        // copy keeps identity
+        final PackedBitChromosome copy = new PackedBitChromosomeBuilder()
+            .from(parent).fitnessValue(0.5).lineage(store).build();
+        assertEquals(parent.lineageId(), copy.lineageId());
+
+        // new genome or new parents make new chromosome
+        final PackedBitChromosome mutant = new PackedBitChromosomeBuilder()
+            .from(parent).words(new long[] { 0x1FL }, 8).fitnessValue(0.6).lineage(store).build();
+        assertNotEquals(parent.lineageId(), mutant.lineageId());
+        assertTrue(store.contains(mutant.lineageId()));
+
+        final PackedBitChromosome child = new PackedBitChromosomeBuilder()
+            .from(parent).fitnessValue(0.7).lineage(store).parent(parent).parent(mutant).build();
+        assertNotEquals(parent.lineageId(), child.lineageId());
+        assertArrayEquals(new long[] { parent.lineageId(), mutant.lineageId() }, store.parents(child.lineageId()));
+    }
+
+}
@@ -0,0 +1,114 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Rng;
+
+
+/**
+ * Project : jgatools.<br>
+ * Alias method of {@link RouletteSelection} : alias table keeps probability mass of every column, draws follow
+ * fitness proportions and don't depend on parallelism.
+ * <br><b>Created on:</b> <i>9:05:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestRouletteSelection {
+
+    private static final double[][] WEIGHTS = {
+        { 1.0 },
+        { 0.0 },
+        { 0.0, 0.0, 0.0 },
+        { 0.5, 0.5 },
+        { 1.0, 0.0, 0.0, 0.0 },
+        { 0.1, 0.2, 0.3, 0.4 },
+        { 0.9, 0.01, 0.01, 0.01, 0.5, 0.0, 0.25, 0.33, 0.7 },
+        { 1e-9, 1.0, 1e-9, 1e-9 }
+    };
+
+
+    /**
+     * Probability of each column that alias table gives : own share of column plus shares of columns that alias it.
+     */
+    private static final double[] massOf(final double[] probability, final int[] alias) {
+        final int n = probability.length;
+        final double[] mass = new double[n];
+        for (int i = 0; i < n; i++) {
+            mass[i] += probability[i] / n;
+            mass[alias[i]] += (1.0 - probability[i]) / n;
+        }
+        return mass;
+    }
+
+    @Test
+    public void aliasTableKeepsMass() {
+        for (final double[] weights : WEIGHTS) {
+            final int n = weights.length;
+            final double[] probability = new double[n];
+            final int[] alias = new int[n];
+            RouletteSelection.buildAliasTable(weights, probability, alias);
+            double total = 0.0;
+            for (final double weight : weights) {
+                total += weight;
+            }
+            final double[] mass = massOf(probability, alias);
+            for (int i = 0; i < n; i++) {
+                assertTrue(probability[i] >= 0.0 && probability[i] <= 1.0);
+                final double expected = (total > 0.0) ? weights[i] / total : 1.0 / n;
+                assertEquals("column " + i + " of " + n, expected, mass[i], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void drawsFollowFitness() {
+        final double[] fitness = { 0.1, 0.0, 0.2, 0.3, 0.4 };
+        final int draws = 200_000;
+        final int[] indexes = new RouletteSelection<>(draws).selectIndexes(fitness, new Rng(1L));
+        assertEquals(draws, indexes.length);
+        final int[] counts = new int[fitness.length];
+        for (final int index : indexes) {
+            counts[index]++;
+        }
+        assertEquals(0, counts[1]);
+        for (int i = 0; i < fitness.length; i++) {
+            assertEquals("index " + i, fitness[i], (double) counts[i] / draws, 0.01);
+        }
+    }
+
+    @Test
+    public void parallelDrawsAreSameAsSequential() {
+        final double[] fitness = new double[100];
+        final Rng values = new Rng(3L);
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = values.nextDouble();
+        }
+        final int size = 10 * Draws.CHUNK_SIZE + 17;
+        assertArrayEquals(
+            new RouletteSelection<>(size, false).selectIndexes(fitness, new Rng(9L)),
+            new RouletteSelection<>(size, true).selectIndexes(fitness, new Rng(9L)));
+    }
+
+    @Test
+    public void emptyBuffer() {
+        assertEquals(0, new RouletteSelection<>(10).selectIndexes(new double[0], new Rng(1L)).length);
+    }
+
+    @Test
+    public void upperBound() {
+        final double[] cumulative = { 1.0, 1.0, 3.0, 6.0 };
+        assertEquals(0, Draws.upperBound(cumulative, 0.0));
+        assertEquals(0, Draws.upperBound(cumulative, 0.99));
+        assertEquals(2, Draws.upperBound(cumulative, 1.0)); // empty column is skipped
+        assertEquals(2, Draws.upperBound(cumulative, 2.5));
+        assertEquals(3, Draws.upperBound(cumulative, 3.0));
+        assertEquals(3, Draws.upperBound(cumulative, 6.0)); // clamped to last index
+    }
+
+}
@@ -0,0 +1,128 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import dburyak.jgatools.IGeneticAlgorithm;
+import dburyak.jgatools.IMatesSelector;
+import dburyak.jgatools.PopulationStats;
+import dburyak.jgatools.Rng;
+import dburyak.jgatools.impl.SteadyStateGA.SteadyStateGABuilder;
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Lifecycle of {@link SteadyStateGA} on OneMax : run terminates on its own with result that stays available until stop,
+ * error of strategy in worker fails the run instead of being retried forever, and mates selector is prepared once per
+ * epoch.
+ * <br><b>Created on:</b> <i>9:20:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestSteadyStateGA {
+
+    private static final SteadyStateGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder() {
+        final SteadyStateGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder =
+            OneMax.configure(new SteadyStateGABuilder<>());
+        builder.seed(OneMax.SEED);
+        builder.workersCount(2);
+        return builder;
+    }
+
+
+    @Test(timeout = 30_000L)
+    public void terminatesWithResultAndStopsCleanly() {
+        final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga = builder().build();
+        final List<PopulationStats> stats = new ArrayList<>();
+        final PackedBitChromosome result = OneMax.run(ga, stats);
+        assertNotNull(result);
+        assertTrue(stats.size() <= OneMax.GENERATIONS);
+        assertTrue(result.fitnessValue() >= stats.get(0).maxFitness().value());
+        OneMax.stopAfterTermination(ga, result);
+
+        // stopped GA can be run again
+        assertNotNull(OneMax.run(ga, new ArrayList<>()));
+        ga.stop();
+    }
+
+    @Test(timeout = 30_000L)
+    public void workerErrorFailsResult() {
+        final RuntimeException error = new IllegalStateException("broken mutation");
+        final SteadyStateGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder = builder();
+        builder.mutationFunc(chromosome -> {
+            throw error;
+        });
+        final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga = builder.build();
+        ga.start();
+        try {
+            ga.result().toBlocking().value();
+            fail("result of failed GA");
+        } catch (final IllegalStateException e) {
+            assertEquals(error, e);
+        } finally {
+            ga.stop();
+        }
+    }
+
+    @Test(timeout = 30_000L)
+    public void matesSelectorIsPreparedOncePerEpoch() {
+        final AtomicInteger prepared = new AtomicInteger();
+        final AtomicInteger unpreparedQueries = new AtomicInteger();
+        final AtomicInteger preparedQueries = new AtomicInteger();
+        final IMatesSelector<PackedBitChromosome> mates = new IMatesSelector<PackedBitChromosome>() {
+
+            @Override
+            public Observable<PackedBitChromosome> select(final PackedBitChromosome parent1,
+                final Observable<PackedBitChromosome> candidates) {
+
+                unpreparedQueries.incrementAndGet();
+                return new OneMax.RandomMate().select(parent1, candidates);
+            }
+
+            @Override
+            public IMatesSelector<PackedBitChromosome> forGeneration(final List<PackedBitChromosome> population) {
+                assertEquals(OneMax.POPULATION, population.size());
+                prepared.incrementAndGet();
+                return new IMatesSelector<PackedBitChromosome>() {
+
+                    @Override
+                    public Observable<PackedBitChromosome> select(final PackedBitChromosome parent1,
+                        final Observable<PackedBitChromosome> candidates) {
+
+                        throw new AssertionError("engine passes its random generator");
+                    }
+
+                    @Override
+                    public Observable<PackedBitChromosome> select(final PackedBitChromosome parent1,
+                        final Observable<PackedBitChromosome> candidates, final Rng rng) {
+
+                        preparedQueries.incrementAndGet();
+                        return Observable.just(population.get(rng.nextInt(population.size())));
+                    }
+                };
+            }
+        };
+        final SteadyStateGABuilder<PackedBitChromosome, Population<PackedBitChromosome>> builder = builder();
+        builder.matesSelector(mates);
+        final IGeneticAlgorithm<PackedBitChromosome, Population<PackedBitChromosome>> ga = builder.build();
+        final List<PopulationStats> stats = new ArrayList<>();
+        assertNotNull(OneMax.run(ga, stats));
+        ga.stop();
+        assertEquals(0, unpreparedQueries.get());
+        assertTrue(preparedQueries.get() > prepared.get());
+        // stats of initial population and of each checked epoch except the terminating one
+        assertEquals(stats.size() + 1, prepared.get());
+    }
+
+}
@@ -0,0 +1,90 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import dburyak.jgatools.Rng;
+
+
+/**
+ * Project : jgatools.<br>
+ * Evenly spaced pointers of {@link StochasticUniversalSampling} : each chromosome is selected floor or ceiling of its
+ * expected number of times, pointers walk buffer in order, parallel walk gives the same result.
+ * <br><b>Created on:</b> <i>9:05:30 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestStochasticUniversalSampling {
+
+    private static final int[] countsOf(final int[] indexes, final int n) {
+        final int[] counts = new int[n];
+        for (final int index : indexes) {
+            counts[index]++;
+        }
+        return counts;
+    }
+
+    private static final void assertSpread(final double[] fitness, final int size, final long seed) {
+        final int[] indexes = new StochasticUniversalSampling<>(size).selectIndexes(fitness, new Rng(seed));
+        assertEquals(size, indexes.length);
+        for (int i = 1; i < indexes.length; i++) {
+            assertTrue(indexes[i - 1] <= indexes[i]);
+        }
+        double total = 0.0;
+        for (final double value : fitness) {
+            total += value;
+        }
+        final int[] counts = countsOf(indexes, fitness.length);
+        for (int i = 0; i < fitness.length; i++) {
+            final double expected = (total > 0.0) ? size * fitness[i] / total : (double) size / fitness.length;
+            assertTrue("index " + i + " : " + counts[i] + " vs " + expected,
+                counts[i] >= Math.floor(expected - 1e-9) && counts[i] <= Math.ceil(expected + 1e-9));
+        }
+    }
+
+    @Test
+    public void minimalSpread() {
+        final double[] fitness = { 0.05, 0.0, 0.3, 0.15, 0.5, 0.0, 0.77, 0.01 };
+        for (long seed = 0L; seed < 50L; seed++) {
+            assertSpread(fitness, 13, seed);
+            assertSpread(fitness, 1000, seed);
+        }
+    }
+
+    @Test
+    public void zeroFitnessIsUniform() {
+        assertSpread(new double[] { 0.0, 0.0, 0.0, 0.0, 0.0 }, 10, 5L);
+        assertSpread(new double[] { 0.0, 0.0, 0.0 }, 7, 6L);
+    }
+
+    @Test
+    public void singleChromosome() {
+        assertArrayEquals(new int[] { 0, 0, 0 },
+            new StochasticUniversalSampling<>(3).selectIndexes(new double[] { 0.4 }, new Rng(1L)));
+    }
+
+    @Test
+    public void parallelWalkIsSameAsSequential() {
+        final double[] fitness = new double[500];
+        final Rng values = new Rng(13L);
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = values.nextDouble();
+        }
+        final int size = 20 * Draws.CHUNK_SIZE + 3;
+        assertArrayEquals(
+            new StochasticUniversalSampling<>(size, false).selectIndexes(fitness, new Rng(21L)),
+            new StochasticUniversalSampling<>(size, true).selectIndexes(fitness, new Rng(21L)));
+    }
+
+    @Test
+    public void emptySelection() {
+        assertEquals(0, new StochasticUniversalSampling<>(0).selectIndexes(new double[] { 0.5 }, new Rng(1L)).length);
+        assertEquals(0, new StochasticUniversalSampling<>(5).selectIndexes(new double[0], new Rng(1L)).length);
+    }
+
+}
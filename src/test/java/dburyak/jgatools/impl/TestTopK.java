@@ -0,0 +1,95 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import rx.Observable;
+
+
+/**
+ * Project : jgatools.<br>
+ * Partial selection of {@link TopK} : result equals head of fully sorted input for sequential, parallel and reactive
+ * variants, including k of 0 and k greater than input size.
+ * <br><b>Created on:</b> <i>9:04:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestTopK {
+
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+
+    private static final List<Integer> randomInts(final int count, final int bound, final long seed) {
+        final Random rnd = new Random(seed);
+        final List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(Integer.valueOf(rnd.nextInt(bound)));
+        }
+        return items;
+    }
+
+    private static final List<Integer> expected(final List<Integer> items, final int k) {
+        final List<Integer> sorted = new ArrayList<>(items);
+        sorted.sort(ORDER.reversed());
+        return new ArrayList<>(sorted.subList(0, Math.min(k, sorted.size())));
+    }
+
+    @Test
+    public void select() {
+        for (final int k : new int[] { 0, 1, 2, 7, 100, 999, 1000, 5000 }) {
+            final List<Integer> items = randomInts(1000, 300, k);
+            assertEquals("k " + k, expected(items, k), TopK.select(items, k, ORDER));
+        }
+    }
+
+    @Test
+    public void selectParallel() {
+        for (final int k : new int[] { 0, 1, 16, 500, 20_000, 50_000 }) {
+            final List<Integer> items = randomInts(20_000, 1_000_000, k);
+            assertEquals("k " + k, expected(items, k), TopK.selectParallel(items, k, ORDER));
+        }
+    }
+
+    @Test
+    public void selectObservable() {
+        final List<Integer> items = randomInts(2000, 50, 11L);
+        assertEquals(expected(items, 64),
+            TopK.select(Observable.from(items), 64, ORDER).toBlocking().single());
+    }
+
+    @Test
+    public void emptyInput() {
+        assertTrue(TopK.select(Collections.<Integer> emptyList(), 5, ORDER).isEmpty());
+        assertTrue(TopK.select(Observable.<Integer> empty(), 5, ORDER).toBlocking().single().isEmpty());
+    }
+
+    @Test
+    public void sortedAndReversedInput() {
+        final List<Integer> ascending = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ascending.add(Integer.valueOf(i));
+        }
+        final List<Integer> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+        assertEquals(expected(ascending, 37), TopK.select(ascending, 37, ORDER));
+        assertEquals(expected(descending, 37), TopK.select(descending, 37, ORDER));
+    }
+
+    @Test
+    public void resultIsMutable() {
+        final List<Integer> top = TopK.select(randomInts(10, 10, 3L), 3, ORDER);
+        top.add(Integer.valueOf(-1));
+        assertEquals(4, top.size());
+    }
+
+}
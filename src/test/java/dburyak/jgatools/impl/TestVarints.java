@@ -0,0 +1,99 @@
+package dburyak.jgatools.impl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+
+/**
+ * Project : jgatools.<br>
+ * Encoding of non-negative numbers by {@link Varints} : sizes on 7-bit group boundaries, round-trip and rejection of
+ * malformed input.
+ * <br><b>Created on:</b> <i>9:01:00 AM Oct 16, 2026</i>
+ * 
+ * @author <i>Dmytro Buryak &lt;dmytro.buryak@gmail.com&gt;</i>
+ * @version 0.1
+ */
+public class TestVarints {
+
+    private static final long[] VALUES = {
+        0L, 1L, 0x7FL, 0x80L, 0x3FFFL, 0x4000L, 0x1FFFFFL, 0x200000L,
+        Integer.MAX_VALUE, 1L << 35, 1L << 56, (1L << 63) - 1L
+    };
+
+
+    @Test
+    public void size() {
+        assertEquals(1, Varints.size(0L));
+        assertEquals(1, Varints.size(0x7FL));
+        assertEquals(2, Varints.size(0x80L));
+        assertEquals(2, Varints.size(0x3FFFL));
+        assertEquals(3, Varints.size(0x4000L));
+        assertEquals(5, Varints.size(Integer.MAX_VALUE));
+        assertEquals(9, Varints.size((1L << 63) - 1L));
+    }
+
+    @Test
+    public void roundTrip() {
+        final ByteBuffer buffer = ByteBuffer.allocate(VALUES.length * Varints.MAX_SIZE);
+        for (final long value : VALUES) {
+            final int start = buffer.position();
+            Varints.put(buffer, value);
+            assertEquals("size of " + value, Varints.size(value), buffer.position() - start);
+        }
+        buffer.flip();
+        for (final long value : VALUES) {
+            assertEquals(value, Varints.getLong(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void getInt() {
+        final ByteBuffer buffer = ByteBuffer.allocate(Varints.MAX_SIZE);
+        Varints.put(buffer, Integer.MAX_VALUE);
+        buffer.flip();
+        assertEquals(Integer.MAX_VALUE, Varints.getInt(buffer));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getIntOutOfRange() {
+        final ByteBuffer buffer = ByteBuffer.allocate(Varints.MAX_SIZE);
+        Varints.put(buffer, Integer.MAX_VALUE + 1L);
+        buffer.flip();
+        Varints.getInt(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooLong() {
+        final ByteBuffer buffer = ByteBuffer.allocate(Varints.MAX_SIZE + 1);
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) 0x80);
+        }
+        buffer.flip();
+        Varints.getLong(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outOfLongRange() {
+        final ByteBuffer buffer = ByteBuffer.allocate(Varints.MAX_SIZE);
+        for (int i = 0; i < Varints.MAX_SIZE - 1; i++) {
+            buffer.put((byte) 0xFF);
+        }
+        buffer.put((byte) 0x01); // bit 63
+        buffer.flip();
+        Varints.getLong(buffer);
+    }
+
+    @Test(expected = BufferUnderflowException.class)
+    public void truncated() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0x80, (byte) 0x80 });
+        Varints.getLong(buffer);
+    }
+
+}